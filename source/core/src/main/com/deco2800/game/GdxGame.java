@@ -5,6 +5,7 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
 import com.deco2800.game.files.UserSettings;
 import com.deco2800.game.screens.*;
+import com.deco2800.game.services.ResourceService;
 import com.deco2800.game.services.ServiceLocator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -18,6 +19,11 @@ import static com.badlogic.gdx.Gdx.app;
  */
 public class GdxGame extends Game {
     private static final Logger logger = LoggerFactory.getLogger(GdxGame.class);
+    /**
+     * Resources of the main game screens, kept between level changes so that assets used by
+     * consecutive areas are not reloaded
+     */
+    private ResourceService gameResourceService;
 
     @Override
     public void create() {
@@ -50,6 +56,9 @@ public class GdxGame extends Game {
         if (currentScreen != null) {
             currentScreen.dispose();
         }
+        if (!isGameArea(screenType)) {
+            releaseGameResources();
+        }
         setScreen(newScreen(screenType));
     }
 
@@ -62,13 +71,55 @@ public class GdxGame extends Game {
         if (currentScreen != null) {
             currentScreen.dispose();
         }
+        if (!isGameArea(screenType)) {
+            releaseGameResources();
+        }
         setScreen(newScreen(screenType, currentHealth));
     }
 
+    /**
+     * Get the resource service shared by the main game screens. Assets released by one game screen
+     * stay loaded until the next one has loaded its own assets.
+     *
+     * @return game resource service
+     */
+    public ResourceService getGameResourceService() {
+        if (gameResourceService == null) {
+            gameResourceService = new ResourceService();
+        }
+        return gameResourceService;
+    }
+
+    /**
+     * Unload every asset released by the game screens, when leaving the main game
+     */
+    private void releaseGameResources() {
+        if (gameResourceService != null) {
+            gameResourceService.unloadUnused();
+        }
+    }
+
+    private static boolean isGameArea(ScreenType screenType) {
+        switch (screenType) {
+            case MAIN_GAME_TUTORIAL:
+            case GAMEAREA1:
+            case GAMEAREA2:
+            case GAMEAREA3:
+            case GAMEAREA4:
+            case GAMEAREA5:
+                return true;
+            default:
+                return false;
+        }
+    }
+
     @Override
     public void dispose() {
         logger.debug("Disposing of current screen");
         getScreen().dispose();
+        if (gameResourceService != null) {
+            gameResourceService.dispose();
+        }
     }
 
     /**
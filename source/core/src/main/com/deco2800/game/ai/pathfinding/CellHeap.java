@@ -0,0 +1,70 @@
+package com.deco2800.game.ai.pathfinding;
+
+import java.util.Arrays;
+
+/**
+ * Binary min heap of grid cells by cost, for searches over an occupancy grid. Cells whose cost
+ * improves are added again rather than moved, and searches skip the old entry once the cell is
+ * closed.
+ */
+class CellHeap {
+    private int[] cells = new int[64];
+    private float[] costs = new float[64];
+    private int size = 0;
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    void push(int cell, float cost) {
+        if (size == cells.length) {
+            cells = Arrays.copyOf(cells, size * 2);
+            costs = Arrays.copyOf(costs, size * 2);
+        }
+        int i = size++;
+        while (i > 0) {
+            int parent = (i - 1) / 2;
+            if (costs[parent] <= cost) {
+                break;
+            }
+            cells[i] = cells[parent];
+            costs[i] = costs[parent];
+            i = parent;
+        }
+        cells[i] = cell;
+        costs[i] = cost;
+    }
+
+    /**
+     * @return cell with the lowest cost, which is removed
+     */
+    int pop() {
+        int top = cells[0];
+        size--;
+        int cell = cells[size];
+        float cost = costs[size];
+        int i = 0;
+        while (true) {
+            int child = i * 2 + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && costs[child + 1] < costs[child]) {
+                child++;
+            }
+            if (costs[child] >= cost) {
+                break;
+            }
+            cells[i] = cells[child];
+            costs[i] = costs[child];
+            i = child;
+        }
+        cells[i] = cell;
+        costs[i] = cost;
+        return top;
+    }
+}
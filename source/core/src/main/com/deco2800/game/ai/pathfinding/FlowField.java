@@ -0,0 +1,85 @@
+package com.deco2800.game.ai.pathfinding;
+
+import com.deco2800.game.physics.OccupancyGrid;
+
+/**
+ * Shortest paths from every cell of an occupancy grid to one goal cell. Each cell stores the next
+ * cell on its way to the goal, so any number of entities heading for the goal can find where to go
+ * with a single lookup. Fields are shared, so are never changed once built.
+ */
+public class FlowField {
+    private final OccupancyGrid grid;
+    private final int goalCell;
+    private final int[] nextCells;
+    private final float[] costs;
+
+    /**
+     * @param grid      grid the field was built in
+     * @param goalCell  index of the goal cell
+     * @param nextCells next cell from each cell, the goal for itself, or -1 if it can't be reached
+     * @param costs     distance from each cell to the goal, in cells
+     */
+    FlowField(OccupancyGrid grid, int goalCell, int[] nextCells, float[] costs) {
+        this.grid = grid;
+        this.goalCell = goalCell;
+        this.nextCells = nextCells;
+        this.costs = costs;
+    }
+
+    public OccupancyGrid getGrid() {
+        return grid;
+    }
+
+    /**
+     * @return index of the goal cell in the grid
+     */
+    public int getGoalCell() {
+        return goalCell;
+    }
+
+    /**
+     * @param x x position in the world
+     * @param y y position in the world
+     * @return index of the next cell from the one containing the position, the goal cell if already
+     * there, or -1 if the goal can't be reached from it
+     */
+    public int getNextCell(float x, float y) {
+        int cellX = grid.getCellX(x);
+        int cellY = grid.getCellY(y);
+        if (!grid.contains(cellX, cellY)) {
+            return -1;
+        }
+        return nextCells[cellY * grid.getWidth() + cellX];
+    }
+
+    /**
+     * @param x x position in the world
+     * @param y y position in the world
+     * @return distance from the cell containing the position to the goal, in cells, or infinity if
+     * the goal can't be reached from it
+     */
+    public float getCost(float x, float y) {
+        int cellX = grid.getCellX(x);
+        int cellY = grid.getCellY(y);
+        if (!grid.contains(cellX, cellY)) {
+            return Float.POSITIVE_INFINITY;
+        }
+        return costs[cellY * grid.getWidth() + cellX];
+    }
+
+    /**
+     * @param cell index of a cell
+     * @return x position of the cell's centre in the world
+     */
+    public float getCenterX(int cell) {
+        return grid.getOriginX() + (cell % grid.getWidth() + 0.5f) * grid.getCellSize();
+    }
+
+    /**
+     * @param cell index of a cell
+     * @return y position of the cell's centre in the world
+     */
+    public float getCenterY(int cell) {
+        return grid.getOriginY() + (cell / grid.getWidth() + 0.5f) * grid.getCellSize();
+    }
+}
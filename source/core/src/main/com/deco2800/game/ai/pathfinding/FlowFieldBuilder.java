@@ -0,0 +1,90 @@
+package com.deco2800.game.ai.pathfinding;
+
+import com.deco2800.game.physics.OccupancyGrid;
+
+import java.util.Arrays;
+
+/**
+ * Builds {@link FlowField}s with Dijkstra's algorithm, spreading out from the goal cell. Moves are
+ * the same as {@link JumpPointSearch}: eight directions, without cutting the corners of walls.
+ *
+ * <p>Keeps its working arrays between builds. Not thread safe, so each thread needs its own.
+ */
+class FlowFieldBuilder {
+    private static final float SQRT2 = 1.4142135f;
+
+    private boolean[] closed = new boolean[0];
+    private final CellHeap open = new CellHeap();
+
+    /**
+     * Build the field to a goal cell. Cells outside the grid are blocked, but the goal is open even
+     * if blocked in the grid.
+     *
+     * @param grid  grid to build the field in
+     * @param goalX goal column
+     * @param goalY goal row
+     * @return field to the goal, or null if the goal is outside the grid
+     */
+    FlowField build(OccupancyGrid grid, int goalX, int goalY) {
+        if (!grid.contains(goalX, goalY)) {
+            return null;
+        }
+        int width = grid.getWidth();
+        int height = grid.getHeight();
+        int cells = width * height;
+        if (closed.length < cells) {
+            closed = new boolean[cells];
+        } else {
+            Arrays.fill(closed, 0, cells, false);
+        }
+        int[] nextCells = new int[cells];
+        float[] costs = new float[cells];
+        Arrays.fill(nextCells, -1);
+        Arrays.fill(costs, Float.POSITIVE_INFINITY);
+
+        int goal = goalY * width + goalX;
+        nextCells[goal] = goal;
+        costs[goal] = 0f;
+        open.clear();
+        open.push(goal, 0f);
+        while (!open.isEmpty()) {
+            int cell = open.pop();
+            if (closed[cell]) {
+                continue;
+            }
+            closed[cell] = true;
+            int x = cell % width;
+            int y = cell / width;
+            for (int dx = -1; dx <= 1; dx++) {
+                for (int dy = -1; dy <= 1; dy++) {
+                    if ((dx == 0 && dy == 0) || !canMove(grid, x, y, dx, dy)) {
+                        continue;
+                    }
+                    int neighbour = cell + dy * width + dx;
+                    float cost = costs[cell] + (dx != 0 && dy != 0 ? SQRT2 : 1f);
+                    if (cost < costs[neighbour]) {
+                        // Paths are reversible, so the neighbour heads back the way it was reached
+                        costs[neighbour] = cost;
+                        nextCells[neighbour] = cell;
+                        open.push(neighbour, cost);
+                    }
+                }
+            }
+        }
+        return new FlowField(grid, goal, nextCells, costs);
+    }
+
+    /**
+     * @return true if the move is open and, if diagonal, doesn't cut a corner
+     */
+    private static boolean canMove(OccupancyGrid grid, int x, int y, int dx, int dy) {
+        if (!isOpen(grid, x + dx, y + dy)) {
+            return false;
+        }
+        return dx == 0 || dy == 0 || (isOpen(grid, x + dx, y) && isOpen(grid, x, y + dy));
+    }
+
+    private static boolean isOpen(OccupancyGrid grid, int x, int y) {
+        return grid.contains(x, y) && !grid.isBlocked(x, y);
+    }
+}
@@ -0,0 +1,206 @@
+package com.deco2800.game.ai.pathfinding;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.deco2800.game.concurrency.JobSystem;
+import com.deco2800.game.entities.Entity;
+import com.deco2800.game.physics.OccupancyGrid;
+import com.deco2800.game.physics.PhysicsEngine;
+import com.deco2800.game.physics.PhysicsUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Keeps a {@link FlowField} to a target entity, usually the player, in the physics engine's grid of
+ * static geometry. Every NPC chasing the target can then find its way around walls with one lookup,
+ * rather than each searching for its own path, so chasing costs the same however many NPCs chase.
+ * See {@link com.deco2800.game.components.tasks.PathFollowTask}.
+ *
+ * <p>The field is rebuilt on a background thread through the {@link JobSystem} whenever the target
+ * moves to another cell. Until the new field is ready, the old one leads to the cell the target just
+ * left. Only use from the main thread, apart from the builds themselves.
+ *
+ * <p>Bodies bigger than a cell need a field in the grid with the walls grown by their size, see
+ * {@link OccupancyGrid#getInflated}. A field is kept for each clearance asked for, starting from the
+ * next update after it is first asked for.
+ */
+public class FlowFieldService {
+    private static final Logger logger = LoggerFactory.getLogger(FlowFieldService.class);
+
+    private final PhysicsEngine physics;
+    private final Array<ClearanceField> fields = new Array<>(4);
+    private final Vector2 targetCenter = new Vector2();
+    private Entity target;
+    private long buildCount = 0;
+
+    /**
+     * @param physics physics engine whose static geometry grid the field is built in
+     */
+    public FlowFieldService(PhysicsEngine physics) {
+        this.physics = physics;
+        fields.add(new ClearanceField(0, 0));
+    }
+
+    /**
+     * Set the entity to keep the field to. Without a target, there is no field.
+     *
+     * @param target entity to keep the field to, usually the player
+     */
+    public void setTarget(Entity target) {
+        this.target = target;
+        for (int i = 0; i < fields.size; i++) {
+            fields.get(i).field = null;
+        }
+    }
+
+    public Entity getTarget() {
+        return target;
+    }
+
+    /**
+     * Take the fields from finished builds, and start new builds if the target has moved to another
+     * cell. Called once a frame.
+     */
+    public void update() {
+        for (int i = 0; i < fields.size; i++) {
+            fields.get(i).takeBuild();
+        }
+        OccupancyGrid grid = physics.getStaticGrid();
+        if (target == null || grid == null) {
+            for (int i = 0; i < fields.size; i++) {
+                fields.get(i).field = null;
+            }
+            return;
+        }
+
+        // The target stands where its collider is, which may be well below its sprite's centre
+        PhysicsUtils.getColliderCenter(target, targetCenter);
+        int cellX = grid.getCellX(targetCenter.x);
+        int cellY = grid.getCellY(targetCenter.y);
+        if (!grid.contains(cellX, cellY)) {
+            return;
+        }
+        for (int i = 0; i < fields.size; i++) {
+            fields.get(i).build(grid, cellX, cellY);
+        }
+    }
+
+    /**
+     * Get the field leading to a position, if the position is in the target's cell. While the field is
+     * being rebuilt for the target's new cell, the old field is given instead.
+     *
+     * @param to goal position, usually the centre of the target's collider
+     * @return field to the position's cell, or null if there isn't one
+     */
+    public FlowField getField(Vector2 to) {
+        return getField(to, 0f, 0f);
+    }
+
+    /**
+     * Get the field leading to a position for a body of a given size, if the position is in the
+     * target's cell. The first time a size's clearance is asked for there is no field, and one is
+     * kept from the next update on.
+     *
+     * @param to         goal position, usually the centre of the target's collider
+     * @param halfWidth  half the width of the body following the field
+     * @param halfHeight half the height of the body following the field
+     * @return field to the position's cell, or null if there isn't one
+     */
+    public FlowField getField(Vector2 to, float halfWidth, float halfHeight) {
+        OccupancyGrid grid = physics.getStaticGrid();
+        if (grid == null) {
+            return null;
+        }
+        int clearanceX = grid.getClearance(halfWidth);
+        int clearanceY = grid.getClearance(halfHeight);
+        for (int i = 0; i < fields.size; i++) {
+            ClearanceField clearanceField = fields.get(i);
+            if (clearanceField.clearanceX == clearanceX && clearanceField.clearanceY == clearanceY) {
+                return clearanceField.getField(grid, to);
+            }
+        }
+        fields.add(new ClearanceField(clearanceX, clearanceY));
+        return null;
+    }
+
+    /**
+     * @return true while a new field is being built
+     */
+    public boolean isBuilding() {
+        for (int i = 0; i < fields.size; i++) {
+            if (fields.get(i).pending != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return number of fields built so far
+     */
+    public long getBuildCount() {
+        return buildCount;
+    }
+
+    /**
+     * Field to the target for bodies of one clearance, with its own builder so builds for different
+     * clearances can run at once
+     */
+    private class ClearanceField {
+        private final int clearanceX;
+        private final int clearanceY;
+        private final FlowFieldBuilder builder = new FlowFieldBuilder();
+        private FlowField field;
+        private CompletableFuture<FlowField> pending;
+        private int pendingCell = -1;
+
+        private ClearanceField(int clearanceX, int clearanceY) {
+            this.clearanceX = clearanceX;
+            this.clearanceY = clearanceY;
+        }
+
+        private void takeBuild() {
+            if (pending != null && pending.isDone()) {
+                field = pending.getNow(null);
+                pending = null;
+                pendingCell = -1;
+            }
+        }
+
+        private void build(OccupancyGrid grid, int cellX, int cellY) {
+            if (pending != null) {
+                // Only one build at a time, so the builder's arrays are never shared
+                return;
+            }
+            OccupancyGrid fieldGrid = grid.getInflated(clearanceX, clearanceY);
+            int cell = cellY * grid.getWidth() + cellX;
+            if (field == null || field.getGrid() != fieldGrid || field.getGoalCell() != cell) {
+                pendingCell = cell;
+                buildCount++;
+                pending = JobSystem.launch(() -> builder.build(fieldGrid, cellX, cellY))
+                        .exceptionally(e -> {
+                            logger.error("Failed to build flow field", e);
+                            return null;
+                        });
+            }
+        }
+
+        private FlowField getField(OccupancyGrid grid, Vector2 to) {
+            if (field == null || field.getGrid() != grid.getInflated(clearanceX, clearanceY)) {
+                return null;
+            }
+            int cellX = grid.getCellX(to.x);
+            int cellY = grid.getCellY(to.y);
+            if (!grid.contains(cellX, cellY)) {
+                return null;
+            }
+            int cell = cellY * grid.getWidth() + cellX;
+            if (cell != field.getGoalCell() && cell != pendingCell) {
+                return null;
+            }
+            return field;
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package com.deco2800.game.ai.pathfinding;
+
+import com.deco2800.game.physics.OccupancyGrid;
+
+/**
+ * Finds shortest paths through an occupancy grid with jump point search, an A* which skips over
+ * runs of open cells and only adds the cells where the path may turn to the open list. Moves are in
+ * eight directions, but may only go diagonally when both cells beside the move are open, so paths
+ * never cut the corners of walls.
+ *
+ * <p>Keeps its working arrays between searches. Not thread safe, so each thread needs its own.
+ */
+class JumpPointSearch {
+    private static final float SQRT2 = 1.4142135f;
+
+    private OccupancyGrid grid;
+    private int width;
+    private int height;
+    private int startX;
+    private int startY;
+    private int goalX;
+    private int goalY;
+
+    private float[] costs = new float[0];
+    private int[] parents = new int[0];
+    /**
+     * Search each cell was last opened in, so arrays don't need clearing between searches. Closed
+     * cells are marked by the negative search number.
+     */
+    private int[] visits = new int[0];
+    private int search = 0;
+    /**
+     * Open cells by estimated path cost
+     */
+    private final CellHeap open = new CellHeap();
+
+    /**
+     * Find a path between two cells. Cells outside the grid are blocked, but the start and goal are
+     * open even if blocked in the grid.
+     *
+     * @param grid   grid to search
+     * @param startX start column
+     * @param startY start row
+     * @param goalX  goal column
+     * @param goalY  goal row
+     * @return shortest path, or {@link Path#NOT_FOUND}
+     */
+    Path findPath(OccupancyGrid grid, int startX, int startY, int goalX, int goalY) {
+        if (!grid.contains(startX, startY) || !grid.contains(goalX, goalY)) {
+            return Path.NOT_FOUND;
+        }
+        begin(grid, startX, startY, goalX, goalY);
+
+        int start = index(startX, startY);
+        int goal = index(goalX, goalY);
+        costs[start] = 0f;
+        parents[start] = -1;
+        visits[start] = search;
+        open.push(start, heuristic(startX, startY));
+
+        while (!open.isEmpty()) {
+            int cell = open.pop();
+            if (visits[cell] == -search) {
+                continue;
+            }
+            visits[cell] = -search;
+            if (cell == goal) {
+                return buildPath(goal);
+            }
+            addSuccessors(cell);
+        }
+        return Path.NOT_FOUND;
+    }
+
+    private void begin(OccupancyGrid grid, int startX, int startY, int goalX, int goalY) {
+        this.grid = grid;
+        width = grid.getWidth();
+        height = grid.getHeight();
+        this.startX = startX;
+        this.startY = startY;
+        this.goalX = goalX;
+        this.goalY = goalY;
+        int cells = width * height;
+        if (costs.length < cells) {
+            costs = new float[cells];
+            parents = new int[cells];
+            visits = new int[cells];
+            search = 0;
+        }
+        search++;
+        open.clear();
+    }
+
+    /**
+     * Jump from a cell in each direction a path through it could continue, opening the jump points
+     * found
+     */
+    private void addSuccessors(int cell) {
+        int x = cell % width;
+        int y = cell / width;
+        int parent = parents[cell];
+        if (parent == -1) {
+            for (int dx = -1; dx <= 1; dx++) {
+                for (int dy = -1; dy <= 1; dy++) {
+                    if ((dx != 0 || dy != 0) && canMove(x, y, dx, dy)) {
+                        tryJump(cell, x, y, dx, dy);
+                    }
+                }
+            }
+            return;
+        }
+
+        int dx = Integer.signum(x - parent % width);
+        int dy = Integer.signum(y - parent / width);
+        if (dx != 0 && dy != 0) {
+            boolean horizontal = isOpen(x + dx, y);
+            boolean vertical = isOpen(x, y + dy);
+            if (vertical) {
+                tryJump(cell, x, y, 0, dy);
+            }
+            if (horizontal) {
+                tryJump(cell, x, y, dx, 0);
+            }
+            if (horizontal && vertical) {
+                tryJump(cell, x, y, dx, dy);
+            }
+        } else if (dx != 0) {
+            boolean up = isOpen(x, y + 1);
+            boolean down = isOpen(x, y - 1);
+            if (isOpen(x + dx, y)) {
+                tryJump(cell, x, y, dx, 0);
+                if (up) {
+                    tryJump(cell, x, y, dx, 1);
+                }
+                if (down) {
+                    tryJump(cell, x, y, dx, -1);
+                }
+            }
+            if (up) {
+                tryJump(cell, x, y, 0, 1);
+            }
+            if (down) {
+                tryJump(cell, x, y, 0, -1);
+            }
+        } else {
+            boolean right = isOpen(x + 1, y);
+            boolean left = isOpen(x - 1, y);
+            if (isOpen(x, y + dy)) {
+                tryJump(cell, x, y, 0, dy);
+                if (right) {
+                    tryJump(cell, x, y, 1, dy);
+                }
+                if (left) {
+                    tryJump(cell, x, y, -1, dy);
+                }
+            }
+            if (right) {
+                tryJump(cell, x, y, 1, 0);
+            }
+            if (left) {
+                tryJump(cell, x, y, -1, 0);
+            }
+        }
+    }
+
+    private void tryJump(int cell, int x, int y, int dx, int dy) {
+        int jumpPoint = jump(x + dx, y + dy, dx, dy);
+        if (jumpPoint == -1 || visits[jumpPoint] == -search) {
+            return;
+        }
+        int jumpX = jumpPoint % width;
+        int jumpY = jumpPoint / width;
+        float cost = costs[cell] + distance(Math.abs(jumpX - x), Math.abs(jumpY - y));
+        if (visits[jumpPoint] != search || cost < costs[jumpPoint]) {
+            costs[jumpPoint] = cost;
+            parents[jumpPoint] = cell;
+            visits[jumpPoint] = search;
+            open.push(jumpPoint, cost + heuristic(jumpX, jumpY));
+        }
+    }
+
+    /**
+     * Move from a cell in one direction until reaching a cell where the path may need to turn
+     *
+     * @return jump point, or -1 if the direction runs into a wall first
+     */
+    private int jump(int x, int y, int dx, int dy) {
+        while (true) {
+            if (!isOpen(x, y)) {
+                return -1;
+            }
+            if (x == goalX && y == goalY) {
+                return index(x, y);
+            }
+            if (dx != 0 && dy != 0) {
+                // Turning off a diagonal is only needed where a straight jump finds something
+                if (jump(x + dx, y, dx, 0) != -1 || jump(x, y + dy, 0, dy) != -1) {
+                    return index(x, y);
+                }
+            } else if (dx != 0) {
+                // A wall beside the run just ended, so the path may turn around its corner
+                if ((isOpen(x, y + 1) && !isOpen(x - dx, y + 1))
+                        || (isOpen(x, y - 1) && !isOpen(x - dx, y - 1))) {
+                    return index(x, y);
+                }
+            } else if ((isOpen(x + 1, y) && !isOpen(x + 1, y - dy))
+                    || (isOpen(x - 1, y) && !isOpen(x - 1, y - dy))) {
+                return index(x, y);
+            }
+            if (!canMove(x, y, dx, dy)) {
+                return -1;
+            }
+            x += dx;
+            y += dy;
+        }
+    }
+
+    /**
+     * @return true if the move is open and, if diagonal, doesn't cut a corner
+     */
+    private boolean canMove(int x, int y, int dx, int dy) {
+        return isOpen(x + dx, y) && isOpen(x, y + dy) && isOpen(x + dx, y + dy);
+    }
+
+    private boolean isOpen(int x, int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) {
+            return false;
+        }
+        return !grid.isBlocked(x, y) || (x == goalX && y == goalY) || (x == startX && y == startY);
+    }
+
+    private Path buildPath(int goal) {
+        int count = 0;
+        for (int cell = goal; parents[cell] != -1; cell = parents[cell]) {
+            count++;
+        }
+        float[] points = new float[count * 2];
+        float cellSize = grid.getCellSize();
+        int i = count - 1;
+        for (int cell = goal; parents[cell] != -1; cell = parents[cell]) {
+            points[i * 2] = grid.getOriginX() + (cell % width + 0.5f) * cellSize;
+            points[i * 2 + 1] = grid.getOriginY() + (cell / width + 0.5f) * cellSize;
+            i--;
+        }
+        return new Path(points, goal);
+    }
+
+    private float heuristic(int x, int y) {
+        return distance(Math.abs(goalX - x), Math.abs(goalY - y));
+    }
+
+    /**
+     * Length of the shortest eight direction path across a distance, ignoring walls
+     */
+    private static float distance(int dx, int dy) {
+        return Math.max(dx, dy) + (SQRT2 - 1f) * Math.min(dx, dy);
+    }
+
+    private int index(int x, int y) {
+        return y * width + x;
+    }
+}
@@ -0,0 +1,55 @@
+package com.deco2800.game.ai.pathfinding;
+
+/**
+ * A path around static level geometry, as a list of waypoints at the centres of grid cells. The
+ * start cell isn't included, and the last waypoint is the goal cell. Entities move in a straight
+ * line between waypoints. Paths are shared between every entity asking for the same one, so are
+ * never changed once found.
+ */
+public class Path {
+    /**
+     * Returned when the goal can't be reached
+     */
+    public static final Path NOT_FOUND = new Path(new float[0], -1);
+
+    private final float[] points;
+    private final int goalCell;
+
+    /**
+     * @param points   x and y of each waypoint, one after the other
+     * @param goalCell index of the goal cell in the grid
+     */
+    Path(float[] points, int goalCell) {
+        this.points = points;
+        this.goalCell = goalCell;
+    }
+
+    /**
+     * @return true if the goal can be reached
+     */
+    public boolean isFound() {
+        return this != NOT_FOUND;
+    }
+
+    /**
+     * @return number of waypoints
+     */
+    public int size() {
+        return points.length / 2;
+    }
+
+    public float getX(int waypoint) {
+        return points[waypoint * 2];
+    }
+
+    public float getY(int waypoint) {
+        return points[waypoint * 2 + 1];
+    }
+
+    /**
+     * @return index of the goal cell in the grid the path was found in, or -1 if not found
+     */
+    public int getGoalCell() {
+        return goalCell;
+    }
+}
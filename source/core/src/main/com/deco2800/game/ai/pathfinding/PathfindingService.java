@@ -0,0 +1,191 @@
+package com.deco2800.game.ai.pathfinding;
+
+import com.badlogic.gdx.math.Vector2;
+import com.deco2800.game.concurrency.JobSystem;
+import com.deco2800.game.physics.OccupancyGrid;
+import com.deco2800.game.physics.PhysicsEngine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Finds paths around the level's walls for NPCs to follow, see {@link
+ * com.deco2800.game.components.tasks.PathFollowTask}. Paths are found in the physics engine's grid
+ * of static geometry with jump point search, on a background thread through the {@link JobSystem}.
+ *
+ * <p>Bodies bigger than a cell search a grid with the walls grown by their size, so paths keep them
+ * clear of walls. Paths are cached by start and goal cell and clearance, so NPCs of a size near each
+ * other chasing the same target share one search. When the cache is full the least recently used
+ * finished path is dropped; searches still running are always kept. Only use from the main thread,
+ * apart from the searches themselves.
+ */
+public class PathfindingService {
+    private static final Logger logger = LoggerFactory.getLogger(PathfindingService.class);
+    public static final int DEFAULT_CACHE_SIZE = 256;
+    /**
+     * Most cells of clearance searched for, bigger bodies get paths for this clearance
+     */
+    static final int MAX_CLEARANCE = 15;
+    private static final long CELL_MASK = 0xFFFFFFFL;
+
+    private final PhysicsEngine physics;
+    private final int cacheSize;
+    // Access ordered, so the least recently used path comes first
+    private final LinkedHashMap<Long, CompletableFuture<Path>> paths = new LinkedHashMap<>(16, 0.75f, true);
+    private final ThreadLocal<JumpPointSearch> searches = ThreadLocal.withInitial(JumpPointSearch::new);
+    private OccupancyGrid cachedGrid;
+
+    public PathfindingService(PhysicsEngine physics) {
+        this(physics, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * @param physics   physics engine whose static geometry grid is searched
+     * @param cacheSize most paths to keep, more while that many searches are running
+     */
+    public PathfindingService(PhysicsEngine physics, int cacheSize) {
+        this.physics = physics;
+        this.cacheSize = cacheSize;
+    }
+
+    /**
+     * Get a path between two points, starting a search if it hasn't been found yet. Asking again
+     * before the search finishes doesn't start another.
+     *
+     * @param from start position, usually an entity's centre
+     * @param to   goal position
+     * @return path, or null while the search is running or if the level has no static geometry
+     */
+    public Path getPath(Vector2 from, Vector2 to) {
+        return getPath(from, to, 0f, 0f);
+    }
+
+    /**
+     * Get a path between two points for a body of a given size, see {@link #requestPath(Vector2,
+     * Vector2, float, float)}.
+     *
+     * @param from       start position, usually the centre of an entity's collider
+     * @param to         goal position
+     * @param halfWidth  half the width of the body following the path
+     * @param halfHeight half the height of the body following the path
+     * @return path, or null while the search is running or if the level has no static geometry
+     */
+    public Path getPath(Vector2 from, Vector2 to, float halfWidth, float halfHeight) {
+        CompletableFuture<Path> path = requestPath(from, to, halfWidth, halfHeight);
+        return path == null ? null : path.getNow(null);
+    }
+
+    /**
+     * Start searching for a path between two points, unless already found or being searched for.
+     *
+     * @param from start position, usually an entity's centre
+     * @param to   goal position
+     * @return future completing with the path, or null if the level has no static geometry
+     */
+    public CompletableFuture<Path> requestPath(Vector2 from, Vector2 to) {
+        return requestPath(from, to, 0f, 0f);
+    }
+
+    /**
+     * Start searching for a path for a body of a given size, unless already found or being searched
+     * for. The search is in the grid inflated by the body's clearance, see {@link
+     * OccupancyGrid#getInflated}, so the path keeps the body clear of walls and never squeezes it
+     * through gaps too narrow for it.
+     *
+     * @param from       start position, usually the centre of an entity's collider
+     * @param to         goal position
+     * @param halfWidth  half the width of the body following the path
+     * @param halfHeight half the height of the body following the path
+     * @return future completing with the path, or null if the level has no static geometry
+     */
+    public CompletableFuture<Path> requestPath(Vector2 from, Vector2 to, float halfWidth, float halfHeight) {
+        OccupancyGrid grid = getGrid();
+        if (grid == null) {
+            return null;
+        }
+        int clearanceX = Math.min(grid.getClearance(halfWidth), MAX_CLEARANCE);
+        int clearanceY = Math.min(grid.getClearance(halfHeight), MAX_CLEARANCE);
+        OccupancyGrid searchGrid = grid.getInflated(clearanceX, clearanceY);
+        int startX = grid.getCellX(from.x);
+        int startY = grid.getCellY(from.y);
+        int goalX = grid.getCellX(to.x);
+        int goalY = grid.getCellY(to.y);
+        // 28 bits for each cell is plenty for any level, leaving room for the clearance
+        long key = ((getCell(grid, startX, startY) & CELL_MASK) << 36)
+                | ((getCell(grid, goalX, goalY) & CELL_MASK) << 8)
+                | ((long) clearanceX << 4) | clearanceY;
+
+        CompletableFuture<Path> path = paths.get(key);
+        if (path == null) {
+            path = JobSystem.launch(() -> searches.get().findPath(searchGrid, startX, startY, goalX, goalY))
+                    .exceptionally(e -> {
+                        logger.error("Failed to find path", e);
+                        return Path.NOT_FOUND;
+                    });
+            paths.put(key, path);
+            if (paths.size() > cacheSize) {
+                evictFinishedPath();
+            }
+        }
+        return path;
+    }
+
+    /**
+     * @param position position in the world
+     * @return index of the grid cell containing the position, for comparing with {@link
+     * Path#getGoalCell()}, or -1 if outside the grid
+     */
+    public int getCell(Vector2 position) {
+        OccupancyGrid grid = getGrid();
+        if (grid == null) {
+            return -1;
+        }
+        return getCell(grid, grid.getCellX(position.x), grid.getCellY(position.y));
+    }
+
+    /**
+     * @return number of paths found or being searched for
+     */
+    public int getCachedCount() {
+        return paths.size();
+    }
+
+    public void clear() {
+        paths.clear();
+    }
+
+    /**
+     * Drop the least recently used path that has been found. Searches still running are kept, since
+     * NPCs are waiting on them and would only start them again.
+     */
+    private void evictFinishedPath() {
+        Iterator<Map.Entry<Long, CompletableFuture<Path>>> iterator = paths.entrySet().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getValue().isDone()) {
+                iterator.remove();
+                return;
+            }
+        }
+    }
+
+    private OccupancyGrid getGrid() {
+        OccupancyGrid grid = physics.getStaticGrid();
+        if (grid != cachedGrid) {
+            // Paths through other geometry are no use
+            paths.clear();
+            cachedGrid = grid;
+        }
+        return grid;
+    }
+
+    private static int getCell(OccupancyGrid grid, int cellX, int cellY) {
+        if (!grid.contains(cellX, cellY)) {
+            return -1;
+        }
+        return cellY * grid.getWidth() + cellX;
+    }
+}
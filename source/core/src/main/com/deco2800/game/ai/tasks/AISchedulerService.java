@@ -0,0 +1,277 @@
+package com.deco2800.game.ai.tasks;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.deco2800.game.entities.Entity;
+import com.deco2800.game.services.GameTime;
+import com.deco2800.game.services.ServiceLocator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Decides how often each {@link AITaskComponent} evaluates the priorities of its tasks, which may
+ * raycast or search for entities. Entities near a target, usually the player, evaluate every frame,
+ * and entities further away less often. Entities evaluating at the same rate are spread across
+ * frames, so a wave spawned together doesn't evaluate together.
+ *
+ * <p>Evaluations stop for the frame once they have taken longer than the budget, and carry on from
+ * the next entity in the following frame, so every entity gets its turn. At least one entity is
+ * evaluated each frame. Between evaluations, entities keep running the task last chosen.
+ *
+ * <p>With timing enabled, the time taken by each type of task is recorded, see {@link
+ * #getTimings()}. It is off unless debug logging is, since timing each task costs two clock reads.
+ */
+public class AISchedulerService {
+    private static final Logger logger = LoggerFactory.getLogger(AISchedulerService.class);
+    public static final float DEFAULT_NEAR_RADIUS = 8f;
+    public static final long DEFAULT_NEAR_INTERVAL = 0L;
+    public static final long DEFAULT_FAR_INTERVAL = 100L;
+    public static final long DEFAULT_BUDGET_MICROS = 2000L;
+    static final long NOT_SCHEDULED = Long.MIN_VALUE;
+    /**
+     * Fraction of an interval between the first evaluations of consecutive entities, spreading them
+     * evenly whatever the number of entities
+     */
+    private static final float STAGGER = 0.618034f;
+
+    private final Array<AITaskComponent> components = new Array<>(64);
+    private final ObjectMap<Class<?>, TaskTiming> timings = new ObjectMap<>();
+    private float nearRadius;
+    private long nearInterval;
+    private long farInterval;
+    private long budgetNanos = DEFAULT_BUDGET_MICROS * 1000L;
+    private Entity target;
+    private int cursor = 0;
+    private long scheduledCount = 0;
+    private int lastEvaluationCount = 0;
+    private long lastFrameNanos = 0;
+    private long overBudgetFrames = 0;
+    // Timings are only logged at debug level
+    private boolean timingEnabled = logger.isDebugEnabled();
+
+    public AISchedulerService() {
+        this(DEFAULT_NEAR_RADIUS, DEFAULT_NEAR_INTERVAL, DEFAULT_FAR_INTERVAL);
+    }
+
+    /**
+     * @param nearRadius   entities within this distance of the target are near
+     * @param nearInterval milliseconds between evaluations of near entities, 0 for every frame
+     * @param farInterval  milliseconds between evaluations of entities further away
+     */
+    public AISchedulerService(float nearRadius, long nearInterval, long farInterval) {
+        this.nearRadius = nearRadius;
+        setIntervals(nearInterval, farInterval);
+    }
+
+    /**
+     * Set the entity which entities near to are evaluated more often. Without a target, every entity
+     * is near.
+     *
+     * @param target entity to evaluate entities near more often, usually the player
+     */
+    public void setTarget(Entity target) {
+        this.target = target;
+    }
+
+    public Entity getTarget() {
+        return target;
+    }
+
+    /**
+     * @param nearRadius entities within this distance of the target are near
+     */
+    public void setNearRadius(float nearRadius) {
+        this.nearRadius = nearRadius;
+    }
+
+    /**
+     * @param nearInterval milliseconds between evaluations of near entities, 0 for every frame
+     * @param farInterval  milliseconds between evaluations of entities further away
+     */
+    public void setIntervals(long nearInterval, long farInterval) {
+        if (nearInterval < 0 || farInterval < 0) {
+            logger.error("AI evaluation intervals can't be negative, ignoring {} and {}", nearInterval, farInterval);
+            return;
+        }
+        this.nearInterval = nearInterval;
+        this.farInterval = farInterval;
+    }
+
+    /**
+     * Set how long evaluations may take each frame. Entities left over are evaluated next frame.
+     *
+     * @param micros budget in microseconds
+     */
+    public void setBudget(long micros) {
+        if (micros <= 0) {
+            logger.error("AI evaluation budget must be positive, ignoring {}", micros);
+            return;
+        }
+        budgetNanos = micros * 1000L;
+    }
+
+    /**
+     * Start scheduling an entity's AI. Called by its AI task component when the entity is created.
+     * The entity is evaluated in the next update.
+     *
+     * @param component AI task component of the entity
+     */
+    void add(AITaskComponent component) {
+        component.nextEvaluation = NOT_SCHEDULED;
+        components.add(component);
+    }
+
+    /**
+     * Stop scheduling an entity's AI. Called by its AI task component when the entity is disposed or
+     * recycled.
+     *
+     * @param component AI task component of the entity
+     */
+    void remove(AITaskComponent component) {
+        int index = components.indexOf(component, true);
+        if (index == -1) {
+            return;
+        }
+        components.removeIndex(index);
+        if (index < cursor) {
+            cursor--;
+        }
+    }
+
+    /**
+     * Evaluate the entities due, until out of budget. Called once a frame, before entities are
+     * updated.
+     */
+    public void update() {
+        GameTime timeSource = ServiceLocator.getTimeSource();
+        if (timeSource.isPaused()) {
+            return;
+        }
+        long now = timeSource.getTime();
+        long start = System.nanoTime();
+        int evaluated = 0;
+        for (int i = 0, n = components.size; i < n; i++) {
+            if (cursor >= components.size) {
+                cursor = 0;
+            }
+            AITaskComponent component = components.get(cursor);
+            if (!isDue(component, now)) {
+                cursor++;
+                continue;
+            }
+            if (evaluated > 0 && System.nanoTime() - start >= budgetNanos) {
+                // Start from this entity next frame
+                overBudgetFrames++;
+                break;
+            }
+            component.evaluate();
+            component.nextEvaluation = getNextEvaluation(component, now);
+            evaluated++;
+            cursor++;
+        }
+        lastEvaluationCount = evaluated;
+        lastFrameNanos = System.nanoTime() - start;
+    }
+
+    private boolean isDue(AITaskComponent component, long now) {
+        if (!component.isEnabled() || !component.getEntity().isEnabled()) {
+            return false;
+        }
+        return component.nextEvaluation == NOT_SCHEDULED || now >= component.nextEvaluation;
+    }
+
+    private long getNextEvaluation(AITaskComponent component, long now) {
+        long interval = isNear(component.getEntity()) ? nearInterval : farInterval;
+        if (component.nextEvaluation == NOT_SCHEDULED) {
+            // Spread out entities starting together
+            return now + (long) (interval * ((scheduledCount++ * STAGGER) % 1f));
+        }
+        return now + interval;
+    }
+
+    private boolean isNear(Entity entity) {
+        if (target == null) {
+            return true;
+        }
+        float distance2 = Vector2.dst2(entity.getCenterX(), entity.getCenterY(), target.getCenterX(), target.getCenterY());
+        return distance2 <= nearRadius * nearRadius;
+    }
+
+    /**
+     * @param timingEnabled true to record the time taken by each type of task
+     */
+    public void setTimingEnabled(boolean timingEnabled) {
+        this.timingEnabled = timingEnabled;
+    }
+
+    public boolean isTimingEnabled() {
+        return timingEnabled;
+    }
+
+    void recordPriority(PriorityTask task, long nanos) {
+        getTiming(task.getClass()).addPriority(nanos);
+    }
+
+    void recordUpdate(PriorityTask task, long nanos) {
+        getTiming(task.getClass()).addUpdate(nanos);
+    }
+
+    private TaskTiming getTiming(Class<?> type) {
+        TaskTiming timing = timings.get(type);
+        if (timing == null) {
+            timing = new TaskTiming(type.getSimpleName());
+            timings.put(type, timing);
+        }
+        return timing;
+    }
+
+    /**
+     * @return time taken by each type of task, by the task's class
+     */
+    public ObjectMap<Class<?>, TaskTiming> getTimings() {
+        return timings;
+    }
+
+    /**
+     * Log the time taken by each type of task, at debug level
+     */
+    @SuppressWarnings("GDXJavaUnsafeIterator")
+    public void logTimings() {
+        for (TaskTiming timing : timings.values()) {
+            logger.debug("{}", timing);
+        }
+    }
+
+    public void resetTimings() {
+        timings.clear();
+    }
+
+    /**
+     * @return number of entities evaluated in the last update
+     */
+    public int getLastEvaluationCount() {
+        return lastEvaluationCount;
+    }
+
+    /**
+     * @return time taken by evaluations in the last update, in microseconds
+     */
+    public float getLastFrameMicros() {
+        return lastFrameNanos / 1000f;
+    }
+
+    /**
+     * @return number of updates which ran out of budget before evaluating every entity due
+     */
+    public long getOverBudgetFrames() {
+        return overBudgetFrames;
+    }
+
+    /**
+     * @return number of entities being scheduled
+     */
+    public int getCount() {
+        return components.size;
+    }
+}
@@ -5,7 +5,8 @@ import com.deco2800.game.services.ServiceLocator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.*;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Task-based AI component. Given a list of tasks with priorities, the AI component will run the
@@ -14,13 +15,26 @@ import java.util.*;
  *
  * <p>This is a simple implementation of Goal-Oriented Action Planning (GOAP), a common AI decision
  * algorithm in games that's more powerful than Finite State Machines (FSMs) (State pattern).
+ *
+ * <p>When there is an {@link AISchedulerService}, it decides when priorities are evaluated, and the
+ * task chosen keeps running in between. Short-lived or reactive entities, such as projectiles, can
+ * opt out with {@link #setScheduled(boolean)} to evaluate every frame.
  */
 public class AITaskComponent extends Component implements TaskRunner {
     private static final Logger logger = LoggerFactory.getLogger(AITaskComponent.class);
 
     private final List<PriorityTask> priorityTasks = new ArrayList<>(2);
     private PriorityTask currentTask;
-
+    /**
+     * Task chosen by the last evaluation, or null if no task should run
+     */
+    private PriorityTask desiredTask;
+    private boolean scheduled = true;
+    private AISchedulerService scheduler;
+    /**
+     * Game time the scheduler next evaluates priorities at
+     */
+    long nextEvaluation;
 
     /**
      * Add a priority task to the list of tasks. This task will be run only when it has the highest
@@ -37,6 +51,29 @@ public class AITaskComponent extends Component implements TaskRunner {
         return this;
     }
 
+    /**
+     * Choose whether the {@link AISchedulerService} decides when priorities are evaluated. Entities
+     * which must react straight away, like a projectile which has hit something, should evaluate every
+     * frame instead. Set before the entity is created.
+     *
+     * @param scheduled true to be scheduled (default), false to evaluate every frame
+     * @return self
+     */
+    public AITaskComponent setScheduled(boolean scheduled) {
+        this.scheduled = scheduled;
+        return this;
+    }
+
+    @Override
+    public void create() {
+        register();
+    }
+
+    @Override
+    public void reuse() {
+        register();
+    }
+
     /**
      * On update, run the current highest priority task. If it's a different one, stop the old one and
      * start the new one. If the highest priority task has negative priority, no task will be run.
@@ -45,14 +82,22 @@ public class AITaskComponent extends Component implements TaskRunner {
     public void update() {
         // only update tasks if game is not paused
         if (!ServiceLocator.getTimeSource().isPaused()) {
-            PriorityTask desiredtask = getHighestPriorityTask();
-            if (desiredtask == null || desiredtask.getPriority() < 0) {
+            if (scheduler == null) {
+                evaluate();
+            }
+            if (desiredTask == null) {
                 return;
             }
-            if (desiredtask != currentTask) {
-                changeTask(desiredtask);
+            if (desiredTask != currentTask) {
+                changeTask(desiredTask);
+            }
+            if (scheduler == null || !scheduler.isTimingEnabled()) {
+                currentTask.update();
+            } else {
+                long start = System.nanoTime();
+                currentTask.update();
+                scheduler.recordUpdate(currentTask, System.nanoTime() - start);
             }
-            currentTask.update();
         }
     }
 
@@ -64,19 +109,47 @@ public class AITaskComponent extends Component implements TaskRunner {
         if (currentTask != null) {
             currentTask.stop();
         }
+        unregister();
     }
 
     /**
-     * return the Task with highest priority
-     *
-     * @return PriorityTask
+     * Stop the current task and remove every task. Tasks are set up for one use of the entity, so add
+     * new tasks before a recycled entity is registered again.
      */
-    private PriorityTask getHighestPriorityTask() {
-        try {
-            return Collections.max(priorityTasks, Comparator.comparingInt(PriorityTask::getPriority));
-        } catch (NoSuchElementException e) {
-            return null;
+    @Override
+    public void recycle() {
+        if (currentTask != null) {
+            currentTask.stop();
+            currentTask = null;
         }
+        desiredTask = null;
+        priorityTasks.clear();
+        unregister();
+    }
+
+    /**
+     * Choose the task with the highest priority to run, or none if every priority is negative. Each
+     * task's priority is only evaluated once.
+     */
+    void evaluate() {
+        PriorityTask highestTask = null;
+        int highestPriority = -1;
+        for (int i = 0; i < priorityTasks.size(); i++) {
+            PriorityTask task = priorityTasks.get(i);
+            int priority;
+            if (scheduler == null || !scheduler.isTimingEnabled()) {
+                priority = task.getPriority();
+            } else {
+                long start = System.nanoTime();
+                priority = task.getPriority();
+                scheduler.recordPriority(task, System.nanoTime() - start);
+            }
+            if (priority > highestPriority) {
+                highestTask = task;
+                highestPriority = priority;
+            }
+        }
+        desiredTask = highestTask;
     }
 
     /**
@@ -94,4 +167,21 @@ public class AITaskComponent extends Component implements TaskRunner {
             desiredTask.start();
         }
     }
+
+    private void register() {
+        if (!scheduled) {
+            return;
+        }
+        scheduler = ServiceLocator.getAISchedulerService();
+        if (scheduler != null) {
+            scheduler.add(this);
+        }
+    }
+
+    private void unregister() {
+        if (scheduler != null) {
+            scheduler.remove(this);
+            scheduler = null;
+        }
+    }
 }
@@ -0,0 +1,87 @@
+package com.deco2800.game.ai.tasks;
+
+/**
+ * Time spent in one type of task, across every entity running it. Recorded by the {@link
+ * AISchedulerService} to find which tasks are worth evaluating less often.
+ */
+public class TaskTiming {
+    private final String name;
+    private long priorityCount = 0;
+    private long priorityNanos = 0;
+    private long maxPriorityNanos = 0;
+    private long updateCount = 0;
+    private long updateNanos = 0;
+    private long maxUpdateNanos = 0;
+
+    /**
+     * @param name name of the task type
+     */
+    TaskTiming(String name) {
+        this.name = name;
+    }
+
+    void addPriority(long nanos) {
+        priorityCount++;
+        priorityNanos += nanos;
+        maxPriorityNanos = Math.max(maxPriorityNanos, nanos);
+    }
+
+    void addUpdate(long nanos) {
+        updateCount++;
+        updateNanos += nanos;
+        maxUpdateNanos = Math.max(maxUpdateNanos, nanos);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return number of times the task's priority was evaluated
+     */
+    public long getPriorityCount() {
+        return priorityCount;
+    }
+
+    /**
+     * @return average time to evaluate the task's priority, in microseconds
+     */
+    public float getAveragePriorityMicros() {
+        return priorityCount == 0 ? 0f : priorityNanos / 1000f / priorityCount;
+    }
+
+    /**
+     * @return longest time to evaluate the task's priority, in microseconds
+     */
+    public float getMaxPriorityMicros() {
+        return maxPriorityNanos / 1000f;
+    }
+
+    /**
+     * @return number of times the task was updated
+     */
+    public long getUpdateCount() {
+        return updateCount;
+    }
+
+    /**
+     * @return average time to update the task, in microseconds
+     */
+    public float getAverageUpdateMicros() {
+        return updateCount == 0 ? 0f : updateNanos / 1000f / updateCount;
+    }
+
+    /**
+     * @return longest time to update the task, in microseconds
+     */
+    public float getMaxUpdateMicros() {
+        return maxUpdateNanos / 1000f;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d priority checks (avg %.1f us, max %.1f us), %d updates (avg %.1f us, max %.1f us)",
+                name, priorityCount, getAveragePriorityMicros(), getMaxPriorityMicros(),
+                updateCount, getAverageUpdateMicros(), getMaxUpdateMicros());
+    }
+}
@@ -2,11 +2,18 @@ package com.deco2800.game.areas;
 
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.math.GridPoint2;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.Queue;
 import com.deco2800.game.areas.terrain.Map;
+import com.deco2800.game.areas.terrain.MapObjectLayer;
+import com.deco2800.game.areas.terrain.StaticDecorationComponent;
 import com.deco2800.game.areas.terrain.TerrainComponent;
 import com.deco2800.game.areas.terrain.TerrainFactory;
+import com.deco2800.game.areas.terrain.WallCompiler;
+import com.deco2800.game.components.CombatStatsComponent;
 import com.deco2800.game.components.gamearea.GameAreaDisplay;
 import com.deco2800.game.components.tasks.ShootProjectileTask;
 import com.deco2800.game.entities.Entity;
@@ -14,19 +21,19 @@ import com.deco2800.game.entities.factories.CutsceneTriggerFactory;
 import com.deco2800.game.entities.factories.NPCFactory;
 import com.deco2800.game.entities.factories.ObstacleFactory;
 import com.deco2800.game.entities.factories.PlayerFactory;
-import com.deco2800.game.files.FileLoader;
 import com.deco2800.game.files.PlayerSave;
+import com.deco2800.game.services.AssetManifest;
 import com.deco2800.game.services.ResourceService;
 import com.deco2800.game.services.ServiceLocator;
 import com.deco2800.game.ui.textbox.DialogueSet;
 import com.deco2800.game.ui.textbox.RandomDialogueSet;
-import com.deco2800.game.utils.math.GridPoint2Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.function.Supplier;
 
 
 /**
@@ -45,14 +52,21 @@ public abstract class GameArea implements Disposable {
     protected int numEnemy = 0;
     protected int numBoss = 0;
     protected Map map;
+    protected String mapFile;
+    protected String areaName;
     protected static final float WALL_WIDTH_F = 0.1f;
     protected String[] tileTextures = null;
+    /**
+     * When true, the obstacle and light tile layers are baked into chunked vertex caches instead of
+     * spawning one entity per tile. Turn off for areas whose decorations must depth sort with entities.
+     */
+    protected boolean bakeStaticDecorations = true;
+    private final Queue<Entity> pendingEntities = new Queue<>();
+    private boolean deferRegistration = false;
     protected static final String[] textures = {
             "images/tree.png",
-            "images/trap.png",
             "images/test.png",
             "images/arrow_normal.png",
-            "images/crown.png",
             "images/grass_1.png",
             "images/grass_2.png",
             "images/grass_3.png",
@@ -70,7 +84,6 @@ public abstract class GameArea implements Disposable {
             "images/player_longsword.png",
             "thor/lightning.png",
             "images/blast.png",
-            "images/hammer_projectile",
             "images/health_left.png",
             "images/health_middle.png",
             "images/health_right.png",
@@ -81,32 +94,19 @@ public abstract class GameArea implements Disposable {
             "images/dash_icon.png",
             "images/prisoner.png",
             "images/rock.png",
-            "images/enemy_health_bar.png",
-            "images/enemy_health_border.png",
-            "images/enemy_health_bar_decrease.png",
-            "images/vortex.png",
-            "images/aiming_line.png",
             "images/bossAttack.png",
             "images/meleeElf.png",
             "images/guardElf.png",
             "images/rangedElf.png",
             "images/fireball/fireballAnimation.png",
-            "images/rangedFixed.png",
-            "images/bossFixed.png",
             "images/meleeAnimationsTextured.png",
             "images/meleeFinal.png",
             "images/assassinFinal.png",
             "images/guardFinal.png",
             "images/rangedAllFinal.png",
-            "images/bossFinal.png",
-            "player_scepter.png",
-            "player_hammer.png",
-            "player_axe.png",
-            "portal.png",
             "Odin/odinAttack.png",
             "Odin/odinDeath.png",
             "Odin/odinMovement.png",
-            "Odin/OdinProjectile/beam_normal.png",
             "Odin/OdinProjectile/beamBroken.png",
             "Assets/gametile-127.png",
             "images/boss_health_middle.png",
@@ -118,26 +118,23 @@ public abstract class GameArea implements Disposable {
             "images/outdoorArcher.png",
             "images/asgardWarrior.png",
             "images/lokiBoss.png",
-            "thor/aoe_attck.png",
-            "thor/up_attck.png",
-            "thor/down_attck.png",
-            "thor/left_attck.png",
-            "thor/right_attck.png",
-            "thor/walk_left.png",
-            "thor/walk_right.png",
             "images/firePillar.png",
             "healthRegen/healthPotion_placeholder.png",
-            "crate/crateHitBreak.png",
-            "rangedDeath.png",
-            "guardDeath.png",
-            "meleeDeath.png",
-            "assassinDeath.png",
-            "bossDeath.png",
-            "assassinWalk.png",
-            "rangedWalk.png",
-            "guardMeleeAttack.png",
-            "guardWalk.png",
-            "guardWalkLeft.png"
+            "crate/crateHitBreak.png"
+    };
+    /**
+     * Textures drawn in the game world through {@link ResourceService#getRegion(String)}, which are
+     * packed into a runtime atlas along with the map's tiles so they batch together
+     */
+    protected static final String[] packedTextures = {
+            "images/trap.png",
+            "images/crown.png",
+            "images/enemy_health_bar.png",
+            "images/enemy_health_border.png",
+            "images/enemy_health_bar_decrease.png",
+            "images/vortex.png",
+            "images/aiming_line.png",
+            "Odin/OdinProjectile/beam_normal.png"
     };
     protected static final String[] textureAtlases = {
             "images/outdoorArcher.atlas", "images/terrain_iso_grass.atlas", "crate/crateHitBreak.atlas", "images/elf.atlas",
@@ -145,15 +142,12 @@ public abstract class GameArea implements Disposable {
             "images/guardElf.atlas", "images/rangedElf.atlas", "images/fireball/fireballAnimation.atlas",
             "end/portal.atlas", "Odin/odin.atlas", "images/player_scepter.atlas", "images/player_hammer.atlas",
             "images/player_longsword.atlas", "images/hammer_projectile.atlas", "images/outdoorWarrior.atlas",
-            "thor/lightning.atlas", "images/guardElf.atlas", "images/rangedElf.atlas", "images/fireball/fireballAnimation.atlas",
+            "thor/lightning.atlas",
             "images/newArrowBroken/atlas/arrow.atlas", "images/player_axe.atlas",
             "images/viking.atlas", "images/meleeAnimationsTextured.atlas",
             "images/meleeFinal.atlas", "images/assassinFinal.atlas", "images/guardFinal.atlas", "images/rangedAllFinal.atlas", "images/bossFinal.atlas",
-            "images/explosion/explosion.atlas", "images/hellViking.atlas", "images/outdoorArcher.atlas", "images/asgardWarrior.atlas",
-            "images/lokiBoss.atlas", "thor/thor.atlas", "images/firePillar.atlas", "Odin" +
-            "/OdinProjectile/beamBroken.atlas", "images/fireball/fireballAnimationBlue.atlas",
-            "/OdinProjectile/beamBroken.atlas", "rangedDeath.atlas", "guardDeath.atlas", "meleeDeath.atlas", "assassinDeath.atlas", "bossDeath.atlas", "assassinWalk.atlas",
-            "rangedWalk.atlas", "guardMeleeAttack.atlas"
+            "images/explosion/explosion.atlas", "images/hellViking.atlas", "images/asgardWarrior.atlas",
+            "images/lokiBoss.atlas", "thor/thor.atlas", "images/firePillar.atlas", "Odin/OdinProjectile/beamBroken.atlas", "images/fireball/fireballAnimationBlue.atlas"
     };
     protected static final String[] sounds = {
             "sounds/Impact4.ogg", "sounds/impact.ogg", "sounds/swish.ogg",
@@ -167,6 +161,7 @@ public abstract class GameArea implements Disposable {
             "sounds/beam_disappear.mp3"
     };
     protected String music = "sounds/RAGNAROK_MAIN_SONG_76bpm.mp3";
+    private AssetManifest assetManifest;
 
     protected TerrainFactory terrainFactory = null;
     protected int playerHealth = 300;
@@ -174,8 +169,6 @@ public abstract class GameArea implements Disposable {
 
     protected static final String TILES_HEIGHT = "n_tiles_height";
     protected static final String TILES_WIDTH = "n_tiles_width";
-    protected static final String WALL_HEIGHT = "height";
-    protected static final String WALL_WIDTH = "width";
     protected String playerWeaponType = "Axe";
 
     protected GameArea() {
@@ -183,27 +176,95 @@ public abstract class GameArea implements Disposable {
     }
 
     /**
-     * Create the game area in the world.
+     * Create the game area in the world, blocking until it is fully loaded.
+     *
+     * @return self
+     */
+    public GameArea create() {
+        create(mapFile, areaName);
+        return this;
+    }
+
+    /**
+     * Create the game area in the world, blocking until it is fully loaded.
+     *
+     * @param mapFile  map file of the area
+     * @param areaName name of the area to display
      */
     public void create(String mapFile, String areaName) {
-        ServiceLocator.registerGameArea(this);
-        map = FileLoader.readClass(Map.class, mapFile);
-        tileTextures = map.tileRefsArray();
-        loadAssets();
-        displayUI(areaName);
+        load(mapFile, areaName).finish();
+    }
+
+    /**
+     * Start loading the game area in the background. The returned loader must be updated every frame
+     * until the area is loaded.
+     *
+     * @return area loader
+     */
+    public GameAreaLoader load() {
+        return load(mapFile, areaName);
+    }
 
-        spawnTerrain();
-        spawnObstacles();
-        spawnLights();
-        spawnLavaTraps();
-        spawnHealthCrateObject();
-        spawnTraps();
-        spawnPTraps();
+    protected GameAreaLoader load(String mapFile, String areaName) {
+        return new GameAreaLoader(this, mapFile, areaName);
+    }
+
+    /**
+     * Get the steps which create the area once its assets are loaded, in order. Entities spawned by
+     * a step are registered before the next step runs. Override to add an area's own steps.
+     *
+     * @param areaName name of the area to display
+     * @return spawn steps
+     */
+    protected Array<Runnable> getSpawnSteps(String areaName) {
+        Array<Runnable> steps = new Array<>();
+        steps.add(() -> displayUI(areaName));
+        steps.add(this::spawnTerrain);
+        if (bakeStaticDecorations) {
+            steps.add(this::spawnStaticDecorations);
+        } else {
+            steps.add(this::spawnObstacles);
+            steps.add(this::spawnLights);
+        }
+        steps.add(this::spawnLavaTraps);
+        steps.add(this::spawnHealthCrateObject);
+        steps.add(this::spawnTraps);
+        steps.add(this::spawnPTraps);
+        steps.add(this::spawnPlayer);
+        steps.add(() -> player.getComponent(CombatStatsComponent.class).setHealth(playerHealth));
+        steps.add(this::playMusic);
+        return steps;
+    }
 
-        spawnPlayer();
+    void setMap(Map map) {
+        this.map = map;
+        tileTextures = map.tileRefsArray();
+    }
 
-        playMusic();
+    /**
+     * When true, spawned entities are queued rather than registered, and registered one at a time
+     * with {@link #registerPendingEntity()}. Used to spread registration across frames while loading.
+     *
+     * @param deferRegistration true to queue spawned entities
+     */
+    void setDeferRegistration(boolean deferRegistration) {
+        this.deferRegistration = deferRegistration;
+        while (!deferRegistration && registerPendingEntity()) {
+            // Register anything still queued
+        }
+    }
 
+    /**
+     * Register the oldest queued entity
+     *
+     * @return true if an entity was registered, false if none were queued
+     */
+    boolean registerPendingEntity() {
+        if (pendingEntities.isEmpty()) {
+            return false;
+        }
+        registerEntity(pendingEntities.removeFirst());
+        return true;
     }
 
     /**
@@ -245,9 +306,8 @@ public abstract class GameArea implements Disposable {
             logger.info("Spawning the teleport object");
             //gama area x
             Entity teleport = ObstacleFactory.createTeleport();
-            HashMap<String, Float>[] teleportPos = map.getTeleportObjects();
-            GridPoint2 fixedPos = new GridPoint2(teleportPos[0].get("x").intValue(),
-                    (map.getDimensions().get(TILES_HEIGHT) - teleportPos[0].get("y").intValue()) - 1);
+            GridPoint2 fixedPos = getTilePosition(map.getTeleportObjects(), 0);
+            fixedPos.y -= 1;
             this.spawnEntityAt(teleport, fixedPos, true, true);
         }
     }
@@ -271,17 +331,8 @@ public abstract class GameArea implements Disposable {
                 set = DialogueSet.BOSS_DEFEATED_BEFORE;
             }
         }
-        HashMap<String, Float>[] dialogues = map.getCutsceneObjects();
-        for (HashMap<String, Float> dialogue : dialogues) {
-            int x = dialogue.get("x").intValue();
-            int y = dialogue.get("y").intValue();
-
-            spawnEntityAt(
-                    CutsceneTriggerFactory.createDialogueTrigger(dialogueSet, set, 1),
-                    new GridPoint2(x, map.getDimensions().get(TILES_HEIGHT) - y),
-                    false,
-                    false);
-        }
+        spawnLayer(map.getCutsceneObjects(),
+                () -> CutsceneTriggerFactory.createDialogueTrigger(dialogueSet, set, 1));
     }
 
     /**
@@ -309,6 +360,14 @@ public abstract class GameArea implements Disposable {
      * @param entity Entity (not yet registered)
      */
     protected void spawnEntity(Entity entity) {
+        if (deferRegistration) {
+            pendingEntities.addLast(entity);
+        } else {
+            registerEntity(entity);
+        }
+    }
+
+    private void registerEntity(Entity entity) {
         areaEntities.add(entity);
         ServiceLocator.getEntityService().register(entity);
     }
@@ -338,26 +397,42 @@ public abstract class GameArea implements Disposable {
     }
 
     /**
-     * Spawns a create object which will reveal a health potion at the positions specified
-     * within the Tiled JSON file.
+     * Spawn an entity on the tile of each object in a map layer. Map objects have their position in
+     * tiles from the top left of the map.
+     *
+     * @param layer   map objects to spawn at, may be null if the map doesn't have the layer
+     * @param factory creates the entity (not yet registered) to spawn for each object
      */
-    protected void spawnHealthCrateObject() {
-        HashMap<String, Float>[] crates = map.getHealthCrateObjects();
-        if (crates == null) {
+    protected void spawnLayer(MapObjectLayer layer, Supplier<Entity> factory) {
+        if (layer == null) {
             return;
         }
-        for (HashMap<String, Float> crate : crates) {
-            int x = crate.get("x").intValue();
-            int y = crate.get("y").intValue();
-
-            spawnEntityAt(
-                    ObstacleFactory.createHealthCrate(),
-                    new GridPoint2(x, map.getDimensions().get(TILES_HEIGHT) - y),
-                    false,
-                    false);
+        for (int i = 0; i < layer.size(); i++) {
+            spawnEntityAt(factory.get(), getTilePosition(layer, i), false, false);
         }
     }
 
+    /**
+     * Get the tile position of a map object. Map objects have their y position from the top of the
+     * map, while tile positions are from the bottom.
+     *
+     * @param layer map objects
+     * @param index index of the object in the layer
+     * @return tile position of the object
+     */
+    protected GridPoint2 getTilePosition(MapObjectLayer layer, int index) {
+        return new GridPoint2(layer.getTileX(index),
+                map.getDimensions().get(TILES_HEIGHT) - layer.getTileY(index));
+    }
+
+    /**
+     * Spawns a create object which will reveal a health potion at the positions specified
+     * within the Tiled JSON file.
+     */
+    protected void spawnHealthCrateObject() {
+        spawnLayer(map.getHealthCrateObjects(), ObstacleFactory::createHealthCrate);
+    }
+
     /**
      * Spawn entity on a given tile. Requires the terrain to be set first.
      *
@@ -382,177 +457,56 @@ public abstract class GameArea implements Disposable {
     }
 
     protected void spawnHellWarriorObject() {
-        HashMap<String, Float>[] warriors = map.getHellMeleeObjects();
-        for (HashMap<String, Float> warrior : warriors) {
-            int x = warrior.get("x").intValue();
-            int y = warrior.get("y").intValue();
-
-            spawnEntityAt(
-                    NPCFactory.createMeleeHellViking(player),
-                    new GridPoint2(x, map.getDimensions().get(TILES_HEIGHT) - y),
-                    false,
-                    false);
-        }
+        spawnLayer(map.getHellMeleeObjects(), () -> NPCFactory.createMeleeHellViking(player));
     }
 
     protected void spawnAsgardWarriorObject() {
-        HashMap<String, Float>[] crates = map.getAsgardMeleeObjects();
-        for (HashMap<String, Float> crate : crates) {
-            int x = crate.get("x").intValue();
-            int y = crate.get("y").intValue();
-
-            spawnEntityAt(
-                    NPCFactory.createMeleeAsgardViking(player),
-                    new GridPoint2(x, map.getDimensions().get(TILES_HEIGHT) - y),
-                    false,
-                    false);
-        }
+        spawnLayer(map.getAsgardMeleeObjects(), () -> NPCFactory.createMeleeAsgardViking(player));
     }
 
     protected void spawnOutdoorWarriorObject() {
-        HashMap<String, Float>[] warriors = map.getOutdoorMeleeObjects();
-        for (HashMap<String, Float> warrior : warriors) {
-            int x = warrior.get("x").intValue();
-            int y = warrior.get("y").intValue();
-
-            spawnEntityAt(
-                    NPCFactory.createMeleeViking(player),
-                    new GridPoint2(x, map.getDimensions().get(TILES_HEIGHT) - y),
-                    false,
-                    false);
-        }
+        spawnLayer(map.getOutdoorMeleeObjects(), () -> NPCFactory.createMeleeViking(player));
     }
 
     protected void spawnOutdoorArcherObject() {
-        HashMap<String, Float>[] crates = map.getRangeObjects();
-        for (HashMap<String, Float> crate : crates) {
-            int x = crate.get("x").intValue();
-            int y = crate.get("y").intValue();
-
-            spawnEntityAt(
-                    NPCFactory.createOutdoorArcher(player),
-                    new GridPoint2(x, map.getDimensions().get(TILES_HEIGHT) - y),
-                    false,
-                    false);
-        }
+        spawnLayer(map.getRangeObjects(), () -> NPCFactory.createOutdoorArcher(player));
     }
 
     protected void spawnMovementCutscenes() {
-        HashMap<String, Float>[] lefts = map.getMoveLeftObjects();
-        if (lefts != null) {
-            for (HashMap<String, Float> left : lefts) {
-                int x = left.get("x").intValue();
-                int y = left.get("y").intValue();
-
-                spawnEntityAt(
-                        CutsceneTriggerFactory.createLeftMoveTrigger(),
-                        new GridPoint2(x, map.getDimensions().get(TILES_HEIGHT) - y),
-                        false,
-                        false);
-            }
-        }
-
-        HashMap<String, Float>[] rights = map.getMoveRightObjects();
-        if (rights != null) {
-            for (HashMap<String, Float> right : rights) {
-                int x = right.get("x").intValue();
-                int y = right.get("y").intValue();
-
-                spawnEntityAt(
-                        CutsceneTriggerFactory.createRightMoveTrigger(),
-                        new GridPoint2(x, map.getDimensions().get(TILES_HEIGHT) - y),
-                        false,
-                        false);
-            }
-        }
-
-        HashMap<String, Float>[] downs = map.getMoveDownObjects();
-        if (downs != null) {
-            for (HashMap<String, Float> down : downs) {
-                int x = down.get("x").intValue();
-                int y = down.get("y").intValue();
-
-                spawnEntityAt(
-                        CutsceneTriggerFactory.createDownMoveTrigger(),
-                        new GridPoint2(x, map.getDimensions().get(TILES_HEIGHT) - y),
-                        false,
-                        false);
-            }
-        }
-
-        HashMap<String, Float>[] ups = map.getMoveUpObjects();
-        if (ups != null) {
-            for (HashMap<String, Float> up : ups) {
-                int x = up.get("x").intValue();
-                int y = up.get("y").intValue();
-
-                spawnEntityAt(
-                        CutsceneTriggerFactory.createUpMoveTrigger(),
-                        new GridPoint2(x, map.getDimensions().get(TILES_HEIGHT) - y),
-                        false,
-                        false);
-            }
-        }
+        spawnLayer(map.getMoveLeftObjects(), CutsceneTriggerFactory::createLeftMoveTrigger);
+        spawnLayer(map.getMoveRightObjects(), CutsceneTriggerFactory::createRightMoveTrigger);
+        spawnLayer(map.getMoveDownObjects(), CutsceneTriggerFactory::createDownMoveTrigger);
+        spawnLayer(map.getMoveUpObjects(), CutsceneTriggerFactory::createUpMoveTrigger);
     }
 
     /**
      * spawn boss - only spawn on the map if other enemies are killed
      */
     protected void spawnLoki() {
-        HashMap<String, Float>[] objects = map.getBossObjects();
-        if (objects != null) {
-            for (HashMap<String, Float> object : objects) {
-                int x = object.get("x").intValue();
-                int y = object.get("y").intValue();
-                Entity elf = NPCFactory.createLoki(player);
-                incBossNum();
-                spawnEntityAt(
-                        elf,
-                        new GridPoint2(x, map.getDimensions().get(TILES_HEIGHT) - y),
-                        false,
-                        false);
-            }
-        }
+        spawnLayer(map.getBossObjects(), () -> {
+            incBossNum();
+            return NPCFactory.createLoki(player);
+        });
     }
 
     /**
      * spawn boss - only spawn on the map if other enemies are killed
      */
     protected void spawnBoss() {
-        HashMap<String, Float>[] objects = map.getBossObjects();
-        if (objects != null) {
-            for (HashMap<String, Float> object : objects) {
-                int x = object.get("x").intValue();
-                int y = object.get("y").intValue();
-                Entity elf = NPCFactory.createBossNPC(player);
-                incBossNum();
-                spawnEntityAt(
-                        elf,
-                        new GridPoint2(x, map.getDimensions().get(TILES_HEIGHT) - y),
-                        false,
-                        false);
-            }
-        }
+        spawnLayer(map.getBossObjects(), () -> {
+            incBossNum();
+            return NPCFactory.createBossNPC(player);
+        });
     }
 
     /**
      * spawn boss - only spawn on the map if other enemies are killed
      */
     protected void spawnThor() {
-        HashMap<String, Float>[] objects = map.getBossObjects();
-        if (objects != null) {
-            for (HashMap<String, Float> object : objects) {
-                int x = object.get("x").intValue();
-                int y = object.get("y").intValue();
-                Entity thor = NPCFactory.createThor(player);
-                incBossNum();
-                spawnEntityAt(
-                        thor,
-                        new GridPoint2(x, map.getDimensions().get(TILES_HEIGHT) - y),
-                        false,
-                        false);
-            }
-        }
+        spawnLayer(map.getBossObjects(), () -> {
+            incBossNum();
+            return NPCFactory.createThor(player);
+        });
     }
 
     protected void spawnTerrain() {
@@ -564,41 +518,49 @@ public abstract class GameArea implements Disposable {
         float tileSize = terrain.getTileSize();
         GridPoint2 tileBounds = terrain.getMapBounds(0);
         Vector2 worldBounds = new Vector2(tileBounds.x * tileSize, tileBounds.y * tileSize);
+        Array<Rectangle> walls = new Array<>();
 
         // Left
-        spawnEntityAt(
-                ObstacleFactory.createWall(WALL_WIDTH_F, worldBounds.y), GridPoint2Utils.ZERO, false, false);
+        walls.add(new Rectangle(0f, 0f, WALL_WIDTH_F, worldBounds.y));
         // Right
-        spawnEntityAt(
-                ObstacleFactory.createWall(WALL_WIDTH_F, worldBounds.y),
-                new GridPoint2(tileBounds.x, 0),
-                false,
-                false);
+        walls.add(new Rectangle(worldBounds.x, 0f, WALL_WIDTH_F, worldBounds.y));
         // Top
-        spawnEntityAt(
-                ObstacleFactory.createWall(worldBounds.x, WALL_WIDTH_F),
-                new GridPoint2(0, tileBounds.y),
-                false,
-                false);
+        walls.add(new Rectangle(0f, worldBounds.y, worldBounds.x, WALL_WIDTH_F));
         // Bottom
-        spawnEntityAt(
-                ObstacleFactory.createWall(worldBounds.x, WALL_WIDTH_F), GridPoint2Utils.ZERO, false, false);
+        walls.add(new Rectangle(0f, 0f, worldBounds.x, WALL_WIDTH_F));
 
         //Imported Map Walls
-        HashMap<String, Float>[] walls = map.getWallObjects();
-        for (HashMap<String, Float> wall : walls) {
-            int x = wall.get("x").intValue();
-            int y = wall.get("y").intValue();
-            float width = wall.get(WALL_WIDTH);
-            float height = wall.get(WALL_HEIGHT);
+        walls.addAll(mapRectangles(map.getWallObjects()));
+
+        // Adjacent walls are merged and share one static body, keeping the broadphase small
+        Array<Rectangle> compiled = WallCompiler.compile(walls);
+        logger.debug("Compiled {} walls into {} colliders", walls.size, compiled.size);
+        spawnEntity(ObstacleFactory.createLevelGeometry(compiled, tileSize));
+    }
+
+    /**
+     * Convert rectangular map objects into world space rectangles. Map objects have their position
+     * in tiles from the top left of the map, and their size in pixels.
+     *
+     * @param objects rectangular map objects
+     * @return world space rectangles
+     */
+    protected Array<Rectangle> mapRectangles(MapObjectLayer objects) {
+        Array<Rectangle> rectangles = new Array<>();
+        if (objects == null) {
+            return rectangles;
+        }
+        int tilesHeight = map.getDimensions().get(TILES_HEIGHT);
+        for (int i = 0; i < objects.size(); i++) {
+            float width = objects.getWidth(i);
+            float height = objects.getHeight(i);
 
             int unitHeight = (int) (height / 32f);
-            spawnEntityAt(
-                    ObstacleFactory.createWall((width / 32f) * 0.5f, (height / 32f) * 0.5f),
-                    new GridPoint2(x, map.getDimensions().get(TILES_HEIGHT) - (y + unitHeight)),
-                    false,
-                    false);
+            Vector2 worldPos = terrain.tileToWorldPosition(
+                    objects.getTileX(i), tilesHeight - (objects.getTileY(i) + unitHeight));
+            rectangles.add(new Rectangle(worldPos.x, worldPos.y, (width / 32f) * 0.5f, (height / 32f) * 0.5f));
         }
+        return rectangles;
     }
 
     protected void spawnPTraps() {
@@ -615,11 +577,17 @@ public abstract class GameArea implements Disposable {
 
     protected void spawnPlayer() {
         Entity newPlayer = PlayerFactory.createPlayer(playerWeaponType);
-        HashMap<String, Float> spawn = map.getInitTeleportObjects()[0];
-        int height = map.getDimensions().get(TILES_HEIGHT);
-        spawnEntityAt(newPlayer, new GridPoint2(spawn.get("x").intValue(), height - spawn.get("y").intValue()),
-                true, true);
+        spawnEntityAt(newPlayer, getTilePosition(map.getInitTeleportObjects(), 0), true, true);
         player = newPlayer;
+        if (ServiceLocator.getActivityRegionService() != null) {
+            ServiceLocator.getActivityRegionService().setTarget(player);
+        }
+        if (ServiceLocator.getFlowFieldService() != null) {
+            ServiceLocator.getFlowFieldService().setTarget(player);
+        }
+        if (ServiceLocator.getAISchedulerService() != null) {
+            ServiceLocator.getAISchedulerService().setTarget(player);
+        }
     }
 
     protected void spawnObstacles() {
@@ -644,6 +612,17 @@ public abstract class GameArea implements Disposable {
         }
     }
 
+    /**
+     * Spawn the obstacle and light tile layers as a single static, camera-culled renderable
+     */
+    protected void spawnStaticDecorations() {
+        StaticDecorationComponent decorations = terrainFactory.createStaticDecorations(
+                map, map.getTransObstacles(), map.getlightTiles());
+        if (decorations != null) {
+            spawnEntity(new Entity().addComponent(decorations));
+        }
+    }
+
     protected void spawnLights() {
         int[][] lights = map.getlightTiles();
         HashMap<String, String> tileRefs = map.getTileRefs();
@@ -667,161 +646,113 @@ public abstract class GameArea implements Disposable {
     }
 
     protected void spawnLavaTraps() {
-        HashMap<String, Float>[] lavaTraps = map.getLavaObjects();
-        for (HashMap<String, Float> lavaTrap : lavaTraps) {
-            int x = lavaTrap.get("x").intValue();
-            int y = lavaTrap.get("y").intValue();
-            float width = lavaTrap.get(WALL_WIDTH);
-            float height = lavaTrap.get(WALL_HEIGHT);
-
-            int unitHeight = (int) (height / 32f);
+        // Adjacent lava is merged into a single trap, as each trap has its own body
+        Array<Rectangle> lavaTraps = WallCompiler.compile(mapRectangles(map.getLavaObjects()));
+        for (Rectangle lavaTrap : lavaTraps) {
             spawnEntityAt(
-                    ObstacleFactory.createRSNonePhysicalTrap((width / 32f) * 0.5f, (height / 32f) * 0.5f),
-                    new GridPoint2(x, map.getDimensions().get(TILES_HEIGHT) - (y + unitHeight)),
+                    ObstacleFactory.createRSNonePhysicalTrap(lavaTrap.width, lavaTrap.height),
+                    new Vector2(lavaTrap.x, lavaTrap.y),
                     false,
                     false);
         }
     }
 
     protected void spawnMeleeElf() {
-        HashMap<String, Float>[] objects = map.getMeleeObjects();
-        if (objects != null) {
-            for (HashMap<String, Float> object : objects) {
-                int x = object.get("x").intValue();
-                int y = object.get("y").intValue();
-                Entity elf = NPCFactory.createMeleeElf(player);
-                incNum();
-                spawnEntityAt(
-                        elf,
-                        new GridPoint2(x, map.getDimensions().get(TILES_HEIGHT) - y),
-                        false,
-                        false);
-            }
-        }
+        spawnLayer(map.getMeleeObjects(), () -> {
+            incNum();
+            return NPCFactory.createMeleeElf(player);
+        });
     }
 
     /**
      * Spawn range elf on terrain, range elf can shoot target
      */
     protected void spawnRangedElf() {
-        HashMap<String, Float>[] objects = map.getRangeObjects();
-        if (objects != null) {
-            for (HashMap<String, Float> object : objects) {
-                int x = object.get("x").intValue();
-                int y = object.get("y").intValue();
-                Entity elf = NPCFactory.createRangedElf(player, ShootProjectileTask.projectileTypes.NORMAL_ARROW, 0.15f * (levelInt + 1));
-                incNum();
-                elf.setEntityType("ranged");
-                elf.getEvents().trigger("rangedLeft");
-                spawnEntityAt(
-                        elf,
-                        new GridPoint2(x, map.getDimensions().get(TILES_HEIGHT) - y),
-                        false,
-                        false);
-            }
-        }
+        spawnLayer(map.getRangeObjects(), () -> {
+            Entity elf = NPCFactory.createRangedElf(player, ShootProjectileTask.projectileTypes.NORMAL_ARROW, 0.15f * (levelInt + 1));
+            incNum();
+            elf.setEntityType("ranged");
+            elf.getEvents().trigger("rangedLeft");
+            return elf;
+        });
     }
 
     /**
      * Spawn Assassin on terrain, range can shoot from far away with high damage
      */
     protected void spawnAssassinElf() {
-        HashMap<String, Float>[] objects = map.getAssassinObjects();
-        if (objects != null) {
-            for (HashMap<String, Float> object : objects) {
-                int x = object.get("x").intValue();
-                int y = object.get("y").intValue();
-                Entity elf = NPCFactory.createRangedElf(player, ShootProjectileTask.projectileTypes.FAST_ARROW, 0);
-                elf.getEvents().trigger("assassinLeft");
-                incNum();
-                spawnEntityAt(
-                        elf,
-                        new GridPoint2(x, map.getDimensions().get(TILES_HEIGHT) - y),
-                        false,
-                        false);
-            }
-        }
+        spawnLayer(map.getAssassinObjects(), () -> {
+            Entity elf = NPCFactory.createRangedElf(player, ShootProjectileTask.projectileTypes.FAST_ARROW, 0);
+            elf.getEvents().trigger("assassinLeft");
+            incNum();
+            return elf;
+        });
     }
 
     protected void spawnElfGuard() {
-        HashMap<String, Float>[] objects = map.getGuardObjects();
-        if (objects != null) {
-            for (HashMap<String, Float> object : objects) {
-                int x = object.get("x").intValue();
-                int y = object.get("y").intValue();
-                Entity elf = NPCFactory.createElfGuard(player);
-                incNum();
-                spawnEntityAt(
-                        elf,
-                        new GridPoint2(x, map.getDimensions().get(TILES_HEIGHT) - y),
-                        false,
-                        false);
-            }
-        }
+        spawnLayer(map.getGuardObjects(), () -> {
+            incNum();
+            return NPCFactory.createElfGuard(player);
+        });
     }
 
     /**
      * Spawn anchored elf, elf only move at the certain anchored
      */
     protected void spawnAnchoredElf() {
-        HashMap<String, Float>[] objects = map.getAnchoredObjects();
-        if (objects != null) {
-            for (HashMap<String, Float> object : objects) {
-                int x = object.get("x").intValue();
-                int y = object.get("y").intValue();
-                Entity anchor = ObstacleFactory.createAnchor();
-                Entity elf = NPCFactory.createAnchoredElf(player, anchor, 3f);
-                incNum();
-                spawnEntityAt(
-                        elf,
-                        new GridPoint2(x, map.getDimensions().get(TILES_HEIGHT) - y),
-                        false,
-                        false);
-            }
-        }
+        spawnLayer(map.getAnchoredObjects(), () -> {
+            Entity anchor = ObstacleFactory.createAnchor();
+            incNum();
+            return NPCFactory.createAnchoredElf(player, anchor, 3f);
+        });
     }
 
     /**
-     * Load the texture from files
+     * Get the assets this area needs. Override to add assets only used by one area.
+     *
+     * @return asset manifest
      */
-    protected void loadAssets() {
+    protected AssetManifest getAssetManifest() {
+        return new AssetManifest()
+                .addPackedTextures(tileTextures)
+                .addPackedTextures(packedTextures)
+                .addTextures(textures)
+                .addTextureAtlases(textureAtlases)
+                .addSounds(sounds)
+                .addMusic(music);
+    }
 
+    /**
+     * Queue the area's textures, sounds and music to be loaded. They are loaded by the
+     * {@link GameAreaLoader}. Assets still loaded from the previous area are reused.
+     */
+    protected void loadAssets() {
         logger.debug("Loading assets");
-        ResourceService resourceService = ServiceLocator.getResourceService();
-        resourceService.loadTextures(textures);
-        resourceService.loadTextures(tileTextures);
-        resourceService.loadTextureAtlases(textureAtlases);
-        resourceService.loadSounds(sounds);
-        resourceService.loadMusic(new String[]{music});
-        while (resourceService.loadForMillis(10)) {
-            // This could be upgraded to a loading screen
-            logger.info("Loading... {}%", resourceService.getProgress());
-        }
+        assetManifest = getAssetManifest();
+        ServiceLocator.getResourceService().loadManifest(assetManifest);
     }
 
     /**
-     * Unload the assets (include image and sound)
+     * Release the area's assets (include image and sound). Assets which the next area also uses stay
+     * loaded until it has been loaded.
      */
-    protected void unloadAssets() {
+    public void unloadAssets() {
         logger.debug("Unloading assets");
-        if (ServiceLocator.getResourceService() != null) {
-            ResourceService resourceService = ServiceLocator.getResourceService();
-            resourceService.unloadAssets(textures);
-            resourceService.unloadAssets(tileTextures);
-            resourceService.unloadAssets(textureAtlases);
-            resourceService.unloadAssets(sounds);
-            resourceService.unloadAssets(new String[]{music});
+        ResourceService resourceService = ServiceLocator.getResourceService();
+        if (resourceService == null || assetManifest == null) {
+            return;
         }
+        if (resourceService.containsAsset(music, Music.class)) {
+            resourceService.getAsset(music, Music.class).stop();
+        }
+        resourceService.unloadManifest(assetManifest);
+        assetManifest = null;
     }
 
     public void dispose() {
         for (Entity entity : areaEntities) {
             entity.dispose();
         }
-        if (ServiceLocator.getResourceService() != null
-                && ServiceLocator.getResourceService().getAsset(music, Music.class) != null) {
-            ServiceLocator.getResourceService().getAsset(music, Music.class).stop();
-        }
         this.unloadAssets();
     }
 
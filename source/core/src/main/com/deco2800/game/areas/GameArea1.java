@@ -1,7 +1,7 @@
 package com.deco2800.game.areas;
 
+import com.badlogic.gdx.utils.Array;
 import com.deco2800.game.areas.terrain.TerrainFactory;
-import com.deco2800.game.components.CombatStatsComponent;
 import com.deco2800.game.files.PlayerSave;
 import com.deco2800.game.services.ServiceLocator;
 import com.deco2800.game.ui.textbox.RandomDialogueSet;
@@ -20,6 +20,11 @@ public class GameArea1 extends GameArea {
     public GameArea1(TerrainFactory terrainFactory) {
         super();
         this.terrainFactory = terrainFactory;
+        this.playerWeaponType = "Axe";
+        this.music = "sounds/area1.mp3";
+        this.levelInt = 1;
+        this.mapFile = "maps/lvl_1.json";
+        this.areaName = "Level 1";
     }
 
     /**
@@ -29,34 +34,26 @@ public class GameArea1 extends GameArea {
      * @param currentHealth  player health from last map
      */
     public GameArea1(TerrainFactory terrainFactory, int currentHealth) {
-        super();
-        this.terrainFactory = terrainFactory;
+        this(terrainFactory);
         this.playerHealth = currentHealth;
     }
 
     /**
-     * Create the game area, including terrain, static entities (trees), dynamic entities (player)
+     * Spawn the area's enemies, cutscenes and dialogue after the terrain and player
      */
-    public GameArea create() {
-        playerWeaponType = "Axe";
-        music = "sounds/area1.mp3";
-
-        levelInt = 1;
-        super.create("maps/lvl_1.json", "Level 1");
-
-        spawnMeleeElf();
-        spawnElfGuard();
-        spawnRangedElf();
-        spawnAssassinElf();
-        spawnAnchoredElf();
-        spawnBoss();
-
-        spawnMovementCutscenes();
-        spawnDialogueCutscenes(RandomDialogueSet.ELF_ENCOUNTER);
-        setInitialDialogue();
-
-        player.getComponent(CombatStatsComponent.class).setHealth(playerHealth);
-        return this;
+    @Override
+    protected Array<Runnable> getSpawnSteps(String areaName) {
+        Array<Runnable> steps = super.getSpawnSteps(areaName);
+        steps.add(this::spawnMeleeElf);
+        steps.add(this::spawnElfGuard);
+        steps.add(this::spawnRangedElf);
+        steps.add(this::spawnAssassinElf);
+        steps.add(this::spawnAnchoredElf);
+        steps.add(this::spawnBoss);
+        steps.add(this::spawnMovementCutscenes);
+        steps.add(() -> spawnDialogueCutscenes(RandomDialogueSet.ELF_ENCOUNTER));
+        steps.add(this::setInitialDialogue);
+        return steps;
     }
 
     /**
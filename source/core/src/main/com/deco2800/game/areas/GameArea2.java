@@ -1,7 +1,7 @@
 package com.deco2800.game.areas;
 
+import com.badlogic.gdx.utils.Array;
 import com.deco2800.game.areas.terrain.TerrainFactory;
-import com.deco2800.game.components.CombatStatsComponent;
 import com.deco2800.game.files.PlayerSave;
 import com.deco2800.game.services.ServiceLocator;
 import com.deco2800.game.ui.textbox.RandomDialogueSet;
@@ -20,6 +20,11 @@ public class GameArea2 extends GameArea {
     public GameArea2(TerrainFactory terrainFactory) {
         super();
         this.terrainFactory = terrainFactory;
+        this.playerWeaponType = "Longsword";
+        this.music = "sounds/area2.mp3";
+        this.levelInt = 2;
+        this.mapFile = "maps/lvl_3.json";
+        this.areaName = "Level 2";
     }
 
     /**
@@ -29,30 +34,22 @@ public class GameArea2 extends GameArea {
      * @param currentHealth  player health from last map
      */
     public GameArea2(TerrainFactory terrainFactory, int currentHealth) {
-        super();
-        this.terrainFactory = terrainFactory;
+        this(terrainFactory);
         this.playerHealth = currentHealth;
     }
 
     /**
-     * Create the game area, including terrain, static entities (trees), dynamic entities (player)
+     * Spawn the area's enemies, cutscenes and dialogue after the terrain and player
      */
-    public GameArea create() {
-        playerWeaponType = "Longsword";
-        music = "sounds/area2.mp3";
-
-        levelInt = 2;
-        super.create("maps/lvl_3.json", "Level 2");
-
-        spawnHellWarriorObject();
-        spawnLoki();
-
-        spawnMovementCutscenes();
-        spawnDialogueCutscenes(RandomDialogueSet.LOKI_ENCOUNTER);
-        setInitialDialogue();
-
-        player.getComponent(CombatStatsComponent.class).setHealth(playerHealth);
-        return this;
+    @Override
+    protected Array<Runnable> getSpawnSteps(String areaName) {
+        Array<Runnable> steps = super.getSpawnSteps(areaName);
+        steps.add(this::spawnHellWarriorObject);
+        steps.add(this::spawnLoki);
+        steps.add(this::spawnMovementCutscenes);
+        steps.add(() -> spawnDialogueCutscenes(RandomDialogueSet.LOKI_ENCOUNTER));
+        steps.add(this::setInitialDialogue);
+        return steps;
     }
 
     /**
@@ -1,7 +1,7 @@
 package com.deco2800.game.areas;
 
+import com.badlogic.gdx.utils.Array;
 import com.deco2800.game.areas.terrain.TerrainFactory;
-import com.deco2800.game.components.CombatStatsComponent;
 import com.deco2800.game.files.PlayerSave;
 import com.deco2800.game.services.ServiceLocator;
 import com.deco2800.game.ui.textbox.RandomDialogueSet;
@@ -20,6 +20,11 @@ public class GameArea3 extends GameArea {
     public GameArea3(TerrainFactory terrainFactory) {
         super();
         this.terrainFactory = terrainFactory;
+        this.playerWeaponType = "Scepter";
+        this.music = "sounds/area3.mp3";
+        this.levelInt = 3;
+        this.mapFile = "maps/lvl_4.json";
+        this.areaName = "Level 3";
     }
 
     /**
@@ -29,30 +34,22 @@ public class GameArea3 extends GameArea {
      * @param currentHealth  player health from last map
      */
     public GameArea3(TerrainFactory terrainFactory, int currentHealth) {
-        super();
-        this.terrainFactory = terrainFactory;
+        this(terrainFactory);
         this.playerHealth = currentHealth;
     }
 
     /**
-     * Create the game area, including terrain, static entities (trees), dynamic entities (player)
+     * Spawn the area's enemies, cutscenes and dialogue after the terrain and player
      */
-    public GameArea create() {
-        playerWeaponType = "Scepter";
-        music = "sounds/area3.mp3";
-
-        levelInt = 3;
-        super.create("maps/lvl_4.json", "Level 3");
-
-        spawnHellWarriorObject();
-        spawnLoki();
-
-        spawnMovementCutscenes();
-        spawnDialogueCutscenes(RandomDialogueSet.LOKI2_ENCOUNTER);
-        setInitialDialogue();
-
-        player.getComponent(CombatStatsComponent.class).setHealth(playerHealth);
-        return this;
+    @Override
+    protected Array<Runnable> getSpawnSteps(String areaName) {
+        Array<Runnable> steps = super.getSpawnSteps(areaName);
+        steps.add(this::spawnHellWarriorObject);
+        steps.add(this::spawnLoki);
+        steps.add(this::spawnMovementCutscenes);
+        steps.add(() -> spawnDialogueCutscenes(RandomDialogueSet.LOKI2_ENCOUNTER));
+        steps.add(this::setInitialDialogue);
+        return steps;
     }
 
     /**
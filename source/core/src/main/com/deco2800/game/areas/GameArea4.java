@@ -1,7 +1,7 @@
 package com.deco2800.game.areas;
 
+import com.badlogic.gdx.utils.Array;
 import com.deco2800.game.areas.terrain.TerrainFactory;
-import com.deco2800.game.components.CombatStatsComponent;
 import com.deco2800.game.files.PlayerSave;
 import com.deco2800.game.services.ServiceLocator;
 import com.deco2800.game.ui.textbox.RandomDialogueSet;
@@ -19,6 +19,11 @@ public class GameArea4 extends GameArea {
     public GameArea4(TerrainFactory terrainFactory) {
         super();
         this.terrainFactory = terrainFactory;
+        this.playerWeaponType = "Hammer";
+        this.music = "sounds/area4.mp3";
+        this.levelInt = 4;
+        this.mapFile = "maps/lvl_5.json";
+        this.areaName = "Level 4";
     }
 
     /**
@@ -28,31 +33,23 @@ public class GameArea4 extends GameArea {
      * @param currentHealth  player health from last map
      */
     public GameArea4(TerrainFactory terrainFactory, int currentHealth) {
-        super();
-        this.terrainFactory = terrainFactory;
+        this(terrainFactory);
         this.playerHealth = currentHealth;
     }
 
     /**
-     * Create the game area, including terrain, static entities (trees), dynamic entities (player)
+     * Spawn the area's enemies, cutscenes and dialogue after the terrain and player
      */
-    public GameArea create() {
-        playerWeaponType = "Hammer";
-        music = "sounds/area4.mp3";
-
-        levelInt = 4;
-        super.create("maps/lvl_5.json", "Level 4");
-
-        spawnOutdoorArcherObject();
-        spawnOutdoorWarriorObject();
-        spawnThor();
-
-        spawnMovementCutscenes();
-        spawnDialogueCutscenes(RandomDialogueSet.THOR_ENCOUNTER);
-        setInitialDialogue();
-
-        player.getComponent(CombatStatsComponent.class).setHealth(playerHealth);
-        return this;
+    @Override
+    protected Array<Runnable> getSpawnSteps(String areaName) {
+        Array<Runnable> steps = super.getSpawnSteps(areaName);
+        steps.add(this::spawnOutdoorArcherObject);
+        steps.add(this::spawnOutdoorWarriorObject);
+        steps.add(this::spawnThor);
+        steps.add(this::spawnMovementCutscenes);
+        steps.add(() -> spawnDialogueCutscenes(RandomDialogueSet.THOR_ENCOUNTER));
+        steps.add(this::setInitialDialogue);
+        return steps;
     }
 
     private void setInitialDialogue() {
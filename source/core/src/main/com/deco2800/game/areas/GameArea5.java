@@ -1,15 +1,13 @@
 package com.deco2800.game.areas;
 
-import com.badlogic.gdx.math.GridPoint2;
+import com.badlogic.gdx.utils.Array;
 import com.deco2800.game.areas.terrain.TerrainFactory;
-import com.deco2800.game.components.CombatStatsComponent;
 import com.deco2800.game.entities.factories.NPCFactory;
 import com.deco2800.game.files.PlayerSave;
 import com.deco2800.game.services.ServiceLocator;
 import com.deco2800.game.ui.textbox.RandomDialogueSet;
 import com.deco2800.game.ui.textbox.TextBox;
 
-import java.util.HashMap;
 
 /**
  * Level based on the insides of a Palace with the boss being Odin
@@ -23,6 +21,11 @@ public class GameArea5 extends GameArea {
     public GameArea5(TerrainFactory terrainFactory) {
         super();
         this.terrainFactory = terrainFactory;
+        this.playerWeaponType = "Hammer";
+        this.music = "sounds/area4.mp3";
+        this.levelInt = 5;
+        this.mapFile = "maps/lvl_2.json";
+        this.areaName = "Level 5";
     }
 
     /**
@@ -32,46 +35,31 @@ public class GameArea5 extends GameArea {
      * @param currentHealth  player health from last map
      */
     public GameArea5(TerrainFactory terrainFactory, int currentHealth) {
-        super();
-        this.terrainFactory = terrainFactory;
+        this(terrainFactory);
         this.playerHealth = currentHealth;
     }
 
     /**
-     * Create the game area, including terrain, static entities (trees), dynamic entities (player)
+     * Spawn the area's enemies, cutscenes and dialogue after the terrain and player
      */
-    public GameArea create() {
-        playerWeaponType = "Hammer";
-        music = "sounds/area4.mp3";
-
-        levelInt = 5;
-        super.create("maps/lvl_2.json", "Level 5");
-
-        spawnOutdoorArcherObject();
-        spawnOutdoorWarriorObject();
-        spawnAsgardWarriorObject();
-        spawnOdin();
-
-        spawnMovementCutscenes();
-        spawnDialogueCutscenes(RandomDialogueSet.ODIN_ENCOUNTER);
-        setInitialDialogue();
-
-        player.getComponent(CombatStatsComponent.class).setHealth(playerHealth);
-        return this;
+    @Override
+    protected Array<Runnable> getSpawnSteps(String areaName) {
+        Array<Runnable> steps = super.getSpawnSteps(areaName);
+        steps.add(this::spawnOutdoorArcherObject);
+        steps.add(this::spawnOutdoorWarriorObject);
+        steps.add(this::spawnAsgardWarriorObject);
+        steps.add(this::spawnOdin);
+        steps.add(this::spawnMovementCutscenes);
+        steps.add(() -> spawnDialogueCutscenes(RandomDialogueSet.ODIN_ENCOUNTER));
+        steps.add(this::setInitialDialogue);
+        return steps;
     }
 
     private void spawnOdin() {
-        HashMap<String, Float>[] bossObjects = map.getBossObjects();
-        for (HashMap<String, Float> boss : bossObjects) {
-            int x = boss.get("x").intValue();
-            int y = boss.get("y").intValue();
+        spawnLayer(map.getBossObjects(), () -> {
             incBossNum();
-            spawnEntityAt(
-                    NPCFactory.createOdin(player),
-                    new GridPoint2(x, map.getDimensions().get(TILES_HEIGHT) - y),
-                    false,
-                    false);
-        }
+            return NPCFactory.createOdin(player);
+        });
     }
 
     private void setInitialDialogue() {
@@ -0,0 +1,181 @@
+package com.deco2800.game.areas;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.deco2800.game.areas.terrain.BinaryMap;
+import com.deco2800.game.areas.terrain.Map;
+import com.deco2800.game.concurrency.JobSystem;
+import com.deco2800.game.services.ResourceService;
+import com.deco2800.game.services.ServiceLocator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Loads a game area over several frames, so the game keeps rendering while the area loads. The map
+ * is parsed on a background thread, assets are streamed in for a bounded time each frame, then the
+ * area's spawn steps are run and their entities registered until each frame's time runs out.
+ *
+ * <p>Call {@link #update(int)} once per frame until it returns true, or {@link #finish()} to load
+ * the rest of the area immediately.
+ */
+public class GameAreaLoader {
+    private static final Logger logger = LoggerFactory.getLogger(GameAreaLoader.class);
+    private static final int MAP_PROGRESS = 10;
+    private static final int ASSET_PROGRESS = 60;
+    private static final int SPAWN_PROGRESS = 30;
+
+    /**
+     * Loading stages, in order
+     */
+    public enum Stage {
+        PARSING_MAP, LOADING_ASSETS, SPAWNING, DONE
+    }
+
+    private final GameArea area;
+    private final String areaName;
+    private final CompletableFuture<Map> mapJob;
+    private Stage stage = Stage.PARSING_MAP;
+    private Array<Runnable> spawnSteps;
+    private int nextStep = 0;
+    private Runnable onAssetsLoaded;
+    private long startTime;
+
+    /**
+     * Start loading a game area. The map starts being parsed straight away.
+     *
+     * @param area     area to load
+     * @param mapFile  map file of the area
+     * @param areaName name of the area to display
+     */
+    GameAreaLoader(GameArea area, String mapFile, String areaName) {
+        this.area = area;
+        this.areaName = areaName;
+        startTime = TimeUtils.millis();
+        ServiceLocator.registerGameArea(area);
+        mapJob = JobSystem.launchBlocking(() -> BinaryMap.load(mapFile));
+    }
+
+    /**
+     * Set a callback to run on the main thread once the area's assets are loaded, before anything is
+     * spawned.
+     *
+     * @param callback callback
+     * @return self
+     */
+    public GameAreaLoader onAssetsLoaded(Runnable callback) {
+        this.onAssetsLoaded = callback;
+        return this;
+    }
+
+    /**
+     * Continue loading the area. Must be called from the main thread.
+     *
+     * @param millis time to spend loading this frame. At least one step is always made so that
+     *               loading finishes even if a single step takes longer.
+     * @return true once the area is fully loaded, false otherwise
+     */
+    public boolean update(int millis) {
+        long endTime = TimeUtils.millis() + millis;
+        if (stage == Stage.PARSING_MAP) {
+            if (!mapJob.isDone()) {
+                return false;
+            }
+            startLoadingAssets(mapJob.join());
+        }
+        if (stage == Stage.LOADING_ASSETS) {
+            int remaining = (int) Math.max(1, endTime - TimeUtils.millis());
+            if (ServiceLocator.getResourceService().loadForMillis(remaining)) {
+                return false;
+            }
+            startSpawning();
+        }
+        while (stage == Stage.SPAWNING) {
+            spawnNext();
+            if (TimeUtils.millis() >= endTime) {
+                break;
+            }
+        }
+        return stage == Stage.DONE;
+    }
+
+    /**
+     * Load the rest of the area, blocking until it is fully loaded.
+     */
+    public void finish() {
+        if (stage == Stage.PARSING_MAP) {
+            startLoadingAssets(mapJob.join());
+        }
+        if (stage == Stage.LOADING_ASSETS) {
+            ServiceLocator.getResourceService().loadAll();
+            startSpawning();
+        }
+        while (stage == Stage.SPAWNING) {
+            spawnNext();
+        }
+    }
+
+    /**
+     * @return loading progress as a percentage
+     */
+    public int getProgress() {
+        switch (stage) {
+            case PARSING_MAP:
+                return 0;
+            case LOADING_ASSETS:
+                return MAP_PROGRESS
+                        + ASSET_PROGRESS * ServiceLocator.getResourceService().getProgress() / 100;
+            case SPAWNING:
+                return MAP_PROGRESS + ASSET_PROGRESS + SPAWN_PROGRESS * nextStep / spawnSteps.size;
+            default:
+                return 100;
+        }
+    }
+
+    public Stage getStage() {
+        return stage;
+    }
+
+    private void startLoadingAssets(Map map) {
+        if (map == null) {
+            throw new GdxRuntimeException("Could not load the map for " + areaName);
+        }
+        logger.debug("Parsed map for {} in {} ms", areaName, TimeUtils.timeSinceMillis(startTime));
+        area.setMap(map);
+        area.loadAssets();
+        // Anything the previous area used that this one doesn't can go now
+        ServiceLocator.getResourceService().unloadUnused();
+        stage = Stage.LOADING_ASSETS;
+    }
+
+    private void startSpawning() {
+        ResourceService resourceService = ServiceLocator.getResourceService();
+        logger.debug("Loaded assets for {} in {} ms ({}%)", areaName,
+                TimeUtils.timeSinceMillis(startTime), resourceService.getProgress());
+        if (onAssetsLoaded != null) {
+            onAssetsLoaded.run();
+        }
+        spawnSteps = area.getSpawnSteps(areaName);
+        area.setDeferRegistration(true);
+        stage = Stage.SPAWNING;
+    }
+
+    /**
+     * Register an entity spawned by the last step, or run the next spawn step if they have all been
+     * registered.
+     */
+    private void spawnNext() {
+        if (area.registerPendingEntity()) {
+            return;
+        }
+        if (nextStep < spawnSteps.size) {
+            spawnSteps.get(nextStep++).run();
+            return;
+        }
+        area.setDeferRegistration(false);
+        stage = Stage.DONE;
+        logger.info("Loaded {} in {} ms", areaName, TimeUtils.timeSinceMillis(startTime));
+    }
+}
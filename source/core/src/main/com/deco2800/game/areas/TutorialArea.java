@@ -2,8 +2,8 @@ package com.deco2800.game.areas;
 
 import com.badlogic.gdx.math.GridPoint2;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
 import com.deco2800.game.areas.terrain.TerrainFactory;
-import com.deco2800.game.components.CombatStatsComponent;
 import com.deco2800.game.entities.Entity;
 import com.deco2800.game.entities.factories.CutsceneTriggerFactory;
 import com.deco2800.game.entities.factories.NPCFactory;
@@ -14,7 +14,6 @@ import com.deco2800.game.ui.textbox.DialogueSet;
 import com.deco2800.game.ui.textbox.RandomDialogueSet;
 import com.deco2800.game.ui.textbox.TextBox;
 
-import java.util.HashMap;
 
 /**
  * Smaller room based level
@@ -29,6 +28,11 @@ public class TutorialArea extends GameArea {
     public TutorialArea(TerrainFactory terrainFactory) {
         super();
         this.terrainFactory = terrainFactory;
+        this.playerWeaponType = "Axe";
+        this.music = "sounds/area1.mp3";
+        this.levelInt = 0;
+        this.mapFile = "maps/lvl_0.json";
+        this.areaName = "Tutorial";
     }
 
     /**
@@ -38,30 +42,22 @@ public class TutorialArea extends GameArea {
      * @param currentHealth  player health from last map
      */
     public TutorialArea(TerrainFactory terrainFactory, int currentHealth) {
-        super();
-        this.terrainFactory = terrainFactory;
+        this(terrainFactory);
         this.playerHealth = currentHealth;
     }
 
     /**
-     * Create the game area, including terrain, static entities (trees), dynamic entities (player)
+     * Spawn the area's enemies, cutscenes and dialogue after the terrain and player
      */
-    public GameArea create() {
-        playerWeaponType = "Axe";
-        music = "sounds/area1.mp3";
-
-        levelInt = 0;
-        super.create("maps/lvl_0.json", "Tutorial");
-
-        spawnEnemy();
-        decBossNum();
-
-        spawnDialogueCutscenes();
-        setInitialDialogue();
-        spawnTutorialObstacles();
-
-        player.getComponent(CombatStatsComponent.class).setHealth(playerHealth);
-        return this;
+    @Override
+    protected Array<Runnable> getSpawnSteps(String areaName) {
+        Array<Runnable> steps = super.getSpawnSteps(areaName);
+        steps.add(this::spawnEnemy);
+        steps.add(this::decBossNum);
+        steps.add(() -> spawnDialogueCutscenes());
+        steps.add(this::setInitialDialogue);
+        steps.add(this::spawnTutorialObstacles);
+        return steps;
     }
 
     private void spawnTutorialObstacles() {
@@ -87,9 +83,8 @@ public class TutorialArea extends GameArea {
         spawnEntityAt(crate9, new Vector2(50f, 42.4f), true, true);
 
         Entity teleport = ObstacleFactory.createTeleport();
-        HashMap<String, Float> teleportPos = map.getTeleportObjects()[0];
-        GridPoint2 fixedPos = new GridPoint2(teleportPos.get("x").intValue(),
-                (map.getDimensions().get(TILES_HEIGHT) - teleportPos.get("y").intValue()) - 1);
+        GridPoint2 fixedPos = getTilePosition(map.getTeleportObjects(), 0);
+        fixedPos.y -= 1;
         this.spawnEntityAt(teleport, fixedPos, true, true);
     }
 
@@ -0,0 +1,346 @@
+package com.deco2800.game.areas.terrain;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.deco2800.game.areas.terrain.MapObjectLayer.Type;
+import com.deco2800.game.files.FileLoader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.zip.CRC32;
+
+/**
+ * Reads and writes the compact binary form of a {@link Map}. Binary maps are generated offline from
+ * the JSON level files by {@link MapCompiler} (gradle task core:compileMaps), and are read straight
+ * from a memory-mapped buffer, which avoids parsing megabytes of JSON at every level change.
+ *
+ * <p>Layout, all values big-endian:
+ *
+ * <pre>
+ * int magic, int version
+ * long source length, long source checksum              CRC32 of the JSON map compiled
+ * int n, n x (string key, int value)                    dimensions
+ * int n, n x (int tile id, string path)                 tile references
+ * int n, n x (string name, byte bytesPerTile,           tile layers, packed into 1, 2 or 4
+ *             int rows, int columns, tiles)             bytes per tile
+ * int n, n x (string name, int count, count x           object layers
+ *             (float x, float y, float width, float height))
+ * </pre>
+ *
+ * <p>Strings are an unsigned short byte length followed by UTF-8 bytes. Object layers are named by
+ * their {@link Type} key, and missing object fields are written as NaN. Layers which are absent
+ * from the map are not written, and stay null when read.
+ */
+public class BinaryMap {
+    public static final String EXTENSION = ".bin";
+    static final int MAGIC = 0x444D4150;
+    static final int VERSION = 2;
+    private static final int SOURCE_OFFSET = 2 * Integer.BYTES;
+
+    private static final Logger logger = LoggerFactory.getLogger(BinaryMap.class);
+
+    private BinaryMap() {
+        throw new IllegalStateException("Instantiating static util class");
+    }
+
+    /**
+     * Load a map, preferring its compiled binary form if one exists next to the JSON file. Falls back
+     * to parsing the JSON if the binary map is missing, invalid, or was compiled from a different
+     * version of the JSON file.
+     *
+     * @param mapFile internal path of the JSON map file
+     * @return map, or null if neither form could be read
+     */
+    public static Map load(String mapFile) {
+        String binaryFile = getBinaryPath(mapFile);
+        FileHandle file = Gdx.files.internal(binaryFile);
+        if (file.exists()) {
+            try {
+                ByteBuffer buffer = mapBuffer(file);
+                FileHandle source = Gdx.files.internal(mapFile);
+                if (!source.exists() || isCompiledFrom(buffer, source)) {
+                    return read(buffer);
+                }
+                logger.warn("Compiled map {} is out of date, parsing {}. Run core:compileMaps to update it",
+                        binaryFile, mapFile);
+            } catch (RuntimeException e) {
+                logger.error("Could not read compiled map {}: {}", binaryFile, e.getMessage());
+            }
+        } else {
+            logger.debug("No compiled map at {}, parsing {}", binaryFile, mapFile);
+        }
+        return FileLoader.readClass(Map.class, mapFile);
+    }
+
+    /**
+     * @param mapFile path of a JSON map file
+     * @return path of the matching binary map file
+     */
+    public static String getBinaryPath(String mapFile) {
+        if (mapFile.endsWith(".json")) {
+            return mapFile.substring(0, mapFile.length() - ".json".length()) + EXTENSION;
+        }
+        return mapFile + EXTENSION;
+    }
+
+    /**
+     * Read a map from a buffer holding a binary map. The buffer's position is advanced past the map.
+     *
+     * @param buffer big-endian buffer positioned at the start of a binary map
+     * @return map
+     * @throws GdxRuntimeException if the buffer doesn't hold a supported binary map
+     */
+    public static Map read(ByteBuffer buffer) {
+        if (buffer.getInt() != MAGIC) {
+            throw new GdxRuntimeException("Not a binary map");
+        }
+        int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new GdxRuntimeException("Unsupported binary map version " + version);
+        }
+        // Source length and checksum
+        buffer.getLong();
+        buffer.getLong();
+
+        Map map = new Map();
+
+        int dimensionCount = buffer.getInt();
+        HashMap<String, Integer> dimensions = new HashMap<>();
+        for (int i = 0; i < dimensionCount; i++) {
+            dimensions.put(readString(buffer), buffer.getInt());
+        }
+        map.setDimensions(dimensions);
+
+        int tileRefCount = buffer.getInt();
+        HashMap<String, String> tileRefs = new HashMap<>();
+        for (int i = 0; i < tileRefCount; i++) {
+            tileRefs.put(String.valueOf(buffer.getInt()), readString(buffer));
+        }
+        map.setTileRefs(tileRefs);
+
+        int tileLayerCount = buffer.getInt();
+        for (int i = 0; i < tileLayerCount; i++) {
+            String name = readString(buffer);
+            map.setTileLayer(name, readTiles(buffer));
+        }
+
+        int objectLayerCount = buffer.getInt();
+        for (int i = 0; i < objectLayerCount; i++) {
+            String name = readString(buffer);
+            MapObjectLayer layer = readObjects(buffer, Type.fromKey(name));
+            if (layer != null) {
+                map.setObjects(layer);
+            }
+        }
+        return map;
+    }
+
+    /**
+     * Check whether a binary map was compiled from a JSON map file as it is now. Doesn't move the
+     * buffer's position.
+     *
+     * @param buffer big-endian buffer positioned at the start of a binary map
+     * @param source JSON map file
+     * @return true if the source's length and checksum match those the map was compiled from
+     */
+    static boolean isCompiledFrom(ByteBuffer buffer, FileHandle source) {
+        int start = buffer.position();
+        if (buffer.getInt(start) != MAGIC || buffer.getInt(start + Integer.BYTES) != VERSION) {
+            return false;
+        }
+        // Checking the length first skips hashing most edited maps
+        return buffer.getLong(start + SOURCE_OFFSET) == source.length()
+                && buffer.getLong(start + SOURCE_OFFSET + Long.BYTES) == checksum(source);
+    }
+
+    /**
+     * @param source JSON map file
+     * @return CRC32 checksum of the file's contents
+     * @throws GdxRuntimeException if the file can't be read
+     */
+    public static long checksum(FileHandle source) {
+        CRC32 crc = new CRC32();
+        byte[] chunk = new byte[8192];
+        try (InputStream in = source.read()) {
+            int read;
+            while ((read = in.read(chunk)) != -1) {
+                crc.update(chunk, 0, read);
+            }
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Could not read " + source, e);
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * Write a map in binary form.
+     *
+     * @param map            map to write
+     * @param sourceLength   length of the JSON map file compiled, in bytes
+     * @param sourceChecksum {@link #checksum(FileHandle)} of the JSON map file compiled
+     * @param out            stream to write to
+     * @throws IOException if the stream can't be written to
+     */
+    public static void write(Map map, long sourceLength, long sourceChecksum, DataOutputStream out)
+            throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(sourceLength);
+        out.writeLong(sourceChecksum);
+
+        HashMap<String, Integer> dimensions = map.getDimensions();
+        out.writeInt(dimensions.size());
+        for (java.util.Map.Entry<String, Integer> dimension : dimensions.entrySet()) {
+            writeString(out, dimension.getKey());
+            out.writeInt(dimension.getValue());
+        }
+
+        HashMap<String, String> tileRefs = map.getTileRefs();
+        out.writeInt(tileRefs.size());
+        for (java.util.Map.Entry<String, String> tileRef : tileRefs.entrySet()) {
+            out.writeInt(Integer.parseInt(tileRef.getKey()));
+            writeString(out, tileRef.getValue());
+        }
+
+        int tileLayerCount = 0;
+        for (String name : Map.TILE_LAYERS) {
+            if (map.getTileLayer(name) != null) {
+                tileLayerCount++;
+            }
+        }
+        out.writeInt(tileLayerCount);
+        for (String name : Map.TILE_LAYERS) {
+            int[][] tiles = map.getTileLayer(name);
+            if (tiles != null) {
+                writeString(out, name);
+                writeTiles(out, tiles);
+            }
+        }
+
+        out.writeInt(map.getObjectLayers().size());
+        for (MapObjectLayer layer : map.getObjectLayers()) {
+            writeString(out, layer.getType().getKey());
+            writeObjects(out, layer);
+        }
+    }
+
+    private static ByteBuffer mapBuffer(FileHandle file) {
+        try {
+            return file.map();
+        } catch (GdxRuntimeException e) {
+            // Files inside a jar can't be memory-mapped
+            return ByteBuffer.wrap(file.readBytes());
+        }
+    }
+
+    private static int[][] readTiles(ByteBuffer buffer) {
+        int bytesPerTile = buffer.get();
+        int rows = buffer.getInt();
+        int columns = buffer.getInt();
+        int[][] tiles = new int[rows][columns];
+        for (int[] row : tiles) {
+            for (int x = 0; x < columns; x++) {
+                switch (bytesPerTile) {
+                    case 1:
+                        row[x] = buffer.get() & 0xFF;
+                        break;
+                    case 2:
+                        row[x] = buffer.getShort() & 0xFFFF;
+                        break;
+                    default:
+                        row[x] = buffer.getInt();
+                        break;
+                }
+            }
+        }
+        return tiles;
+    }
+
+    private static void writeTiles(DataOutputStream out, int[][] tiles) throws IOException {
+        int min = 0;
+        int max = 0;
+        int columns = 0;
+        for (int[] row : tiles) {
+            columns = Math.max(columns, row.length);
+            for (int tile : row) {
+                min = Math.min(min, tile);
+                max = Math.max(max, tile);
+            }
+        }
+
+        int bytesPerTile = 4;
+        if (min >= 0 && max <= 0xFF) {
+            bytesPerTile = 1;
+        } else if (min >= 0 && max <= 0xFFFF) {
+            bytesPerTile = 2;
+        }
+
+        out.writeByte(bytesPerTile);
+        out.writeInt(tiles.length);
+        out.writeInt(columns);
+        for (int[] row : tiles) {
+            for (int x = 0; x < columns; x++) {
+                int tile = x < row.length ? row[x] : 0;
+                if (bytesPerTile == 1) {
+                    out.writeByte(tile);
+                } else if (bytesPerTile == 2) {
+                    out.writeShort(tile);
+                } else {
+                    out.writeInt(tile);
+                }
+            }
+        }
+    }
+
+    /**
+     * Read an object layer. Layers of an unknown type are skipped over.
+     *
+     * @return layer, or null if the type is unknown
+     */
+    private static MapObjectLayer readObjects(ByteBuffer buffer, Type type) {
+        int count = buffer.getInt();
+        if (type == null) {
+            buffer.position(buffer.position() + count * 4 * Float.BYTES);
+            return null;
+        }
+        MapObjectLayer layer = new MapObjectLayer(type, count);
+        for (int i = 0; i < count; i++) {
+            layer.set(i, readField(buffer), readField(buffer), readField(buffer), readField(buffer));
+        }
+        return layer;
+    }
+
+    private static float readField(ByteBuffer buffer) {
+        float value = buffer.getFloat();
+        return Float.isNaN(value) ? 0f : value;
+    }
+
+    private static void writeObjects(DataOutputStream out, MapObjectLayer layer) throws IOException {
+        out.writeInt(layer.size());
+        for (int i = 0; i < layer.size(); i++) {
+            out.writeFloat(layer.getX(i));
+            out.writeFloat(layer.getY(i));
+            out.writeFloat(layer.getWidth(i));
+            out.writeFloat(layer.getHeight(i));
+        }
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+}
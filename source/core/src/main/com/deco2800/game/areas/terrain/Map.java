@@ -1,99 +1,102 @@
 package com.deco2800.game.areas.terrain;
 
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonValue;
+import com.deco2800.game.areas.terrain.MapObjectLayer.Type;
+
+import java.util.Collection;
+import java.util.EnumMap;
 import java.util.HashMap;
 
 /**
- * A class that stores the information read in from a map JSON file
+ * A class that stores the information read in from a map JSON file.
+ *
+ * <p>Object layers are read straight into {@link MapObjectLayer}s rather than through reflection,
+ * so loading a map doesn't allocate a map and boxed floats for every object.
  */
 @SuppressWarnings("unused")
-public class Map {
-    // Variables representing the types of data stored in the JSON file
-    // Every element in the JSON must be represented with the same variable name and type
+public class Map implements Json.Serializable {
+    static final String DIMENSIONS = "dimensions";
+    static final String TILE_REFS = "tileRefs";
+    static final String MAP_TILES = "mapTilePlacement";
+    static final String TRANS_OBSTACLES = "transObstacles";
+    static final String LIGHT_TILES = "lightTiles";
+    /** Names of the tile layers a map may contain */
+    static final String[] TILE_LAYERS = {MAP_TILES, TRANS_OBSTACLES, LIGHT_TILES};
+
     private HashMap<String, Integer> dimensions;
-    private int[][] mapTilePlacement;
     private HashMap<String, String> tileRefs;
-    private HashMap<String, Float>[] wallObjects;
+    private int[][] mapTilePlacement;
     private int[][] transObstacles;
-    private HashMap<String, Float>[] spikeObjects;
-    private HashMap<String, Float>[] lavaObjects;
-    private HashMap<String, Float>[] teleportObjects;
-    private HashMap<String, Float>[] initTeleportObjects;
     private int[][] lightTiles;
-    private HashMap<String, Float>[] bossBounds;
-    private HashMap<String, Float>[] healthCrateObjects;
-    private HashMap<String, Float>[] meleeObjects;
-    private HashMap<String, Float>[] rangeObjects;
-    private HashMap<String, Float>[] guardObjects;
-    private HashMap<String, Float>[] assassinObjects;
-    private HashMap<String, Float>[] bossObjects;
-    private HashMap<String, Float>[] anchoredObjects;
-    private HashMap<String, Float>[] asgardMeleeObjects;
-    private HashMap<String, Float>[] outdoorMeleeObjects;
-    private HashMap<String, Float>[] hellMeleeObjects;
-    private HashMap<String, Float>[] moveRightObjects;
-    private HashMap<String, Float>[] moveLeftObjects;
-    private HashMap<String, Float>[] moveUpObjects;
-    private HashMap<String, Float>[] moveDownObjects;
-    private HashMap<String, Float>[] cutsceneObjects;
+    private final EnumMap<Type, MapObjectLayer> objectLayers = new EnumMap<>(Type.class);
+
+    /**
+     * @param type type of object layer
+     * @return the map's objects of that type, or null if the map doesn't have that layer
+     */
+    public MapObjectLayer getObjects(Type type) {
+        return objectLayers.get(type);
+    }
 
-    public HashMap<String, Float>[] getCutsceneObjects() {
-        return cutsceneObjects;
+    public MapObjectLayer getCutsceneObjects() {
+        return getObjects(Type.CUTSCENE);
     }
 
-    public HashMap<String, Float>[] getMoveRightObjects() {
-        return moveRightObjects;
+    public MapObjectLayer getMoveRightObjects() {
+        return getObjects(Type.MOVE_RIGHT);
     }
 
-    public HashMap<String, Float>[] getMoveDownObjects() {
-        return moveDownObjects;
+    public MapObjectLayer getMoveDownObjects() {
+        return getObjects(Type.MOVE_DOWN);
     }
 
-    public HashMap<String, Float>[] getMoveLeftObjects() {
-        return moveLeftObjects;
+    public MapObjectLayer getMoveLeftObjects() {
+        return getObjects(Type.MOVE_LEFT);
     }
 
-    public HashMap<String, Float>[] getMoveUpObjects() {
-        return moveUpObjects;
+    public MapObjectLayer getMoveUpObjects() {
+        return getObjects(Type.MOVE_UP);
     }
 
-    public HashMap<String, Float>[] getHellMeleeObjects() {
-        return hellMeleeObjects;
+    public MapObjectLayer getHellMeleeObjects() {
+        return getObjects(Type.HELL_MELEE);
     }
 
-    public HashMap<String, Float>[] getAsgardMeleeObjects() {
-        return asgardMeleeObjects;
+    public MapObjectLayer getAsgardMeleeObjects() {
+        return getObjects(Type.ASGARD_MELEE);
     }
 
-    public HashMap<String, Float>[] getOutdoorMeleeObjects() {
-        return outdoorMeleeObjects;
+    public MapObjectLayer getOutdoorMeleeObjects() {
+        return getObjects(Type.OUTDOOR_MELEE);
     }
 
-    public HashMap<String, Float>[] getMeleeObjects() {
-        return meleeObjects;
+    public MapObjectLayer getMeleeObjects() {
+        return getObjects(Type.MELEE);
     }
 
-    public HashMap<String, Float>[] getGuardObjects() {
-        return guardObjects;
+    public MapObjectLayer getGuardObjects() {
+        return getObjects(Type.GUARD);
     }
 
-    public HashMap<String, Float>[] getRangeObjects() {
-        return rangeObjects;
+    public MapObjectLayer getRangeObjects() {
+        return getObjects(Type.RANGE);
     }
 
-    public HashMap<String, Float>[] getAssassinObjects() {
-        return assassinObjects;
+    public MapObjectLayer getAssassinObjects() {
+        return getObjects(Type.ASSASSIN);
     }
 
-    public HashMap<String, Float>[] getBossObjects() {
-        return bossObjects;
+    public MapObjectLayer getBossObjects() {
+        return getObjects(Type.BOSS);
     }
 
-    public HashMap<String, Float>[] getAnchoredObjects() {
-        return anchoredObjects;
+    public MapObjectLayer getAnchoredObjects() {
+        return getObjects(Type.ANCHORED);
     }
 
-    public HashMap<String, Float>[] getHealthCrateObjects() {
-        return healthCrateObjects;
+    public MapObjectLayer getHealthCrateObjects() {
+        return getObjects(Type.HEALTH_CRATE);
     }
 
     public HashMap<String, Integer> getDimensions() {
@@ -108,36 +111,36 @@ public class Map {
         return tileRefs;
     }
 
-    public HashMap<String, Float>[] getWallObjects() {
-        return wallObjects;
+    public MapObjectLayer getWallObjects() {
+        return getObjects(Type.WALL);
     }
 
     public int[][] getTransObstacles() {
         return transObstacles;
     }
 
-    public HashMap<String, Float>[] getSpikeObjects() {
-        return spikeObjects;
+    public MapObjectLayer getSpikeObjects() {
+        return getObjects(Type.SPIKE);
     }
 
-    public HashMap<String, Float>[] getLavaObjects() {
-        return lavaObjects;
+    public MapObjectLayer getLavaObjects() {
+        return getObjects(Type.LAVA);
     }
 
-    public HashMap<String, Float>[] getInitTeleportObjects() {
-        return initTeleportObjects;
+    public MapObjectLayer getInitTeleportObjects() {
+        return getObjects(Type.INIT_TELEPORT);
     }
 
     public int[][] getlightTiles() {
         return lightTiles;
     }
 
-    public HashMap<String, Float>[] getBossBounds() {
-        return bossBounds;
+    public MapObjectLayer getBossBounds() {
+        return getObjects(Type.BOSS_BOUNDS);
     }
 
-    public HashMap<String, Float>[] getTeleportObjects() {
-        return teleportObjects;
+    public MapObjectLayer getTeleportObjects() {
+        return getObjects(Type.TELEPORT);
     }
 
     /**
@@ -152,4 +155,123 @@ public class Map {
 
         return s;
     }
+
+    void setDimensions(HashMap<String, Integer> dimensions) {
+        this.dimensions = dimensions;
+    }
+
+    void setTileRefs(HashMap<String, String> tileRefs) {
+        this.tileRefs = tileRefs;
+    }
+
+    /**
+     * @param name name of a tile layer, one of {@link #TILE_LAYERS}
+     * @return the tile layer, or null if the map doesn't have it
+     */
+    int[][] getTileLayer(String name) {
+        switch (name) {
+            case MAP_TILES:
+                return mapTilePlacement;
+            case TRANS_OBSTACLES:
+                return transObstacles;
+            case LIGHT_TILES:
+                return lightTiles;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * @param name  name of a tile layer, one of {@link #TILE_LAYERS}. Unknown layers are ignored.
+     * @param tiles tiles by row, then column
+     */
+    void setTileLayer(String name, int[][] tiles) {
+        switch (name) {
+            case MAP_TILES:
+                mapTilePlacement = tiles;
+                break;
+            case TRANS_OBSTACLES:
+                transObstacles = tiles;
+                break;
+            case LIGHT_TILES:
+                lightTiles = tiles;
+                break;
+            default:
+                break;
+        }
+    }
+
+    void setObjects(MapObjectLayer layer) {
+        objectLayers.put(layer.getType(), layer);
+    }
+
+    /**
+     * @return every object layer in the map
+     */
+    Collection<MapObjectLayer> getObjectLayers() {
+        return objectLayers.values();
+    }
+
+    @Override
+    public void read(Json json, JsonValue jsonData) {
+        for (JsonValue value = jsonData.child; value != null; value = value.next) {
+            String name = value.name;
+            if (DIMENSIONS.equals(name)) {
+                dimensions = new HashMap<>();
+                for (JsonValue dimension = value.child; dimension != null; dimension = dimension.next) {
+                    dimensions.put(dimension.name, dimension.asInt());
+                }
+            } else if (TILE_REFS.equals(name)) {
+                tileRefs = new HashMap<>();
+                for (JsonValue tileRef = value.child; tileRef != null; tileRef = tileRef.next) {
+                    tileRefs.put(tileRef.name, tileRef.asString());
+                }
+            } else if (getTileLayerIndex(name) >= 0) {
+                int[][] tiles = new int[value.size][];
+                int row = 0;
+                for (JsonValue tileRow = value.child; tileRow != null; tileRow = tileRow.next) {
+                    tiles[row++] = tileRow.asIntArray();
+                }
+                setTileLayer(name, tiles);
+            } else {
+                Type type = Type.fromKey(name);
+                if (type != null && value.isArray()) {
+                    setObjects(MapObjectLayer.fromJson(type, value));
+                }
+            }
+        }
+    }
+
+    @Override
+    public void write(Json json) {
+        json.writeValue(DIMENSIONS, dimensions);
+        for (String name : TILE_LAYERS) {
+            int[][] tiles = getTileLayer(name);
+            if (tiles != null) {
+                json.writeValue(name, tiles);
+            }
+        }
+        json.writeValue(TILE_REFS, tileRefs);
+        for (MapObjectLayer layer : objectLayers.values()) {
+            json.writeArrayStart(layer.getType().getKey());
+            for (int i = 0; i < layer.size(); i++) {
+                json.writeObjectStart();
+                json.writeValue("x", layer.getX(i));
+                json.writeValue("y", layer.getY(i));
+                json.writeValue("width", layer.getWidth(i));
+                json.writeValue("height", layer.getHeight(i));
+                json.writeObjectEnd();
+            }
+            json.writeArrayEnd();
+        }
+    }
+
+    private static int getTileLayerIndex(String name) {
+        for (int i = 0; i < TILE_LAYERS.length; i++) {
+            if (TILE_LAYERS[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
 }
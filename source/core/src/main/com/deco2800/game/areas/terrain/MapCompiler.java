@@ -0,0 +1,81 @@
+package com.deco2800.game.areas.terrain;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+/**
+ * Offline tool which compiles JSON level maps into the binary map format read by
+ * {@link BinaryMap}. Run through gradle with core:compileMaps, which compiles every map in
+ * core/assets/maps. Each map.json is compiled to a map.bin next to it.
+ *
+ * <p>Usage: MapCompiler &lt;map file or directory&gt;...
+ */
+public class MapCompiler {
+    private static final Logger logger = LoggerFactory.getLogger(MapCompiler.class);
+
+    private MapCompiler() {
+        throw new IllegalStateException("Instantiating static util class");
+    }
+
+    public static void main(String[] args) {
+        Json json = new Json();
+        int compiled = 0;
+        for (String arg : args) {
+            File path = new File(arg);
+            File[] files = path.isDirectory()
+                    ? path.listFiles((dir, name) -> name.endsWith(".json"))
+                    : new File[]{path};
+            if (files == null) {
+                logger.error("Could not list maps in {}", path);
+                continue;
+            }
+            for (File file : files) {
+                if (compile(json, file)) {
+                    compiled++;
+                }
+            }
+        }
+        logger.info("Compiled {} maps", compiled);
+    }
+
+    /**
+     * Compile a single JSON map into a binary map next to it.
+     *
+     * @param json json parser
+     * @param file JSON map file
+     * @return true if the map was compiled, false otherwise
+     */
+    static boolean compile(Json json, File file) {
+        Map map;
+        try {
+            map = json.fromJson(Map.class, new FileHandle(file));
+        } catch (RuntimeException e) {
+            logger.warn("Skipping {}, not a valid map: {}", file, e.getMessage());
+            return false;
+        }
+        if (map == null || map.getDimensions() == null || map.getTileRefs() == null) {
+            logger.warn("Skipping {}, not a valid map", file);
+            return false;
+        }
+
+        File output = new File(BinaryMap.getBinaryPath(file.getPath()));
+        try (DataOutputStream out =
+                     new DataOutputStream(new BufferedOutputStream(new FileOutputStream(output)))) {
+            BinaryMap.write(map, file.length(), BinaryMap.checksum(new FileHandle(file)), out);
+        } catch (IOException | GdxRuntimeException e) {
+            logger.error("Could not write {}: {}", output, e.getMessage());
+            return false;
+        }
+        logger.info("Compiled {} ({} bytes) to {} ({} bytes)", file, file.length(), output, output.length());
+        return true;
+    }
+}
@@ -0,0 +1,166 @@
+package com.deco2800.game.areas.terrain;
+
+import com.badlogic.gdx.utils.JsonValue;
+
+/**
+ * A layer of rectangular objects from a map file, such as walls or enemy spawns. Objects are stored
+ * as a struct of arrays, with one primitive array per field, so reading a layer doesn't allocate an
+ * object (or box a float) per map object.
+ *
+ * <p>Positions are in tiles from the top left of the map, and sizes are in pixels, as exported
+ * from Tiled.
+ */
+public class MapObjectLayer {
+    private final Type type;
+    private final float[] x;
+    private final float[] y;
+    private final float[] width;
+    private final float[] height;
+
+    /**
+     * Create a layer of zero-sized objects at (0, 0)
+     *
+     * @param type type of objects in the layer
+     * @param size number of objects in the layer
+     */
+    public MapObjectLayer(Type type, int size) {
+        this.type = type;
+        this.x = new float[size];
+        this.y = new float[size];
+        this.width = new float[size];
+        this.height = new float[size];
+    }
+
+    /**
+     * Read a layer from a JSON array of objects with x, y, width and height fields.
+     *
+     * @param type  type of objects in the layer
+     * @param array JSON array of objects
+     * @return layer
+     */
+    public static MapObjectLayer fromJson(Type type, JsonValue array) {
+        MapObjectLayer layer = new MapObjectLayer(type, array.size);
+        int i = 0;
+        for (JsonValue object = array.child; object != null; object = object.next) {
+            layer.set(i,
+                    object.getFloat("x", 0f),
+                    object.getFloat("y", 0f),
+                    object.getFloat("width", 0f),
+                    object.getFloat("height", 0f));
+            i++;
+        }
+        return layer;
+    }
+
+    /**
+     * Set the fields of an object in the layer
+     *
+     * @param index  object index
+     * @param x      x position in tiles
+     * @param y      y position in tiles, from the top of the map
+     * @param width  width in pixels
+     * @param height height in pixels
+     */
+    public void set(int index, float x, float y, float width, float height) {
+        this.x[index] = x;
+        this.y[index] = y;
+        this.width[index] = width;
+        this.height[index] = height;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * @return number of objects in the layer
+     */
+    public int size() {
+        return x.length;
+    }
+
+    public float getX(int index) {
+        return x[index];
+    }
+
+    public float getY(int index) {
+        return y[index];
+    }
+
+    public float getWidth(int index) {
+        return width[index];
+    }
+
+    public float getHeight(int index) {
+        return height[index];
+    }
+
+    /**
+     * @param index object index
+     * @return x position of the object's tile
+     */
+    public int getTileX(int index) {
+        return (int) x[index];
+    }
+
+    /**
+     * @param index object index
+     * @return y position of the object's tile, from the top of the map
+     */
+    public int getTileY(int index) {
+        return (int) y[index];
+    }
+
+    /**
+     * The types of object layers a map may contain. Each type's key is its layer name in map files.
+     */
+    public enum Type {
+        WALL("wallObjects"),
+        SPIKE("spikeObjects"),
+        LAVA("lavaObjects"),
+        TELEPORT("teleportObjects"),
+        INIT_TELEPORT("initTeleportObjects"),
+        BOSS_BOUNDS("bossBounds"),
+        HEALTH_CRATE("healthCrateObjects"),
+        MELEE("meleeObjects"),
+        RANGE("rangeObjects"),
+        GUARD("guardObjects"),
+        ASSASSIN("assassinObjects"),
+        BOSS("bossObjects"),
+        ANCHORED("anchoredObjects"),
+        ASGARD_MELEE("asgardMeleeObjects"),
+        OUTDOOR_MELEE("outdoorMeleeObjects"),
+        HELL_MELEE("hellMeleeObjects"),
+        MOVE_RIGHT("moveRightObjects"),
+        MOVE_LEFT("moveLeftObjects"),
+        MOVE_UP("moveUpObjects"),
+        MOVE_DOWN("moveDownObjects"),
+        CUTSCENE("cutsceneObjects");
+
+        private final String key;
+
+        Type(String key) {
+            this.key = key;
+        }
+
+        /**
+         * @return name of this layer in map files
+         */
+        public String getKey() {
+            return key;
+        }
+
+        /**
+         * @param key name of a layer in map files
+         * @return type of the layer, or null if it isn't an object layer
+         */
+        public static Type fromKey(String key) {
+            for (Type type : values()) {
+                if (type.key.equals(key)) {
+                    return type;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.deco2800.game.areas.terrain;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.math.Rectangle;
+import com.deco2800.game.rendering.RenderComponent;
+
+/**
+ * Render static, non-interactive map tiles (such as the obstacle and light layers) from pre-built
+ * vertex caches. Tiles are baked into square chunks once at load time, and only chunks which overlap
+ * the camera's view are drawn each frame. A whole layer of decorations is a single renderable, so
+ * the individual tiles never go through the entity update or the render sort.
+ *
+ * <p>Decorations are drawn directly above the terrain and below every entity.
+ */
+public class StaticDecorationComponent extends RenderComponent {
+    public static final int CHUNK_SIZE = 16;
+    private static final int DECORATION_LAYER = 0;
+    private static final float DECORATION_Z_INDEX = 1f;
+
+    private final OrthographicCamera camera;
+    private final SpriteCache cache;
+    private final int[] chunkCacheIds;
+    private final float[] chunkBounds;
+    private int chunksDrawn = 0;
+
+    /**
+     * @param camera        camera used to render and cull the chunks
+     * @param cache         sprite cache holding one baked cache per chunk
+     * @param chunkCacheIds cache id of each chunk, as returned by {@link SpriteCache#endCache()}
+     * @param chunkBounds   world bounds of each chunk as (minX, minY, maxX, maxY) quadruples
+     */
+    public StaticDecorationComponent(
+            OrthographicCamera camera, SpriteCache cache, int[] chunkCacheIds, float[] chunkBounds) {
+        this.camera = camera;
+        this.cache = cache;
+        this.chunkCacheIds = chunkCacheIds;
+        this.chunkBounds = chunkBounds;
+    }
+
+    /**
+     * @return number of baked chunks
+     */
+    public int getChunkCount() {
+        return chunkCacheIds.length;
+    }
+
+    /**
+     * @return number of chunks drawn in the last frame, i.e. those that were not culled
+     */
+    public int getChunksDrawn() {
+        return chunksDrawn;
+    }
+
+    @Override
+    public void draw(SpriteBatch batch) {
+        float halfWidth = camera.viewportWidth * camera.zoom / 2f;
+        float halfHeight = camera.viewportHeight * camera.zoom / 2f;
+        float viewMinX = camera.position.x - halfWidth;
+        float viewMaxX = camera.position.x + halfWidth;
+        float viewMinY = camera.position.y - halfHeight;
+        float viewMaxY = camera.position.y + halfHeight;
+
+        // The sprite cache has its own shader and mesh, so the batch can't be drawing at the same time
+        batch.end();
+        cache.setProjectionMatrix(camera.combined);
+        cache.begin();
+        chunksDrawn = 0;
+        for (int i = 0; i < chunkCacheIds.length; i++) {
+            int offset = i * 4;
+            if (chunkBounds[offset] <= viewMaxX && chunkBounds[offset + 2] >= viewMinX
+                    && chunkBounds[offset + 1] <= viewMaxY && chunkBounds[offset + 3] >= viewMinY) {
+                cache.draw(chunkCacheIds[i]);
+                chunksDrawn++;
+            }
+        }
+        cache.end();
+        batch.begin();
+    }
+
+    @Override
+    public void dispose() {
+        cache.dispose();
+        super.dispose();
+    }
+
+    @Override
+    public float getZIndex() {
+        return DECORATION_Z_INDEX;
+    }
+
+    @Override
+    public int getLayer() {
+        return DECORATION_LAYER;
+    }
+
+    /**
+     * Chunks are culled individually when drawn, so the decorations as a whole are never culled
+     */
+    @Override
+    public boolean isInView(Rectangle view) {
+        return true;
+    }
+}
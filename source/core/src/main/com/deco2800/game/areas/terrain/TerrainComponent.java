@@ -6,6 +6,7 @@ import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.maps.tiled.TiledMapRenderer;
 import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
 import com.badlogic.gdx.math.GridPoint2;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.deco2800.game.rendering.RenderComponent;
 
@@ -85,6 +86,14 @@ public class TerrainComponent extends RenderComponent {
         return TERRAIN_LAYER;
     }
 
+    /**
+     * The tiled map renderer only draws tiles in the camera's view, so the terrain is never culled
+     */
+    @Override
+    public boolean isInView(Rectangle view) {
+        return true;
+    }
+
     public enum TerrainOrientation {
         ORTHOGONAL,
         ISOMETRIC,
@@ -1,7 +1,7 @@
 package com.deco2800.game.areas.terrain;
 
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.maps.tiled.TiledMapRenderer;
@@ -11,6 +11,9 @@ import com.badlogic.gdx.maps.tiled.renderers.HexagonalTiledMapRenderer;
 import com.badlogic.gdx.maps.tiled.renderers.IsometricTiledMapRenderer;
 import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
 import com.badlogic.gdx.math.GridPoint2;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntMap;
 import com.deco2800.game.areas.terrain.TerrainComponent.TerrainOrientation;
 import com.deco2800.game.components.CameraComponent;
 import com.deco2800.game.services.ResourceService;
@@ -24,6 +27,8 @@ import java.util.HashMap;
  */
 public class TerrainFactory {
     public static final GridPoint2 MAP_SIZE = new GridPoint2(30, 30);
+    private static final float TILE_SIZE = 0.5f;
+    private static final int MAX_INDEXED_SPRITES = 8191;
 
     private final OrthographicCamera camera;
     private final TerrainOrientation orientation;
@@ -62,12 +67,107 @@ public class TerrainFactory {
         ArrayList<TextureRegion> textures = new ArrayList<>();
 
         for (String s : tileRefs) {
-            textures.add(new TextureRegion(resourceService.getAsset(s, Texture.class)));
+            textures.add(resourceService.getRegion(s));
         }
 
         return createWorldTerrain(textures, map.getMapTiles(), map.getDimensions());
     }
 
+    /**
+     * Bakes tile layers of a map into chunked vertex caches, so they can be drawn as static
+     * decorations instead of spawning an entity for every tile. Tiles are placed exactly where
+     * ObstacleFactory.createObstacle would place them: one tile high and centred horizontally.
+     *
+     * @param map    Map the layers belong to
+     * @param layers Tile layers to bake, in drawing order. Null layers are skipped.
+     * @return StaticDecorationComponent, or null if the layers contain no tiles
+     */
+    public StaticDecorationComponent createStaticDecorations(Map map, int[][]... layers) {
+        int tileCount = countTiles(layers);
+        if (tileCount == 0) {
+            return null;
+        }
+
+        ResourceService resourceService = ServiceLocator.getResourceService();
+        HashMap<String, String> tileRefs = map.getTileRefs();
+        int width = map.getDimensions().get(TILES_WIDTH);
+        int height = map.getDimensions().get(TILES_HEIGHT);
+        int chunkSize = StaticDecorationComponent.CHUNK_SIZE;
+
+        SpriteCache cache = new SpriteCache(tileCount, tileCount <= MAX_INDEXED_SPRITES);
+        IntMap<TextureRegion> regions = new IntMap<>();
+        IntArray cacheIds = new IntArray();
+        FloatArray bounds = new FloatArray();
+
+        for (int chunkY = 0; chunkY < height; chunkY += chunkSize) {
+            for (int chunkX = 0; chunkX < width; chunkX += chunkSize) {
+                boolean empty = true;
+                float minX = Float.MAX_VALUE;
+                float minY = Float.MAX_VALUE;
+                float maxX = -Float.MAX_VALUE;
+                float maxY = -Float.MAX_VALUE;
+
+                for (int[][] layer : layers) {
+                    if (layer == null) {
+                        continue;
+                    }
+                    for (int y = chunkY; y < Math.min(chunkY + chunkSize, height); y++) {
+                        for (int x = chunkX; x < Math.min(chunkX + chunkSize, width); x++) {
+                            // Map rows are stored top to bottom
+                            int tile = layer[height - 1 - y][x];
+                            if (tile == 0) {
+                                continue;
+                            }
+                            if (empty) {
+                                cache.beginCache();
+                                empty = false;
+                            }
+
+                            TextureRegion region = regions.get(tile);
+                            if (region == null) {
+                                region = resourceService.getRegion(tileRefs.get(String.valueOf(tile)));
+                                regions.put(tile, region);
+                            }
+                            float tileWidth = TILE_SIZE * region.getRegionWidth() / region.getRegionHeight();
+                            float worldX = x * TILE_SIZE + (TILE_SIZE - tileWidth) / 2;
+                            float worldY = y * TILE_SIZE;
+                            cache.add(region, worldX, worldY, tileWidth, TILE_SIZE);
+
+                            minX = Math.min(minX, worldX);
+                            minY = Math.min(minY, worldY);
+                            maxX = Math.max(maxX, worldX + tileWidth);
+                            maxY = Math.max(maxY, worldY + TILE_SIZE);
+                        }
+                    }
+                }
+
+                if (!empty) {
+                    cacheIds.add(cache.endCache());
+                    bounds.addAll(minX, minY, maxX, maxY);
+                }
+            }
+        }
+
+        return new StaticDecorationComponent(camera, cache, cacheIds.toArray(), bounds.toArray());
+    }
+
+    private static int countTiles(int[][]... layers) {
+        int count = 0;
+        for (int[][] layer : layers) {
+            if (layer == null) {
+                continue;
+            }
+            for (int[] row : layer) {
+                for (int tile : row) {
+                    if (tile != 0) {
+                        count++;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
 
     private TiledMapRenderer createRenderer(TiledMap tiledMap, float tileScale) {
         switch (orientation) {
@@ -89,9 +189,9 @@ public class TerrainFactory {
 
         TiledMap tiledMap = createTiles(tilePixelSize, textures, map, dimensions);
 
-        TiledMapRenderer renderer = createRenderer(tiledMap, (float) 0.5 / tilePixelSize.x);
+        TiledMapRenderer renderer = createRenderer(tiledMap, TILE_SIZE / tilePixelSize.x);
 
-        return new TerrainComponent(camera, tiledMap, renderer, orientation, (float) 0.5);
+        return new TerrainComponent(camera, tiledMap, renderer, orientation, TILE_SIZE);
     }
 
     private TiledMap createTiles(
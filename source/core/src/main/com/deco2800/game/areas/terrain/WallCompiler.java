@@ -0,0 +1,72 @@
+package com.deco2800.game.areas.terrain;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Compiles the axis-aligned wall rectangles of a level into as few rectangles as possible. Two
+ * rectangles are merged when they share a full edge, and rectangles entirely inside another are
+ * dropped, so the covered area never changes. Used at level load so walls can be built from a few
+ * large colliders instead of one physics body per wall.
+ */
+public class WallCompiler {
+    private static final float EPSILON = 0.0001f;
+
+    private WallCompiler() {
+        throw new IllegalStateException("Instantiating static util class");
+    }
+
+    /**
+     * Merge rectangles which share a full edge until no more merges are possible.
+     *
+     * @param walls wall rectangles. These are not modified.
+     * @return new array of merged rectangles
+     */
+    public static Array<Rectangle> compile(Array<Rectangle> walls) {
+        Array<Rectangle> compiled = new Array<>(walls.size);
+        for (Rectangle wall : walls) {
+            compiled.add(new Rectangle(wall));
+        }
+
+        boolean merged = true;
+        while (merged) {
+            merged = false;
+            for (int i = 0; i < compiled.size; i++) {
+                Rectangle a = compiled.get(i);
+                for (int j = compiled.size - 1; j > i; j--) {
+                    Rectangle b = compiled.get(j);
+                    if (contains(a, b) || sharesEdge(a, b)) {
+                        a.merge(b);
+                        compiled.removeIndex(j);
+                        merged = true;
+                    } else if (contains(b, a)) {
+                        a.set(b);
+                        compiled.removeIndex(j);
+                        merged = true;
+                    }
+                }
+            }
+        }
+        return compiled;
+    }
+
+    private static boolean contains(Rectangle outer, Rectangle inner) {
+        return inner.x >= outer.x - EPSILON
+                && inner.y >= outer.y - EPSILON
+                && inner.x + inner.width <= outer.x + outer.width + EPSILON
+                && inner.y + inner.height <= outer.y + outer.height + EPSILON;
+    }
+
+    private static boolean sharesEdge(Rectangle a, Rectangle b) {
+        boolean sameRow = MathUtils.isEqual(a.y, b.y, EPSILON) && MathUtils.isEqual(a.height, b.height, EPSILON);
+        if (sameRow && (MathUtils.isEqual(a.x + a.width, b.x, EPSILON)
+                || MathUtils.isEqual(b.x + b.width, a.x, EPSILON))) {
+            return true;
+        }
+
+        boolean sameColumn = MathUtils.isEqual(a.x, b.x, EPSILON) && MathUtils.isEqual(a.width, b.width, EPSILON);
+        return sameColumn && (MathUtils.isEqual(a.y + a.height, b.y, EPSILON)
+                || MathUtils.isEqual(b.y + b.height, a.y, EPSILON));
+    }
+}
@@ -0,0 +1,95 @@
+package com.deco2800.game.components;
+
+import com.deco2800.game.entities.ActivityRegionService;
+import com.deco2800.game.physics.components.PhysicsComponent;
+import com.deco2800.game.services.ServiceLocator;
+
+/**
+ * Lets an entity sleep while it is far from the player. A sleeping entity's components aren't
+ * updated, so its AI stops choosing tasks, and its physics body is taken out of the simulation. See
+ * {@link ActivityRegionService}.
+ *
+ * <p>Does nothing outside of the main game, where there is no activity region service.
+ */
+public class ActivityComponent extends Component {
+    private ActivityRegionService activityRegion;
+    private PhysicsComponent physics;
+    private boolean asleep = false;
+    private boolean entityWasEnabled;
+    private boolean physicsWasEnabled;
+
+    @Override
+    public void create() {
+        physics = entity.getComponent(PhysicsComponent.class);
+        register();
+    }
+
+    /**
+     * A recycled entity may have been asleep when it was finished with
+     */
+    @Override
+    public void reuse() {
+        wake();
+        register();
+    }
+
+    @Override
+    public void dispose() {
+        unregister();
+    }
+
+    @Override
+    public void recycle() {
+        unregister();
+    }
+
+    /**
+     * Stop updating the entity and deactivate its physics body. Called by the activity region
+     * service.
+     */
+    public void sleep() {
+        if (asleep) {
+            return;
+        }
+        asleep = true;
+        entityWasEnabled = entity.isEnabled();
+        entity.setEnabled(false);
+        if (physics != null) {
+            physicsWasEnabled = physics.isEnabled();
+            physics.setEnabled(false);
+        }
+    }
+
+    /**
+     * Restore the entity and its physics body to how they were before sleeping. Called by the
+     * activity region service.
+     */
+    public void wake() {
+        if (!asleep) {
+            return;
+        }
+        asleep = false;
+        entity.setEnabled(entityWasEnabled);
+        if (physics != null) {
+            physics.setEnabled(physicsWasEnabled);
+        }
+    }
+
+    public boolean isAsleep() {
+        return asleep;
+    }
+
+    private void register() {
+        activityRegion = ServiceLocator.getActivityRegionService();
+        if (activityRegion != null) {
+            activityRegion.add(this);
+        }
+    }
+
+    private void unregister() {
+        if (activityRegion != null) {
+            activityRegion.remove(this);
+            activityRegion = null;
+        }
+    }
+}
@@ -6,13 +6,17 @@ import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Vector2;
 import com.deco2800.game.entities.Entity;
 
-import java.util.ArrayList;
-
 public class CameraComponent extends Component {
+    private static final int SMOOTHING_FRAMES = 50;
     private final Camera camera;
     private Entity player;
-    private final ArrayList<Vector2> lastPositions;
-    private Vector2 lastPosition;
+    // Ring buffer of the last positions, kept as floats so that tracking the player doesn't allocate
+    private final float[] lastPositionsX = new float[SMOOTHING_FRAMES];
+    private final float[] lastPositionsY = new float[SMOOTHING_FRAMES];
+    private int positionCount = 0;
+    private int nextPosition = 0;
+    private final Vector2 lastPosition;
+    private final Vector2 averagePosition = new Vector2();
 
     public CameraComponent() {
         this(new OrthographicCamera());
@@ -22,7 +26,6 @@ public class CameraComponent extends Component {
         this.camera = camera;
         this.camera.position.set(4.75f, 4.75f, 0f);
         lastPosition = new Vector2(4.75f, 4.75f);
-        lastPositions = new ArrayList<>();
     }
 
     /**
@@ -34,19 +37,20 @@ public class CameraComponent extends Component {
      */
     @Override
     public void update() {
-        Vector2 position;
         if (player == null) {
             camera.position.set(4.75f, 4.75f, 0f);
         } else {
-            position = player.getPosition();
-            if (!player.getPosition().epsilonEquals(averagePositions())) {
-                camera.position.set(averagePositions().x, averagePositions().y, 0f);
-                lastPosition = position;
+            if (positionCount == 0) {
+                // Nothing to average yet, so start on the player
+                averagePosition.set(player.getRenderX(), player.getRenderY());
+            } else {
+                averagePositions(averagePosition);
             }
-            lastPositions.add(lastPosition);
-            if (lastPositions.size() > 50) {
-                lastPositions.remove(0);
+            if (positionCount == 0 || !averagePosition.epsilonEquals(player.getRenderX(), player.getRenderY())) {
+                camera.position.set(averagePosition.x, averagePosition.y, 0f);
+                lastPosition.set(player.getRenderX(), player.getRenderY());
             }
+            addPosition(lastPosition);
         }
         camera.update();
     }
@@ -55,16 +59,29 @@ public class CameraComponent extends Component {
      * Averages the last 50 positions the player was before and returns the average.
      * This is used to smooth the camera movement.
      *
+     * @param out vector to set to the average
      * @return average of the last 50 positions of the camera
      */
-    private Vector2 averagePositions() {
+    private Vector2 averagePositions(Vector2 out) {
         float x = 0;
         float y = 0;
-        for (Vector2 vector : lastPositions) {
-            x += vector.x;
-            y += vector.y;
+        for (int i = 0; i < positionCount; i++) {
+            x += lastPositionsX[i];
+            y += lastPositionsY[i];
         }
-        return new Vector2(x / lastPositions.size(), y / lastPositions.size());
+        return out.set(x / positionCount, y / positionCount);
+    }
+
+    /**
+     * Record a position to average, replacing the oldest once there are 50.
+     *
+     * @param position position to record
+     */
+    private void addPosition(Vector2 position) {
+        lastPositionsX[nextPosition] = position.x;
+        lastPositionsY[nextPosition] = position.y;
+        nextPosition = (nextPosition + 1) % SMOOTHING_FRAMES;
+        positionCount = Math.min(positionCount + 1, SMOOTHING_FRAMES);
     }
 
     public Matrix4 getProjectionMatrix() {
@@ -2,6 +2,7 @@ package com.deco2800.game.components;
 
 import com.badlogic.gdx.math.Vector2;
 import com.deco2800.game.components.player.KeyboardPlayerInputComponent;
+import com.deco2800.game.events.EventKey;
 import com.deco2800.game.physics.PhysicsLayer;
 import com.deco2800.game.physics.components.HitboxComponent;
 import com.deco2800.game.physics.components.PhysicsMovementComponent;
@@ -17,15 +18,19 @@ import org.slf4j.LoggerFactory;
 public class CombatStatsComponent extends Component {
 
     private static final Logger logger = LoggerFactory.getLogger(CombatStatsComponent.class);
+    private static final EventKey EVT_UPDATE_HEALTH = EventKey.of("updateHealth");
+    private static final EventKey EVT_UPDATE_BOSS_HEALTH = EventKey.of("updateBossHealth");
     private int health;
     private int maxHealth; // if we want to change his max health use the setMaxHeatlh()
     private int baseAttack;
+    private final int initialBaseAttack;
     private boolean damageLocked;
 
     public CombatStatsComponent(int health, int baseAttack) {
         this.health = health;
         setMaxHealth(health);
         setBaseAttack(baseAttack);
+        initialBaseAttack = this.baseAttack;
         damageLocked = false;
         //if entities can heal trigger this even
     }
@@ -35,6 +40,16 @@ public class CombatStatsComponent extends Component {
         entity.getEvents().addListener("healEntity", this::addHealth);
     }
 
+    /**
+     * Restore full health and the starting attack, without notifying listeners
+     */
+    @Override
+    public void reuse() {
+        health = maxHealth;
+        baseAttack = initialBaseAttack;
+        damageLocked = false;
+    }
+
     /**
      * Returns true if the entity's has 0 health, otherwise false.
      *
@@ -99,8 +114,8 @@ public class CombatStatsComponent extends Component {
             }
         }
         if (this.entity != null) {
-            entity.getEvents().trigger("updateHealth", this.health);
-            entity.getEvents().trigger("updateBossHealth", this.health);
+            entity.getEvents().queue(EVT_UPDATE_HEALTH, this.health);
+            entity.getEvents().queue(EVT_UPDATE_BOSS_HEALTH, this.health);
         }
     }
 
@@ -45,6 +45,24 @@ public class Component {
         // No action by default.
     }
 
+    /**
+     * Called instead of dispose() when the entity is returned to an {@link
+     * com.deco2800.game.entities.EntityPool} for reuse. Release anything the component registered
+     * outside the entity, as dispose() would, but keep resources which can be reused.
+     */
+    public void recycle() {
+        // No action by default.
+    }
+
+    /**
+     * Called instead of create() when a recycled entity is registered again. Register again anything
+     * released by recycle(), and reset state changed while the entity was in play so the component
+     * behaves as it did when first created.
+     */
+    public void reuse() {
+        // No action by default.
+    }
+
     /**
      * Set the entity to which this component belongs. This is called by the Entity, and should not be
      * set manually.
@@ -77,6 +95,13 @@ public class Component {
         this.enabled = enabled;
     }
 
+    /**
+     * @return true if the component runs update() and earlyUpdate(), false if disabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
     /**
      * Used to trigger the component to update itself. This should not need to be called manually.
      */
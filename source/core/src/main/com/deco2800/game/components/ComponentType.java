@@ -12,11 +12,13 @@ public class ComponentType {
     private static int nextId = 0;
 
     private final int id;
+    private final boolean earlyUpdates;
+    private final boolean updates;
 
     public static ComponentType getFrom(Class<? extends Component> type) {
         ComponentType componentType = componentTypes.get(type);
         if (componentType == null) {
-            componentType = new ComponentType();
+            componentType = new ComponentType(type);
             componentTypes.put(type, componentType);
         }
         return componentType;
@@ -26,8 +28,33 @@ public class ComponentType {
         return id;
     }
 
-    private ComponentType() {
+    /**
+     * @return true if components of this type override earlyUpdate(), false if it does nothing
+     */
+    public boolean hasEarlyUpdate() {
+        return earlyUpdates;
+    }
+
+    /**
+     * @return true if components of this type override update(), false if it does nothing
+     */
+    public boolean hasUpdate() {
+        return updates;
+    }
+
+    private ComponentType(Class<? extends Component> type) {
         id = nextId;
         nextId++;
+        earlyUpdates = overrides(type, "earlyUpdate");
+        updates = overrides(type, "update");
+    }
+
+    private static boolean overrides(Class<? extends Component> type, String methodName) {
+        try {
+            return type.getMethod(methodName).getDeclaringClass() != Component.class;
+        } catch (NoSuchMethodException e) {
+            // Every component has the method, but assume it's overridden if it can't be found
+            return true;
+        }
     }
 }
@@ -2,7 +2,6 @@ package com.deco2800.game.components;
 
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.math.Vector2;
 import com.deco2800.game.rendering.RenderComponent;
 import com.deco2800.game.services.ServiceLocator;
 
@@ -49,20 +48,20 @@ public class HealthBarComponent extends RenderComponent {
 
     public void scaleHealth(float xScale) {
         float width = (SIZE_X / health.getWidth()) * size;
-        float height = (entity.getScale().y / health.getHeight()) * (xScale / 2) * size;
+        float height = (entity.getScaleY() / health.getHeight()) * (xScale / 2) * size;
         health.setScale(height, width);
     }
 
     public void scaleHealthBar() {
         float width = (SIZE_X / healthBar.getWidth()) * size;
-        float height = (entity.getScale().y / healthBar.getHeight()) * 0.5f * size;
+        float height = (entity.getScaleY() / healthBar.getHeight()) * 0.5f * size;
         healthBar.setScale(height, width);
     }
 
     public void scaleHealthDecrease(float xScale, float xScalePrevious, double ratioHealthDecrease) {
         float scale = xScale + (xScalePrevious - xScale) * (float) ratioHealthDecrease;
         float width = (SIZE_X / healthBar.getWidth());
-        float height = (entity.getScale().y / health.getHeight()) * (scale / 2);
+        float height = (entity.getScaleY() / health.getHeight()) * (scale / 2);
         healthDecrease.setScale(height, width);
     }
 
@@ -108,12 +107,13 @@ public class HealthBarComponent extends RenderComponent {
 
     @Override
     protected void draw(SpriteBatch batch) {
-        Vector2 positionCenter = entity.getCenterPosition();
+        float centerX = entity.getRenderCenterX();
+        float centerY = entity.getRenderCenterY();
         float angle = entity.getAngle();
 
         if (healthBar != null) {
             healthBar.setRotation(angle);
-            healthBar.setCenter(positionCenter.x, positionCenter.y + heightOfHealth);
+            healthBar.setCenter(centerX, centerY + heightOfHealth);
             scaleHealthBar();
             healthBar.draw(batch);
         }
@@ -122,7 +122,7 @@ public class HealthBarComponent extends RenderComponent {
                 healthDecreaseCheck = false;
             } else {
                 healthDecrease.setRotation(angle);
-                healthDecrease.setCenter(positionCenter.x, positionCenter.y + heightOfHealth);
+                healthDecrease.setCenter(centerX, centerY + heightOfHealth);
                 double ratioOfDecrease = 1 - ((System.currentTimeMillis() - start) / 1000.0);
                 scaleHealthDecrease(ratioOfHealth, ratioOfHealthPrevious, ratioOfDecrease);
                 healthDecrease.draw(batch);
@@ -132,9 +132,16 @@ public class HealthBarComponent extends RenderComponent {
         if (health != null) {
             scaleHealth(ratioOfHealth);
             health.setRotation(angle);
-            health.setCenter(positionCenter.x, positionCenter.y + heightOfHealth);
+            health.setCenter(centerX, centerY + heightOfHealth);
             health.draw(batch);
         }
     }
 
+    /**
+     * The bar is drawn above the entity, so keep it until the bar itself leaves the view
+     */
+    @Override
+    protected float getCullMargin() {
+        return super.getCullMargin() + Math.abs(heightOfHealth) + SIZE_X * size;
+    }
 }
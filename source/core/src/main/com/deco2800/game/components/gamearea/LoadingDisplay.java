@@ -0,0 +1,57 @@
+package com.deco2800.game.components.gamearea;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.deco2800.game.ui.UIComponent;
+
+/**
+ * Displays the loading progress of a game area while it loads.
+ */
+public class LoadingDisplay extends UIComponent {
+    private static final float Z_INDEX = 10f;
+    private Label progressLabel;
+    private int progress = 0;
+
+    @Override
+    public void create() {
+        super.create();
+        addActors();
+    }
+
+    private void addActors() {
+        progressLabel = new Label(getText(), skin, "large");
+        stage.addActor(progressLabel);
+    }
+
+    /**
+     * @param progress loading progress as a percentage
+     */
+    public void setProgress(int progress) {
+        this.progress = progress;
+    }
+
+    @Override
+    public void draw(SpriteBatch batch) {
+        progressLabel.setText(getText());
+        progressLabel.pack();
+
+        float x = (stage.getWidth() - progressLabel.getWidth()) / 2;
+        float y = (stage.getHeight() - progressLabel.getHeight()) / 2;
+        progressLabel.setPosition(x, y);
+    }
+
+    private String getText() {
+        return String.format("Loading... %d%%", progress);
+    }
+
+    @Override
+    public float getZIndex() {
+        return Z_INDEX;
+    }
+
+    @Override
+    public void dispose() {
+        super.dispose();
+        progressLabel.remove();
+    }
+}
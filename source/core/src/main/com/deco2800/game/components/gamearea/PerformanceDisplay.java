@@ -3,6 +3,9 @@ package com.deco2800.game.components.gamearea;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.deco2800.game.ai.tasks.AISchedulerService;
+import com.deco2800.game.physics.VisibilityService;
+import com.deco2800.game.rendering.RenderService;
 import com.deco2800.game.services.ServiceLocator;
 import com.deco2800.game.ui.UIComponent;
 
@@ -40,11 +43,24 @@ public class PerformanceDisplay extends UIComponent {
     }
 
     private String getStats() {
+        RenderService renderService = ServiceLocator.getRenderService();
         String message = "Debug\n";
         message =
                 message
                         .concat(String.format("FPS: %d fps%n", Gdx.graphics.getFramesPerSecond()))
-                        .concat(String.format("RAM: %d MB%n", Gdx.app.getJavaHeap() / 1000000));
+                        .concat(String.format("RAM: %d MB%n", Gdx.app.getJavaHeap() / 1000000))
+                        .concat(String.format("Drawn: %d, Culled: %d%n",
+                                renderService.getDrawnCount(), renderService.getCulledCount()));
+        VisibilityService visibility = ServiceLocator.getVisibilityService();
+        if (visibility != null) {
+            message = message.concat(String.format("Sight checks: %d, cached: %.0f%%%n",
+                    visibility.getQueryCount(), visibility.getCacheHitRatio() * 100));
+        }
+        AISchedulerService aiScheduler = ServiceLocator.getAISchedulerService();
+        if (aiScheduler != null) {
+            message = message.concat(String.format("AI evaluated: %d/%d, %.0f us%n",
+                    aiScheduler.getLastEvaluationCount(), aiScheduler.getCount(), aiScheduler.getLastFrameMicros()));
+        }
         return message;
     }
 
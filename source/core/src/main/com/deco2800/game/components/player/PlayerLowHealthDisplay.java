@@ -188,7 +188,7 @@ public class PlayerLowHealthDisplay extends UIComponent {
     public void dispose() {
         super.dispose();
         bloodImage.remove();
-        heartBeat.dispose();
+        heartBeat.stop();
         blackScreen.remove();
     }
 }
@@ -3,6 +3,7 @@ package com.deco2800.game.components.tasks;
 
 import com.deco2800.game.ai.tasks.PriorityTask;
 import com.deco2800.game.entities.Entity;
+import com.deco2800.game.entities.EntityService;
 import com.deco2800.game.services.ServiceLocator;
 
 /**
@@ -40,10 +41,14 @@ public class AlertableChaseTask extends ChaseTask implements PriorityTask {
      *
      * @return 15 if alerted (always see the target), default otherwise
      */
-    @SuppressWarnings("GDXJavaUnsafeIterator")
     @Override
     public int getPriority() {
-        for (Entity entity : ServiceLocator.getEntityService().getEntities()) {
+        EntityService entityService = ServiceLocator.getEntityService();
+        for (int i = 0; i < entityService.getEntityCount(); i++) {
+            Entity entity = entityService.getEntity(i);
+            if (!entityService.isRegistered(entity)) {
+                continue;
+            }
             //get event triggered
             if (entity.getEntityType() != null && entity.getEntityType().equals("AlertCaller")) {
                 //note:don't re-add to same entity
@@ -6,7 +6,8 @@ import com.deco2800.game.ai.tasks.PriorityTask;
 import com.deco2800.game.entities.Entity;
 
 /**
- * Chases a target entity until they get too far away or line of sight is lost
+ * Chases a target entity until they get too far away or line of sight is lost. Follows a path around
+ * walls to the target, see {@link PathFollowTask}.
  */
 public class ChaseTask extends DefaultTask implements PriorityTask {
     protected final Entity target;
@@ -15,6 +16,8 @@ public class ChaseTask extends DefaultTask implements PriorityTask {
     private final float maxChaseDistance;
     private Vector2 movementSpeed;
     protected MovementTask movementTask;
+    private final Vector2 targetPosition = new Vector2();
+    private final Vector2 direction = new Vector2();
 
     /**
      * @param target           The entity to chase.
@@ -46,11 +49,14 @@ public class ChaseTask extends DefaultTask implements PriorityTask {
     @Override
     public void start() {
         super.start();
+        PathFollowTask pathFollowTask;
         if (movementSpeed != null) {
-            movementTask = new MovementTask(target.getPosition(), movementSpeed);
+            pathFollowTask = new PathFollowTask(target.getPosition(targetPosition), movementSpeed);
         } else {
-            movementTask = new MovementTask(target.getPosition());
+            pathFollowTask = new PathFollowTask(target.getPosition(targetPosition));
         }
+        pathFollowTask.setTargetEntity(target);
+        movementTask = pathFollowTask;
         movementTask.create(owner);
         movementTask.start();
         this.owner.getEntity().getEvents().trigger("chaseStart");
@@ -62,7 +68,7 @@ public class ChaseTask extends DefaultTask implements PriorityTask {
      */
     @Override
     public void update() {
-        movementTask.setTarget(target.getPosition());
+        movementTask.setTarget(target.getPosition(targetPosition));
         movementTask.update();
         if (movementTask.getStatus() != Status.ACTIVE) {
             movementTask.start();
@@ -100,8 +106,10 @@ public class ChaseTask extends DefaultTask implements PriorityTask {
      * @return float distance toward target
      */
     protected float getDistanceToTarget() {
-        Vector2 direction = target.getCenterPosition().sub(owner.getEntity().getCenterPosition());
-        if (owner.getEntity().getPosition().dst(target.getPosition()) < 0.1f) {
+        Entity entity = owner.getEntity();
+        float distance = Vector2.dst(entity.getX(), entity.getY(), target.getX(), target.getY());
+        if (distance < 0.1f) {
+            target.getCenterPosition(direction).sub(entity.getCenterX(), entity.getCenterY());
             if (direction.angleDeg() > 45 && direction.angleDeg() < 135) {
                 owner.getEntity().getEvents().trigger("attackUp");
             } else if (direction.angleDeg() > 135 && direction.angleDeg() < 225) {
@@ -112,7 +120,7 @@ public class ChaseTask extends DefaultTask implements PriorityTask {
                 owner.getEntity().getEvents().trigger("attackRight");
             }
         }
-        return owner.getEntity().getPosition().dst(target.getPosition());
+        return distance;
     }
 
     /**
@@ -2,7 +2,9 @@ package com.deco2800.game.components.tasks;
 
 import com.badlogic.gdx.math.Vector2;
 import com.deco2800.game.ai.tasks.DefaultTask;
+import com.deco2800.game.entities.Entity;
 import com.deco2800.game.physics.components.PhysicsMovementComponent;
+import com.deco2800.game.rendering.DebugRenderer;
 import com.deco2800.game.services.GameTime;
 import com.deco2800.game.services.ServiceLocator;
 import com.deco2800.game.utils.math.Vector2Utils;
@@ -21,7 +23,7 @@ public class MovementTask extends DefaultTask {
     private float stopDistance = 0.01f;
     private Vector2 moveSpeed = Vector2Utils.ONE;
     private long lastTimeMoved;
-    private Vector2 lastPos;
+    private final Vector2 lastPos = new Vector2();
     private PhysicsMovementComponent movementComponent;
 
     /**
@@ -70,7 +72,7 @@ public class MovementTask extends DefaultTask {
         movementComponent.setMoving(true);
         logger.debug("Starting movement towards {}", target);
         lastTimeMoved = gameTime.getTime();
-        lastPos = owner.getEntity().getPosition();
+        owner.getEntity().getPosition(lastPos);
     }
 
     /**
@@ -86,10 +88,23 @@ public class MovementTask extends DefaultTask {
             checkIfStuck();
             movementComponent.setMaxSpeed(moveSpeed);
             setTarget(target);
-            Vector2 bodyOffset = owner.getEntity().getCenterPosition().cpy().sub(owner.getEntity().getPosition());
-            if (ServiceLocator.getRenderService() != null) {
-                ServiceLocator.getRenderService().getDebug().drawLine(owner.getEntity().getCenterPosition(), target.cpy().add(bodyOffset));
-            }
+            drawDebugPath();
+        }
+    }
+
+    /**
+     * Draw a line from the entity to where its centre will be at the target. Skipped unless debug
+     * rendering is on, since the line needs new vectors every frame.
+     */
+    private void drawDebugPath() {
+        if (ServiceLocator.getRenderService() == null) {
+            return;
+        }
+        DebugRenderer debug = ServiceLocator.getRenderService().getDebug();
+        if (debug != null && debug.getActive()) {
+            Entity entity = owner.getEntity();
+            Vector2 targetCenter = target.cpy().add(entity.getScaleX() / 2f, entity.getScaleY() / 2f);
+            debug.drawLine(entity.getCenterPosition(), targetCenter);
         }
     }
 
@@ -100,7 +115,16 @@ public class MovementTask extends DefaultTask {
      */
     public void setTarget(Vector2 target) {
         this.target = target;
-        movementComponent.setTarget(target);
+        steerTowards(target);
+    }
+
+    /**
+     * Move toward a position on the way to the target, without changing the target
+     *
+     * @param position position to move toward
+     */
+    protected void steerTowards(Vector2 position) {
+        movementComponent.setTarget(position);
     }
 
     /**
@@ -128,7 +152,8 @@ public class MovementTask extends DefaultTask {
      * @return true if it is, false otherwise
      */
     protected boolean isAtTarget() {
-        return owner.getEntity().getPosition().dst(target) <= stopDistance;
+        Entity entity = owner.getEntity();
+        return target.dst(entity.getX(), entity.getY()) <= stopDistance;
     }
 
     /**
@@ -140,7 +165,7 @@ public class MovementTask extends DefaultTask {
     protected boolean checkIfStuck() {
         if (didMove()) {
             lastTimeMoved = gameTime.getTime();
-            lastPos = owner.getEntity().getPosition();
+            owner.getEntity().getPosition(lastPos);
         } else if (gameTime.getTimeSince(lastTimeMoved) > 500L) {
             movementComponent.setMoving(false);
             status = Status.FAILED;
@@ -157,7 +182,8 @@ public class MovementTask extends DefaultTask {
      */
     protected boolean didMove() {
         if (this.getStatus() == Status.ACTIVE) {
-            return owner.getEntity().getPosition().dst2(lastPos) > 0.001f;
+            Entity entity = owner.getEntity();
+            return lastPos.dst2(entity.getX(), entity.getY()) > 0.001f;
         }
         return true; // if not started
     }
@@ -0,0 +1,156 @@
+package com.deco2800.game.components.tasks;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.deco2800.game.ai.pathfinding.FlowField;
+import com.deco2800.game.ai.pathfinding.FlowFieldService;
+import com.deco2800.game.ai.pathfinding.Path;
+import com.deco2800.game.ai.pathfinding.PathfindingService;
+import com.deco2800.game.entities.Entity;
+import com.deco2800.game.physics.PhysicsUtils;
+import com.deco2800.game.services.ServiceLocator;
+
+/**
+ * Move to a given position like a {@link MovementTask}, but along a path around walls from the
+ * {@link PathfindingService} rather than straight there. Heads straight for the target while the
+ * path is being found, if there is no path, and on the last leg of the path. A new path is found
+ * when the target moves to another cell, or when the task is restarted after getting stuck.
+ *
+ * <p>When the target is the one the {@link FlowFieldService} keeps a field to, usually the player,
+ * the entity follows the shared field cell by cell instead of finding a path. Set the target entity
+ * with {@link #setTargetEntity} for this, since its centre can't be told from the target position
+ * when it is a different size to this entity.
+ *
+ * <p>Paths are planned for the entity's collider rather than its sprite, since most NPCs stand on a
+ * strip at the bottom of their sprite. They keep the whole collider clear of walls.
+ */
+public class PathFollowTask extends MovementTask {
+    private static final float WAYPOINT_DISTANCE = 0.1f;
+
+    private final Rectangle bounds = new Rectangle();
+    private final Vector2 center = new Vector2();
+    private final Vector2 goalCenter = new Vector2();
+    private final Vector2 waypoint = new Vector2();
+    private Entity targetEntity;
+    private Path path;
+    private int nextWaypoint;
+
+    /**
+     * @param target position the entity will move toward
+     */
+    public PathFollowTask(Vector2 target) {
+        super(target);
+    }
+
+    /**
+     * @param target       position the entity will move toward
+     * @param stopDistance distance from the target to stop at
+     */
+    public PathFollowTask(Vector2 target, float stopDistance) {
+        super(target, stopDistance);
+    }
+
+    /**
+     * @param target    position the entity will move toward
+     * @param moveSpeed speed of the entity
+     */
+    public PathFollowTask(Vector2 target, Vector2 moveSpeed) {
+        super(target, moveSpeed);
+    }
+
+    /**
+     * Start following a new path from wherever the entity now is
+     */
+    @Override
+    public void start() {
+        path = null;
+        super.start();
+        setTarget(target);
+    }
+
+    /**
+     * Find paths to the centre of an entity rather than the target position offset by this entity's
+     * size, while the target position is that entity's position. Any other target, such as a point
+     * beside the entity, is found from the target position as usual. The entity still moves to the
+     * target position on the last leg.
+     *
+     * @param targetEntity entity usually at the target position, or null to use the position alone
+     */
+    public void setTargetEntity(Entity targetEntity) {
+        this.targetEntity = targetEntity;
+    }
+
+    @Override
+    public void setTarget(Vector2 target) {
+        this.target = target;
+        steerTowards(getWaypoint());
+    }
+
+    /**
+     * @return position the entity should move to next, bottom left aligned like the target
+     */
+    private Vector2 getWaypoint() {
+        FlowFieldService flowFields = ServiceLocator.getFlowFieldService();
+        PathfindingService pathfinding = ServiceLocator.getPathfindingService();
+        if (flowFields == null && pathfinding == null) {
+            return target;
+        }
+        // Plan for the collider, which is offset from the entity's position
+        Entity entity = owner.getEntity();
+        PhysicsUtils.getColliderBounds(entity, bounds);
+        float halfWidth = bounds.width / 2f;
+        float halfHeight = bounds.height / 2f;
+        float offsetX = bounds.x + halfWidth;
+        float offsetY = bounds.y + halfHeight;
+        center.set(entity.getX() + offsetX, entity.getY() + offsetY);
+        if (isTargetingEntity()) {
+            PhysicsUtils.getColliderCenter(targetEntity, goalCenter);
+        } else {
+            goalCenter.set(target).add(offsetX, offsetY);
+        }
+
+        // Targets with a shared flow field don't need a path of their own. Entities pushed against a
+        // wall may be in a cell too close to it for their size, with no next cell, so find a path out.
+        FlowField field = flowFields == null ? null : flowFields.getField(goalCenter, halfWidth, halfHeight);
+        if (field != null) {
+            int nextCell = field.getNextCell(center.x, center.y);
+            if (nextCell == field.getGoalCell()) {
+                return target;
+            } else if (nextCell != -1) {
+                return waypoint.set(field.getCenterX(nextCell) - offsetX, field.getCenterY(nextCell) - offsetY);
+            }
+        }
+        if (pathfinding == null) {
+            return target;
+        }
+
+        if (path == null || path.getGoalCell() != pathfinding.getCell(goalCenter)) {
+            // Keep following the old path until the new one is found
+            Path newPath = pathfinding.getPath(center, goalCenter, halfWidth, halfHeight);
+            if (newPath != null) {
+                path = newPath;
+                nextWaypoint = 0;
+            }
+        }
+        if (path == null || !path.isFound()) {
+            return target;
+        }
+
+        float reachedDistance = WAYPOINT_DISTANCE * WAYPOINT_DISTANCE;
+        while (nextWaypoint < path.size() - 1
+                && center.dst2(path.getX(nextWaypoint), path.getY(nextWaypoint)) < reachedDistance) {
+            nextWaypoint++;
+        }
+        if (nextWaypoint >= path.size() - 1) {
+            return target;
+        }
+        return waypoint.set(path.getX(nextWaypoint) - offsetX, path.getY(nextWaypoint) - offsetY);
+    }
+
+    /**
+     * @return true if the target position is the target entity's position
+     */
+    private boolean isTargetingEntity() {
+        return targetEntity != null && target.x == targetEntity.getX() && target.y == targetEntity.getY();
+    }
+}
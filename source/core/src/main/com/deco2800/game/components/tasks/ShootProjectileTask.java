@@ -186,9 +186,14 @@ public class ShootProjectileTask extends DefaultTask implements PriorityTask {
                 //Add new fireball
                 int index = 0;
                 Entity[] entities = (Entity[]) owner.getEntity().data.get(FIREBALLS_KEY);
+                // Forget fireballs which are gone, since their entities are recycled for new ones
+                for (int i = 0; i < entities.length; i++) {
+                    if (!ServiceLocator.getEntityService().isRegistered(entities[i])) {
+                        entities[i] = null;
+                    }
+                }
                 for (Entity fireball : entities) {
-                    if (!ServiceLocator.getEntityService().getEntities().contains(
-                            fireball, true)) {
+                    if (!ServiceLocator.getEntityService().isRegistered(fireball)) {
                         entities[index] = WeaponFactory.createFireBall(target,
                                 owner.getEntity(), new Vector2(index - 1f, 1f));
                         gameArea.spawnEntityAt(entities[index],
@@ -204,8 +209,7 @@ public class ShootProjectileTask extends DefaultTask implements PriorityTask {
                 //Check for fireball but don't make one
                 Entity[] entities = (Entity[]) owner.getEntity().data.get(FIREBALLS_KEY);
                 for (Entity fireball : entities) {
-                    if (ServiceLocator.getEntityService().getEntities().contains(
-                            fireball, true)
+                    if (ServiceLocator.getEntityService().isRegistered(fireball)
                             && fireball.data.get(FIREBALL_MOVEMENT).equals(false)) {
                         return (true);
 
@@ -224,7 +228,7 @@ public class ShootProjectileTask extends DefaultTask implements PriorityTask {
     private Entity getNextFireBall() {
         Entity[] entities = (Entity[]) owner.getEntity().data.get(FIREBALLS_KEY);
         for (Entity fireball : entities) {
-            if (ServiceLocator.getEntityService().getEntities().contains(fireball, true)
+            if (ServiceLocator.getEntityService().isRegistered(fireball)
                     && fireball.data.get(FIREBALL_MOVEMENT).equals(false)) {
                 return (fireball);
             }
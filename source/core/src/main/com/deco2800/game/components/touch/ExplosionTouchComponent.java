@@ -13,6 +13,7 @@ public class ExplosionTouchComponent extends TouchComponent {
     private final float knockbackForce;
     private long start = 0;
     private boolean disable = false;
+    private final Vector2 direction = new Vector2();
 
     public ExplosionTouchComponent(short targetLayer, short myLayer, float knockback) {
         super(targetLayer, myLayer);
@@ -42,7 +43,7 @@ public class ExplosionTouchComponent extends TouchComponent {
         if (physicsComponent != null && (knockbackForce > 0f) || (hitboxComponent.getFixture() != me)) {
             assert physicsComponent != null;
             Body targetBody = physicsComponent.getBody();
-            Vector2 direction = target.getCenterPosition().sub(entity.getCenterPosition());
+            target.getCenterPosition(direction).sub(entity.getCenterX(), entity.getCenterY());
             Vector2 impulse = direction.setLength(knockbackForce);
             targetBody.applyLinearImpulse(impulse, targetBody.getWorldCenter(), true);
         }
@@ -107,7 +108,7 @@ public class ExplosionTouchComponent extends TouchComponent {
         if (physicsComponent != null && (knockbackForce > 0f) || (hitboxComponent.getFixture() != me)) {
             assert physicsComponent != null;
             Body targetBody = physicsComponent.getBody();
-            Vector2 direction = target.getCenterPosition().sub(entity.getCenterPosition());
+            target.getCenterPosition(direction).sub(entity.getCenterX(), entity.getCenterY());
             Vector2 impulse = direction.setLength(0.5f);
             targetBody.applyLinearImpulse(impulse, targetBody.getWorldCenter(), true);
             targetBody.setLinearVelocity(targetBody.getLinearVelocity().clamp(-knockbackForce * 10, knockbackForce * 10));
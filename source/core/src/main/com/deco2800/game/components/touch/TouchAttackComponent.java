@@ -23,9 +23,11 @@ import com.deco2800.game.physics.components.PhysicsMovementComponent;
 
 public class TouchAttackComponent extends TouchComponent {
     private float knockbackForce = 0f;
+    private final float initialKnockbackForce;
     private CombatStatsComponent combatStats;
     private long start = 0;
     private boolean disable = false;
+    private final Vector2 direction = new Vector2();
 
     private static final String DEAL_DAMAGE = "dealDamage";
 
@@ -36,6 +38,7 @@ public class TouchAttackComponent extends TouchComponent {
      */
     public TouchAttackComponent(short targetLayer) {
         super(targetLayer);
+        initialKnockbackForce = 0f;
     }
 
     /**
@@ -47,6 +50,7 @@ public class TouchAttackComponent extends TouchComponent {
     public TouchAttackComponent(short targetLayer, float knockback) {
         super(targetLayer);
         this.knockbackForce = knockback;
+        initialKnockbackForce = knockback;
     }
 
     @Override
@@ -75,6 +79,14 @@ public class TouchAttackComponent extends TouchComponent {
         disable = true;
     }
 
+    @Override
+    public void reuse() {
+        super.reuse();
+        knockbackForce = initialKnockbackForce;
+        start = 0;
+        disable = false;
+    }
+
     /**
      * apply action when the hitbox component collides
      *
@@ -110,7 +122,7 @@ public class TouchAttackComponent extends TouchComponent {
                 knockbackForce = 0;
             }
             Body targetBody = physicsComponent.getBody();
-            Vector2 direction = target.getCenterPosition().sub(entity.getCenterPosition());
+            target.getCenterPosition(direction).sub(entity.getCenterX(), entity.getCenterY());
             Vector2 impulse = direction.setLength(knockbackForce);
             targetBody.applyLinearImpulse(impulse, targetBody.getWorldCenter(), true);
         }
@@ -158,7 +170,7 @@ public class TouchAttackComponent extends TouchComponent {
             if (((System.currentTimeMillis() - start) / 1000.0) > 0.5) {
                 targetStats.hit(combatStats);
                 if (entity.getEntityType().equals("viking") || entity.getEntityType().equals("odin")) {
-                    Vector2 direction = target.getCenterPosition().sub(entity.getCenterPosition());
+                    target.getCenterPosition(direction).sub(entity.getCenterX(), entity.getCenterY());
                     if (direction.angleDeg() > 45 && direction.angleDeg() < 135) {
                         entity.getEvents().trigger("attackUp");
                     } else if (direction.angleDeg() > 135 && direction.angleDeg() < 225) {
@@ -178,7 +190,7 @@ public class TouchAttackComponent extends TouchComponent {
         if (physicsComponent != null && (knockbackForce > 0f) || (hitboxComponent.getFixture() != me)) {
             assert physicsComponent != null;
             Body targetBody = physicsComponent.getBody();
-            Vector2 direction = target.getCenterPosition().sub(entity.getCenterPosition());
+            target.getCenterPosition(direction).sub(entity.getCenterX(), entity.getCenterY());
             Vector2 impulse = direction.setLength(0.5f);
             targetBody.applyLinearImpulse(impulse, targetBody.getWorldCenter(), true);
             targetBody.setLinearVelocity(targetBody.getLinearVelocity().clamp(-knockbackForce * 10, knockbackForce * 10));
@@ -52,6 +52,15 @@ abstract class TouchComponent extends Component {
         collidingFixtures.trimToSize();
     }
 
+    /**
+     * Forget collisions from before the entity was recycled
+     */
+    @Override
+    public void reuse() {
+        inCollision = false;
+        collidingFixtures.clear();
+    }
+
     void onCollisionStart(Fixture me, Fixture other) {
         Entity target = ((BodyUserData) other.getBody().getUserData()).entity;
         if (target.getComponent(HitboxComponent.class)
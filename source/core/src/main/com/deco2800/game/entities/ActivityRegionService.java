@@ -0,0 +1,155 @@
+package com.deco2800.game.entities;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectSet;
+import com.deco2800.game.components.ActivityComponent;
+import com.deco2800.game.services.ServiceLocator;
+
+/**
+ * Puts entities to sleep while they are far from a target, usually the player, and wakes them as the
+ * target approaches. Sleeping entities aren't updated and their physics bodies are taken out of the
+ * simulation, so a level full of NPCs only costs as much as the NPCs near the player. Only entities
+ * with an {@link ActivityComponent} are put to sleep.
+ *
+ * <p>Entities wake within the wake radius but only fall asleep beyond the larger sleep radius, so an
+ * entity near the edge doesn't keep waking and sleeping. Both radii should reach past the edge of the
+ * screen.
+ */
+@SuppressWarnings("GDXJavaUnsafeIterator")
+public class ActivityRegionService {
+    public static final float DEFAULT_WAKE_RADIUS = 18f;
+    public static final float DEFAULT_SLEEP_RADIUS = 22f;
+
+    private final float wakeRadius;
+    private final float sleepRadius;
+    private final Array<ActivityComponent> awake = new Array<>(false, 64);
+    private final ObjectSet<ActivityComponent> asleep = new ObjectSet<>();
+    private final Array<Entity> nearby = new Array<>(false, 64);
+    private Entity target;
+
+    public ActivityRegionService() {
+        this(DEFAULT_WAKE_RADIUS, DEFAULT_SLEEP_RADIUS);
+    }
+
+    /**
+     * @param wakeRadius  sleeping entities within this distance of the target wake up
+     * @param sleepRadius awake entities further than this from the target fall asleep. Must be larger
+     *                    than the wake radius.
+     */
+    public ActivityRegionService(float wakeRadius, float sleepRadius) {
+        if (sleepRadius <= wakeRadius) {
+            throw new IllegalArgumentException("Sleep radius must be larger than wake radius");
+        }
+        this.wakeRadius = wakeRadius;
+        this.sleepRadius = sleepRadius;
+    }
+
+    /**
+     * Set the entity to keep the region around. Without a target, nothing falls asleep or wakes.
+     *
+     * @param target entity to keep the region around, usually the player
+     */
+    public void setTarget(Entity target) {
+        this.target = target;
+    }
+
+    public Entity getTarget() {
+        return target;
+    }
+
+    /**
+     * Start managing an entity. Called by its activity component when the entity is created. The
+     * entity is awake until the next update.
+     *
+     * @param component activity component of the entity
+     */
+    public void add(ActivityComponent component) {
+        awake.add(component);
+    }
+
+    /**
+     * Stop managing an entity. Called by its activity component when the entity is disposed or
+     * recycled. The entity is left as it is, even if asleep.
+     *
+     * @param component activity component of the entity
+     */
+    public void remove(ActivityComponent component) {
+        if (!asleep.remove(component)) {
+            awake.removeValue(component, true);
+        }
+    }
+
+    /**
+     * Put far away entities to sleep and wake nearby ones. Call once per frame, before physics is
+     * stepped.
+     */
+    public void update() {
+        if (target == null) {
+            return;
+        }
+        float x = target.getCenterX();
+        float y = target.getCenterY();
+
+        float sleepRadiusSquared = sleepRadius * sleepRadius;
+        // Backwards, since removing swaps the last entity into the gap
+        for (int i = awake.size - 1; i >= 0; i--) {
+            ActivityComponent component = awake.get(i);
+            if (distanceSquared(component.getEntity(), x, y) > sleepRadiusSquared) {
+                awake.removeIndex(i);
+                asleep.add(component);
+                component.sleep();
+            }
+        }
+
+        if (asleep.size == 0) {
+            return;
+        }
+        SpatialIndexService spatialIndex = ServiceLocator.getSpatialIndexService();
+        if (spatialIndex != null) {
+            // Only look near the target, rather than at every sleeping entity
+            spatialIndex.findInRadius(x, y, wakeRadius, nearby);
+            for (int i = 0; i < nearby.size; i++) {
+                ActivityComponent component = nearby.get(i).getComponent(ActivityComponent.class);
+                if (component != null && asleep.remove(component)) {
+                    wake(component);
+                }
+            }
+            nearby.clear();
+        } else {
+            float wakeRadiusSquared = wakeRadius * wakeRadius;
+            ObjectSet.ObjectSetIterator<ActivityComponent> iterator = asleep.iterator();
+            while (iterator.hasNext()) {
+                ActivityComponent component = iterator.next();
+                if (distanceSquared(component.getEntity(), x, y) <= wakeRadiusSquared) {
+                    iterator.remove();
+                    wake(component);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return number of managed entities which are awake
+     */
+    public int getAwakeCount() {
+        return awake.size;
+    }
+
+    /**
+     * @return number of managed entities which are asleep
+     */
+    public int getAsleepCount() {
+        return asleep.size;
+    }
+
+    private void wake(ActivityComponent component) {
+        awake.add(component);
+        component.wake();
+    }
+
+    private static float distanceSquared(Entity entity, float x, float y) {
+        float dx = entity.getCenterX() - x;
+        float dy = entity.getCenterY() - y;
+        return dx * dx + dy * dy;
+    }
+}
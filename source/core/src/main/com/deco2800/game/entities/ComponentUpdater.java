@@ -0,0 +1,195 @@
+package com.deco2800.game.entities;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.deco2800.game.components.Component;
+import com.deco2800.game.components.ComponentType;
+
+/**
+ * Updates components type by type rather than entity by entity. Components are kept in a dense
+ * array per component type, and only types which override earlyUpdate() or update() are kept, so the
+ * many components which don't update are never visited. Running one type at a time also keeps the
+ * same update code hot for the whole array.
+ *
+ * <p>Every component's early update runs before any component's update. Components of disabled
+ * entities are skipped, as they would be by {@link Entity#update()}.
+ *
+ * <p>Removed entities are only marked as removed, and their components dropped from the arrays
+ * before the next update, so entities can be removed cheaply while components are updating.
+ */
+class ComponentUpdater {
+    private final Array<Array<Component>> earlyUpdates = new Array<>();
+    private final Array<Array<Component>> updates = new Array<>();
+    // IDs of the component types in each array, in ascending order
+    private final IntArray earlyUpdateTypes = new IntArray();
+    private final IntArray updateTypes = new IntArray();
+    private final Array<Entity> removed = new Array<>(false, 16);
+
+    /**
+     * Start updating an entity's components. The entity must have been created.
+     *
+     * @param entity created entity
+     */
+    void add(Entity entity) {
+        if (entity.componentUpdater == this) {
+            return;
+        }
+        entity.componentUpdater = this;
+        if (entity.awaitingComponentRemoval) {
+            // Removed and added again before its components were dropped, so they're still here
+            entity.awaitingComponentRemoval = false;
+            return;
+        }
+        Array<Component> components = entity.getCreatedComponents();
+        if (components == null) {
+            return;
+        }
+        for (int i = 0; i < components.size; i++) {
+            Component component = components.get(i);
+            ComponentType type = ComponentType.getFrom(component.getClass());
+            if (type.hasEarlyUpdate()) {
+                getOrCreate(earlyUpdates, earlyUpdateTypes, type.getId()).add(component);
+            }
+            if (type.hasUpdate()) {
+                getOrCreate(updates, updateTypes, type.getId()).add(component);
+            }
+        }
+    }
+
+    /**
+     * Stop updating an entity's components
+     *
+     * @param entity entity to remove
+     */
+    void remove(Entity entity) {
+        if (entity.componentUpdater != this) {
+            return;
+        }
+        entity.componentUpdater = null;
+        if (!entity.awaitingComponentRemoval) {
+            entity.awaitingComponentRemoval = true;
+            removed.add(entity);
+        }
+    }
+
+    /**
+     * Early update then update every component. Components of entities added while updating are
+     * updated if their type hasn't been reached yet.
+     */
+    void update() {
+        dropRemoved();
+        for (int t = 0; t < earlyUpdateTypes.size; t++) {
+            Array<Component> components = earlyUpdates.get(earlyUpdateTypes.get(t));
+            for (int i = 0; i < components.size; i++) {
+                Component component = components.get(i);
+                if (isUpdating(component.getEntity())) {
+                    component.triggerEarlyUpdate();
+                }
+            }
+        }
+        for (int t = 0; t < updateTypes.size; t++) {
+            Array<Component> components = updates.get(updateTypes.get(t));
+            for (int i = 0; i < components.size; i++) {
+                Component component = components.get(i);
+                if (isUpdating(component.getEntity())) {
+                    component.triggerUpdate();
+                }
+            }
+        }
+    }
+
+    /**
+     * @return number of components which are updated or early updated, including those of removed
+     * entities which haven't been dropped yet
+     */
+    int size() {
+        int size = 0;
+        for (int t = 0; t < earlyUpdateTypes.size; t++) {
+            size += earlyUpdates.get(earlyUpdateTypes.get(t)).size;
+        }
+        for (int t = 0; t < updateTypes.size; t++) {
+            size += updates.get(updateTypes.get(t)).size;
+        }
+        return size;
+    }
+
+    /**
+     * Stop updating every component
+     */
+    void clear() {
+        for (int t = 0; t < earlyUpdateTypes.size; t++) {
+            clearEntities(earlyUpdates.get(earlyUpdateTypes.get(t)));
+        }
+        for (int t = 0; t < updateTypes.size; t++) {
+            clearEntities(updates.get(updateTypes.get(t)));
+        }
+        for (int i = 0; i < removed.size; i++) {
+            removed.get(i).awaitingComponentRemoval = false;
+        }
+        removed.clear();
+        earlyUpdates.clear();
+        updates.clear();
+        earlyUpdateTypes.clear();
+        updateTypes.clear();
+    }
+
+    private void clearEntities(Array<Component> components) {
+        for (int i = 0; i < components.size; i++) {
+            Entity entity = components.get(i).getEntity();
+            if (entity.componentUpdater == this) {
+                entity.componentUpdater = null;
+            }
+        }
+    }
+
+    private boolean isUpdating(Entity entity) {
+        return entity.componentUpdater == this && entity.isEnabled();
+    }
+
+    /**
+     * Drop the components of removed entities from the arrays, keeping the other components in order
+     */
+    private void dropRemoved() {
+        if (removed.isEmpty()) {
+            return;
+        }
+        for (int i = 0; i < removed.size; i++) {
+            removed.get(i).awaitingComponentRemoval = false;
+        }
+        removed.clear();
+        dropRemoved(earlyUpdates, earlyUpdateTypes);
+        dropRemoved(updates, updateTypes);
+    }
+
+    private void dropRemoved(Array<Array<Component>> byType, IntArray types) {
+        for (int t = 0; t < types.size; t++) {
+            Array<Component> components = byType.get(types.get(t));
+            Component[] items = components.items;
+            int kept = 0;
+            for (int i = 0; i < components.size; i++) {
+                if (items[i].getEntity().componentUpdater == this) {
+                    items[kept++] = items[i];
+                }
+            }
+            components.truncate(kept);
+        }
+    }
+
+    private static Array<Component> getOrCreate(Array<Array<Component>> byType, IntArray types, int typeId) {
+        if (typeId >= byType.size) {
+            byType.setSize(typeId + 1);
+        }
+        Array<Component> components = byType.get(typeId);
+        if (components == null) {
+            components = new Array<>(true, 16, Component.class);
+            byType.set(typeId, components);
+            // Keep the types in ascending order
+            int index = 0;
+            while (index < types.size && types.get(index) < typeId) {
+                index++;
+            }
+            types.insert(index, typeId);
+        }
+        return components;
+    }
+}
@@ -1,16 +1,14 @@
 package com.deco2800.game.entities;
 
-import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.IntMap;
 import com.deco2800.game.components.Component;
 import com.deco2800.game.components.ComponentType;
 import com.deco2800.game.events.EventHandler;
-import com.deco2800.game.physics.PhysicsEngine;
-import com.deco2800.game.physics.PhysicsLayer;
-import com.deco2800.game.physics.raycast.RaycastHit;
-import com.deco2800.game.rendering.DebugRenderer;
+import com.deco2800.game.events.EventKey;
+import com.deco2800.game.events.EventQueue;
+import com.deco2800.game.physics.VisibilityService;
 import com.deco2800.game.services.ServiceLocator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,7 +33,7 @@ import java.util.TreeMap;
 @SuppressWarnings("GDXJavaUnsafeIterator")
 public class Entity {
     private static final Logger logger = LoggerFactory.getLogger(Entity.class);
-    private static final String EVT_NAME_POS = "setPosition";
+    private static final EventKey EVT_NAME_POS = EventKey.of("setPosition");
     private static int nextId = 0;
     private final int id;
     private final IntMap<Component> components;
@@ -43,6 +41,10 @@ public class Entity {
     private boolean enabled = true;
     private boolean created = false;
     private Vector2 position = Vector2.Zero.cpy();
+    // Where the entity is drawn, if set since it last moved
+    private float renderX;
+    private float renderY;
+    private boolean hasRenderPosition = false;
     private Vector2 scale = new Vector2(1, 1);
     private Array<Component> createdComponents;
     private boolean disposeYourself = false;
@@ -53,6 +55,27 @@ public class Entity {
     public TreeMap<String, Object> data = new TreeMap<>();
     private boolean teleport = false;
     private Vector2 teleportLoc;
+    /**
+     * Spatial index the entity is in and its cell there, maintained by {@link SpatialIndexService}
+     */
+    SpatialIndexService spatialIndex;
+    int spatialCell;
+    /**
+     * Updater the entity's components are in, maintained by {@link ComponentUpdater}
+     */
+    ComponentUpdater componentUpdater;
+    boolean awaitingComponentRemoval;
+    /**
+     * Service the entity is registered in and its index there, maintained by {@link EntityService}
+     */
+    EntityService entityService;
+    int entityServiceIndex;
+    boolean awaitingEntityRemoval;
+    /**
+     * Pool the entity is recycled into rather than disposed, maintained by {@link EntityPool}
+     */
+    EntityPool pool;
+    boolean recycled;
 
     public Entity() {
         id = nextId;
@@ -79,6 +102,13 @@ public class Entity {
         this.entityType = entityType;
     }
 
+    /**
+     * @return true if the entity's components are updated, false if disabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
     /**
      * Enable or disable an entity. Disabled entities do not run update() or earlyUpdate() on their
      * components, but can still be disposed.
@@ -99,6 +129,30 @@ public class Entity {
         return position.cpy(); // Cpy gives us pass-by-value to prevent bugs
     }
 
+    /**
+     * Get the entity's game position without allocating. Prefer this in code which runs every frame.
+     *
+     * @param out vector to set to the position
+     * @return out
+     */
+    public Vector2 getPosition(Vector2 out) {
+        return out.set(position);
+    }
+
+    /**
+     * @return x position of the entity
+     */
+    public float getX() {
+        return position.x;
+    }
+
+    /**
+     * @return y position of the entity
+     */
+    public float getY() {
+        return position.y;
+    }
+
     /**
      * Set the entity's game position.
      *
@@ -106,6 +160,8 @@ public class Entity {
      */
     public void setPosition(Vector2 position) {
         this.position = position.cpy();
+        hasRenderPosition = false;
+        updateSpatialIndex();
         getEvents().trigger(EVT_NAME_POS, position.cpy());
     }
 
@@ -118,6 +174,8 @@ public class Entity {
     public void setPosition(float x, float y) {
         this.position.x = x;
         this.position.y = y;
+        hasRenderPosition = false;
+        updateSpatialIndex();
         getEvents().trigger(EVT_NAME_POS, position.cpy());
     }
 
@@ -129,11 +187,60 @@ public class Entity {
      */
     public void setPosition(Vector2 position, boolean notify) {
         this.position = position;
+        hasRenderPosition = false;
+        updateSpatialIndex();
         if (notify) {
             getEvents().trigger(EVT_NAME_POS, position);
         }
     }
 
+    /**
+     * Set where the entity is drawn, without moving it, e.g. between physics steps. The entity is
+     * drawn at its game position again once it next moves.
+     *
+     * @param x x position to draw the entity at
+     * @param y y position to draw the entity at
+     */
+    public void setRenderPosition(float x, float y) {
+        renderX = x;
+        renderY = y;
+        hasRenderPosition = true;
+    }
+
+    /**
+     * @return x position to draw the entity at. Only use for drawing, gameplay uses {@link #getX()}.
+     */
+    public float getRenderX() {
+        return hasRenderPosition ? renderX : position.x;
+    }
+
+    /**
+     * @return y position to draw the entity at. Only use for drawing, gameplay uses {@link #getY()}.
+     */
+    public float getRenderY() {
+        return hasRenderPosition ? renderY : position.y;
+    }
+
+    /**
+     * @return x position to draw the entity's center at
+     */
+    public float getRenderCenterX() {
+        return getRenderX() + scale.x * 0.5f;
+    }
+
+    /**
+     * @return y position to draw the entity's center at
+     */
+    public float getRenderCenterY() {
+        return getRenderY() + scale.y * 0.5f;
+    }
+
+    private void updateSpatialIndex() {
+        if (spatialIndex != null) {
+            spatialIndex.update(this);
+        }
+    }
+
     /**
      * Get the entity's scale. Used for rendering and physics bounding box calculations.
      *
@@ -143,6 +250,30 @@ public class Entity {
         return scale.cpy(); // Cpy gives us pass-by-value to prevent bugs
     }
 
+    /**
+     * Get the entity's scale without allocating.
+     *
+     * @param out vector to set to the scale
+     * @return out
+     */
+    public Vector2 getScale(Vector2 out) {
+        return out.set(scale);
+    }
+
+    /**
+     * @return width of the entity in metres
+     */
+    public float getScaleX() {
+        return scale.x;
+    }
+
+    /**
+     * @return height of the entity in metres
+     */
+    public float getScaleY() {
+        return scale.y;
+    }
+
     /**
      * Set the entity's scale.
      *
@@ -200,7 +331,31 @@ public class Entity {
      * @return center position
      */
     public Vector2 getCenterPosition() {
-        return getPosition().mulAdd(getScale(), 0.5f);
+        return getCenterPosition(new Vector2());
+    }
+
+    /**
+     * Get the entity's center position without allocating.
+     *
+     * @param out vector to set to the center position
+     * @return out
+     */
+    public Vector2 getCenterPosition(Vector2 out) {
+        return out.set(getCenterX(), getCenterY());
+    }
+
+    /**
+     * @return x position of the entity's center
+     */
+    public float getCenterX() {
+        return position.x + scale.x * 0.5f;
+    }
+
+    /**
+     * @return y position of the entity's center
+     */
+    public float getCenterY() {
+        return position.y + scale.y * 0.5f;
     }
 
     /**
@@ -252,21 +407,67 @@ public class Entity {
         }
         if (data.containsKey("fireBalls")) {
             for (Entity fireBall : (Entity[]) data.get("fireBalls")) {
-                if (fireBall != null) {
+                // Fireballs which are gone may already be disposed or waiting in a pool
+                if (ServiceLocator.getEntityService().isRegistered(fireBall)) {
                     fireBall.dispose();
                 }
             }
         }
         ServiceLocator.getEntityService().unregister(this);
+        cancelQueuedEvents();
+    }
+
+    /**
+     * Stop the entity so it can wait in its pool to be reused, instead of disposing it. Called by
+     * {@link EntityPool}.
+     */
+    void recycle() {
+        for (Component component : createdComponents) {
+            component.recycle();
+        }
+        if (entityService != null) {
+            entityService.unregister(this);
+        }
+        cancelQueuedEvents();
+        // Spawning positions entities relative to where they are, so start from the origin as new
+        // entities do
+        position = Vector2.Zero.cpy();
+        hasRenderPosition = false;
+        data.clear();
+        disposeYourself = false;
+        teleport = false;
+        recycled = true;
+    }
+
+    private void cancelQueuedEvents() {
+        EventQueue eventQueue = ServiceLocator.getEventQueue();
+        if (eventQueue != null) {
+            eventQueue.cancel(eventHandler);
+        }
     }
 
 
+    /**
+     * @return components created with the entity, or null if the entity hasn't been created yet
+     */
+    Array<Component> getCreatedComponents() {
+        return createdComponents;
+    }
+
     /**
      * Create the entity and start running. This is called when the entity is registered in the world,
      * and should not be called manually.
      */
     public void create() {
         if (created) {
+            if (recycled) {
+                // Obtained from a pool and registered again
+                recycled = false;
+                for (Component component : createdComponents) {
+                    component.reuse();
+                }
+                return;
+            }
             logger.error(
                     "{} was created twice. Entity should only be registered with the entity service once.",
                     this);
@@ -303,10 +504,20 @@ public class Entity {
         for (Component component : createdComponents) {
             component.triggerUpdate();
         }
+        finishUpdate();
+    }
+
+    /**
+     * Dispose or teleport the entity once its components have updated. This is called after update(),
+     * or by the entity service once every component has updated when updating components by type.
+     */
+    protected void finishUpdate() {
         if (disposeYourself) {
             //note:add a death animation then dispose
             //remove attack abilities and related components first
-            dispose();
+            if (pool == null || !pool.free(this)) {
+                dispose();
+            }
             return;
         }
         if (teleport) {
@@ -328,33 +539,19 @@ public class Entity {
     }
 
     /**
-     * Check if there are any object between the entity and the target entity
+     * Check if there are any object between the entity and the target entity. In the main game, the
+     * answer may be a few physics steps old, see {@link VisibilityService}.
      *
      * @param target the player Entity that other NPC entities will attempt to track
      * @return true if no object, false otherwise
      */
     public boolean canSeeEntity(Entity target) {
-        PhysicsEngine physics = ServiceLocator.getPhysicsService().getPhysics();
-        DebugRenderer debugRenderer = ServiceLocator.getRenderService().getDebug();
-        RaycastHit hit = new RaycastHit();
-        Vector2 from = getCenterPosition();
-        Vector2 to = target.getCenterPosition();
-
-        // If there is an obstacle in the path to the player, not visible.
-        if (physics.raycast(from, to, PhysicsLayer.OBSTACLE, hit)) {
-            debugRenderer.drawLine(from, hit.point, Color.RED, 1);
-            return false;
+        VisibilityService visibility = ServiceLocator.getVisibilityService();
+        if (visibility == null) {
+            // Outside of the main game, raycast every time
+            visibility = ServiceLocator.getPhysicsService().getUncachedVisibility();
         }
-        Vector2 from2 = getPosition();
-
-        // If there is an obstacle in the path to the player, not visible.
-        if (physics.raycast(from2, target.getPosition(), PhysicsLayer.OBSTACLE, hit)) {
-            debugRenderer.drawLine(from2, hit.point, Color.RED, 1);
-            return false;
-        }
-
-        debugRenderer.drawLine(from, to, Color.BLUE, 1);
-        return true;
+        return visibility.canSee(this, target);
     }
 
     /**
@@ -0,0 +1,102 @@
+package com.deco2800.game.entities;
+
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Recycles entities of one kind, such as projectiles, so they aren't rebuilt for every use. A managed
+ * entity which calls {@link Entity#prepareDispose()} is returned to the pool instead of being
+ * disposed: its components' {@link com.deco2800.game.components.Component#recycle()} is called, it
+ * is unregistered, and its physics body is kept but deactivated. Registering an obtained entity
+ * again calls {@link com.deco2800.game.components.Component#reuse()} rather than create().
+ *
+ * <p>Example use:
+ *
+ * <pre>
+ * Entity arrow = pool.obtain();
+ * if (arrow == null) {
+ *   arrow = pool.manage(createArrow());
+ * }
+ * // Set up this use of the arrow, then register it
+ * </pre>
+ *
+ * <p>Pools are owned by the {@link EntityService}, which disposes the entities left in them.
+ */
+public class EntityPool {
+    public static final int DEFAULT_CAPACITY = 64;
+
+    private final Array<Entity> free;
+    private final int capacity;
+
+    /**
+     * @param capacity most entities to keep for reuse. Entities finished with while the pool is full
+     *                 are disposed.
+     */
+    public EntityPool(int capacity) {
+        this.capacity = capacity;
+        free = new Array<>(false, Math.min(capacity, 16), Entity.class);
+    }
+
+    /**
+     * Take a recycled entity from the pool. Set it up for its next use before registering it.
+     *
+     * @return recycled entity, or null if the pool is empty
+     */
+    public Entity obtain() {
+        if (free.isEmpty()) {
+            return null;
+        }
+        return free.pop();
+    }
+
+    /**
+     * Return an entity to this pool once it's finished with, instead of disposing it.
+     *
+     * @param entity new entity whose components all support being recycled
+     * @return entity
+     */
+    public Entity manage(Entity entity) {
+        entity.pool = this;
+        return entity;
+    }
+
+    /**
+     * @return number of recycled entities waiting to be reused
+     */
+    public int getFreeCount() {
+        return free.size;
+    }
+
+    /**
+     * @return most entities kept for reuse
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Recycle a finished entity, unless the pool is full
+     *
+     * @param entity managed entity
+     * @return true if recycled, false if the entity should be disposed instead
+     */
+    boolean free(Entity entity) {
+        if (free.size >= capacity) {
+            return false;
+        }
+        entity.recycle();
+        free.add(entity);
+        return true;
+    }
+
+    /**
+     * Dispose every entity waiting to be reused
+     */
+    void dispose() {
+        for (int i = 0; i < free.size; i++) {
+            Entity entity = free.get(i);
+            entity.pool = null;
+            entity.dispose();
+        }
+        free.clear();
+    }
+}
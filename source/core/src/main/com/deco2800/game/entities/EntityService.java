@@ -1,6 +1,8 @@
 package com.deco2800.game.entities;
 
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.deco2800.game.services.ServiceLocator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -8,6 +10,10 @@ import org.slf4j.LoggerFactory;
  * Provides a global access point for entities to register themselves. This allows for iterating
  * over entities to perform updates each loop. All game entities should be registered here.
  * <p>
+ * Each entity stores its index in the service, so entities can be removed and checked for in
+ * constant time. Entities unregistered while the service is updating stop being updated straight
+ * away, but stay in place until the update finishes so that no other entity is skipped.
+ * <p>
  * Avoid adding additional state here! Global access is often the easy but incorrect answer to
  * sharing data.
  */
@@ -20,6 +26,19 @@ public class EntityService {
      * Stores a UI entity so the UI can be updated from other locations.
      */
     private Entity ui;
+    /**
+     * Updates components by type, or null to update entity by entity
+     */
+    private ComponentUpdater componentUpdater;
+    /**
+     * Entities unregistered while iterating, to be removed once iteration finishes
+     */
+    private final Array<Entity> pendingRemoval = new Array<>(false, INITIAL_CAPACITY);
+    private int iterating = 0;
+    /**
+     * Pools of recycled entities by name. Their entities are disposed with the service.
+     */
+    private final ObjectMap<String, EntityPool> pools = new ObjectMap<>();
 
     /**
      * Register a new entity with the entity service. The entity will be created and start updating.
@@ -28,8 +47,30 @@ public class EntityService {
      */
     public void register(Entity entity) {
         logger.debug("Registering {} in entity service", entity);
-        entities.add(entity);
+        if (entity.entityService == this) {
+            logger.error("{} is already registered in the entity service", entity);
+            return;
+        }
+        if (entity.entityService != null) {
+            entity.entityService.unregister(entity);
+        }
+        entity.entityService = this;
+        if (entity.awaitingEntityRemoval && entity.entityServiceIndex < entities.size
+                && entities.get(entity.entityServiceIndex) == entity) {
+            // Unregistered and registered again during an update, so still in place
+            entity.awaitingEntityRemoval = false;
+        } else {
+            entity.entityServiceIndex = entities.size;
+            entities.add(entity);
+        }
         entity.create();
+        if (componentUpdater != null) {
+            componentUpdater.add(entity);
+        }
+        SpatialIndexService spatialIndex = ServiceLocator.getSpatialIndexService();
+        if (spatialIndex != null) {
+            spatialIndex.add(entity);
+        }
     }
 
     /**
@@ -58,29 +99,179 @@ public class EntityService {
      */
     public void unregister(Entity entity) {
         logger.debug("Unregistering {} in entity service", entity);
-        entities.removeValue(entity, true);
+        if (entity.entityService != this) {
+            return;
+        }
+        entity.entityService = null;
+        if (iterating > 0) {
+            entity.awaitingEntityRemoval = true;
+            pendingRemoval.add(entity);
+        } else {
+            removeAt(entity.entityServiceIndex);
+        }
+        if (componentUpdater != null) {
+            componentUpdater.remove(entity);
+        }
+        SpatialIndexService spatialIndex = ServiceLocator.getSpatialIndexService();
+        if (spatialIndex != null) {
+            spatialIndex.remove(entity);
+        }
     }
 
     /**
      * Update all registered entities. Should only be called from the main game loop.
      */
     public void update() {
-        for (Entity entity : entities) {
-            entity.earlyUpdate();
-            entity.update();
+        iterating++;
+        try {
+            if (componentUpdater != null) {
+                componentUpdater.update();
+                for (int i = 0; i < entities.size; i++) {
+                    Entity entity = entities.get(i);
+                    if (entity.entityService == this && entity.isEnabled()) {
+                        entity.finishUpdate();
+                    }
+                }
+            } else {
+                for (int i = 0; i < entities.size; i++) {
+                    Entity entity = entities.get(i);
+                    if (entity.entityService == this) {
+                        entity.earlyUpdate();
+                        entity.update();
+                    }
+                }
+            }
+        } finally {
+            finishIterating();
+        }
+    }
+
+    /**
+     * Choose how components are updated. By default each entity's components are updated together,
+     * entity by entity. When updating by type, every component of one type is updated before moving
+     * on to the next type, and components which don't override update() or earlyUpdate() are skipped
+     * entirely. Every early update then runs before any update.
+     *
+     * @param byType true to update components by type, false to update entity by entity
+     */
+    public void setUpdateByComponentType(boolean byType) {
+        if (byType == (componentUpdater != null)) {
+            return;
+        }
+        if (byType) {
+            componentUpdater = new ComponentUpdater();
+            for (Entity entity : entities) {
+                componentUpdater.add(entity);
+            }
+        } else {
+            componentUpdater.clear();
+            componentUpdater = null;
+        }
+    }
+
+    /**
+     * Get the pool recycling a kind of entity, creating it if needed.
+     *
+     * @param name name of the kind of entity, e.g. its entity type
+     * @return pool of recycled entities
+     */
+    public EntityPool getPool(String name) {
+        EntityPool pool = pools.get(name);
+        if (pool == null) {
+            pool = new EntityPool(EntityPool.DEFAULT_CAPACITY);
+            pools.put(name, pool);
         }
+        return pool;
     }
 
     /**
-     * Dispose all entities.
+     * Dispose all entities, including those waiting in pools.
      */
     public void dispose() {
-        for (Entity entity : entities) {
-            entity.dispose();
+        iterating++;
+        try {
+            for (int i = 0; i < entities.size; i++) {
+                Entity entity = entities.get(i);
+                if (entity.entityService == this) {
+                    entity.dispose();
+                }
+            }
+        } finally {
+            finishIterating();
+        }
+        for (EntityPool pool : pools.values()) {
+            pool.dispose();
         }
+        pools.clear();
+    }
+
+    /**
+     * Check whether an entity is registered, in constant time.
+     *
+     * @param entity entity to check. May be null.
+     * @return true if the entity is registered and updating, false otherwise
+     */
+    public boolean isRegistered(Entity entity) {
+        return entity != null && entity.entityService == this;
+    }
+
+    /**
+     * @return number of entities, for iterating with {@link #getEntity(int)}. While the service is
+     * updating this includes entities unregistered during the update.
+     */
+    public int getEntityCount() {
+        return entities.size;
+    }
+
+    /**
+     * Get an entity by index without copying the entities. While the service is updating, entities
+     * unregistered during the update are still returned, so check {@link #isRegistered(Entity)}.
+     *
+     * @param index index from 0 to {@link #getEntityCount()}
+     * @return entity at the index
+     */
+    public Entity getEntity(int index) {
+        return entities.get(index);
     }
 
+    /**
+     * @return copy of the registered entities. Prefer {@link #getEntity(int)} or
+     * {@link #isRegistered(Entity)} in code which runs every frame.
+     */
     public Array<Entity> getEntities() {
-        return new Array<>(entities);
+        Array<Entity> copy = new Array<>(entities.size);
+        for (int i = 0; i < entities.size; i++) {
+            Entity entity = entities.get(i);
+            if (entity.entityService == this) {
+                copy.add(entity);
+            }
+        }
+        return copy;
+    }
+
+    private void finishIterating() {
+        iterating--;
+        if (iterating > 0) {
+            return;
+        }
+        for (int i = 0; i < pendingRemoval.size; i++) {
+            Entity entity = pendingRemoval.get(i);
+            if (entity.awaitingEntityRemoval) {
+                entity.awaitingEntityRemoval = false;
+                removeAt(entity.entityServiceIndex);
+            }
+        }
+        pendingRemoval.clear();
+    }
+
+    /**
+     * Remove the entity at an index by moving the last entity into its place
+     */
+    private void removeAt(int index) {
+        Entity last = entities.pop();
+        if (index < entities.size) {
+            entities.set(index, last);
+            last.entityServiceIndex = index;
+        }
     }
 }
@@ -51,8 +51,8 @@ public class LineEntity extends Entity {
     }
 
     @Override
-    public void update() {
-        super.update();
+    protected void finishUpdate() {
+        super.finishUpdate();
         if (TimeUnit.NANOSECONDS.toMillis(System.nanoTime()) - timeCreated >= ttl) {
             this.prepareDispose();
         }
@@ -0,0 +1,282 @@
+package com.deco2800.game.entities;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntMap;
+
+import java.util.function.Predicate;
+
+/**
+ * Indexes registered entities in a uniform grid so that entities near a point can be found without
+ * checking every entity. Entities are indexed by their centre, and moved between cells whenever their
+ * position is set, including by physics.
+ *
+ * <p>Queries add their results to an array supplied by the caller and don't allocate, so they can be
+ * run every frame. Results are only as current as the entity positions, i.e. as of the last physics
+ * step.
+ */
+@SuppressWarnings("GDXJavaUnsafeIterator")
+public class SpatialIndexService {
+    public static final float DEFAULT_CELL_SIZE = 2f;
+    private static final int INITIAL_CELL_CAPACITY = 4;
+
+    private final float cellSize;
+    private final IntMap<Array<Entity>> cells = new IntMap<>();
+    private final FloatArray nearestDistances = new FloatArray();
+    private int size = 0;
+
+    public SpatialIndexService() {
+        this(DEFAULT_CELL_SIZE);
+    }
+
+    /**
+     * @param cellSize width and height of each grid cell in metres. Queries are quickest when this is
+     *                 close to the typical query radius.
+     */
+    public SpatialIndexService(float cellSize) {
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * Start indexing an entity. Called by the entity service when the entity is registered.
+     *
+     * @param entity entity to index
+     */
+    public void add(Entity entity) {
+        if (entity.spatialIndex != null) {
+            entity.spatialIndex.remove(entity);
+        }
+        int cell = getCell(entity.getCenterX(), entity.getCenterY());
+        getOrCreateCell(cell).add(entity);
+        entity.spatialIndex = this;
+        entity.spatialCell = cell;
+        size++;
+    }
+
+    /**
+     * Stop indexing an entity. Called by the entity service when the entity is unregistered.
+     *
+     * @param entity entity to remove
+     */
+    public void remove(Entity entity) {
+        if (entity.spatialIndex != this) {
+            return;
+        }
+        Array<Entity> cell = cells.get(entity.spatialCell);
+        if (cell != null) {
+            cell.removeValue(entity, true);
+        }
+        entity.spatialIndex = null;
+        size--;
+    }
+
+    /**
+     * Move an entity to the cell of its current position. Called when the entity's position is set.
+     *
+     * @param entity indexed entity
+     */
+    void update(Entity entity) {
+        int cell = getCell(entity.getCenterX(), entity.getCenterY());
+        if (cell == entity.spatialCell) {
+            return;
+        }
+        Array<Entity> oldCell = cells.get(entity.spatialCell);
+        if (oldCell != null) {
+            oldCell.removeValue(entity, true);
+        }
+        getOrCreateCell(cell).add(entity);
+        entity.spatialCell = cell;
+    }
+
+    /**
+     * Find every entity whose centre is within a radius of a point.
+     *
+     * @param x      x position of the point
+     * @param y      y position of the point
+     * @param radius radius in metres
+     * @param out    array to add the entities to. It isn't cleared first.
+     * @return number of entities found
+     */
+    public int findInRadius(float x, float y, float radius, Array<Entity> out) {
+        float radiusSquared = radius * radius;
+        int found = 0;
+        int minCellX = toCell(x - radius);
+        int maxCellX = toCell(x + radius);
+        int minCellY = toCell(y - radius);
+        int maxCellY = toCell(y + radius);
+        for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+            for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+                Array<Entity> cell = cells.get(key(cellX, cellY));
+                if (cell == null) {
+                    continue;
+                }
+                for (int i = 0; i < cell.size; i++) {
+                    Entity entity = cell.get(i);
+                    if (distanceSquared(entity, x, y) <= radiusSquared) {
+                        out.add(entity);
+                        found++;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Find every entity whose centre is inside an axis-aligned box.
+     *
+     * @param minX left edge of the box
+     * @param minY bottom edge of the box
+     * @param maxX right edge of the box
+     * @param maxY top edge of the box
+     * @param out  array to add the entities to. It isn't cleared first.
+     * @return number of entities found
+     */
+    public int findInArea(float minX, float minY, float maxX, float maxY, Array<Entity> out) {
+        int found = 0;
+        int minCellX = toCell(minX);
+        int maxCellX = toCell(maxX);
+        int minCellY = toCell(minY);
+        int maxCellY = toCell(maxY);
+        for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+            for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+                Array<Entity> cell = cells.get(key(cellX, cellY));
+                if (cell == null) {
+                    continue;
+                }
+                for (int i = 0; i < cell.size; i++) {
+                    Entity entity = cell.get(i);
+                    float centerX = entity.getCenterX();
+                    float centerY = entity.getCenterY();
+                    if (centerX >= minX && centerX <= maxX && centerY >= minY && centerY <= maxY) {
+                        out.add(entity);
+                        found++;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Find the k entities nearest to a point, searching outwards one ring of cells at a time.
+     *
+     * @param x         x position of the point
+     * @param y         y position of the point
+     * @param k         maximum number of entities to find
+     * @param maxRadius only entities within this radius are found. Keep this small, since every cell
+     *                  within it may be searched.
+     * @param filter    only entities passing the filter are found. Null to accept any entity.
+     * @param out       array to replace with the entities found, nearest first
+     * @return number of entities found
+     */
+    public int findNearest(
+            float x, float y, int k, float maxRadius, Predicate<Entity> filter, Array<Entity> out) {
+        out.clear();
+        nearestDistances.clear();
+        if (k <= 0) {
+            return 0;
+        }
+        float maxRadiusSquared = maxRadius * maxRadius;
+        int centerX = toCell(x);
+        int centerY = toCell(y);
+        int maxRing = MathUtils.ceil(maxRadius / cellSize);
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            for (int cellX = centerX - ring; cellX <= centerX + ring; cellX++) {
+                boolean edgeColumn = cellX == centerX - ring || cellX == centerX + ring;
+                // Only the outline of the ring is new, inner cells were searched by smaller rings
+                int step = edgeColumn ? 1 : Math.max(1, 2 * ring);
+                for (int cellY = centerY - ring; cellY <= centerY + ring; cellY += step) {
+                    addNearest(cells.get(key(cellX, cellY)), x, y, k, maxRadiusSquared, filter, out);
+                }
+            }
+
+            // Anything in a further ring is at least this far away
+            float ringDistance = ring * cellSize;
+            if (out.size == k && nearestDistances.get(k - 1) <= ringDistance * ringDistance) {
+                break;
+            }
+        }
+        return out.size;
+    }
+
+    private void addNearest(Array<Entity> cell, float x, float y, int k, float maxDistanceSquared,
+                            Predicate<Entity> filter, Array<Entity> out) {
+        if (cell == null) {
+            return;
+        }
+        for (int i = 0; i < cell.size; i++) {
+            Entity entity = cell.get(i);
+            float distance = distanceSquared(entity, x, y);
+            if (distance > maxDistanceSquared
+                    || (out.size == k && distance >= nearestDistances.get(k - 1))
+                    || (filter != null && !filter.test(entity))) {
+                continue;
+            }
+            // Insert in order of distance, dropping the furthest if already full
+            int index = out.size == k ? k - 1 : out.size;
+            if (out.size == k) {
+                out.pop();
+                nearestDistances.pop();
+            }
+            while (index > 0 && nearestDistances.get(index - 1) > distance) {
+                index--;
+            }
+            out.insert(index, entity);
+            nearestDistances.insert(index, distance);
+        }
+    }
+
+    /**
+     * @return number of indexed entities
+     */
+    public int size() {
+        return size;
+    }
+
+    public float getCellSize() {
+        return cellSize;
+    }
+
+    /**
+     * Stop indexing every entity
+     */
+    public void clear() {
+        for (Array<Entity> cell : cells.values()) {
+            for (Entity entity : cell) {
+                entity.spatialIndex = null;
+            }
+        }
+        cells.clear();
+        size = 0;
+    }
+
+    private Array<Entity> getOrCreateCell(int cell) {
+        Array<Entity> entities = cells.get(cell);
+        if (entities == null) {
+            entities = new Array<>(false, INITIAL_CELL_CAPACITY);
+            cells.put(cell, entities);
+        }
+        return entities;
+    }
+
+    private int getCell(float x, float y) {
+        return key(toCell(x), toCell(y));
+    }
+
+    private int toCell(float position) {
+        return MathUtils.floor(position / cellSize);
+    }
+
+    private static int key(int cellX, int cellY) {
+        return (cellX << 16) | (cellY & 0xFFFF);
+    }
+
+    private static float distanceSquared(Entity entity, float x, float y) {
+        float dx = entity.getCenterX() - x;
+        float dy = entity.getCenterY() - y;
+        return dx * dx + dy * dy;
+    }
+}
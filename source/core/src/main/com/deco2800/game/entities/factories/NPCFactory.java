@@ -1,11 +1,11 @@
 package com.deco2800.game.entities.factories;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.math.Vector2;
 import com.deco2800.game.ai.tasks.AITaskComponent;
+import com.deco2800.game.components.ActivityComponent;
 import com.deco2800.game.components.BossOverlayComponent;
 import com.deco2800.game.components.CombatStatsComponent;
 import com.deco2800.game.components.HealthBarComponent;
@@ -471,12 +471,12 @@ public class NPCFactory {
         animator.addAnimation("default_right", 1f, Animation.PlayMode.NORMAL);
         animator.addAnimation("default_left", 1f, Animation.PlayMode.NORMAL);
 
-        Sprite healthBar = new Sprite(ServiceLocator.getResourceService().getAsset(
-                "images/enemy_health_bar.png", Texture.class));
-        Sprite healthBarDecrease = new Sprite(ServiceLocator.getResourceService().getAsset(
-                "images/enemy_health_bar_decrease.png", Texture.class));
-        Sprite healthBarFrame = new Sprite(ServiceLocator.getResourceService().getAsset(
-                "images/enemy_health_border.png", Texture.class));
+        Sprite healthBar = new Sprite(ServiceLocator.getResourceService().getRegion(
+                "images/enemy_health_bar.png"));
+        Sprite healthBarDecrease = new Sprite(ServiceLocator.getResourceService().getRegion(
+                "images/enemy_health_bar_decrease.png"));
+        Sprite healthBarFrame = new Sprite(ServiceLocator.getResourceService().getRegion(
+                "images/enemy_health_border.png"));
         HealthBarComponent healthBarComponent = new HealthBarComponent(
                 healthBar, healthBarFrame, healthBarDecrease);
         thor.addComponent(new CombatStatsComponent(ElfBossConfig.HEALTH, ElfBossConfig.BASE_ATTACK))
@@ -878,12 +878,12 @@ public class NPCFactory {
      * @return HealthBarComponent which will be displayed above the entities
      */
     private static HealthBarComponent createHealthBarComponent() {
-        Sprite healthBar = new Sprite(ServiceLocator.getResourceService().getAsset(
-                "images/enemy_health_bar.png", Texture.class));
-        Sprite healthBarDecrease = new Sprite(ServiceLocator.getResourceService().getAsset(
-                "images/enemy_health_bar_decrease.png", Texture.class));
-        Sprite healthBarFrame = new Sprite(ServiceLocator.getResourceService().getAsset(
-                "images/enemy_health_border.png", Texture.class));
+        Sprite healthBar = new Sprite(ServiceLocator.getResourceService().getRegion(
+                "images/enemy_health_bar.png"));
+        Sprite healthBarDecrease = new Sprite(ServiceLocator.getResourceService().getRegion(
+                "images/enemy_health_bar_decrease.png"));
+        Sprite healthBarFrame = new Sprite(ServiceLocator.getResourceService().getRegion(
+                "images/enemy_health_border.png"));
         return new HealthBarComponent(healthBar, healthBarFrame, healthBarDecrease);
     }
 
@@ -899,7 +899,8 @@ public class NPCFactory {
                 .addComponent(new PhysicsMovementComponent())
                 .addComponent(new ColliderComponent())
                 .addComponent(new HitboxComponent().setLayer(PhysicsLayer.NPC))
-                .addComponent(new TouchAttackComponent(PhysicsLayer.PLAYER, 0.5f));
+                .addComponent(new TouchAttackComponent(PhysicsLayer.PLAYER, 0.5f))
+                .addComponent(new ActivityComponent());
 
         PhysicsUtils.setScaledCollider(npc, 0.9f, 0.2f);
         return npc;
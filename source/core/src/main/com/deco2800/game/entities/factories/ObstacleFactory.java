@@ -2,7 +2,9 @@ package com.deco2800.game.entities.factories;
 
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Timer;
 import com.deco2800.game.components.CombatStatsComponent;
 import com.deco2800.game.components.crate.CrateAnimationController;
@@ -17,6 +19,7 @@ import com.deco2800.game.physics.PhysicsUtils;
 import com.deco2800.game.physics.components.ColliderComponent;
 import com.deco2800.game.physics.components.HitboxComponent;
 import com.deco2800.game.physics.components.PhysicsComponent;
+import com.deco2800.game.physics.components.StaticGeometryComponent;
 import com.deco2800.game.rendering.AnimationRenderComponent;
 import com.deco2800.game.rendering.TextureRenderComponent;
 import com.deco2800.game.services.ServiceLocator;
@@ -142,6 +145,22 @@ public class ObstacleFactory {
         return wall;
     }
 
+    /**
+     * Creates a single invisible physics entity holding every wall of a level. Should be spawned at
+     * the world origin.
+     *
+     * @param walls    Wall rectangles in world units
+     * @param tileSize Tile size of the level, which the walls are raycast in a grid of
+     * @return Level geometry entity with one static body
+     */
+    public static Entity createLevelGeometry(Array<Rectangle> walls, float tileSize) {
+        return new Entity()
+                .addComponent(new PhysicsComponent().setBodyType(BodyType.StaticBody))
+                .addComponent(new StaticGeometryComponent(walls)
+                        .setLayer(PhysicsLayer.OBSTACLE)
+                        .setGridCellSize(tileSize));
+    }
+
     /**
      * creates a crate obstacle that can be destroyed and will transform into a health potion
      *
@@ -1,10 +1,10 @@
 package com.deco2800.game.entities.factories;
 
 import com.badlogic.gdx.audio.Sound;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.CircleShape;
@@ -40,6 +40,9 @@ import com.deco2800.game.services.ServiceLocator;
 
 /**
  * Factory to create non-playable character weapon entities with predefined components.
+ *
+ * <p>Weapons are short-lived and must react as soon as they hit something, so their AI evaluates
+ * every frame rather than being scheduled like NPCs.
  */
 public class WeaponFactory {
 
@@ -76,33 +79,19 @@ public class WeaponFactory {
      * @return entity arrow
      */
     public static Entity createNormalArrow(Vector2 targetLoc, float angle) {
-        Entity normalArrow = createBaseArrow();
-        normalArrow.setEntityType(ARROW_TYPE);
-        ProjectileMovementTask movementTask = new ProjectileMovementTask(
-                targetLoc, new Vector2(ArrowConfig.SPEED_X, ArrowConfig.SPEED_Y));
-        AITaskComponent aiComponent =
-                new AITaskComponent()
-                        .addTask(movementTask)
-                        .addTask(new WeaponDisposeTask(targetLoc,
-                                new Vector2(ArrowConfig.SPEED_X, ArrowConfig.SPEED_Y), 0.8f));
-
-        AnimationRenderComponent animator =
-                new AnimationRenderComponent(
-                        ServiceLocator.getResourceService().getAsset(
-                                ARROW_ATLAS, TextureAtlas.class));
-        animator.addAnimation(ARROW_BROKEN, 0.02f, Animation.PlayMode.NORMAL);
-        animator.addAnimation(ARROW_TYPE, 0.02f, Animation.PlayMode.LOOP);
-
-        normalArrow.setScale(new Vector2(1f, 0.3f));
+        Entity normalArrow = obtainProjectile(ARROW_TYPE);
+        if (normalArrow == null) {
+            normalArrow = createPooledArrow(ARROW_TYPE, ARROW_ATLAS, 0.02f,
+                    new CombatStatsComponent(ArrowConfig.HEALTH, ArrowConfig.BASE_ATTACK));
+            normalArrow.setScale(new Vector2(1f, 0.3f));
+        }
+        normalArrow.getComponent(AITaskComponent.class)
+                .addTask(new ProjectileMovementTask(
+                        targetLoc, new Vector2(ArrowConfig.SPEED_X, ArrowConfig.SPEED_Y)))
+                .addTask(new WeaponDisposeTask(targetLoc,
+                        new Vector2(ArrowConfig.SPEED_X, ArrowConfig.SPEED_Y), 0.8f));
         normalArrow.setAngle(angle);
-        animator.startAnimation(ARROW_TYPE);
-
-        normalArrow
-                //.addComponent(new TextureRenderComponent(sprite))
-                .addComponent(new CombatStatsComponent(ArrowConfig.HEALTH, ArrowConfig.BASE_ATTACK))
-                .addComponent(aiComponent)
-                .addComponent(animator)
-                .addComponent(new ProjectileAnimationController());
+        normalArrow.getComponent(AnimationRenderComponent.class).startAnimation(ARROW_TYPE);
 
         shootingSound("normalArrow");
         return normalArrow;
@@ -110,35 +99,21 @@ public class WeaponFactory {
 
     //just a copy of a normal arrow but using different sprites
     public static Entity createOdinProjectile(Vector2 targetLoc, float angle) {
-        Entity beam = createBaseArrow();
-        beam.setEntityType("beam");
-        ProjectileMovementTask movementTask = new ProjectileMovementTask(
-                targetLoc, new Vector2(ArrowConfig.SPEED_X, ArrowConfig.SPEED_Y));
-        AITaskComponent aiComponent =
-                new AITaskComponent()
-                        .addTask(movementTask)
-                        .addTask(new WeaponDisposeTask(targetLoc,
-                                new Vector2(ArrowConfig.SPEED_X, ArrowConfig.SPEED_Y), 0.8f));
-        Sprite sprite = new Sprite(ServiceLocator.getResourceService().getAsset(
-                "Odin/OdinProjectile/beam_normal.png", Texture.class));
-        beam
-                //.addComponent(new TextureRenderComponent(sprite))
-                .addComponent(new CombatStatsComponent(ArrowConfig.HEALTH, ArrowConfig.BASE_ATTACK))
-                .addComponent(aiComponent);
-        Vector2 scale = new Vector2(sprite.getWidth() / 40f, sprite.getHeight() / 40f);
-        beam.setScale(scale);
+        Entity beam = obtainProjectile("beam");
+        if (beam == null) {
+            beam = createPooledArrow("beam", "Odin/OdinProjectile/beamBroken.atlas", 0.1f,
+                    new CombatStatsComponent(ArrowConfig.HEALTH, ArrowConfig.BASE_ATTACK));
+            TextureRegion region = ServiceLocator.getResourceService().getRegion(
+                    "Odin/OdinProjectile/beam_normal.png");
+            beam.setScale(region.getRegionWidth() / 40f * 0.1f, region.getRegionHeight() / 40f * 0.1f);
+        }
+        beam.getComponent(AITaskComponent.class)
+                .addTask(new ProjectileMovementTask(
+                        targetLoc, new Vector2(ArrowConfig.SPEED_X, ArrowConfig.SPEED_Y)))
+                .addTask(new WeaponDisposeTask(targetLoc,
+                        new Vector2(ArrowConfig.SPEED_X, ArrowConfig.SPEED_Y), 0.8f));
         beam.setAngle(angle);
-        AnimationRenderComponent animator =
-                new AnimationRenderComponent(
-                        ServiceLocator.getResourceService().getAsset(
-                                "Odin/OdinProjectile/beamBroken.atlas", TextureAtlas.class));
-        animator.addAnimation(ARROW_BROKEN, 0.1f, Animation.PlayMode.NORMAL);
-        animator.addAnimation(ARROW_TYPE, 0.1f, Animation.PlayMode.LOOP);
-        beam.setScale(beam.getScale().x * 0.1f,
-                beam.getScale().y * 0.1f);
-        animator.startAnimation(ARROW_TYPE);
-        beam.addComponent(animator);
-        beam.addComponent(new ProjectileAnimationController());
+        beam.getComponent(AnimationRenderComponent.class).startAnimation(ARROW_TYPE);
         shootingSound("beam");
         return beam;
     }
@@ -151,33 +126,19 @@ public class WeaponFactory {
      * @return entity tracking arrow
      */
     public static Entity createTrackingArrow(Entity targetEntity, float angle) {
-        Entity trackingArrow = createBaseArrow();
-        trackingArrow.setEntityType("trackingArrow");
-        ProjectileMovementTask movementTask = new ProjectileMovementTask(
-                targetEntity, new Vector2(TrackingArrowConfig.SPEED_X, TrackingArrowConfig.SPEED_Y));
-        AITaskComponent aiComponent =
-                new AITaskComponent()
-                        .addTask(movementTask)
-                        .addTask(new WeaponDisposeTask(targetEntity.getPosition(),
-                                new Vector2(TrackingArrowConfig.SPEED_X, TrackingArrowConfig.SPEED_Y), 0.8f));
-
-        AnimationRenderComponent animator =
-                new AnimationRenderComponent(
-                        ServiceLocator.getResourceService().getAsset(
-                                ARROW_ATLAS, TextureAtlas.class));
-        animator.addAnimation(ARROW_BROKEN, 0.02f, Animation.PlayMode.NORMAL);
-        animator.addAnimation(ARROW_TYPE, 0.02f, Animation.PlayMode.LOOP);
-
-        trackingArrow.setScale(new Vector2(1f, 0.3f));
+        Entity trackingArrow = obtainProjectile("trackingArrow");
+        if (trackingArrow == null) {
+            trackingArrow = createPooledArrow("trackingArrow", ARROW_ATLAS, 0.02f,
+                    new CombatStatsComponent(TrackingArrowConfig.HEALTH, TrackingArrowConfig.BASE_ATTACK));
+            trackingArrow.setScale(new Vector2(1f, 0.3f));
+        }
+        trackingArrow.getComponent(AITaskComponent.class)
+                .addTask(new ProjectileMovementTask(
+                        targetEntity, new Vector2(TrackingArrowConfig.SPEED_X, TrackingArrowConfig.SPEED_Y)))
+                .addTask(new WeaponDisposeTask(targetEntity.getPosition(),
+                        new Vector2(TrackingArrowConfig.SPEED_X, TrackingArrowConfig.SPEED_Y), 0.8f));
         trackingArrow.setAngle(angle);
-        animator.startAnimation(ARROW_TYPE);
-
-        trackingArrow
-                //.addComponent(new TextureRenderComponent(sprite))
-                .addComponent(new CombatStatsComponent(TrackingArrowConfig.HEALTH, TrackingArrowConfig.BASE_ATTACK))
-                .addComponent(aiComponent)
-                .addComponent(animator)
-                .addComponent(new ProjectileAnimationController());
+        trackingArrow.getComponent(AnimationRenderComponent.class).startAnimation(ARROW_TYPE);
 
         shootingSound("trackingArrow");
         return trackingArrow;
@@ -192,45 +153,49 @@ public class WeaponFactory {
      * @return entity tracking arrow
      */
     public static Entity createFireBall(Entity targetEntity, Entity owner, Vector2 offset) {
-        Entity fireBall = new Entity();
-        fireBall.setEntityType("fireBall");
-
-        //add fireball animation.
-        AnimationRenderComponent animator =
-                new AnimationRenderComponent(
-                        ServiceLocator.getResourceService().getAsset(
-                                "images/fireball/fireballAnimation.atlas", TextureAtlas.class));
-        animator.addAnimation(FIREBALL_FLYING, 0.1f, Animation.PlayMode.LOOP);
-        animator.addAnimation("staticFireball", 0.1f, Animation.PlayMode.LOOP);
-        animator.addAnimation("hit", 0.02f, Animation.PlayMode.NORMAL);
-        animator.startAnimation("staticFireball");
+        Entity fireBall = obtainProjectile("fireBall");
+        if (fireBall == null) {
+            fireBall = new Entity();
+            fireBall.setEntityType("fireBall");
+
+            //add fireball animation.
+            AnimationRenderComponent animator =
+                    new AnimationRenderComponent(
+                            ServiceLocator.getResourceService().getAsset(
+                                    "images/fireball/fireballAnimation.atlas", TextureAtlas.class));
+            animator.addAnimation(FIREBALL_FLYING, 0.1f, Animation.PlayMode.LOOP);
+            animator.addAnimation("staticFireball", 0.1f, Animation.PlayMode.LOOP);
+            animator.addAnimation("hit", 0.02f, Animation.PlayMode.NORMAL);
+
+            CircleShape circle = new CircleShape();
+            circle.setRadius(0.25f);
+            circle.setPosition(circle.getPosition().add(new Vector2(1, 1).scl(0.5f)));
+
+            fireBall
+                    .addComponent(animator)
+                    .addComponent(new ProjectileAnimationController())
+                    .addComponent(new CombatStatsComponent(TrackingArrowConfig.HEALTH, TrackingArrowConfig.BASE_ATTACK))
+                    .addComponent(new AITaskComponent().setScheduled(false))
+                    .addComponent(new PhysicsComponent())
+                    .addComponent(new PhysicsMovementComponent())
+                    .addComponent(new HitboxComponent().setShape(circle))
+                    .addComponent(new PlayerActions())
+                    .addComponent(new TouchAttackComponent(PhysicsLayer.NONE, 1f));
+            ServiceLocator.getEntityService().getPool("fireBall").manage(fireBall);
+        }
 
-        AITaskComponent aiComponent =
-                new AITaskComponent()
-                        .addTask(new EntityHoverTask(
-                                owner, 0.1f, 0, offset, 1.5f))
-                        .addTask(new ProjectileMovementTask(
-                                targetEntity, new Vector2(TrackingArrowConfig.SPEED_X, TrackingArrowConfig.SPEED_Y)))
-                        .addTask(new WeaponDisposeTask(targetEntity.getPosition(),
-                                new Vector2(TrackingArrowConfig.SPEED_X, TrackingArrowConfig.SPEED_Y), 0.8f));
+        fireBall.getComponent(AITaskComponent.class)
+                .addTask(new EntityHoverTask(
+                        owner, 0.1f, 0, offset, 1.5f))
+                .addTask(new ProjectileMovementTask(
+                        targetEntity, new Vector2(TrackingArrowConfig.SPEED_X, TrackingArrowConfig.SPEED_Y)))
+                .addTask(new WeaponDisposeTask(targetEntity.getPosition(),
+                        new Vector2(TrackingArrowConfig.SPEED_X, TrackingArrowConfig.SPEED_Y), 0.8f));
         fireBall.data.put("fireBallMovement", false);
-
-        CircleShape circle = new CircleShape();
-        circle.setRadius(0.25f);
-        circle.setPosition(circle.getPosition().add(new Vector2(1, 1).scl(0.5f)));
-        ColliderComponent hitbox = new HitboxComponent().setLayer(PhysicsLayer.IDLEPROJECTILEWEAPON)
-                .setShape(circle);
-
-        fireBall
-                .addComponent(animator)
-                .addComponent(new ProjectileAnimationController())
-                .addComponent(new CombatStatsComponent(TrackingArrowConfig.HEALTH, TrackingArrowConfig.BASE_ATTACK))
-                .addComponent(aiComponent)
-                .addComponent(new PhysicsComponent())
-                .addComponent(new PhysicsMovementComponent())
-                .addComponent(hitbox)
-                .addComponent(new PlayerActions())
-                .addComponent(new TouchAttackComponent(PhysicsLayer.NONE, 1f));
+        // Shooting the fireball changes its layers, so set them for every use
+        fireBall.getComponent(HitboxComponent.class).setLayer(PhysicsLayer.IDLEPROJECTILEWEAPON);
+        fireBall.getComponent(TouchAttackComponent.class).setTargetLayer(PhysicsLayer.NONE);
+        fireBall.getComponent(AnimationRenderComponent.class).startAnimation("staticFireball");
         shootingSound("fireBall");
         return fireBall;
     }
@@ -242,7 +207,7 @@ public class WeaponFactory {
      */
     public static Entity createFirePillarBase() {
         AITaskComponent aiComponent =
-                new AITaskComponent()
+                new AITaskComponent().setScheduled(false)
                         .addTask(new FirePillarBaseTask());
 
         AnimationRenderComponent animator =
@@ -275,7 +240,7 @@ public class WeaponFactory {
      */
     public static Entity createFirePillar() {
         AITaskComponent aiComponent =
-                new AITaskComponent()
+                new AITaskComponent().setScheduled(false)
                         .addTask(new FirePillarDamageTask());
 
         AnimationRenderComponent animator =
@@ -315,7 +280,7 @@ public class WeaponFactory {
         ProjectileMovementTask movementTask = new ProjectileMovementTask(
                 targetLoc, new Vector2(FastArrowConfig.SPEED_X, FastArrowConfig.SPEED_Y));
         AITaskComponent aiComponent =
-                new AITaskComponent()
+                new AITaskComponent().setScheduled(false)
                         .addTask(movementTask)
                         .addTask(new WeaponDisposeTask(targetLoc,
                                 new Vector2(FastArrowConfig.SPEED_X, FastArrowConfig.SPEED_Y), 0.8f));
@@ -353,14 +318,14 @@ public class WeaponFactory {
      */
     public static Entity createVortexEnter(Entity ownerRunner, float angle, boolean reverseSpawn) {
         Entity vortex = new Entity();
-        Sprite sprite = new Sprite(ServiceLocator.getResourceService().getAsset(
-                "images/vortex.png", Texture.class));
+        Sprite sprite = new Sprite(ServiceLocator.getResourceService().getRegion(
+                "images/vortex.png"));
         Vector2 scale = new Vector2(sprite.getWidth() / 30f, sprite.getHeight() / 30f);
         VortexSpawnTask vortexSpawn = new VortexSpawnTask(ownerRunner, scale, 2f);
         if (reverseSpawn) {
             vortexSpawn.flipReverse();
         }
-        AITaskComponent aiTaskComponent = new AITaskComponent()
+        AITaskComponent aiTaskComponent = new AITaskComponent().setScheduled(false)
                 .addTask(vortexSpawn);
         CircleShape circle = new CircleShape();
         circle.setRadius(scale.x / 4);
@@ -389,14 +354,14 @@ public class WeaponFactory {
      */
     public static Entity createVortexExit(Entity ownerRunner, float angle, boolean reverseSpawn) {
         Entity vortex = new Entity();
-        Sprite sprite = new Sprite(ServiceLocator.getResourceService().getAsset(
-                "images/vortex.png", Texture.class));
+        Sprite sprite = new Sprite(ServiceLocator.getResourceService().getRegion(
+                "images/vortex.png"));
         Vector2 scale = new Vector2(sprite.getWidth() / 30f, sprite.getHeight() / 30f);
         VortexSpawnTask vortexSpawn = new VortexSpawnTask(ownerRunner, scale, 2f);
         if (reverseSpawn) {
             vortexSpawn.flipReverse();
         }
-        AITaskComponent aiTaskComponent = new AITaskComponent()
+        AITaskComponent aiTaskComponent = new AITaskComponent().setScheduled(false)
                 .addTask(vortexSpawn);
         vortex
                 .addComponent(new PhysicsComponent())
@@ -424,7 +389,7 @@ public class WeaponFactory {
 
         Vector2 scale = new Vector2(512 / 100f, 512 / 100f);
         ExplosionSpawnTask vortexSpawn = new ExplosionSpawnTask(ownerRunner, scale);
-        AITaskComponent aiTaskComponent = new AITaskComponent()
+        AITaskComponent aiTaskComponent = new AITaskComponent().setScheduled(false)
                 .addTask(vortexSpawn);
         CircleShape circle = new CircleShape();
         circle.setRadius(scale.x / 2);
@@ -450,8 +415,8 @@ public class WeaponFactory {
      */
     public static LineEntity aimingLine(long ttl) {
         LineEntity line = new LineEntity(ttl);
-        Sprite sprite = new Sprite(ServiceLocator.getResourceService().getAsset(
-                "images/aiming_line.png", Texture.class));
+        Sprite sprite = new Sprite(ServiceLocator.getResourceService().getRegion(
+                "images/aiming_line.png"));
         sprite.flip(true, false);
         sprite.setAlpha(0.5f);
         Vector2 scale = new Vector2(sprite.getWidth() / 40f, sprite.getHeight() / 40f);
@@ -477,6 +442,43 @@ public class WeaponFactory {
                         PhysicsLayer.OBSTACLE | PhysicsLayer.PLAYER), 1f));
     }
 
+    /**
+     * Take a recycled projectile to reuse, if there is one
+     *
+     * @param type entity type of the projectile
+     * @return recycled projectile without AI tasks, or null if a new one is needed
+     */
+    private static Entity obtainProjectile(String type) {
+        return ServiceLocator.getEntityService().getPool(type).obtain();
+    }
+
+    /**
+     * Build an arrow which is recycled once it's finished with. Its AI tasks are added for each shot.
+     *
+     * @param type          entity type, which also names its pool
+     * @param atlas         atlas with the flying and broken animations
+     * @param frameDuration duration of each animation frame
+     * @param stats         combat stats of the arrow
+     * @return new pooled arrow entity
+     */
+    private static Entity createPooledArrow(String type, String atlas, float frameDuration,
+                                            CombatStatsComponent stats) {
+        Entity arrow = createBaseArrow();
+        arrow.setEntityType(type);
+        AnimationRenderComponent animator =
+                new AnimationRenderComponent(
+                        ServiceLocator.getResourceService().getAsset(atlas, TextureAtlas.class));
+        animator.addAnimation(ARROW_BROKEN, frameDuration, Animation.PlayMode.NORMAL);
+        animator.addAnimation(ARROW_TYPE, frameDuration, Animation.PlayMode.LOOP);
+
+        arrow
+                .addComponent(stats)
+                .addComponent(new AITaskComponent().setScheduled(false))
+                .addComponent(animator)
+                .addComponent(new ProjectileAnimationController());
+        return ServiceLocator.getEntityService().getPool(type).manage(arrow);
+    }
+
     /**
      * Makes an energy ball that will move in a straight line and damage enemies
      *
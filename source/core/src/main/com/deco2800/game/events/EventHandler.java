@@ -1,14 +1,12 @@
 package com.deco2800.game.events;
 
 import com.badlogic.gdx.utils.Array;
+import com.deco2800.game.events.EventQueue.QueuedEvent;
 import com.deco2800.game.events.listeners.*;
+import com.deco2800.game.services.ServiceLocator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.function.Consumer;
-
 /**
  * Send and receive events between objects. EventHandler provides an implementation of the Observer
  * pattern, also known as an event system or publish/subscribe. When an event is triggered with
@@ -17,20 +15,33 @@ import java.util.function.Consumer;
  * <p>Currently supports up to 3 arguments for an event. More can be added, but consider instead
  * passing a class with required fields.
  *
+ * <p>Events are named by strings, which are interned to {@link EventKey}s so that listeners can be
+ * found by array index. Events triggered every frame should be triggered with a key kept in a
+ * constant, which skips interning the name.
+ *
+ * <p>Events can also be queued with queue(), to be triggered when the {@link EventQueue} is next
+ * flushed rather than straight away.
+ *
  * <p>If you get a ClassCastException from an event, trigger is being called with different
  * arguments than the listeners expect.
  */
 public class EventHandler {
     private static final Logger logger = LoggerFactory.getLogger(EventHandler.class);
-    final Map<String, Array<EventListener>> listeners;
+    private static final Array<EventListener>[] NO_LISTENERS = newListenerArray(0);
+    // Listeners of each event, indexed by event key ID. Null where an event has no listeners.
+    private Array<EventListener>[] listeners;
+    // Coalesced events waiting in the event queue, indexed by event key ID. Only created if needed.
+    private QueuedEvent[] queued;
 
     public EventHandler() {
         // Assume no events by default, which will be the case for most entities
-        listeners = new HashMap<>(0);
+        listeners = NO_LISTENERS;
     }
 
-    private static void logTrigger(String eventName) {
-        logger.debug("Triggering event {}", eventName);
+    private static void logTrigger(EventKey eventKey) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Triggering event {}", eventKey);
+        }
     }
 
     /**
@@ -40,7 +51,17 @@ public class EventHandler {
      * @param listener  function to call when event fires
      */
     public void addListener(String eventName, EventListener0 listener) {
-        registerListener(eventName, listener);
+        registerListener(EventKey.of(eventName), listener);
+    }
+
+    /**
+     * Add a listener to an event with zero arguments
+     *
+     * @param eventKey key of the event
+     * @param listener function to call when event fires
+     */
+    public void addListener(EventKey eventKey, EventListener0 listener) {
+        registerListener(eventKey, listener);
     }
 
     /**
@@ -51,7 +72,18 @@ public class EventHandler {
      * @param <T>       argument type
      */
     public <T> void addListener(String eventName, EventListener1<T> listener) {
-        registerListener(eventName, listener);
+        registerListener(EventKey.of(eventName), listener);
+    }
+
+    /**
+     * Add a listener to an event with one argument
+     *
+     * @param eventKey key of the event
+     * @param listener function to call when event fires
+     * @param <T>      argument type
+     */
+    public <T> void addListener(EventKey eventKey, EventListener1<T> listener) {
+        registerListener(eventKey, listener);
     }
 
     /**
@@ -63,7 +95,19 @@ public class EventHandler {
      * @param <T1>      Type of arg 1
      */
     public <T0, T1> void addListener(String eventName, EventListener2<T0, T1> listener) {
-        registerListener(eventName, listener);
+        registerListener(EventKey.of(eventName), listener);
+    }
+
+    /**
+     * Add a listener to an event with two arguments
+     *
+     * @param eventKey key of the event
+     * @param listener function to call when event fires
+     * @param <T0>     Type of arg 0
+     * @param <T1>     Type of arg 1
+     */
+    public <T0, T1> void addListener(EventKey eventKey, EventListener2<T0, T1> listener) {
+        registerListener(eventKey, listener);
     }
 
     /**
@@ -76,7 +120,20 @@ public class EventHandler {
      * @param <T2>      Type of arg 2
      */
     public <T0, T1, T2> void addListener(String eventName, EventListener3<T0, T1, T2> listener) {
-        registerListener(eventName, listener);
+        registerListener(EventKey.of(eventName), listener);
+    }
+
+    /**
+     * Add a listener to an event with three arguments
+     *
+     * @param eventKey key of the event
+     * @param listener function to call when event fires
+     * @param <T0>     Type of arg 0
+     * @param <T1>     Type of arg 1
+     * @param <T2>     Type of arg 2
+     */
+    public <T0, T1, T2> void addListener(EventKey eventKey, EventListener3<T0, T1, T2> listener) {
+        registerListener(eventKey, listener);
     }
 
     /**
@@ -85,8 +142,24 @@ public class EventHandler {
      * @param eventName name of the event
      */
     public void trigger(String eventName) {
-        logTrigger(eventName);
-        forEachListener(eventName, (EventListener listener) -> ((EventListener0) listener).handle());
+        trigger(EventKey.of(eventName));
+    }
+
+    /**
+     * Trigger an event with no arguments
+     *
+     * @param eventKey key of the event
+     */
+    public void trigger(EventKey eventKey) {
+        logTrigger(eventKey);
+        Array<EventListener> eventListeners = getListeners(eventKey);
+        if (eventListeners == null) {
+            return;
+        }
+        // Listeners added while triggering are also called, as they were when iterating
+        for (int i = 0; i < eventListeners.size; i++) {
+            ((EventListener0) eventListeners.get(i)).handle();
+        }
     }
 
     /**
@@ -96,11 +169,27 @@ public class EventHandler {
      * @param arg0      arg to pass to event
      * @param <T>       argument type
      */
-    @SuppressWarnings("unchecked")
     public <T> void trigger(String eventName, T arg0) {
-        logTrigger(eventName);
-        forEachListener(
-                eventName, (EventListener listener) -> ((EventListener1<T>) listener).handle(arg0));
+        trigger(EventKey.of(eventName), arg0);
+    }
+
+    /**
+     * Trigger an event with one argument
+     *
+     * @param eventKey key of the event
+     * @param arg0     arg to pass to event
+     * @param <T>      argument type
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void trigger(EventKey eventKey, T arg0) {
+        logTrigger(eventKey);
+        Array<EventListener> eventListeners = getListeners(eventKey);
+        if (eventListeners == null) {
+            return;
+        }
+        for (int i = 0; i < eventListeners.size; i++) {
+            ((EventListener1<T>) eventListeners.get(i)).handle(arg0);
+        }
     }
 
     /**
@@ -112,12 +201,29 @@ public class EventHandler {
      * @param <T0>      Type of arg 0
      * @param <T1>      Type of arg 1
      */
-    @SuppressWarnings("unchecked")
     public <T0, T1> void trigger(String eventName, T0 arg0, T1 arg1) {
-        logTrigger(eventName);
-        forEachListener(
-                eventName,
-                (EventListener listener) -> ((EventListener2<T0, T1>) listener).handle(arg0, arg1));
+        trigger(EventKey.of(eventName), arg0, arg1);
+    }
+
+    /**
+     * Trigger an event with two arguments
+     *
+     * @param eventKey key of the event
+     * @param arg0     arg 0 to pass to event
+     * @param arg1     arg 1 to pass to event
+     * @param <T0>     Type of arg 0
+     * @param <T1>     Type of arg 1
+     */
+    @SuppressWarnings("unchecked")
+    public <T0, T1> void trigger(EventKey eventKey, T0 arg0, T1 arg1) {
+        logTrigger(eventKey);
+        Array<EventListener> eventListeners = getListeners(eventKey);
+        if (eventListeners == null) {
+            return;
+        }
+        for (int i = 0; i < eventListeners.size; i++) {
+            ((EventListener2<T0, T1>) eventListeners.get(i)).handle(arg0, arg1);
+        }
     }
 
     /**
@@ -131,30 +237,155 @@ public class EventHandler {
      * @param <T1>      Type of arg 1
      * @param <T2>      Type of arg 2
      */
-    @SuppressWarnings("unchecked")
     public <T0, T1, T2> void trigger(String eventName, T0 arg0, T1 arg1, T2 arg2) {
-        logTrigger(eventName);
-        forEachListener(
-                eventName,
-                (EventListener listener) ->
-                        ((EventListener3<T0, T1, T2>) listener).handle(arg0, arg1, arg2));
+        trigger(EventKey.of(eventName), arg0, arg1, arg2);
     }
 
-    private void registerListener(String eventName, EventListener listener) {
-        logger.debug("Adding listener {} to event {}", listener, eventName);
-        Array<EventListener> eventListeners = listeners.getOrDefault(eventName, null);
+    /**
+     * Trigger an event with three arguments
+     *
+     * @param eventKey key of the event
+     * @param arg0     arg 0 to pass to event
+     * @param arg1     arg 1 to pass to event
+     * @param arg2     arg 2 to pass to event
+     * @param <T0>     Type of arg 0
+     * @param <T1>     Type of arg 1
+     * @param <T2>     Type of arg 2
+     */
+    @SuppressWarnings("unchecked")
+    public <T0, T1, T2> void trigger(EventKey eventKey, T0 arg0, T1 arg1, T2 arg2) {
+        logTrigger(eventKey);
+        Array<EventListener> eventListeners = getListeners(eventKey);
+        if (eventListeners == null) {
+            return;
+        }
+        for (int i = 0; i < eventListeners.size; i++) {
+            ((EventListener3<T0, T1, T2>) eventListeners.get(i)).handle(arg0, arg1, arg2);
+        }
+    }
+
+    /**
+     * Queue an event with no arguments, to be triggered when the event queue is next flushed.
+     * Triggers the event straight away if there is no event queue.
+     *
+     * @param eventKey key of the event
+     */
+    public void queue(EventKey eventKey) {
+        enqueue(eventKey, 0, null, null, null);
+    }
+
+    /**
+     * Queue an event with one argument, to be triggered when the event queue is next flushed.
+     * Triggers the event straight away if there is no event queue.
+     *
+     * @param eventKey key of the event
+     * @param arg0     arg to pass to event
+     * @param <T>      argument type
+     */
+    public <T> void queue(EventKey eventKey, T arg0) {
+        enqueue(eventKey, 1, arg0, null, null);
+    }
+
+    /**
+     * Queue an event with two arguments, to be triggered when the event queue is next flushed.
+     * Triggers the event straight away if there is no event queue.
+     *
+     * @param eventKey key of the event
+     * @param arg0     arg 0 to pass to event
+     * @param arg1     arg 1 to pass to event
+     * @param <T0>     Type of arg 0
+     * @param <T1>     Type of arg 1
+     */
+    public <T0, T1> void queue(EventKey eventKey, T0 arg0, T1 arg1) {
+        enqueue(eventKey, 2, arg0, arg1, null);
+    }
+
+    /**
+     * Queue an event with three arguments, to be triggered when the event queue is next flushed.
+     * Triggers the event straight away if there is no event queue.
+     *
+     * @param eventKey key of the event
+     * @param arg0     arg 0 to pass to event
+     * @param arg1     arg 1 to pass to event
+     * @param arg2     arg 2 to pass to event
+     * @param <T0>     Type of arg 0
+     * @param <T1>     Type of arg 1
+     * @param <T2>     Type of arg 2
+     */
+    public <T0, T1, T2> void queue(EventKey eventKey, T0 arg0, T1 arg1, T2 arg2) {
+        enqueue(eventKey, 3, arg0, arg1, arg2);
+    }
+
+    private void enqueue(EventKey eventKey, int argCount, Object arg0, Object arg1, Object arg2) {
+        EventQueue eventQueue = ServiceLocator.getEventQueue();
+        if (eventQueue == null) {
+            dispatch(eventKey, argCount, arg0, arg1, arg2);
+        } else {
+            eventQueue.enqueue(this, eventKey, argCount, arg0, arg1, arg2);
+        }
+    }
+
+    void dispatch(EventKey eventKey, int argCount, Object arg0, Object arg1, Object arg2) {
+        switch (argCount) {
+            case 0:
+                trigger(eventKey);
+                break;
+            case 1:
+                trigger(eventKey, arg0);
+                break;
+            case 2:
+                trigger(eventKey, arg0, arg1);
+                break;
+            default:
+                trigger(eventKey, arg0, arg1, arg2);
+                break;
+        }
+    }
+
+    QueuedEvent getQueued(EventKey eventKey) {
+        int id = eventKey.getId();
+        return queued != null && id < queued.length ? queued[id] : null;
+    }
+
+    void setQueued(EventKey eventKey, QueuedEvent event) {
+        int id = eventKey.getId();
+        if (queued == null || id >= queued.length) {
+            if (event == null) {
+                return;
+            }
+            QueuedEvent[] grown = new QueuedEvent[id + 1];
+            if (queued != null) {
+                System.arraycopy(queued, 0, grown, 0, queued.length);
+            }
+            queued = grown;
+        }
+        queued[id] = event;
+    }
+
+    private void registerListener(EventKey eventKey, EventListener listener) {
+        logger.debug("Adding listener {} to event {}", listener, eventKey);
+        int id = eventKey.getId();
+        if (id >= listeners.length) {
+            Array<EventListener>[] grown = newListenerArray(id + 1);
+            System.arraycopy(listeners, 0, grown, 0, listeners.length);
+            listeners = grown;
+        }
+        Array<EventListener> eventListeners = listeners[id];
         if (eventListeners == null) {
             eventListeners = new Array<>(1);
-            listeners.put(eventName, eventListeners);
+            listeners[id] = eventListeners;
         }
         eventListeners.add(listener);
     }
 
-    private void forEachListener(String eventName, Consumer<EventListener> func) {
-        Array<EventListener> eventListeners = listeners.getOrDefault(eventName, null);
-        if (eventListeners != null) {
-            eventListeners.forEach(func);
-        }
+    private Array<EventListener> getListeners(EventKey eventKey) {
+        int id = eventKey.getId();
+        return id < listeners.length ? listeners[id] : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Array<EventListener>[] newListenerArray(int size) {
+        return (Array<EventListener>[]) new Array[size];
     }
 
     /**
@@ -164,11 +395,17 @@ public class EventHandler {
      * @return true if this entity has this specific event registered otherwise false
      */
     public boolean hasEvent(String eventName) {
-        for (String event : listeners.keySet()) {
-            if (event.equals(eventName)) {
-                return true;
-            }
-        }
-        return false;
+        EventKey eventKey = EventKey.find(eventName);
+        return eventKey != null && hasEvent(eventKey);
+    }
+
+    /**
+     * checks that the entity has a specified event registered
+     *
+     * @param eventKey the key of the event that we want to search for
+     * @return true if this entity has this specific event registered otherwise false
+     */
+    public boolean hasEvent(EventKey eventKey) {
+        return getListeners(eventKey) != null;
     }
 }
@@ -0,0 +1,78 @@
+package com.deco2800.game.events;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An event name interned to a small integer, so that {@link EventHandler} can find an event's
+ * listeners by array index rather than by hashing its name. Keys are shared by every event handler,
+ * and a name always interns to the same key.
+ *
+ * <p>Events can still be triggered by name, which interns the name on every call. Code which triggers
+ * an event every frame should keep the key in a constant instead:
+ *
+ * <pre>
+ *   private static final EventKey EVT_UPDATE_HEALTH = EventKey.of("updateHealth");
+ *   ...
+ *   entity.getEvents().trigger(EVT_UPDATE_HEALTH, health);
+ * </pre>
+ */
+public final class EventKey {
+    private static final Map<String, EventKey> keys = new ConcurrentHashMap<>();
+    private static int nextId = 0;
+
+    private final String name;
+    private final int id;
+
+    private EventKey(String name, int id) {
+        this.name = name;
+        this.id = id;
+    }
+
+    /**
+     * Get the key of an event, interning its name if it hasn't been seen before.
+     *
+     * @param eventName name of the event
+     * @return key of the event
+     */
+    public static EventKey of(String eventName) {
+        EventKey key = keys.get(eventName);
+        if (key == null) {
+            key = keys.computeIfAbsent(eventName, EventKey::create);
+        }
+        return key;
+    }
+
+    /**
+     * Get the key of an event without interning its name.
+     *
+     * @param eventName name of the event
+     * @return key of the event, or null if no event with this name has been used yet
+     */
+    public static EventKey find(String eventName) {
+        return keys.get(eventName);
+    }
+
+    private static synchronized EventKey create(String eventName) {
+        return new EventKey(eventName, nextId++);
+    }
+
+    /**
+     * @return name of the event
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return index of the event, counting up from 0 in the order names were interned
+     */
+    public int getId() {
+        return id;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,216 @@
+package com.deco2800.game.events;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Holds events queued with {@link EventHandler#queue(EventKey)} until they are flushed together at a
+ * fixed point in the frame. This lets events raised where listeners can't safely act, such as
+ * collisions during the physics step, be handled once that work has finished.
+ *
+ * <p>Events are kept in a ring buffer of reused entries, so queueing doesn't allocate once the buffer
+ * has grown to the busiest frame's size. Events are flushed in the order they were queued. An event
+ * type can be coalesced, so that only the latest of its events queued on each handler is kept.
+ */
+public class EventQueue {
+    private static final Logger logger = LoggerFactory.getLogger(EventQueue.class);
+    private static final int INITIAL_CAPACITY = 64;
+
+    private QueuedEvent[] events;
+    private int head = 0;
+    private int size = 0;
+    // Whether each event type is coalesced, indexed by event key ID
+    private boolean[] coalesced = new boolean[0];
+
+    public EventQueue() {
+        events = new QueuedEvent[INITIAL_CAPACITY];
+        for (int i = 0; i < events.length; i++) {
+            events[i] = new QueuedEvent();
+        }
+    }
+
+    /**
+     * Set whether an event type is coalesced. When coalesced, queueing the event on a handler which
+     * already has it queued replaces the queued event's arguments rather than queueing it again.
+     *
+     * @param eventKey  key of the event type
+     * @param coalesce  true to coalesce the event type, false to queue every event
+     */
+    public void setCoalesced(EventKey eventKey, boolean coalesce) {
+        int id = eventKey.getId();
+        if (id >= coalesced.length) {
+            if (!coalesce) {
+                return;
+            }
+            boolean[] grown = new boolean[id + 1];
+            System.arraycopy(coalesced, 0, grown, 0, coalesced.length);
+            coalesced = grown;
+        }
+        coalesced[id] = coalesce;
+    }
+
+    /**
+     * @param eventKey key of the event type
+     * @return true if the event type is coalesced, false otherwise
+     */
+    public boolean isCoalesced(EventKey eventKey) {
+        int id = eventKey.getId();
+        return id < coalesced.length && coalesced[id];
+    }
+
+    void enqueue(EventHandler handler, EventKey eventKey, int argCount, Object arg0, Object arg1,
+                 Object arg2) {
+        boolean coalesce = isCoalesced(eventKey);
+        if (coalesce) {
+            QueuedEvent pending = handler.getQueued(eventKey);
+            if (pending != null) {
+                pending.set(handler, eventKey, argCount, arg0, arg1, arg2);
+                return;
+            }
+        }
+
+        if (size == events.length) {
+            grow();
+        }
+        QueuedEvent event = events[(head + size) % events.length];
+        event.set(handler, eventKey, argCount, arg0, arg1, arg2);
+        size++;
+        if (coalesce) {
+            handler.setQueued(eventKey, event);
+        }
+    }
+
+    /**
+     * Trigger every queued event, in the order they were queued. Events queued by listeners while
+     * flushing are left for the next flush, so a flush always finishes.
+     *
+     * @return number of events triggered
+     */
+    public int flush() {
+        int count = size;
+        int triggered = 0;
+        for (int i = 0; i < count; i++) {
+            QueuedEvent event = events[head];
+            EventHandler handler = event.handler;
+            EventKey eventKey = event.eventKey;
+            int argCount = event.argCount;
+            Object arg0 = event.arg0;
+            Object arg1 = event.arg1;
+            Object arg2 = event.arg2;
+            // Free the entry before triggering, since listeners may queue more events
+            event.clear();
+            head = (head + 1) % events.length;
+            size--;
+
+            if (handler == null) {
+                continue; // Cancelled
+            }
+            if (isCoalesced(eventKey)) {
+                handler.setQueued(eventKey, null);
+            }
+            handler.dispatch(eventKey, argCount, arg0, arg1, arg2);
+            triggered++;
+        }
+        return triggered;
+    }
+
+    /**
+     * Drop every event queued on a handler, e.g. when its entity is disposed.
+     *
+     * @param handler handler to drop the events of
+     */
+    public void cancel(EventHandler handler) {
+        for (int i = 0; i < size; i++) {
+            QueuedEvent event = events[(head + i) % events.length];
+            if (event.handler == handler) {
+                if (isCoalesced(event.eventKey)) {
+                    handler.setQueued(event.eventKey, null);
+                }
+                event.clear();
+            }
+        }
+    }
+
+    /**
+     * Drop every event queued with an argument, e.g. a physics fixture which is being destroyed and
+     * mustn't be used by listeners.
+     *
+     * @param arg argument to drop the events of
+     */
+    public void cancelWithArgument(Object arg) {
+        for (int i = 0; i < size; i++) {
+            QueuedEvent event = events[(head + i) % events.length];
+            if (event.handler != null && event.hasArgument(arg)) {
+                if (isCoalesced(event.eventKey)) {
+                    event.handler.setQueued(event.eventKey, null);
+                }
+                event.clear();
+            }
+        }
+    }
+
+    /**
+     * @return number of events waiting to be flushed, including cancelled events
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Drop every queued event without triggering it
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            QueuedEvent event = events[(head + i) % events.length];
+            if (event.handler != null && isCoalesced(event.eventKey)) {
+                event.handler.setQueued(event.eventKey, null);
+            }
+            event.clear();
+        }
+        head = 0;
+        size = 0;
+    }
+
+    private void grow() {
+        QueuedEvent[] grown = new QueuedEvent[events.length * 2];
+        for (int i = 0; i < size; i++) {
+            grown[i] = events[(head + i) % events.length];
+        }
+        for (int i = size; i < grown.length; i++) {
+            grown[i] = new QueuedEvent();
+        }
+        logger.debug("Growing event queue to {} events", grown.length);
+        events = grown;
+        head = 0;
+    }
+
+    /**
+     * A queued event and its arguments. Entries are reused once their event is flushed.
+     */
+    static class QueuedEvent {
+        private EventHandler handler;
+        private EventKey eventKey;
+        private int argCount;
+        private Object arg0;
+        private Object arg1;
+        private Object arg2;
+
+        private void set(EventHandler handler, EventKey eventKey, int argCount, Object arg0,
+                         Object arg1, Object arg2) {
+            this.handler = handler;
+            this.eventKey = eventKey;
+            this.argCount = argCount;
+            this.arg0 = arg0;
+            this.arg1 = arg1;
+            this.arg2 = arg2;
+        }
+
+        private void clear() {
+            set(null, null, 0, null, null, null);
+        }
+
+        private boolean hasArgument(Object arg) {
+            return (argCount > 0 && arg0 == arg) || (argCount > 1 && arg1 == arg) || (argCount > 2 && arg2 == arg);
+        }
+    }
+}
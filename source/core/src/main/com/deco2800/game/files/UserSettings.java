@@ -97,6 +97,23 @@ public class UserSettings {
          */
         public float uiScale = 1f;
         public DisplaySettings displayMode = null;
+        /**
+         * Physics steps simulated per second. Independent of FPS.
+         */
+        public int physicsRate = 60;
+        /**
+         * Box2D solver iterations per physics step. Higher is more accurate but slower.
+         */
+        public int velocityIterations = 6;
+        public int positionIterations = 2;
+        /**
+         * Most physics steps to catch up on in one frame. Beyond this the game slows down instead.
+         */
+        public int maxPhysicsSteps = 8;
+        /**
+         * Draw entities between physics steps, for smooth movement when FPS and physics rate differ.
+         */
+        public boolean physicsInterpolation = true;
     }
 
     /**
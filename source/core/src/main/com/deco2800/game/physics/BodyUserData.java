@@ -1,5 +1,6 @@
 package com.deco2800.game.physics;
 
+import com.badlogic.gdx.math.Vector2;
 import com.deco2800.game.entities.Entity;
 
 /**
@@ -12,4 +13,10 @@ public class BodyUserData {
      * The entity to which this body is attached
      */
     public Entity entity;
+
+    /**
+     * Position of the body before the latest physics step, kept by {@link PhysicsEngine} while
+     * interpolating
+     */
+    public final Vector2 previousPosition = new Vector2();
 }
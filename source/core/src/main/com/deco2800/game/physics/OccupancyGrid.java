@@ -0,0 +1,336 @@
+package com.deco2800.game.physics;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntMap;
+
+/**
+ * Grid of cells marking where static level geometry is, one bit per cell. Rays are traced through
+ * the grid cell by cell (Amanatides and Woo's voxel traversal), which is much cheaper than a Box2D
+ * raycast and doesn't allocate. Built from a level's walls when it loads, see {@link
+ * com.deco2800.game.physics.components.StaticGeometryComponent}.
+ *
+ * <p>Cells outside the grid are never blocked. A ray isn't blocked by the cell it starts in, like a
+ * Box2D ray starting inside a fixture.
+ *
+ * <p>Pathfinding for bodies bigger than a cell uses an inflated copy of the grid, see {@link
+ * #getInflated}, where a body centred in any open cell doesn't overlap a wall.
+ */
+public class OccupancyGrid {
+    /**
+     * Returned by {@link #raycast} when the ray isn't blocked
+     */
+    public static final float MISS = -1f;
+
+    private final float originX;
+    private final float originY;
+    private final int width;
+    private final int height;
+    private final float cellSize;
+    private final long[] cells;
+    private IntMap<OccupancyGrid> inflatedGrids;
+
+    /**
+     * @param originX  x position of the grid's bottom left corner
+     * @param originY  y position of the grid's bottom left corner
+     * @param width    number of columns
+     * @param height   number of rows
+     * @param cellSize width and height of each cell
+     */
+    public OccupancyGrid(float originX, float originY, int width, int height, float cellSize) {
+        this.originX = originX;
+        this.originY = originY;
+        this.width = width;
+        this.height = height;
+        this.cellSize = cellSize;
+        cells = new long[(width * height + 63) / 64];
+    }
+
+    /**
+     * Create a grid just covering a set of rectangles, with each cell whose centre is in a rectangle
+     * blocked. Rectangles too small to cover a cell centre block nothing, see {@link
+     * #coversCellCentre}, so they have to be raycast some other way. Cells line up with multiples of
+     * the cell size, so tile-aligned walls fill whole cells.
+     *
+     * @param rectangles rectangles to block
+     * @param offsetX    added to the x position of every rectangle
+     * @param offsetY    added to the y position of every rectangle
+     * @param cellSize   width and height of each cell, usually the tile size
+     * @return grid of the rectangles
+     */
+    public static OccupancyGrid fromRectangles(
+            Array<Rectangle> rectangles, float offsetX, float offsetY, float cellSize) {
+        if (rectangles.isEmpty()) {
+            return new OccupancyGrid(offsetX, offsetY, 0, 0, cellSize);
+        }
+        float minX = Float.MAX_VALUE;
+        float minY = Float.MAX_VALUE;
+        float maxX = -Float.MAX_VALUE;
+        float maxY = -Float.MAX_VALUE;
+        for (Rectangle rectangle : rectangles) {
+            minX = Math.min(minX, rectangle.x);
+            minY = Math.min(minY, rectangle.y);
+            maxX = Math.max(maxX, rectangle.x + rectangle.width);
+            maxY = Math.max(maxY, rectangle.y + rectangle.height);
+        }
+        int minCellX = MathUtils.floor((minX + offsetX) / cellSize);
+        int minCellY = MathUtils.floor((minY + offsetY) / cellSize);
+        int width = MathUtils.floor((maxX + offsetX) / cellSize) - minCellX + 1;
+        int height = MathUtils.floor((maxY + offsetY) / cellSize) - minCellY + 1;
+
+        OccupancyGrid grid = new OccupancyGrid(minCellX * cellSize, minCellY * cellSize, width, height, cellSize);
+        for (Rectangle rectangle : rectangles) {
+            grid.fill(rectangle.x + offsetX, rectangle.y + offsetY, rectangle.width, rectangle.height);
+        }
+        return grid;
+    }
+
+    /**
+     * Check whether a rectangle blocks anything in a grid made by {@link #fromRectangles}. Thin
+     * rectangles, like a level's border walls, can sit inside a row of cells without covering any of
+     * their centres. Box2D treats most of those cells as walkable, so they are left clear.
+     *
+     * @param rectangle rectangle to check
+     * @param offsetX   added to the x position of the rectangle
+     * @param offsetY   added to the y position of the rectangle
+     * @param cellSize  width and height of each cell
+     * @return true if the rectangle contains the centre of at least one cell
+     */
+    public static boolean coversCellCentre(
+            Rectangle rectangle, float offsetX, float offsetY, float cellSize) {
+        float x = rectangle.x + offsetX;
+        float y = rectangle.y + offsetY;
+        return MathUtils.ceil(x / cellSize - 0.5f) <= MathUtils.floor((x + rectangle.width) / cellSize - 0.5f)
+                && MathUtils.ceil(y / cellSize - 0.5f) <= MathUtils.floor((y + rectangle.height) / cellSize - 0.5f);
+    }
+
+    /**
+     * Block every cell whose centre is in a rectangle
+     */
+    private void fill(float x, float y, float rectangleWidth, float rectangleHeight) {
+        int minCellX = MathUtils.ceil((x - originX) / cellSize - 0.5f);
+        int maxCellX = MathUtils.floor((x + rectangleWidth - originX) / cellSize - 0.5f);
+        int minCellY = MathUtils.ceil((y - originY) / cellSize - 0.5f);
+        int maxCellY = MathUtils.floor((y + rectangleHeight - originY) / cellSize - 0.5f);
+        for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+            for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+                setBlocked(cellX, cellY, true);
+            }
+        }
+    }
+
+    /**
+     * @param cellX   column of the cell
+     * @param cellY   row of the cell
+     * @param blocked true to block the cell, false to clear it
+     */
+    public void setBlocked(int cellX, int cellY, boolean blocked) {
+        if (!contains(cellX, cellY)) {
+            return;
+        }
+        int index = cellY * width + cellX;
+        if (blocked) {
+            cells[index >>> 6] |= 1L << index;
+        } else {
+            cells[index >>> 6] &= ~(1L << index);
+        }
+    }
+
+    /**
+     * @param cellX column of the cell
+     * @param cellY row of the cell
+     * @return true if the cell is blocked, false if clear or outside the grid
+     */
+    public boolean isBlocked(int cellX, int cellY) {
+        if (!contains(cellX, cellY)) {
+            return false;
+        }
+        int index = cellY * width + cellX;
+        return (cells[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * @param x x position in the world
+     * @param y y position in the world
+     * @return true if the cell containing the position is blocked
+     */
+    public boolean isBlockedAt(float x, float y) {
+        return isBlocked(getCellX(x), getCellY(y));
+    }
+
+    /**
+     * Trace a ray through the grid to the first blocked cell.
+     *
+     * @param fromX x position the ray starts at
+     * @param fromY y position the ray starts at
+     * @param toX   x position the ray ends at
+     * @param toY   y position the ray ends at
+     * @return fraction of the way along the ray that it enters a blocked cell, from 0 to 1, or
+     * {@link #MISS} if it isn't blocked
+     */
+    public float raycast(float fromX, float fromY, float toX, float toY) {
+        int cellX = getCellX(fromX);
+        int cellY = getCellY(fromY);
+        int endCellX = getCellX(toX);
+        int endCellY = getCellY(toY);
+        float dx = toX - fromX;
+        float dy = toY - fromY;
+
+        int stepX = dx > 0 ? 1 : -1;
+        int stepY = dy > 0 ? 1 : -1;
+        // Fraction of the ray to cross one whole cell, and to reach the next cell boundary
+        float deltaX = dx == 0 ? Float.MAX_VALUE : Math.abs(cellSize / dx);
+        float deltaY = dy == 0 ? Float.MAX_VALUE : Math.abs(cellSize / dy);
+        float nextX = dx == 0 ? Float.MAX_VALUE
+                : (originX + (cellX + (dx > 0 ? 1 : 0)) * cellSize - fromX) / dx;
+        float nextY = dy == 0 ? Float.MAX_VALUE
+                : (originY + (cellY + (dy > 0 ? 1 : 0)) * cellSize - fromY) / dy;
+
+        // Each step moves one cell along one axis, so this many reach the end cell
+        int steps = Math.abs(endCellX - cellX) + Math.abs(endCellY - cellY);
+        for (int i = 0; i < steps; i++) {
+            float fraction;
+            if (nextX < nextY) {
+                fraction = nextX;
+                cellX += stepX;
+                nextX += deltaX;
+            } else {
+                fraction = nextY;
+                cellY += stepY;
+                nextY += deltaY;
+            }
+            if (isBlocked(cellX, cellY)) {
+                return MathUtils.clamp(fraction, 0f, 1f);
+            }
+        }
+        return MISS;
+    }
+
+    /**
+     * @return true if a ray between the two points isn't blocked
+     */
+    public boolean isClear(float fromX, float fromY, float toX, float toY) {
+        return raycast(fromX, fromY, toX, toY) == MISS;
+    }
+
+    /**
+     * Get how many cells a body overlaps either side of the cell its centre is in. This is the radius
+     * to inflate the grid by for the body, see {@link #getInflated}.
+     *
+     * @param halfExtent half the body's width or height
+     * @return cells overlapped on each side when centred in a cell
+     */
+    public int getClearance(float halfExtent) {
+        return Math.max(0, MathUtils.ceil(halfExtent / cellSize + 0.5f) - 1);
+    }
+
+    /**
+     * Get a copy of the grid with every blocked cell grown by a number of cells on each side. A body
+     * centred in an open cell of the copy doesn't overlap a blocked cell of this grid, if it is within
+     * the clearance of {@link #getClearance}. Copies are kept, so only the first call for each radius
+     * builds one. Call from the main thread once the grid is finished.
+     *
+     * @param radiusX cells to grow by to the left and right
+     * @param radiusY cells to grow by above and below
+     * @return inflated copy, or this grid if neither radius is positive
+     */
+    public OccupancyGrid getInflated(int radiusX, int radiusY) {
+        if (radiusX <= 0 && radiusY <= 0) {
+            return this;
+        }
+        radiusX = Math.max(radiusX, 0);
+        radiusY = Math.max(radiusY, 0);
+        if (inflatedGrids == null) {
+            inflatedGrids = new IntMap<>(4);
+        }
+        int key = (radiusX << 16) | radiusY;
+        OccupancyGrid grid = inflatedGrids.get(key);
+        if (grid == null) {
+            grid = inflate(radiusX, radiusY);
+            inflatedGrids.put(key, grid);
+        }
+        return grid;
+    }
+
+    private OccupancyGrid inflate(int radiusX, int radiusY) {
+        // Grow along rows then along columns, which blocks the whole box around each blocked cell
+        OccupancyGrid rows = new OccupancyGrid(originX, originY, width, height, cellSize);
+        for (int cellY = 0; cellY < height; cellY++) {
+            for (int cellX = 0; cellX < width; cellX++) {
+                if (isBlocked(cellX, cellY)) {
+                    for (int dx = -radiusX; dx <= radiusX; dx++) {
+                        rows.setBlocked(cellX + dx, cellY, true);
+                    }
+                }
+            }
+        }
+        OccupancyGrid grid = new OccupancyGrid(originX, originY, width, height, cellSize);
+        for (int cellY = 0; cellY < height; cellY++) {
+            for (int cellX = 0; cellX < width; cellX++) {
+                if (rows.isBlocked(cellX, cellY)) {
+                    for (int dy = -radiusY; dy <= radiusY; dy++) {
+                        grid.setBlocked(cellX, cellY + dy, true);
+                    }
+                }
+            }
+        }
+        return grid;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public float getCellSize() {
+        return cellSize;
+    }
+
+    /**
+     * @return number of blocked cells
+     */
+    public int getBlockedCount() {
+        int count = 0;
+        for (long block : cells) {
+            count += Long.bitCount(block);
+        }
+        return count;
+    }
+
+    public float getOriginX() {
+        return originX;
+    }
+
+    public float getOriginY() {
+        return originY;
+    }
+
+    /**
+     * @param cellX column of the cell
+     * @param cellY row of the cell
+     * @return true if the cell is inside the grid
+     */
+    public boolean contains(int cellX, int cellY) {
+        return cellX >= 0 && cellX < width && cellY >= 0 && cellY < height;
+    }
+
+    /**
+     * @param x x position in the world
+     * @return column containing the position, which may be outside the grid
+     */
+    public int getCellX(float x) {
+        return MathUtils.floor((x - originX) / cellSize);
+    }
+
+    /**
+     * @param y y position in the world
+     * @return row containing the position, which may be outside the grid
+     */
+    public int getCellY(float y) {
+        return MathUtils.floor((y - originY) / cellSize);
+    }
+}
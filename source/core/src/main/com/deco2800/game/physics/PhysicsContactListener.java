@@ -1,6 +1,9 @@
 package com.deco2800.game.physics;
 
 import com.badlogic.gdx.physics.box2d.*;
+import com.deco2800.game.events.EventKey;
+import com.deco2800.game.events.EventQueue;
+import com.deco2800.game.services.ServiceLocator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -13,20 +16,28 @@ import org.slf4j.LoggerFactory;
  *
  * <p>On contact end: evt = "collisionEnd", params = ({@link Fixture} thisFixture, {@link Fixture}
  * otherFixture)
+ *
+ * <p>Events raised during the physics step are queued and triggered when the event queue is flushed
+ * after the step, or straight away if there is no event queue. Events raised outside the step, such
+ * as collisionEnd when a body or fixture is destroyed, are triggered straight away, while both
+ * fixtures still exist. Anything destroying a fixture should cancel its queued events with {@link
+ * #cancelQueuedEvents(Fixture)}, since destroyed fixtures are reused by the world.
  */
 public class PhysicsContactListener implements ContactListener {
     private static final Logger logger = LoggerFactory.getLogger(PhysicsContactListener.class);
+    private static final EventKey EVT_COLLISION_START = EventKey.of("collisionStart");
+    private static final EventKey EVT_COLLISION_END = EventKey.of("collisionEnd");
 
     @Override
     public void beginContact(Contact contact) {
-        triggerEventOn(contact.getFixtureA(), "collisionStart", contact.getFixtureB());
-        triggerEventOn(contact.getFixtureB(), "collisionStart", contact.getFixtureA());
+        triggerEventOn(contact.getFixtureA(), EVT_COLLISION_START, contact.getFixtureB());
+        triggerEventOn(contact.getFixtureB(), EVT_COLLISION_START, contact.getFixtureA());
     }
 
     @Override
     public void endContact(Contact contact) {
-        triggerEventOn(contact.getFixtureA(), "collisionEnd", contact.getFixtureB());
-        triggerEventOn(contact.getFixtureB(), "collisionEnd", contact.getFixtureA());
+        triggerEventOn(contact.getFixtureA(), EVT_COLLISION_END, contact.getFixtureB());
+        triggerEventOn(contact.getFixtureB(), EVT_COLLISION_END, contact.getFixtureA());
     }
 
     @Override
@@ -39,11 +50,28 @@ public class PhysicsContactListener implements ContactListener {
         // Nothing to do after resolving contact
     }
 
-    private void triggerEventOn(Fixture fixture, String evt, Fixture otherFixture) {
+    /**
+     * Drop queued collision events involving a fixture, before it is destroyed
+     *
+     * @param fixture fixture about to be destroyed
+     */
+    public static void cancelQueuedEvents(Fixture fixture) {
+        EventQueue eventQueue = ServiceLocator.getEventQueue();
+        if (eventQueue != null) {
+            eventQueue.cancelWithArgument(fixture);
+        }
+    }
+
+    private void triggerEventOn(Fixture fixture, EventKey evt, Fixture otherFixture) {
         BodyUserData userData = (BodyUserData) fixture.getBody().getUserData();
         if (userData != null && userData.entity != null) {
             logger.debug("{} on entity {}", evt, userData.entity);
-            userData.entity.getEvents().trigger(evt, fixture, otherFixture);
+            if (fixture.getBody().getWorld().isLocked()) {
+                // Queued, since listeners can't create or destroy bodies while the world is stepping
+                userData.entity.getEvents().queue(evt, fixture, otherFixture);
+            } else {
+                userData.entity.getEvents().trigger(evt, fixture, otherFixture);
+            }
         }
     }
 }
@@ -2,6 +2,8 @@ package com.deco2800.game.physics;
 
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
 import com.deco2800.game.physics.raycast.RaycastHit;
 import com.deco2800.game.physics.raycast.SingleHitCallback;
@@ -13,19 +15,37 @@ import org.slf4j.LoggerFactory;
 /**
  * Process game physics using the Box2D library. See the Box2D documentation for examples or use
  * cases.
+ *
+ * <p>Physics is stepped at a fixed rate, independent of the frame rate. With interpolation on,
+ * entities are drawn between the last two physics steps rather than snapping to the latest, so
+ * movement stays smooth when frames and steps don't line up.
  */
 public class PhysicsEngine implements Disposable {
     private static final Logger logger = LoggerFactory.getLogger(PhysicsEngine.class);
-    private static final float MAX_UPDATE_TIME = 0.25f;
-    private static final float PHYSICS_TIMESTEP = 0.016f;
     private static final Vector2 GRAVITY = new Vector2(0f, -0f);
-    private static final int VELOCITY_ITERATIONS = 6;
-    private static final int POSITION_ITERATIONS = 2;
+    public static final int DEFAULT_STEP_RATE = 60;
+    public static final int DEFAULT_VELOCITY_ITERATIONS = 6;
+    public static final int DEFAULT_POSITION_ITERATIONS = 2;
+    public static final int DEFAULT_MAX_STEPS = 8;
+    private static final long OVERLOAD_REPORT_INTERVAL_MS = 1000;
 
     private final World world;
     private final GameTime timeSource;
     private final SingleHitCallback singleHitCallback = new SingleHitCallback();
+    private final Array<Body> bodies = new Array<>(false, 64);
+    private final Vector2 gridHitPoint = new Vector2();
+    private OccupancyGrid staticGrid;
+    private Body staticBody;
+    private short staticLayer;
     private float accumulator;
+    private float timestep = 1f / DEFAULT_STEP_RATE;
+    private int velocityIterations = DEFAULT_VELOCITY_ITERATIONS;
+    private int positionIterations = DEFAULT_POSITION_ITERATIONS;
+    private int maxSteps = DEFAULT_MAX_STEPS;
+    private boolean interpolating = false;
+    private long droppedSteps = 0;
+    private long stepCount = 0;
+    private long lastOverloadReport = -OVERLOAD_REPORT_INTERVAL_MS;
 
     public PhysicsEngine() {
         this(new World(GRAVITY, true), ServiceLocator.getTimeSource());
@@ -41,16 +61,138 @@ public class PhysicsEngine implements Disposable {
         // Updating physics isn't as easy as triggering an update every frame. Each frame could take a
         // different amount of time to run, but physics simulations are only stable if computed at a
         // consistent frame rate! See: https://gafferongames.com/post/fix_your_timestep/
-        float deltaTime = timeSource.getDeltaTime();
-        float maxTime = Math.min(deltaTime, MAX_UPDATE_TIME);
-        accumulator += maxTime;
+        accumulator += timeSource.getDeltaTime();
 
         // Depending on how much time has passed, we may compute 0 or more physics steps in one go. If
         // we need to catch up, we'll compute multiple in a row before getting to rendering.
-        while (accumulator >= PHYSICS_TIMESTEP) {
-            world.step(PHYSICS_TIMESTEP, VELOCITY_ITERATIONS, POSITION_ITERATIONS);
-            accumulator -= PHYSICS_TIMESTEP;
+        int steps = (int) (accumulator / timestep);
+        if (steps > maxSteps) {
+            // Catching up would make this frame even longer, and the next one further behind. Drop the
+            // extra steps so the simulation slows down instead.
+            reportOverload(steps - maxSteps);
+            accumulator -= (steps - maxSteps) * timestep;
+            steps = maxSteps;
         }
+        for (int i = 0; i < steps; i++) {
+            if (interpolating && i == steps - 1) {
+                storePreviousPositions();
+            }
+            world.step(timestep, velocityIterations, positionIterations);
+            accumulator -= timestep;
+            stepCount++;
+        }
+        if (accumulator < 0f) {
+            accumulator = 0f;
+        }
+    }
+
+    /**
+     * Record where each moving body is before the last step of the frame, to interpolate from
+     */
+    private void storePreviousPositions() {
+        world.getBodies(bodies);
+        for (int i = 0; i < bodies.size; i++) {
+            Body body = bodies.get(i);
+            if (body.getType() != BodyType.StaticBody && body.getUserData() instanceof BodyUserData) {
+                ((BodyUserData) body.getUserData()).previousPosition.set(body.getPosition());
+            }
+        }
+        bodies.clear();
+    }
+
+    private void reportOverload(int dropped) {
+        droppedSteps += dropped;
+        long now = timeSource.getTime();
+        if (now - lastOverloadReport >= OVERLOAD_REPORT_INTERVAL_MS) {
+            logger.warn("Physics can't keep up, dropped {} steps ({} in total)", dropped, droppedSteps);
+            lastOverloadReport = now;
+        }
+    }
+
+    /**
+     * Set how many physics steps are simulated each second. Lower rates use less CPU, but are less
+     * accurate.
+     *
+     * @param stepsPerSecond physics steps per second
+     */
+    public void setStepRate(int stepsPerSecond) {
+        if (stepsPerSecond <= 0) {
+            logger.error("Physics step rate must be positive, ignoring {}", stepsPerSecond);
+            return;
+        }
+        timestep = 1f / stepsPerSecond;
+    }
+
+    /**
+     * @return seconds simulated by each physics step
+     */
+    public float getTimestep() {
+        return timestep;
+    }
+
+    /**
+     * Set the Box2D solver iterations for each step. More iterations are more accurate but slower.
+     *
+     * @param velocity velocity iterations, default 6
+     * @param position position iterations, default 2
+     */
+    public void setIterations(int velocity, int position) {
+        if (velocity <= 0 || position <= 0) {
+            logger.error("Physics iterations must be positive, ignoring {} and {}", velocity, position);
+            return;
+        }
+        velocityIterations = velocity;
+        positionIterations = position;
+    }
+
+    /**
+     * Set the most physics steps to compute in one frame. When more are needed the extra steps are
+     * dropped and reported, slowing the simulation down rather than stalling the game.
+     *
+     * @param maxSteps most steps per frame
+     */
+    public void setMaxSteps(int maxSteps) {
+        if (maxSteps <= 0) {
+            logger.error("Max physics steps must be positive, ignoring {}", maxSteps);
+            return;
+        }
+        this.maxSteps = maxSteps;
+    }
+
+    /**
+     * @return number of physics steps computed so far
+     */
+    public long getStepCount() {
+        return stepCount;
+    }
+
+    /**
+     * @return total physics steps dropped because too many were needed in one frame
+     */
+    public long getDroppedSteps() {
+        return droppedSteps;
+    }
+
+    /**
+     * Set whether entities are drawn between the last two physics steps. Interpolated entities are up
+     * to one step behind the simulation.
+     *
+     * @param interpolating true to interpolate positions, false to snap them to the latest step
+     */
+    public void setInterpolating(boolean interpolating) {
+        this.interpolating = interpolating;
+    }
+
+    public boolean isInterpolating() {
+        return interpolating;
+    }
+
+    /**
+     * @return how far from the previous to the latest physics step entities should be drawn, from 0
+     * to 1
+     */
+    public float getInterpolationAlpha() {
+        return Math.min(accumulator / timestep, 1f);
     }
 
     public Body createBody(BodyDef bodyDef) {
@@ -77,9 +219,40 @@ public class PhysicsEngine implements Disposable {
         return world;
     }
 
+    /**
+     * Raycast static level geometry through an occupancy grid instead of Box2D. The body's fixtures
+     * marked with {@link SingleHitCallback#IGNORED_FIXTURE} are then ignored by Box2D raycasts, which
+     * only check the remaining colliders.
+     *
+     * @param body  body of the static geometry
+     * @param grid  grid of the same geometry
+     * @param layer physics layer of the geometry's fixtures
+     */
+    public void setStaticGeometry(Body body, OccupancyGrid grid, short layer) {
+        staticBody = body;
+        staticGrid = grid;
+        staticLayer = layer;
+    }
+
+    /**
+     * Raycast the static geometry with Box2D again, e.g. when its body is destroyed
+     */
+    public void clearStaticGeometry() {
+        staticBody = null;
+        staticGrid = null;
+    }
+
+    /**
+     * @return grid of the static level geometry, or null if there is none
+     */
+    public OccupancyGrid getStaticGrid() {
+        return staticGrid;
+    }
+
     /**
      * Cast a ray in a straight line from one point to another, checking for a collision against
-     * colliders in the specified layers.
+     * colliders in the specified layers. Static level geometry is checked in its occupancy grid, if
+     * set, and everything else with Box2D.
      *
      * @param from      The starting point of the ray.
      * @param to        The end point of the ray.
@@ -90,13 +263,31 @@ public class PhysicsEngine implements Disposable {
      */
     public boolean raycast(Vector2 from, Vector2 to, short layerMask, RaycastHit hit) {
         //Stops an error when raycast len == 0 by returning there is no hit
-        if (from.cpy().sub(to).len() == 0) {
+        if (from.x == to.x && from.y == to.y) {
             return false;
         }
+        float gridFraction = OccupancyGrid.MISS;
+        if (staticGrid != null && (layerMask & staticLayer) != 0) {
+            gridFraction = staticGrid.raycast(from.x, from.y, to.x, to.y);
+        }
+
         singleHitCallback.didHit = false;
         singleHitCallback.layerMask = layerMask;
         singleHitCallback.hit = hit;
-        world.rayCast(singleHitCallback, from, to);
+        singleHitCallback.ignoredBody = staticBody;
+        if (gridFraction == OccupancyGrid.MISS) {
+            world.rayCast(singleHitCallback, from, to);
+        } else {
+            // Only colliders closer than the grid hit matter
+            gridHitPoint.set(from).lerp(to, gridFraction);
+            if (gridFraction > 0f) {
+                world.rayCast(singleHitCallback, from, gridHitPoint);
+            }
+            if (!singleHitCallback.didHit) {
+                hit.point = gridHitPoint;
+                return true;
+            }
+        }
         return singleHitCallback.didHit;
     }
 
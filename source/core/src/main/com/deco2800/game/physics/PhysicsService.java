@@ -6,6 +6,7 @@ package com.deco2800.game.physics;
  */
 public class PhysicsService {
     private final PhysicsEngine engine;
+    private VisibilityService uncachedVisibility;
 
     public PhysicsService() {
         this(new PhysicsEngine());
@@ -18,4 +19,15 @@ public class PhysicsService {
     public PhysicsEngine getPhysics() {
         return engine;
     }
+
+    /**
+     * @return visibility checks in this engine which raycast every time, for when there is no shared
+     * {@link VisibilityService}
+     */
+    public VisibilityService getUncachedVisibility() {
+        if (uncachedVisibility == null) {
+            uncachedVisibility = new VisibilityService(engine, 0);
+        }
+        return uncachedVisibility;
+    }
 }
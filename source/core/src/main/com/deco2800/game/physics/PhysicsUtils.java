@@ -1,11 +1,13 @@
 package com.deco2800.game.physics;
 
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.deco2800.game.entities.Entity;
 import com.deco2800.game.physics.components.ColliderComponent;
 import com.deco2800.game.physics.components.PhysicsComponent;
 
 public class PhysicsUtils {
+    private static final Rectangle bounds = new Rectangle();
 
     private PhysicsUtils() {
         throw new IllegalStateException("Instantiating static util class");
@@ -19,4 +21,34 @@ public class PhysicsUtils {
                 .setAsBoxAligned(
                         boundingBox, PhysicsComponent.AlignX.CENTER, PhysicsComponent.AlignY.BOTTOM);
     }
+
+    /**
+     * Get the box around an entity's collider, relative to its position. This is where the entity
+     * really stands, which for most NPCs is a strip at the bottom of the sprite. Only use from the
+     * main thread.
+     *
+     * @param entity entity to get the collider of
+     * @param out    rectangle to store the bounds in
+     * @return out, set to the entity's whole scale if it has no collider
+     */
+    public static Rectangle getColliderBounds(Entity entity, Rectangle out) {
+        ColliderComponent collider = entity.getComponent(ColliderComponent.class);
+        if (collider == null || collider.getBounds(out) == null) {
+            out.set(0f, 0f, entity.getScaleX(), entity.getScaleY());
+        }
+        return out;
+    }
+
+    /**
+     * Get the centre of an entity's collider in the world, see {@link #getColliderBounds}. Only use
+     * from the main thread.
+     *
+     * @param entity entity to get the collider of
+     * @param out    vector to store the centre in
+     * @return out
+     */
+    public static Vector2 getColliderCenter(Entity entity, Vector2 out) {
+        getColliderBounds(entity, bounds).getCenter(out);
+        return out.add(entity.getX(), entity.getY());
+    }
 }
@@ -0,0 +1,163 @@
+package com.deco2800.game.physics;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.LongMap;
+import com.deco2800.game.entities.Entity;
+import com.deco2800.game.physics.raycast.RaycastHit;
+import com.deco2800.game.rendering.DebugRenderer;
+import com.deco2800.game.rendering.RenderService;
+import com.deco2800.game.services.ServiceLocator;
+
+/**
+ * Answers line of sight checks between entities, caching each answer for a few physics steps. AI
+ * tasks check whether their NPC can see the player every frame, often several times, and each check
+ * takes two raycasts. Asking again within the cache time, from the same entity to the same target,
+ * returns the earlier answer instead. Since entities only move when physics steps, the answer can
+ * only be stale by the cached number of steps.
+ *
+ * <p>Line of sight is blocked by obstacles. Use through {@link Entity#canSeeEntity(Entity)}.
+ */
+@SuppressWarnings("GDXJavaUnsafeIterator")
+public class VisibilityService {
+    public static final int DEFAULT_CACHE_STEPS = 3;
+    private static final long PRUNE_INTERVAL_STEPS = 300;
+
+    private final PhysicsEngine physics;
+    private final int cacheSteps;
+    private final LongMap<Sight> cache = new LongMap<>();
+    private final RaycastHit hit = new RaycastHit();
+    private final Vector2 from = new Vector2();
+    private final Vector2 to = new Vector2();
+    private final Vector2 fromPosition = new Vector2();
+    private final Vector2 toPosition = new Vector2();
+    private long lastPruneStep = 0;
+    private long queryCount = 0;
+    private long cacheHitCount = 0;
+
+    public VisibilityService(PhysicsEngine physics) {
+        this(physics, DEFAULT_CACHE_STEPS);
+    }
+
+    /**
+     * @param physics    physics engine to raycast in
+     * @param cacheSteps number of physics steps to keep each answer for. 0 to raycast every check.
+     */
+    public VisibilityService(PhysicsEngine physics, int cacheSteps) {
+        this.physics = physics;
+        this.cacheSteps = cacheSteps;
+    }
+
+    /**
+     * Check if there are any obstacles between two entities, centre to centre and position to
+     * position.
+     *
+     * @param source entity looking
+     * @param target entity being looked for
+     * @return true if no obstacle is in the way, false otherwise
+     */
+    public boolean canSee(Entity source, Entity target) {
+        queryCount++;
+        if (cacheSteps <= 0) {
+            return lineOfSight(source, target);
+        }
+
+        long step = physics.getStepCount();
+        long key = ((long) source.getId() << 32) | (target.getId() & 0xFFFFFFFFL);
+        Sight sight = cache.get(key);
+        if (sight != null && step - sight.step < cacheSteps) {
+            cacheHitCount++;
+            return sight.visible;
+        }
+
+        if (sight == null) {
+            sight = new Sight();
+            cache.put(key, sight);
+        }
+        sight.visible = lineOfSight(source, target);
+        sight.step = step;
+        if (step - lastPruneStep >= PRUNE_INTERVAL_STEPS) {
+            prune(step);
+        }
+        return sight.visible;
+    }
+
+    /**
+     * @return number of line of sight checks made
+     */
+    public long getQueryCount() {
+        return queryCount;
+    }
+
+    /**
+     * @return number of line of sight checks answered from the cache
+     */
+    public long getCacheHitCount() {
+        return cacheHitCount;
+    }
+
+    /**
+     * @return fraction of line of sight checks answered from the cache, from 0 to 1
+     */
+    public float getCacheHitRatio() {
+        return queryCount == 0 ? 0f : (float) cacheHitCount / queryCount;
+    }
+
+    public void resetStats() {
+        queryCount = 0;
+        cacheHitCount = 0;
+    }
+
+    /**
+     * Forget every cached answer, e.g. after obstacles are added or removed
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    private boolean lineOfSight(Entity source, Entity target) {
+        source.getCenterPosition(from);
+        target.getCenterPosition(to);
+        if (physics.raycast(from, to, PhysicsLayer.OBSTACLE, hit)) {
+            drawDebugLine(from, hit.point, Color.RED);
+            return false;
+        }
+
+        source.getPosition(fromPosition);
+        target.getPosition(toPosition);
+        if (physics.raycast(fromPosition, toPosition, PhysicsLayer.OBSTACLE, hit)) {
+            drawDebugLine(fromPosition, hit.point, Color.RED);
+            return false;
+        }
+
+        drawDebugLine(from, to, Color.BLUE);
+        return true;
+    }
+
+    /**
+     * Answers for entities which are gone or no longer checked would otherwise be kept forever
+     */
+    private void prune(long step) {
+        LongMap.Values<Sight> sights = cache.values();
+        while (sights.hasNext()) {
+            if (step - sights.next().step >= cacheSteps) {
+                sights.remove();
+            }
+        }
+        lastPruneStep = step;
+    }
+
+    private static void drawDebugLine(Vector2 lineFrom, Vector2 lineTo, Color color) {
+        RenderService renderService = ServiceLocator.getRenderService();
+        DebugRenderer debug = renderService == null ? null : renderService.getDebug();
+        // Lines are only cleared once drawn, so don't queue them while debug is off
+        if (debug != null && debug.getActive()) {
+            debug.drawLine(lineFrom.cpy(), lineTo.cpy(), color, 1);
+        }
+    }
+
+    private static class Sight {
+        private boolean visible;
+        private long step;
+    }
+}
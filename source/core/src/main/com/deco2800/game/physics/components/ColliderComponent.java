@@ -1,8 +1,10 @@
 package com.deco2800.game.physics.components;
 
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
 import com.deco2800.game.components.Component;
+import com.deco2800.game.physics.PhysicsContactListener;
 import com.deco2800.game.physics.PhysicsLayer;
 import com.deco2800.game.physics.components.PhysicsComponent.AlignX;
 import com.deco2800.game.physics.components.PhysicsComponent.AlignY;
@@ -17,6 +19,7 @@ import org.slf4j.LoggerFactory;
 @SuppressWarnings("UnusedReturnValue")
 public class ColliderComponent extends Component {
     protected static final Logger logger = LoggerFactory.getLogger(ColliderComponent.class);
+    private static final Vector2 vertex = new Vector2();
 
     protected final FixtureDef fixtureDef;
     protected Fixture fixture;
@@ -204,6 +207,37 @@ public class ColliderComponent extends Component {
         return fixture;
     }
 
+    /**
+     * Get the box around this collider, relative to the entity's position. Only use from the main
+     * thread.
+     *
+     * @param out rectangle to store the bounds in
+     * @return out, or null before created or if the collider isn't a polygon or circle
+     */
+    public Rectangle getBounds(Rectangle out) {
+        if (fixture == null) {
+            return null;
+        }
+        Shape shape = fixture.getShape();
+        if (shape instanceof CircleShape) {
+            CircleShape circle = (CircleShape) shape;
+            Vector2 position = circle.getPosition();
+            float radius = circle.getRadius();
+            return out.set(position.x - radius, position.y - radius, radius * 2, radius * 2);
+        }
+        if (!(shape instanceof PolygonShape) || ((PolygonShape) shape).getVertexCount() == 0) {
+            return null;
+        }
+        PolygonShape polygon = (PolygonShape) shape;
+        polygon.getVertex(0, vertex);
+        out.set(vertex.x, vertex.y, 0f, 0f);
+        for (int i = 1; i < polygon.getVertexCount(); i++) {
+            polygon.getVertex(i, vertex);
+            out.merge(vertex);
+        }
+        return out;
+    }
+
     /**
      * @return The {@link PhysicsLayer} this collider belongs to
      */
@@ -236,8 +270,22 @@ public class ColliderComponent extends Component {
         super.dispose();
         Body physBody = entity.getComponent(PhysicsComponent.class).getBody();
         if (physBody.getFixtureList().contains(fixture, true)) {
+            PhysicsContactListener.cancelQueuedEvents(fixture);
             physBody.destroyFixture(fixture);
         }
+        // Destroyed fixtures are reused by the world, so don't keep a reference to this one
+        fixture = null;
+    }
+
+    /**
+     * Create the fixture again if it was disposed while the entity was in play
+     */
+    @Override
+    public void reuse() {
+        if (fixture == null) {
+            Body physBody = entity.getComponent(PhysicsComponent.class).getBody();
+            fixture = physBody.createFixture(fixtureDef);
+        }
     }
 
     private Shape makeBoundingBox() {
@@ -4,6 +4,8 @@ import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.utils.Array;
 import com.deco2800.game.components.Component;
 import com.deco2800.game.physics.BodyUserData;
 import com.deco2800.game.physics.PhysicsContactListener;
@@ -21,6 +23,8 @@ public class PhysicsComponent extends Component {
     private static final float GROUND_FRICTION = 5f;
     private final PhysicsEngine physics;
     private final Body body;
+    private final BodyUserData userData = new BodyUserData();
+    private final Vector2 interpolatedPosition = new Vector2();
 
     /**
      * Create a physics component with default settings.
@@ -71,29 +75,59 @@ public class PhysicsComponent extends Component {
         body.setTransform(entity.getPosition(), 0f);
         body.setActive(true);
 
-        BodyUserData userData = new BodyUserData();
         userData.entity = entity;
+        userData.previousPosition.set(entity.getPosition());
         body.setUserData(userData);
 
-        entity.getEvents().addListener("setPosition", (Vector2 pos) -> body.setTransform(pos, 0f));
+        entity.getEvents().addListener("setPosition", (Vector2 pos) -> {
+            body.setTransform(pos, 0f);
+            // Moved rather than simulated, so don't interpolate from the old position
+            userData.previousPosition.set(pos);
+        });
     }
 
     /**
      * Entity position needs to be updated to match the new physics position. This should happen
-     * before other updates, which may use the new position.
+     * before other updates, which may use the new position. While the engine is interpolating, the
+     * entity is drawn between the body's last two positions, but stays at the latest for gameplay.
      */
     @Override
     public void earlyUpdate() {
         Vector2 bodyPos = body.getPosition();
         // Don't notify position changes due to physics
         entity.setPosition(bodyPos, false);
+        if (physics.isInterpolating()) {
+            interpolatedPosition.set(userData.previousPosition).lerp(bodyPos, physics.getInterpolationAlpha());
+            entity.setRenderPosition(interpolatedPosition.x, interpolatedPosition.y);
+        }
     }
 
     @Override
     public void dispose() {
+        Array<Fixture> fixtures = body.getFixtureList();
+        for (int i = 0; i < fixtures.size; i++) {
+            PhysicsContactListener.cancelQueuedEvents(fixtures.get(i));
+        }
         physics.destroyBody(body);
     }
 
+    /**
+     * Keep the body for reuse, but take it out of the simulation
+     */
+    @Override
+    public void recycle() {
+        body.setLinearVelocity(0f, 0f);
+        body.setActive(false);
+    }
+
+    @Override
+    public void reuse() {
+        body.setTransform(entity.getPosition(), 0f);
+        userData.previousPosition.set(entity.getPosition());
+        body.setLinearVelocity(0f, 0f);
+        body.setActive(enabled);
+    }
+
     @Override
     public void setEnabled(boolean enabled) {
         super.setEnabled(enabled);
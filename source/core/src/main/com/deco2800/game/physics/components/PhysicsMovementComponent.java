@@ -4,6 +4,7 @@ import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.deco2800.game.components.CombatStatsComponent;
 import com.deco2800.game.components.Component;
+import com.deco2800.game.events.EventKey;
 import com.deco2800.game.utils.math.Vector2Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,6 +15,15 @@ import org.slf4j.LoggerFactory;
  */
 public class PhysicsMovementComponent extends Component {
     private static final Logger logger = LoggerFactory.getLogger(PhysicsMovementComponent.class);
+    // Triggered every frame while moving, so looked up once
+    private static final EventKey EVT_LEFT_START = EventKey.of("LeftStart");
+    private static final EventKey EVT_RIGHT_START = EventKey.of("RightStart");
+    private static final EventKey EVT_UP_START = EventKey.of("UpStart");
+    private static final EventKey EVT_DOWN_START = EventKey.of("DownStart");
+    private static final EventKey EVT_STOP_LEFT = EventKey.of("stopLeft");
+    private static final EventKey EVT_STOP_RIGHT = EventKey.of("stopRight");
+    private static final EventKey EVT_STOP_UP = EventKey.of("stopUp");
+    private static final EventKey EVT_STOP_DOWN = EventKey.of("stopDown");
     private PhysicsComponent physicsComponent;
     private Vector2 targetPosition;
     private boolean movementEnabled = true;
@@ -21,6 +31,9 @@ public class PhysicsMovementComponent extends Component {
     private boolean stopped = false;
     private String previousDirection = null;
     private boolean death = false;
+    private final Vector2 direction = new Vector2();
+    private final Vector2 desiredVelocity = new Vector2();
+    private final Vector2 impulse = new Vector2();
 
 
     @Override
@@ -28,6 +41,20 @@ public class PhysicsMovementComponent extends Component {
         physicsComponent = entity.getComponent(PhysicsComponent.class);
     }
 
+    /**
+     * Movement is reset on reuse rather than when recycled, since recycling the entity's AI stops its
+     * movement.
+     */
+    @Override
+    public void reuse() {
+        movementEnabled = true;
+        targetPosition = null;
+        maxSpeed = Vector2Utils.ONE;
+        stopped = false;
+        previousDirection = null;
+        death = false;
+    }
+
     @Override
     public void update() {
         if (movementEnabled && targetPosition != null) {
@@ -53,16 +80,16 @@ public class PhysicsMovementComponent extends Component {
             if (previousDirection != null && !stopped) {
                 switch (previousDirection) {
                     case "left":
-                        this.getEntity().getEvents().trigger("stopLeft");
+                        this.getEntity().getEvents().trigger(EVT_STOP_LEFT);
                         break;
                     case "up":
-                        this.getEntity().getEvents().trigger("stopUp");
+                        this.getEntity().getEvents().trigger(EVT_STOP_UP);
                         break;
                     case "right":
-                        this.getEntity().getEvents().trigger("stopRight");
+                        this.getEntity().getEvents().trigger(EVT_STOP_RIGHT);
                         break;
                     default:
-                        this.getEntity().getEvents().trigger("stopDown");
+                        this.getEntity().getEvents().trigger(EVT_STOP_DOWN);
                         break;
                 }
                 stopped = true;
@@ -99,7 +126,7 @@ public class PhysicsMovementComponent extends Component {
      */
     public void downAnimation() {
         previousDirection = "down";
-        this.getEntity().getEvents().trigger("DownStart");
+        this.getEntity().getEvents().trigger(EVT_DOWN_START);
     }
 
     /**
@@ -107,7 +134,7 @@ public class PhysicsMovementComponent extends Component {
      */
     public void upAnimation() {
         previousDirection = "up";
-        this.getEntity().getEvents().trigger("UpStart");
+        this.getEntity().getEvents().trigger(EVT_UP_START);
     }
 
     /**
@@ -115,7 +142,7 @@ public class PhysicsMovementComponent extends Component {
      */
     public void leftAnimation() {
         previousDirection = "left";
-        this.getEntity().getEvents().trigger("LeftStart");
+        this.getEntity().getEvents().trigger(EVT_LEFT_START);
     }
 
     /**
@@ -123,7 +150,7 @@ public class PhysicsMovementComponent extends Component {
      */
     public void rightAnimation() {
         previousDirection = "right";
-        this.getEntity().getEvents().trigger("RightStart");
+        this.getEntity().getEvents().trigger(EVT_RIGHT_START);
     }
 
     /**
@@ -132,17 +159,18 @@ public class PhysicsMovementComponent extends Component {
     public void deathAnimation() {
         if (!death) {
             death = true;
-            if (Math.abs(this.getDirection().x) > Math.abs(this.getDirection().y)) { //x-axis movement
-                if (this.getDirection().x < 0) { //left
-                    this.getEntity().getEvents().trigger("LeftStart");
-                } else if (this.getDirection().x > 0) { //right
-                    this.getEntity().getEvents().trigger("RightStart");
+            getDirection(direction);
+            if (Math.abs(direction.x) > Math.abs(direction.y)) { //x-axis movement
+                if (direction.x < 0) { //left
+                    this.getEntity().getEvents().trigger(EVT_LEFT_START);
+                } else if (direction.x > 0) { //right
+                    this.getEntity().getEvents().trigger(EVT_RIGHT_START);
                 }
-            } else if (Math.abs(this.getDirection().x) < Math.abs(this.getDirection().y)) { //y axis movement
-                if (this.getDirection().y < 0) { //down
-                    this.getEntity().getEvents().trigger("DownStart");
-                } else if (this.getDirection().y > 0) { //up
-                    this.getEntity().getEvents().trigger("UpStart");
+            } else if (Math.abs(direction.x) < Math.abs(direction.y)) { //y axis movement
+                if (direction.y < 0) { //down
+                    this.getEntity().getEvents().trigger(EVT_DOWN_START);
+                } else if (direction.y > 0) { //up
+                    this.getEntity().getEvents().trigger(EVT_UP_START);
                 }
             }
         }
@@ -153,16 +181,17 @@ public class PhysicsMovementComponent extends Component {
      */
     public void directionAnimation() {
         if (Boolean.FALSE.equals(this.getEntity().getComponent(CombatStatsComponent.class).isDead())) {
-            if (Math.abs(this.getDirection().x) > Math.abs(this.getDirection().y)) { //x-axis movement
-                if (this.getDirection().x < 0) { //left
+            getDirection(direction);
+            if (Math.abs(direction.x) > Math.abs(direction.y)) { //x-axis movement
+                if (direction.x < 0) { //left
                     leftAnimation();
-                } else if (this.getDirection().x > 0) { //right
+                } else if (direction.x > 0) { //right
                     rightAnimation();
                 }
             } else { //y axis movement
-                if (this.getDirection().y < 0) { //down
+                if (direction.y < 0) { //down
                     downAnimation();
-                } else if (this.getDirection().y > 0) { //up
+                } else if (direction.y > 0) { //up
                     upAnimation();
                 }
             }
@@ -173,18 +202,28 @@ public class PhysicsMovementComponent extends Component {
 
 
     private void updateDirection(Body body) {
-        Vector2 desiredVelocity = getDirection().scl(maxSpeed);
+        desiredVelocity.set(getDirection(direction)).scl(maxSpeed);
         setToVelocity(body, desiredVelocity);
         directionAnimation();
     }
 
     private void setToVelocity(Body body, Vector2 desiredVelocity) {
         Vector2 velocity = body.getLinearVelocity();
-        Vector2 impulse = desiredVelocity.cpy().sub(velocity).scl(body.getMass());
+        impulse.set(desiredVelocity).sub(velocity).scl(body.getMass());
         body.applyLinearImpulse(impulse, body.getWorldCenter(), true);
     }
 
     public Vector2 getDirection() {
-        return targetPosition.cpy().sub(entity.getPosition()).nor();
+        return getDirection(new Vector2());
+    }
+
+    /**
+     * Get the direction to the target without allocating.
+     *
+     * @param out vector to set to the normalised direction
+     * @return out
+     */
+    public Vector2 getDirection(Vector2 out) {
+        return out.set(targetPosition).sub(entity.getX(), entity.getY()).nor();
     }
 }
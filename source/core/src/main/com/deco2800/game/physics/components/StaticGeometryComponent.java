@@ -0,0 +1,107 @@
+package com.deco2800.game.physics.components;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.FixtureDef;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.utils.Array;
+import com.deco2800.game.components.Component;
+import com.deco2800.game.physics.OccupancyGrid;
+import com.deco2800.game.physics.PhysicsEngine;
+import com.deco2800.game.physics.PhysicsLayer;
+import com.deco2800.game.physics.raycast.SingleHitCallback;
+import com.deco2800.game.services.ServiceLocator;
+
+/**
+ * Attaches a set of box colliders to an entity's physics body, one fixture per rectangle. This lets
+ * all of a level's static geometry share a single body instead of having a body per wall.
+ *
+ * <p>Rectangles are relative to the entity's position. Requires a static PhysicsComponent. With a
+ * grid cell size set, the rectangles are also drawn into an {@link OccupancyGrid} which the physics
+ * engine raycasts instead of these fixtures. Rectangles too thin to fill a cell are left out of the
+ * grid and raycast by Box2D as usual.
+ */
+public class StaticGeometryComponent extends Component {
+    private final Array<Rectangle> rectangles;
+    private short layer = PhysicsLayer.OBSTACLE;
+    private float gridCellSize = 0f;
+    private PhysicsEngine gridPhysics;
+
+    /**
+     * @param rectangles collider rectangles, relative to the entity's position
+     */
+    public StaticGeometryComponent(Array<Rectangle> rectangles) {
+        this.rectangles = rectangles;
+    }
+
+    /**
+     * Set the collider layer of every rectangle
+     *
+     * @param layerMask Bitmask of {@link PhysicsLayer} the colliders belong to, default = OBSTACLE
+     * @return self
+     */
+    public StaticGeometryComponent setLayer(short layerMask) {
+        this.layer = layerMask;
+        return this;
+    }
+
+    /**
+     * Raycast the geometry through an occupancy grid rather than Box2D. Suits geometry lined up with
+     * a tile grid.
+     *
+     * @param cellSize width and height of each grid cell, usually the tile size
+     * @return self
+     */
+    public StaticGeometryComponent setGridCellSize(float cellSize) {
+        this.gridCellSize = cellSize;
+        return this;
+    }
+
+    /**
+     * @return number of collider rectangles on this entity
+     */
+    public int getRectangleCount() {
+        return rectangles.size;
+    }
+
+    @Override
+    public void create() {
+        Body body = entity.getComponent(PhysicsComponent.class).getBody();
+        FixtureDef fixtureDef = new FixtureDef();
+        fixtureDef.filter.categoryBits = layer;
+        PolygonShape shape = new PolygonShape();
+        fixtureDef.shape = shape;
+
+        Vector2 position = entity.getPosition();
+        Vector2 center = new Vector2();
+        for (Rectangle rectangle : rectangles) {
+            rectangle.getCenter(center);
+            shape.setAsBox(rectangle.width / 2, rectangle.height / 2, center, 0f);
+            // Box2D copies the shape into the fixture, so it can be reused
+            Fixture fixture = body.createFixture(fixtureDef);
+            // Rectangles left out of the grid are still raycast by Box2D
+            if (gridCellSize > 0f
+                    && OccupancyGrid.coversCellCentre(rectangle, position.x, position.y, gridCellSize)) {
+                fixture.setUserData(SingleHitCallback.IGNORED_FIXTURE);
+            }
+        }
+        shape.dispose();
+
+        if (gridCellSize > 0f) {
+            OccupancyGrid grid =
+                    OccupancyGrid.fromRectangles(rectangles, position.x, position.y, gridCellSize);
+            gridPhysics = ServiceLocator.getPhysicsService().getPhysics();
+            gridPhysics.setStaticGeometry(body, grid, layer);
+        }
+    }
+
+    @Override
+    public void dispose() {
+        if (gridPhysics != null) {
+            gridPhysics.clearStaticGeometry();
+            gridPhysics = null;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.deco2800.game.physics.raycast;
 
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.Fixture;
 import com.badlogic.gdx.physics.box2d.RayCastCallback;
 
@@ -12,14 +13,27 @@ public class SingleHitCallback implements RayCastCallback {
     public short layerMask = ~0;
     public RaycastHit hit;
     public boolean didHit;
+    /**
+     * User data marking a fixture of {@link #ignoredBody} as raycast some other way
+     */
+    public static final Object IGNORED_FIXTURE = new Object();
+    /**
+     * Fixtures of this body marked with {@link #IGNORED_FIXTURE} are never hit, e.g. geometry raycast
+     * through an occupancy grid
+     */
+    public Body ignoredBody;
 
     @Override
     public float reportRayFixture(Fixture fixture, Vector2 point, Vector2 normal, float fraction) {
-        if ((fixture.getFilterData().categoryBits & layerMask) != 0) {
+        if ((fixture.getFilterData().categoryBits & layerMask) != 0 && !isIgnored(fixture)) {
             didHit = true;
             hit.point = point;
             return fraction; // Continue in case of closer object
         }
         return 1; // Ignore this collision, it wasn't in the layer mask.
     }
+
+    private boolean isIgnored(Fixture fixture) {
+        return fixture.getBody() == ignoredBody && fixture.getUserData() == IGNORED_FIXTURE;
+    }
 }
@@ -0,0 +1,84 @@
+package com.deco2800.game.rendering;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.Animation.PlayMode;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Shares animations between every {@link AnimationRenderComponent} using the same texture atlas. Each
+ * animation is built once per atlas, region name, frame duration and play mode, rather than looking
+ * up its regions and copying them into a new Animation for every entity. The sets of animations
+ * added to components are shared too, so all a component stores is its set, the animation playing
+ * and how far through it is.
+ *
+ * <p>Shared animations must not be changed. Atlases are held weakly, so an unloaded atlas's
+ * animations are dropped once nothing uses it. Only use from the render thread.
+ */
+public class AnimationCache {
+    private static final Map<TextureAtlas, ObjectMap<String, Array<Animation<TextureRegion>>>> animations =
+            new WeakHashMap<>();
+    private static final Map<TextureAtlas, AnimationSet> emptySets = new WeakHashMap<>();
+
+    private AnimationCache() {
+        throw new IllegalStateException("Instantiating static util class");
+    }
+
+    /**
+     * Get the shared animation of a region in an atlas, building it the first time.
+     *
+     * @param atlas         atlas containing the animation
+     * @param name          name of the animation's regions in the atlas
+     * @param frameDuration how long, in seconds, to show each frame
+     * @param playMode      how the animation should be played
+     * @return shared animation, or null if the atlas has no regions with the name
+     */
+    public static Animation<TextureRegion> getAnimation(
+            TextureAtlas atlas, String name, float frameDuration, PlayMode playMode) {
+        ObjectMap<String, Array<Animation<TextureRegion>>> byName =
+                animations.computeIfAbsent(atlas, key -> new ObjectMap<>());
+        Array<Animation<TextureRegion>> variants = byName.get(name);
+        if (variants != null) {
+            for (int i = 0; i < variants.size; i++) {
+                Animation<TextureRegion> animation = variants.get(i);
+                if (animation.getFrameDuration() == frameDuration && animation.getPlayMode() == playMode) {
+                    return animation;
+                }
+            }
+        }
+
+        Array<AtlasRegion> regions = atlas.findRegions(name);
+        if (regions == null || regions.size == 0) {
+            return null;
+        }
+        Animation<TextureRegion> animation = new Animation<>(frameDuration, regions, playMode);
+        if (variants == null) {
+            variants = new Array<>(false, 1);
+            byName.put(name, variants);
+        }
+        variants.add(animation);
+        return animation;
+    }
+
+    /**
+     * Drop every cached animation. Components keep the animations they have already added.
+     */
+    public static void clear() {
+        animations.clear();
+        emptySets.clear();
+    }
+
+    /**
+     * @param atlas atlas the animations will come from
+     * @return shared set with no animations, which a component's animations are added to
+     */
+    static AnimationSet getEmptySet(TextureAtlas atlas) {
+        return emptySets.computeIfAbsent(atlas, key -> new AnimationSet());
+    }
+}
@@ -2,17 +2,11 @@ package com.deco2800.game.rendering;
 
 import com.badlogic.gdx.graphics.g2d.*;
 import com.badlogic.gdx.graphics.g2d.Animation.PlayMode;
-import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
-import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.Array;
 import com.deco2800.game.services.GameTime;
 import com.deco2800.game.services.ServiceLocator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * Renders animations from a texture atlas on an entity.
  *
@@ -34,7 +28,10 @@ public class AnimationRenderComponent extends RenderComponent {
     private static final Logger logger = LoggerFactory.getLogger(AnimationRenderComponent.class);
     private final GameTime timeSource;
     private final TextureAtlas atlas;
-    private final Map<String, Animation<TextureRegion>> animations;
+    /**
+     * Animations added to this component, shared with other components. See {@link AnimationCache}.
+     */
+    private AnimationSet animations;
     private Animation<TextureRegion> currentAnimation;
     private String currentAnimationName;
     private float animationPlayTime;
@@ -48,7 +45,7 @@ public class AnimationRenderComponent extends RenderComponent {
      */
     public AnimationRenderComponent(TextureAtlas atlas) {
         this.atlas = atlas;
-        this.animations = new HashMap<>(4);
+        this.animations = AnimationCache.getEmptySet(atlas);
         timeSource = ServiceLocator.getTimeSource();
         scaleFactor = 1f;
     }
@@ -75,19 +72,19 @@ public class AnimationRenderComponent extends RenderComponent {
      * @return true if added successfully, false otherwise
      */
     public boolean addAnimation(String name, float frameDuration, PlayMode playMode) {
-        Array<AtlasRegion> regions = atlas.findRegions(name);
-        if (regions == null || regions.size == 0) {
+        Animation<TextureRegion> animation =
+                AnimationCache.getAnimation(atlas, name, frameDuration, playMode);
+        if (animation == null) {
             logger.warn("Animation {} not found in texture atlas", name);
             return false;
-        } else if (animations.containsKey(name)) {
+        } else if (animations.contains(name)) {
             logger.warn(
                     "Animation {} already added in texture atlas. Animations should only be added once.",
                     name);
             return false;
         }
 
-        Animation<TextureRegion> animation = new Animation<>(frameDuration, regions, playMode);
-        animations.put(name, animation);
+        animations = animations.with(name, animation);
         logger.debug("Adding animation {}", name);
         return true;
     }
@@ -108,7 +105,11 @@ public class AnimationRenderComponent extends RenderComponent {
      */
     public boolean removeAnimation(String name) {
         logger.debug("Removing animation {}", name);
-        return animations.remove(name) != null;
+        if (!animations.contains(name)) {
+            return false;
+        }
+        animations = animations.without(name);
+        return true;
     }
 
     /**
@@ -118,7 +119,7 @@ public class AnimationRenderComponent extends RenderComponent {
      * @return true if added, false otherwise.
      */
     public boolean hasAnimation(String name) {
-        return animations.containsKey(name);
+        return animations.contains(name);
     }
 
     /**
@@ -127,7 +128,7 @@ public class AnimationRenderComponent extends RenderComponent {
      * @param name Name of the animation to play.
      */
     public void startAnimation(String name) {
-        Animation<TextureRegion> animation = animations.getOrDefault(name, null);
+        Animation<TextureRegion> animation = animations.get(name);
         if (animation == null) {
             logger.error(
                     "Attempted to play unknown animation {}. Ensure animation is added before playback.",
@@ -158,6 +159,12 @@ public class AnimationRenderComponent extends RenderComponent {
         return true;
     }
 
+    @Override
+    public void recycle() {
+        super.recycle();
+        stopAnimation();
+    }
+
     /**
      * Get the name of the animation currently being played.
      *
@@ -176,14 +183,13 @@ public class AnimationRenderComponent extends RenderComponent {
             drawWithScale(batch);
             return;
         }
-        Vector2 positionCenter = entity.getCenterPosition();
-        float angle = entity.getAngle();
-        Sprite sprite = new Sprite(currentAnimation.getKeyFrame(animationPlayTime));
-        sprite.setScale(entity.getScale().x / sprite.getWidth(),
-                entity.getScale().y / sprite.getHeight());
-        sprite.setRotation(angle);
-        sprite.setCenter(positionCenter.x, positionCenter.y);
-        sprite.draw(batch);
+        // Stretch the key frame over the entity and rotate it about the entity's centre, drawing it
+        // straight from the atlas rather than through a new Sprite each frame
+        TextureRegion region = currentAnimation.getKeyFrame(animationPlayTime);
+        float width = entity.getScaleX();
+        float height = entity.getScaleY();
+        batch.draw(region, entity.getRenderCenterX() - width / 2f, entity.getRenderCenterY() - height / 2f,
+                width / 2f, height / 2f, width, height, 1f, 1f, entity.getAngle());
         animationPlayTime += timeSource.getDeltaTime();
     }
 
@@ -193,21 +199,25 @@ public class AnimationRenderComponent extends RenderComponent {
         }
         TextureRegion region = currentAnimation.getKeyFrame(animationPlayTime);
 
-        Vector2 scale = entity.getScale().cpy();
-        Vector2 pos = entity.getPosition().cpy();
+        float width = entity.getScaleX();
+        float height = entity.getScaleY();
+        float x = entity.getRenderX();
+        float y = entity.getRenderY();
 
         // apply scale if one exists
         if (scaleFactor != 1f) {
-            scale.scl(scaleFactor);
             /* Without scaling, the animation center position will be (x/2, y/2).
             Where x, y are the entities scale. If we scale up by 3, this position
             becomes (3x/2, 3y/2). We need to readjust the position to (x/2, y/2).
             We do this by subtracting the difference, which is (x, y) * (scaleFactor - 1) / 2.
             E.G. (3x/2, 3y/2) - ((x, y) * (3 - 1) / 2) = (x/2, y/2) */
-            pos.sub(entity.getScale().cpy().scl((scaleFactor - 1f) / 2f));
+            x -= width * (scaleFactor - 1f) / 2f;
+            y -= height * (scaleFactor - 1f) / 2f;
+            width *= scaleFactor;
+            height *= scaleFactor;
         }
 
-        batch.draw(region, pos.x, pos.y, scale.x, scale.y);
+        batch.draw(region, x, y, width, height);
         animationPlayTime += timeSource.getDeltaTime();
     }
 
@@ -219,4 +229,17 @@ public class AnimationRenderComponent extends RenderComponent {
     public void setAnimationScale(float scaleFactor) {
         this.scaleFactor = scaleFactor;
     }
+
+    /**
+     * Scaled animations are drawn past the entity's bounds, by half the extra size on each side
+     */
+    @Override
+    protected float getCullMargin() {
+        float margin = super.getCullMargin();
+        if (scaleFactor > 1f) {
+            float size = Math.max(Math.abs(entity.getScaleX()), Math.abs(entity.getScaleY()));
+            margin += size * (scaleFactor - 1f) / 2f;
+        }
+        return margin;
+    }
 }
@@ -0,0 +1,74 @@
+package com.deco2800.game.rendering;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * An unchanging set of named animations. Adding an animation gives the set with it added, which is
+ * shared by every component that added the same animations in the same order, so entities built by
+ * the same factory share one set. See {@link AnimationCache}.
+ */
+final class AnimationSet {
+    private final ObjectMap<String, Animation<TextureRegion>> animations;
+    /**
+     * Sets with one more animation, by the animation added. Animations are shared, so each one is
+     * only ever added under the name of its regions.
+     */
+    private ObjectMap<Animation<TextureRegion>, AnimationSet> added;
+
+    AnimationSet() {
+        this(new ObjectMap<>(0));
+    }
+
+    private AnimationSet(ObjectMap<String, Animation<TextureRegion>> animations) {
+        this.animations = animations;
+    }
+
+    /**
+     * @param name name of the animation
+     * @return animation, or null if not in the set
+     */
+    Animation<TextureRegion> get(String name) {
+        return animations.get(name);
+    }
+
+    boolean contains(String name) {
+        return animations.containsKey(name);
+    }
+
+    int size() {
+        return animations.size;
+    }
+
+    /**
+     * @param name      name of an animation not in the set
+     * @param animation shared animation from {@link AnimationCache}
+     * @return shared set with the animation added
+     */
+    AnimationSet with(String name, Animation<TextureRegion> animation) {
+        if (added == null) {
+            added = new ObjectMap<>(2);
+        }
+        AnimationSet next = added.get(animation);
+        if (next == null) {
+            ObjectMap<String, Animation<TextureRegion>> copy = new ObjectMap<>(animations);
+            copy.put(name, animation);
+            next = new AnimationSet(copy);
+            added.put(animation, next);
+        }
+        return next;
+    }
+
+    /**
+     * Animations are rarely removed, so the set without one isn't shared.
+     *
+     * @param name name of an animation in the set
+     * @return new set without the animation
+     */
+    AnimationSet without(String name) {
+        ObjectMap<String, Animation<TextureRegion>> copy = new ObjectMap<>(animations);
+        copy.remove(name);
+        return new AnimationSet(copy);
+    }
+}
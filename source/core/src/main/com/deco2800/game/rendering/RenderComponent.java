@@ -1,6 +1,7 @@
 package com.deco2800.game.rendering;
 
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.utils.Disposable;
 import com.deco2800.game.components.Component;
 import com.deco2800.game.services.ServiceLocator;
@@ -11,6 +12,10 @@ import com.deco2800.game.services.ServiceLocator;
  */
 public abstract class RenderComponent extends Component implements Renderable, Disposable {
     private static final int DEFAULT_LAYER = 1;
+    /**
+     * Distance outside the entity's bounds that it may still draw, e.g. when rotated
+     */
+    private static final float CULL_MARGIN = 0.5f;
 
     @Override
     public void create() {
@@ -22,6 +27,16 @@ public abstract class RenderComponent extends Component implements Renderable, D
         ServiceLocator.getRenderService().unregister(this);
     }
 
+    @Override
+    public void recycle() {
+        ServiceLocator.getRenderService().unregister(this);
+    }
+
+    @Override
+    public void reuse() {
+        ServiceLocator.getRenderService().register(this);
+    }
+
     @Override
     public void render(SpriteBatch batch) {
         draw(batch);
@@ -40,7 +55,33 @@ public abstract class RenderComponent extends Component implements Renderable, D
     @Override
     public float getZIndex() {
         // The smaller the Y value, the higher the Z index, so that closer entities are drawn in front
-        return -entity.getPosition().y;
+        return -entity.getRenderY();
+    }
+
+    /**
+     * Cull the entity if its bounds, extended by {@link #getCullMargin()}, are outside the view.
+     *
+     * @param view area of the world the camera can see
+     * @return true if the entity's bounds overlap the view, false otherwise
+     */
+    @Override
+    public boolean isInView(Rectangle view) {
+        float x = entity.getRenderX();
+        float y = entity.getRenderY();
+        float margin = getCullMargin();
+        float minX = Math.min(x, x + entity.getScaleX()) - margin;
+        float maxX = Math.max(x, x + entity.getScaleX()) + margin;
+        float minY = Math.min(y, y + entity.getScaleY()) - margin;
+        float maxY = Math.max(y, y + entity.getScaleY()) + margin;
+        return minX <= view.x + view.width && maxX >= view.x
+                && minY <= view.y + view.height && maxY >= view.y;
+    }
+
+    /**
+     * @return distance outside the entity's bounds that this component may draw
+     */
+    protected float getCullMargin() {
+        return CULL_MARGIN;
     }
 
     /**
@@ -0,0 +1,120 @@
+package com.deco2800.game.rendering;
+
+import com.badlogic.gdx.utils.Array;
+
+import java.util.Comparator;
+
+/**
+ * The renderables in a single layer, kept in rendering order. Each renderable's Z index is read once
+ * per sort and cached, rather than on every comparison.
+ *
+ * <p>Most renderables don't move between frames, so the layer is almost always nearly sorted already
+ * and is re-sorted with an insertion sort, which only moves the renderables whose Z index changed.
+ * After many renderables have been added at once, or when a frame moves too much, a full sort is done
+ * instead.
+ */
+class RenderLayer {
+    /**
+     * Fully sort once more than 1/n of the layer has been added since the last sort
+     */
+    private static final int FULL_SORT_DIVISOR = 8;
+    private static final Comparator<Entry> BY_Z_INDEX = (a, b) -> Float.compare(a.zIndex, b.zIndex);
+
+    private final Array<Entry> entries;
+    private int added = 0;
+
+    RenderLayer(int capacity) {
+        entries = new Array<>(true, capacity, Entry.class);
+    }
+
+    void add(Renderable renderable) {
+        entries.add(new Entry(renderable));
+        added++;
+    }
+
+    /**
+     * @param renderable renderable to remove
+     * @return true if the renderable was in the layer, false otherwise
+     */
+    boolean remove(Renderable renderable) {
+        Entry[] items = entries.items;
+        for (int i = 0; i < entries.size; i++) {
+            if (items[i].renderable == renderable) {
+                entries.removeIndex(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    int size() {
+        return entries.size;
+    }
+
+    /**
+     * @param index index in rendering order
+     * @return renderable at the index
+     */
+    Renderable get(int index) {
+        return entries.items[index].renderable;
+    }
+
+    /**
+     * Sort the layer into rendering order, lowest Z index first. Renderables with equal Z indexes keep
+     * their previous order.
+     */
+    void sort() {
+        Entry[] items = entries.items;
+        int size = entries.size;
+        for (int i = 0; i < size; i++) {
+            items[i].zIndex = items[i].renderable.getZIndex();
+        }
+
+        if (added > size / FULL_SORT_DIVISOR) {
+            fullSort();
+            return;
+        }
+        added = 0;
+
+        // Past roughly n log n moves a full sort would have been quicker
+        long shifts = 0;
+        long maxShifts = (long) size * (32 - Integer.numberOfLeadingZeros(size));
+        for (int i = 1; i < size; i++) {
+            Entry entry = items[i];
+            float zIndex = entry.zIndex;
+            int j = i - 1;
+            if (items[j].zIndex <= zIndex) {
+                continue;
+            }
+            while (j >= 0 && items[j].zIndex > zIndex) {
+                items[j + 1] = items[j];
+                j--;
+            }
+            items[j + 1] = entry;
+            shifts += i - 1 - j;
+            if (shifts > maxShifts) {
+                fullSort();
+                return;
+            }
+        }
+    }
+
+    private void fullSort() {
+        entries.sort(BY_Z_INDEX);
+        added = 0;
+    }
+
+    void clear() {
+        entries.clear();
+        added = 0;
+    }
+
+    private static class Entry {
+        private final Renderable renderable;
+        private float zIndex;
+
+        private Entry(Renderable renderable) {
+            this.renderable = renderable;
+        }
+    }
+}
@@ -1,14 +1,18 @@
 package com.deco2800.game.rendering;
 
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.scenes.scene2d.Stage;
-import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
+import com.deco2800.game.components.CameraComponent;
 import com.deco2800.game.utils.SortedIntMap;
 
 /**
  * Globally accessible service for registering renderable components. Any renderable registered with
- * this service has render() called once per frame.
+ * this service has render() called once per frame, unless a camera has been set and the renderable
+ * is outside of its view.
  */
 @SuppressWarnings("GDXJavaUnsafeIterator")
 public class RenderService implements Disposable {
@@ -17,10 +21,13 @@ public class RenderService implements Disposable {
     /**
      * Map from layer to list of renderables, allows us to render each layer in the correct order
      */
-    private final SortedIntMap<Array<Renderable>> renderables =
-            new SortedIntMap<>(INITIAL_LAYER_CAPACITY);
+    private final SortedIntMap<RenderLayer> renderables = new SortedIntMap<>(INITIAL_LAYER_CAPACITY);
+    private final Rectangle view = new Rectangle();
     private Stage stage;
     private DebugRenderer debugRenderer;
+    private CameraComponent camera;
+    private int drawnCount = 0;
+    private int culledCount = 0;
 
     /**
      * Register a new renderable.
@@ -30,9 +37,9 @@ public class RenderService implements Disposable {
     public void register(Renderable renderable) {
         int layerIndex = renderable.getLayer();
         if (!renderables.containsKey(layerIndex)) {
-            renderables.put(layerIndex, new Array<>(INITIAL_CAPACITY));
+            renderables.put(layerIndex, new RenderLayer(INITIAL_CAPACITY));
         }
-        Array<Renderable> layer = renderables.get(layerIndex);
+        RenderLayer layer = renderables.get(layerIndex);
         layer.add(renderable);
     }
 
@@ -42,9 +49,9 @@ public class RenderService implements Disposable {
      * @param renderable renderable to unregister.
      */
     public void unregister(Renderable renderable) {
-        Array<Renderable> layer = renderables.get(renderable.getLayer());
+        RenderLayer layer = renderables.get(renderable.getLayer());
         if (layer != null) {
-            layer.removeValue(renderable, true);
+            layer.remove(renderable);
         }
     }
 
@@ -54,16 +61,65 @@ public class RenderService implements Disposable {
      * @param batch batch to render to.
      */
     public void render(SpriteBatch batch) {
-        for (Array<Renderable> layer : renderables) {
-            // Sort into rendering order
+        boolean cull = updateView();
+        drawnCount = 0;
+        culledCount = 0;
+        for (RenderLayer layer : renderables) {
+            // Sort into rendering order. Only renderables which moved since last frame are re-sorted
             layer.sort();
 
-            for (Renderable renderable : layer) {
+            for (int i = 0; i < layer.size(); i++) {
+                Renderable renderable = layer.get(i);
+                if (cull && !renderable.isInView(view)) {
+                    culledCount++;
+                    continue;
+                }
                 renderable.render(batch);
+                drawnCount++;
             }
         }
     }
 
+    /**
+     * Update the view rectangle to the area of the world the camera can currently see.
+     *
+     * @return true if there is a camera to cull against, false otherwise
+     */
+    private boolean updateView() {
+        if (camera == null) {
+            return false;
+        }
+        Camera gameCamera = camera.getCamera();
+        float zoom = gameCamera instanceof OrthographicCamera ? ((OrthographicCamera) gameCamera).zoom : 1f;
+        float width = gameCamera.viewportWidth * zoom;
+        float height = gameCamera.viewportHeight * zoom;
+        view.set(gameCamera.position.x - width / 2, gameCamera.position.y - height / 2, width, height);
+        return true;
+    }
+
+    /**
+     * Set the camera used to cull renderables outside of its view. With no camera, nothing is culled.
+     *
+     * @param camera camera the world is rendered with
+     */
+    public void setCamera(CameraComponent camera) {
+        this.camera = camera;
+    }
+
+    /**
+     * @return number of renderables rendered in the last frame
+     */
+    public int getDrawnCount() {
+        return drawnCount;
+    }
+
+    /**
+     * @return number of renderables skipped in the last frame because they were outside the view
+     */
+    public int getCulledCount() {
+        return culledCount;
+    }
+
     public Stage getStage() {
         return stage;
     }
@@ -83,5 +139,6 @@ public class RenderService implements Disposable {
     @Override
     public void dispose() {
         renderables.clear();
+        camera = null;
     }
 }
@@ -1,6 +1,7 @@
 package com.deco2800.game.rendering;
 
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Rectangle;
 
 /**
  * Can be rendered onto the screen given a Sprite batch.
@@ -26,4 +27,16 @@ public interface Renderable extends Comparable<Renderable> {
      * @return layer
      */
     int getLayer();
+
+    /**
+     * Whether the renderable could draw anything inside the camera's view. Renderables outside the
+     * view are culled rather than rendered. Renderables which cull themselves or aren't drawn in the
+     * world should always return true.
+     *
+     * @param view area of the world the camera can see
+     * @return true if the renderable should be rendered, false to cull it
+     */
+    default boolean isInView(Rectangle view) {
+        return true;
+    }
 }
@@ -84,6 +84,7 @@ public class Renderer implements Disposable {
 
         renderService.setStage(stage);
         renderService.setDebug(debugRenderer);
+        renderService.setCamera(camera);
         resizeCamera(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
     }
 
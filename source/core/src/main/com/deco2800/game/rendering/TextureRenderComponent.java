@@ -3,7 +3,7 @@ package com.deco2800.game.rendering;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.deco2800.game.services.ServiceLocator;
 
 /**
@@ -11,14 +11,15 @@ import com.deco2800.game.services.ServiceLocator;
  */
 public class TextureRenderComponent extends RenderComponent {
     private final Texture texture;
+    private final TextureRegion region;
     private final Sprite sprite;
 
     /**
      * @param texturePath internal path of static teture to render. Will be scaled to the entity's
-     *                    scale.
+     *                    scale. Drawn from the runtime atlas if the texture was packed.
      */
     public TextureRenderComponent(String texturePath) {
-        this(ServiceLocator.getResourceService().getAsset(texturePath, Texture.class));
+        this(ServiceLocator.getResourceService().getRegion(texturePath));
     }
 
     /**
@@ -26,6 +27,16 @@ public class TextureRenderComponent extends RenderComponent {
      */
     public TextureRenderComponent(Texture texture) {
         this.texture = texture;
+        this.region = null;
+        this.sprite = null;
+    }
+
+    /**
+     * @param region Static texture region to render. Will be scaled to the entity's scale.
+     */
+    public TextureRenderComponent(TextureRegion region) {
+        this.texture = null;
+        this.region = region;
         this.sprite = null;
     }
 
@@ -34,6 +45,7 @@ public class TextureRenderComponent extends RenderComponent {
      */
     public TextureRenderComponent(Sprite sprite) {
         this.texture = null;
+        this.region = null;
         this.sprite = sprite;
     }
 
@@ -45,7 +57,11 @@ public class TextureRenderComponent extends RenderComponent {
      * Scale the entity to a width of 1 and a height matching the texture's ratio
      */
     public void scaleEntity() {
-        entity.setScale(1f, (float) texture.getHeight() / texture.getWidth());
+        if (region != null) {
+            entity.setScale(1f, (float) region.getRegionHeight() / region.getRegionWidth());
+        } else {
+            entity.setScale(1f, (float) texture.getHeight() / texture.getWidth());
+        }
     }
 
     /**
@@ -55,19 +71,16 @@ public class TextureRenderComponent extends RenderComponent {
      */
     @Override
     public void draw(SpriteBatch batch) {
-        Vector2 position = entity.getPosition();
-        Vector2 positionCenter = entity.getCenterPosition();
-        Vector2 scale = entity.getScale();
-        float angle = entity.getAngle();
-
         if (texture != null) {
-            batch.draw(texture, position.x, position.y, scale.x, scale.y);
+            batch.draw(texture, entity.getRenderX(), entity.getRenderY(), entity.getScaleX(), entity.getScaleY());
+        } else if (region != null) {
+            batch.draw(region, entity.getRenderX(), entity.getRenderY(), entity.getScaleX(), entity.getScaleY());
         } else if (sprite != null) {
             //Prepare sprite to be drawn
-            sprite.setScale(entity.getScale().x / sprite.getWidth(),
-                    entity.getScale().y / sprite.getHeight());
-            sprite.setRotation(angle);
-            sprite.setCenter(positionCenter.x, positionCenter.y);
+            sprite.setScale(entity.getScaleX() / sprite.getWidth(),
+                    entity.getScaleY() / sprite.getHeight());
+            sprite.setRotation(entity.getAngle());
+            sprite.setCenter(entity.getRenderCenterX(), entity.getRenderCenterY());
             sprite.draw(batch);
         }
     }
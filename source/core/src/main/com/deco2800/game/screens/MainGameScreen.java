@@ -5,27 +5,37 @@ import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.deco2800.game.GdxGame;
+import com.deco2800.game.ai.pathfinding.FlowFieldService;
+import com.deco2800.game.ai.pathfinding.PathfindingService;
+import com.deco2800.game.ai.tasks.AISchedulerService;
 import com.deco2800.game.areas.*;
 import com.deco2800.game.areas.terrain.TerrainFactory;
 import com.deco2800.game.components.CombatStatsComponent;
+import com.deco2800.game.components.gamearea.LoadingDisplay;
 import com.deco2800.game.components.gamearea.PerformanceDisplay;
 import com.deco2800.game.components.maingame.MainGameActions;
 import com.deco2800.game.components.pause.PauseInputComponent;
 import com.deco2800.game.components.pause.PauseMenuActions;
 import com.deco2800.game.components.pause.PauseMenuDisplay;
 import com.deco2800.game.components.player.PlayerWin;
+import com.deco2800.game.entities.ActivityRegionService;
 import com.deco2800.game.entities.Entity;
 import com.deco2800.game.entities.EntityService;
+import com.deco2800.game.entities.SpatialIndexService;
 import com.deco2800.game.entities.factories.RenderFactory;
+import com.deco2800.game.events.EventKey;
+import com.deco2800.game.events.EventQueue;
+import com.deco2800.game.files.UserSettings;
 import com.deco2800.game.input.InputComponent;
 import com.deco2800.game.input.InputDecorator;
 import com.deco2800.game.input.InputService;
 import com.deco2800.game.physics.PhysicsEngine;
 import com.deco2800.game.physics.PhysicsService;
+import com.deco2800.game.physics.VisibilityService;
 import com.deco2800.game.rendering.RenderService;
 import com.deco2800.game.rendering.Renderer;
 import com.deco2800.game.services.GameTime;
-import com.deco2800.game.services.ResourceService;
+import com.deco2800.game.services.AssetManifest;
 import com.deco2800.game.services.ServiceLocator;
 import com.deco2800.game.ui.CutsceneScreen;
 import com.deco2800.game.ui.terminal.Terminal;
@@ -61,11 +71,21 @@ public class MainGameScreen extends ScreenAdapter {
 
     };
     private static final Vector2 CAMERA_POSITION = new Vector2(7.5f, 7.5f);
+    /**
+     * Time spent loading the game area each frame, in milliseconds
+     */
+    private static final int LOAD_MILLIS = 12;
     private static final String[] playerLowHealthSounds = {"sounds/heartBeat_placeholder.mp3"};
+    private static final AssetManifest mainGameAssets = new AssetManifest()
+            .addTextures(mainGameTextures)
+            .addSounds(playerLowHealthSounds);
     private final GdxGame game;
     private final Renderer renderer;
     private final PhysicsEngine physicsEngine;
+    private final EventQueue eventQueue;
     private GameArea gameArea;
+    private GameAreaLoader areaLoader;
+    private Entity loadingUI;
     private boolean gameChange = false;
     private final TerrainFactory terrainFactory;
 
@@ -79,11 +99,30 @@ public class MainGameScreen extends ScreenAdapter {
         PhysicsService physicsService = new PhysicsService();
         ServiceLocator.registerPhysicsService(physicsService);
         physicsEngine = physicsService.getPhysics();
+        UserSettings.Settings settings = UserSettings.get();
+        physicsEngine.setStepRate(settings.physicsRate);
+        physicsEngine.setIterations(settings.velocityIterations, settings.positionIterations);
+        physicsEngine.setMaxSteps(settings.maxPhysicsSteps);
+        physicsEngine.setInterpolating(settings.physicsInterpolation);
+        ServiceLocator.registerVisibilityService(new VisibilityService(physicsEngine));
+        ServiceLocator.registerPathfindingService(new PathfindingService(physicsEngine));
+        ServiceLocator.registerFlowFieldService(new FlowFieldService(physicsEngine));
 
         ServiceLocator.registerInputService(new InputService());
-        ServiceLocator.registerResourceService(new ResourceService());
-
-        ServiceLocator.registerEntityService(new EntityService());
+        // Shared with the next game screen, so assets used by consecutive areas stay loaded
+        ServiceLocator.registerResourceService(game.getGameResourceService());
+
+        EntityService entityService = new EntityService();
+        entityService.setUpdateByComponentType(true);
+        ServiceLocator.registerEntityService(entityService);
+        ServiceLocator.registerSpatialIndexService(new SpatialIndexService());
+        ServiceLocator.registerActivityRegionService(new ActivityRegionService());
+        ServiceLocator.registerAISchedulerService(new AISchedulerService());
+        eventQueue = new EventQueue();
+        // Health displays only need the latest health each frame
+        eventQueue.setCoalesced(EventKey.of("updateHealth"), true);
+        eventQueue.setCoalesced(EventKey.of("updateBossHealth"), true);
+        ServiceLocator.registerEventQueue(eventQueue);
         ServiceLocator.registerRenderService(new RenderService());
 
         renderer = RenderFactory.createRenderer();
@@ -93,7 +132,6 @@ public class MainGameScreen extends ScreenAdapter {
 
         terrainFactory = new TerrainFactory(renderer.getCamera());
         loadAssets();
-        createUI();
     }
 
     public MainGameScreen(GdxGame game, String world) {
@@ -102,27 +140,27 @@ public class MainGameScreen extends ScreenAdapter {
 
         switch (world) {
             case "tutorial":
-                this.gameArea = new TutorialArea(terrainFactory).create();
+                this.gameArea = new TutorialArea(terrainFactory);
                 break;
             case "game1":
-                this.gameArea = new GameArea1(terrainFactory).create();
+                this.gameArea = new GameArea1(terrainFactory);
                 break;
             case "game2":
-                this.gameArea = new GameArea2(terrainFactory).create();
+                this.gameArea = new GameArea2(terrainFactory);
                 break;
             case "game3":
-                this.gameArea = new GameArea3(terrainFactory).create();
+                this.gameArea = new GameArea3(terrainFactory);
                 break;
             case "game4":
-                this.gameArea = new GameArea4(terrainFactory).create();
+                this.gameArea = new GameArea4(terrainFactory);
                 break;
             case "game5":
-                this.gameArea = new GameArea5(terrainFactory).create();
+                this.gameArea = new GameArea5(terrainFactory);
                 break;
             default:
                 break;
         }
-        renderer.getCamera().setPlayer(this.gameArea.getPlayer());
+        loadGameArea();
     }
 
     /**
@@ -134,27 +172,27 @@ public class MainGameScreen extends ScreenAdapter {
 
         switch (world) {
             case "tutorial":
-                this.gameArea = new TutorialArea(terrainFactory, currentHealth).create();
+                this.gameArea = new TutorialArea(terrainFactory, currentHealth);
                 break;
             case "game1":
-                this.gameArea = new GameArea1(terrainFactory, currentHealth).create();
+                this.gameArea = new GameArea1(terrainFactory, currentHealth);
                 break;
             case "game2":
-                this.gameArea = new GameArea2(terrainFactory, currentHealth).create();
+                this.gameArea = new GameArea2(terrainFactory, currentHealth);
                 break;
             case "game3":
-                this.gameArea = new GameArea3(terrainFactory, currentHealth).create();
+                this.gameArea = new GameArea3(terrainFactory, currentHealth);
                 break;
             case "game4":
-                this.gameArea = new GameArea4(terrainFactory, currentHealth).create();
+                this.gameArea = new GameArea4(terrainFactory, currentHealth);
                 break;
             case "game5":
-                this.gameArea = new GameArea5(terrainFactory, currentHealth).create();
+                this.gameArea = new GameArea5(terrainFactory, currentHealth);
                 break;
             default:
                 break;
         }
-        renderer.getCamera().setPlayer(this.gameArea.getPlayer());
+        loadGameArea();
     }
 
 
@@ -195,7 +233,9 @@ public class MainGameScreen extends ScreenAdapter {
      */
     @Override
     public void render(float delta) {
-        if (gameChange) {
+        if (areaLoader != null) {
+            updateLoading();
+        } else if (gameChange) {
             if (gameArea.getLevel() == 0) {
                 int currentHealth = gameArea.getPlayer().getComponent(CombatStatsComponent.class).getHealth();
                 game.setScreen(GdxGame.ScreenType.GAMEAREA1, currentHealth);
@@ -218,7 +258,13 @@ public class MainGameScreen extends ScreenAdapter {
                 gameChange = false;
             }
         } else {
+            // Far away entities are put to sleep before they would be stepped
+            ServiceLocator.getActivityRegionService().update();
             physicsEngine.update();
+            // Collisions are queued during the physics step, and handled before anything is disposed
+            eventQueue.flush();
+            ServiceLocator.getFlowFieldService().update();
+            ServiceLocator.getAISchedulerService().update();
             ServiceLocator.getEntityService().update();
             renderer.render();
             isPlayerDead();
@@ -226,6 +272,32 @@ public class MainGameScreen extends ScreenAdapter {
         }
     }
 
+    /**
+     * Start loading the game area over the next frames, showing the loading progress meanwhile. The
+     * game UI is created once the assets it needs are loaded.
+     */
+    private void loadGameArea() {
+        loadingUI = new Entity().addComponent(new LoadingDisplay());
+        ServiceLocator.getEntityService().register(loadingUI);
+        areaLoader = gameArea.load().onAssetsLoaded(this::createUI);
+    }
+
+    /**
+     * Continue loading the game area for this frame, and start the game once it has loaded
+     */
+    private void updateLoading() {
+        boolean loaded = areaLoader.update(LOAD_MILLIS);
+        loadingUI.getComponent(LoadingDisplay.class).setProgress(areaLoader.getProgress());
+        renderer.render();
+        if (loaded) {
+            areaLoader = null;
+            ServiceLocator.getEntityService().unregister(loadingUI);
+            loadingUI.dispose();
+            loadingUI = null;
+            renderer.getCamera().setPlayer(gameArea.getPlayer());
+        }
+    }
+
     /**
      * check the player win state and give the END_SCREEN if player win
      */
@@ -273,32 +345,31 @@ public class MainGameScreen extends ScreenAdapter {
         renderer.dispose();
         unloadAssets();
 
+        ServiceLocator.getAISchedulerService().logTimings();
         ServiceLocator.getEntityService().dispose();
         ServiceLocator.getRenderService().dispose();
-        ServiceLocator.getResourceService().dispose();
 
         ServiceLocator.clear();
     }
 
     /**
-     * load the assets the current game screen need it
+     * queue the assets the current game screen need, they are loaded along with the game area
      */
     private void loadAssets() {
         logger.debug("Loading assets");
-        ResourceService resourceService = ServiceLocator.getResourceService();
-        resourceService.loadTextures(mainGameTextures);
-        resourceService.loadSounds(playerLowHealthSounds);
-        ServiceLocator.getResourceService().loadAll();
+        ServiceLocator.getResourceService().loadManifest(mainGameAssets);
     }
 
     /**
-     * unload the assets the current game screen need it
+     * release the assets the current game screen and area need. They stay loaded until the next
+     * screen has loaded its own, so only assets it doesn't use are unloaded.
      */
     private void unloadAssets() {
         logger.debug("Unloading assets");
-        ResourceService resourceService = ServiceLocator.getResourceService();
-        resourceService.unloadAssets(mainGameTextures);
-        resourceService.unloadAssets(playerLowHealthSounds);
+        if (gameArea != null) {
+            gameArea.unloadAssets();
+        }
+        ServiceLocator.getResourceService().unloadManifest(mainGameAssets);
     }
 
     /**
@@ -0,0 +1,129 @@
+package com.deco2800.game.services;
+
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Set;
+
+/**
+ * A set of assets needed by part of the game, such as a game area. Manifests are loaded and unloaded
+ * as a whole through {@link ResourceService#loadManifest(AssetManifest)}, which reference counts
+ * each asset so that assets shared between manifests are only loaded once.
+ *
+ * <p>Each asset path is only listed once, so duplicates are ignored.
+ */
+public class AssetManifest {
+    private final LinkedHashMap<String, Class<?>> assets = new LinkedHashMap<>();
+    private final Set<String> packed = new HashSet<>();
+
+    /**
+     * @param textureNames texture filenames
+     * @return self
+     */
+    public AssetManifest addTextures(String... textureNames) {
+        return add(textureNames, Texture.class);
+    }
+
+    /**
+     * Add textures to be packed into a runtime atlas rather than loaded loose. Packed textures can
+     * only be fetched with {@link ResourceService#getRegion(String)}, so only add textures which are
+     * drawn in the game world through it.
+     *
+     * @param textureNames texture filenames
+     * @return self
+     */
+    public AssetManifest addPackedTextures(String... textureNames) {
+        for (String textureName : textureNames) {
+            if (assets.putIfAbsent(textureName, Texture.class) == null) {
+                packed.add(textureName);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * @param textureAtlasNames texture atlas filenames
+     * @return self
+     */
+    public AssetManifest addTextureAtlases(String... textureAtlasNames) {
+        return add(textureAtlasNames, TextureAtlas.class);
+    }
+
+    /**
+     * @param soundNames sound filenames
+     * @return self
+     */
+    public AssetManifest addSounds(String... soundNames) {
+        return add(soundNames, Sound.class);
+    }
+
+    /**
+     * @param musicNames music filenames
+     * @return self
+     */
+    public AssetManifest addMusic(String... musicNames) {
+        return add(musicNames, Music.class);
+    }
+
+    /**
+     * Add every asset of another manifest to this one
+     *
+     * @param manifest other manifest
+     * @return self
+     */
+    public AssetManifest addAll(AssetManifest manifest) {
+        for (String assetName : manifest.getAssetNames()) {
+            if (assets.putIfAbsent(assetName, manifest.getType(assetName)) == null
+                    && manifest.isPacked(assetName)) {
+                packed.add(assetName);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * @return filenames of every asset in the manifest, in the order they were added
+     */
+    public Set<String> getAssetNames() {
+        return Collections.unmodifiableSet(assets.keySet());
+    }
+
+    /**
+     * @param assetName asset filename
+     * @return class to load the asset into, or null if it isn't in the manifest
+     */
+    public Class<?> getType(String assetName) {
+        return assets.get(assetName);
+    }
+
+    /**
+     * @param assetName asset filename
+     * @return true if the asset is a texture to pack into a runtime atlas, false otherwise
+     */
+    public boolean isPacked(String assetName) {
+        return packed.contains(assetName);
+    }
+
+    public boolean contains(String assetName) {
+        return assets.containsKey(assetName);
+    }
+
+    /**
+     * @return number of assets in the manifest
+     */
+    public int size() {
+        return assets.size();
+    }
+
+    private AssetManifest add(String[] assetNames, Class<?> type) {
+        for (String assetName : assetNames) {
+            assets.putIfAbsent(assetName, type);
+        }
+        return this;
+    }
+}
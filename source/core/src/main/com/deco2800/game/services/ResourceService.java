@@ -5,7 +5,13 @@ import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.ObjectSet;
+import com.badlogic.gdx.utils.TimeUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -17,6 +23,23 @@ public class ResourceService implements Disposable {
 
     private static final Logger logger = LoggerFactory.getLogger(ResourceService.class);
     private final AssetManager assetManager;
+    /**
+     * Number of loaded manifests which reference each asset
+     */
+    private final ObjectIntMap<String> references = new ObjectIntMap<>();
+    /**
+     * Assets no longer referenced by any manifest, which stay loaded until {@link #unloadUnused()}
+     */
+    private final ObjectSet<String> unused = new ObjectSet<>();
+    /**
+     * Runtime atlas each packed texture was packed into
+     */
+    private final ObjectMap<String, RuntimeTextureAtlas> packedTextures = new ObjectMap<>();
+    private final Array<RuntimeTextureAtlas> atlases = new Array<>();
+    /**
+     * Atlas packed textures are being packed into while loading, or null if nothing is queued
+     */
+    private RuntimeTextureAtlas packing;
 
     public ResourceService() {
         this(new AssetManager());
@@ -39,6 +62,34 @@ public class ResourceService implements Disposable {
         return assetManager.get(filename, type);
     }
 
+    /**
+     * Get a texture as a region. Textures packed from a manifest are found in their runtime atlas, so
+     * sprites using them can be batched together; any other texture is wrapped in a new region.
+     *
+     * @param filename texture path
+     * @return region of the texture. Regions from an atlas are shared, so must not be modified.
+     * @see AssetManifest#addPackedTextures(String...)
+     */
+    public TextureRegion getRegion(String filename) {
+        RuntimeTextureAtlas atlas = packedTextures.get(filename);
+        if (atlas != null) {
+            TextureRegion region = atlas.findRegion(filename);
+            if (region != null) {
+                return region;
+            }
+        }
+        return new TextureRegion(getAsset(filename, Texture.class));
+    }
+
+    /**
+     * @param filename texture path
+     * @return true if the texture has been packed into a runtime atlas, false otherwise
+     */
+    public boolean isPacked(String filename) {
+        RuntimeTextureAtlas atlas = packedTextures.get(filename);
+        return atlas != null && atlas.findRegion(filename) != null;
+    }
+
     /**
      * Check if an asset has been loaded already
      *
@@ -58,7 +109,10 @@ public class ResourceService implements Disposable {
      * @return progress
      */
     public int getProgress() {
-        return (int) (assetManager.getProgress() * 100);
+        if (packing == null) {
+            return (int) (assetManager.getProgress() * 100);
+        }
+        return (int) ((assetManager.getProgress() + packing.getProgress()) * 50);
     }
 
     /**
@@ -73,25 +127,75 @@ public class ResourceService implements Disposable {
         } catch (Exception e) {
             logger.error(e.getMessage());
         }
+        if (packing != null) {
+            finishPacking();
+            loadAll();
+        }
     }
 
     /**
-     * Loads assets for the specified duration in milliseconds.
+     * Loads assets for the specified duration in milliseconds. Textures queued for packing are
+     * packed once every other asset has loaded.
      *
      * @param duration duration to load for
-     * @return finished loading
+     * @return true if there are still assets to load, false once loading has finished
      * @see AssetManager#update(int)
      */
     public boolean loadForMillis(int duration) {
         logger.debug("Loading assets for {} ms", duration);
+        long endTime = TimeUtils.millis() + duration;
         try {
-            return !assetManager.update(duration);
+            if (!assetManager.update(duration)) {
+                return true;
+            }
         } catch (Exception e) {
             logger.error(e.getMessage());
+            if (!assetManager.isFinished()) {
+                return true;
+            }
+        }
+        if (packing == null) {
+            return false;
+        }
+        if (packing.packForMillis((int) Math.max(1, endTime - TimeUtils.millis()))) {
+            return true;
         }
+        finishPacking();
+        // Textures which couldn't be packed are now loaded loose
         return !assetManager.isFinished();
     }
 
+    /**
+     * Upload the atlas being packed, and queue anything that couldn't be packed to load as a loose
+     * texture instead.
+     */
+    private void finishPacking() {
+        RuntimeTextureAtlas atlas = packing;
+        packing = null;
+        atlas.finish();
+        atlases.add(atlas);
+        for (String textureName : atlas.getRejected()) {
+            packedTextures.remove(textureName);
+            loadAsset(textureName, Texture.class);
+        }
+    }
+
+    /**
+     * Queue a texture to be packed into the current runtime atlas, unless it's still in an atlas.
+     *
+     * @param textureName texture path
+     */
+    private void packTexture(String textureName) {
+        if (packedTextures.containsKey(textureName)) {
+            return;
+        }
+        if (packing == null) {
+            packing = new RuntimeTextureAtlas();
+        }
+        packing.add(textureName);
+        packedTextures.put(textureName, packing);
+    }
+
     /**
      * Loads a single asset into the asset manager.
      *
@@ -157,19 +261,118 @@ public class ResourceService implements Disposable {
         loadAssets(musicNames, Music.class);
     }
 
-    public void unloadAssets(String[] assetNames) {
+    /**
+     * Load every asset in a manifest which isn't already loaded by another manifest. Each asset's
+     * reference count is increased, so it stays loaded until every manifest using it is unloaded.
+     *
+     * @param manifest assets to load
+     */
+    public void loadManifest(AssetManifest manifest) {
+        int loaded = 0;
+        for (String assetName : manifest.getAssetNames()) {
+            int count = references.getAndIncrement(assetName, 0, 1);
+            if (count == 0 && !unused.remove(assetName)) {
+                if (manifest.isPacked(assetName)) {
+                    packTexture(assetName);
+                } else {
+                    loadAsset(assetName, manifest.getType(assetName));
+                }
+                loaded++;
+            }
+        }
+        logger.debug("Loading {} of {} assets in manifest", loaded, manifest.size());
+    }
+
+    /**
+     * Release every asset in a previously loaded manifest. Assets no longer used by any manifest are
+     * kept loaded until {@link #unloadUnused()}, so a manifest loaded in the meantime can reuse them.
+     *
+     * @param manifest assets to release
+     */
+    public void unloadManifest(AssetManifest manifest) {
+        for (String assetName : manifest.getAssetNames()) {
+            int count = references.get(assetName, 0);
+            if (count <= 0) {
+                logger.warn("Unloading {} which isn't loaded by a manifest", assetName);
+            } else if (count == 1) {
+                references.remove(assetName, 0);
+                unused.add(assetName);
+            } else {
+                references.put(assetName, count - 1);
+            }
+        }
+    }
+
+    /**
+     * Unload every asset which was released by its last manifest. Runtime atlases are disposed once
+     * none of their textures are used.
+     */
+    public void unloadUnused() {
+        logger.debug("Unloading {} unused assets", unused.size);
+        for (String assetName : unused) {
+            if (!packedTextures.containsKey(assetName)) {
+                unloadAsset(assetName);
+            }
+        }
+        unused.clear();
+
+        for (int i = atlases.size - 1; i >= 0; i--) {
+            RuntimeTextureAtlas atlas = atlases.get(i);
+            if (!isReferenced(atlas.getPacked())) {
+                for (String textureName : atlas.getPacked()) {
+                    packedTextures.remove(textureName);
+                }
+                atlas.dispose();
+                atlases.removeIndex(i);
+            }
+        }
+    }
+
+    private boolean isReferenced(Array<String> assetNames) {
         for (String assetName : assetNames) {
-            logger.debug("Unloading {}", assetName);
-            try {
-                assetManager.unload(assetName);
-            } catch (Exception e) {
-                logger.error("Could not unload {}", assetName);
+            if (references.containsKey(assetName)) {
+                return true;
             }
         }
+        return false;
+    }
+
+    /**
+     * @param assetName asset path
+     * @return number of loaded manifests which use the asset
+     */
+    public int getReferenceCount(String assetName) {
+        return references.get(assetName, 0);
+    }
+
+    public void unloadAssets(String[] assetNames) {
+        for (String assetName : assetNames) {
+            unloadAsset(assetName);
+        }
+    }
+
+    private void unloadAsset(String assetName) {
+        logger.debug("Unloading {}", assetName);
+        try {
+            assetManager.unload(assetName);
+        } catch (Exception e) {
+            logger.error("Could not unload {}", assetName);
+        }
     }
 
     @Override
     public void dispose() {
+        for (RuntimeTextureAtlas atlas : atlases) {
+            atlas.dispose();
+        }
+        if (packing != null) {
+            packing.dispose();
+            packing = null;
+        }
+        atlases.clear();
+        packedTextures.clear();
+        references.clear();
+        unused.clear();
         assetManager.clear();
     }
 }
@@ -0,0 +1,168 @@
+package com.deco2800.game.services;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.TimeUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A texture atlas packed at load time from loose image files, so that sprites which used to be
+ * separate textures can be drawn without flushing the sprite batch between them. Regions are named
+ * by the path of the image they were packed from.
+ *
+ * <p>Images are packed one at a time with {@link #packNext()} so packing can be spread across
+ * frames, then uploaded to the GPU as a few large pages with {@link #finish()}.
+ */
+public class RuntimeTextureAtlas implements Disposable {
+    private static final Logger logger = LoggerFactory.getLogger(RuntimeTextureAtlas.class);
+    static final int PAGE_SIZE = 2048;
+    private static final int PADDING = 2;
+
+    private final Array<String> pending = new Array<>();
+    private final Array<String> packed = new Array<>();
+    private final Array<String> rejected = new Array<>();
+    private final ObjectMap<String, TextureRegion> regions = new ObjectMap<>();
+    private PixmapPacker packer;
+    private TextureAtlas atlas;
+
+    public RuntimeTextureAtlas() {
+        packer = new PixmapPacker(PAGE_SIZE, PAGE_SIZE, Pixmap.Format.RGBA8888, PADDING, true,
+                new PixmapPacker.SkylineStrategy());
+    }
+
+    /**
+     * Queue an image to be packed. Must be called before {@link #finish()}.
+     *
+     * @param imagePath internal path of the image
+     */
+    public void add(String imagePath) {
+        if (packer == null) {
+            throw new IllegalStateException("Atlas has already been packed");
+        }
+        pending.add(imagePath);
+    }
+
+    /**
+     * Pack the next queued image. Images which can't be read or don't fit on a page are rejected, so
+     * they can be loaded as loose textures instead.
+     *
+     * @return true if an image was packed or rejected, false if there were none left
+     */
+    public boolean packNext() {
+        if (pending.isEmpty()) {
+            return false;
+        }
+        String imagePath = pending.pop();
+        Pixmap pixmap = null;
+        try {
+            pixmap = new Pixmap(Gdx.files.internal(imagePath));
+            packer.pack(imagePath, pixmap);
+            packed.add(imagePath);
+        } catch (GdxRuntimeException e) {
+            logger.error("Could not pack {}: {}", imagePath, e.getMessage());
+            rejected.add(imagePath);
+        } finally {
+            if (pixmap != null) {
+                pixmap.dispose();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Pack queued images for the specified duration in milliseconds.
+     *
+     * @param duration duration to pack for. At least one image is always packed.
+     * @return true if there are still images to pack, false once every image has been packed
+     */
+    public boolean packForMillis(int duration) {
+        long endTime = TimeUtils.millis() + duration;
+        do {
+            if (!packNext()) {
+                return false;
+            }
+        } while (TimeUtils.millis() < endTime);
+        return !pending.isEmpty();
+    }
+
+    /**
+     * Pack any remaining images and upload the packed pages as textures. The pixel data of the pages
+     * is released once uploaded.
+     */
+    public void finish() {
+        if (packer == null) {
+            return;
+        }
+        while (packNext()) {
+            // Pack everything still queued
+        }
+        atlas = packer.generateTextureAtlas(
+                Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest, false);
+        // TextureAtlas#findRegion is a linear search, so index the regions by name
+        for (TextureAtlas.AtlasRegion region : atlas.getRegions()) {
+            regions.put(region.name, region);
+        }
+        logger.debug("Packed {} images into {} pages", packed.size, packer.getPages().size);
+        packer.dispose();
+        packer = null;
+    }
+
+    /**
+     * @return true once the atlas has been packed and can be drawn from
+     */
+    public boolean isFinished() {
+        return atlas != null;
+    }
+
+    /**
+     * @param imagePath internal path the image was packed from
+     * @return region of the packed image, or null if it isn't in the atlas or hasn't been packed yet
+     */
+    public TextureRegion findRegion(String imagePath) {
+        return regions.get(imagePath);
+    }
+
+    /**
+     * @return paths of every image packed into the atlas
+     */
+    public Array<String> getPacked() {
+        return packed;
+    }
+
+    /**
+     * @return paths of images which couldn't be packed
+     */
+    public Array<String> getRejected() {
+        return rejected;
+    }
+
+    /**
+     * @return fraction of queued images which have been packed, from 0 to 1
+     */
+    public float getProgress() {
+        int total = pending.size + packed.size + rejected.size;
+        return total == 0 ? 1f : (float) (packed.size + rejected.size) / total;
+    }
+
+    @Override
+    public void dispose() {
+        if (packer != null) {
+            packer.dispose();
+            packer = null;
+        }
+        if (atlas != null) {
+            atlas.dispose();
+            atlas = null;
+        }
+        regions.clear();
+    }
+}
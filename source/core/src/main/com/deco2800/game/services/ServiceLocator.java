@@ -1,9 +1,16 @@
 package com.deco2800.game.services;
 
+import com.deco2800.game.ai.pathfinding.FlowFieldService;
+import com.deco2800.game.ai.pathfinding.PathfindingService;
+import com.deco2800.game.ai.tasks.AISchedulerService;
 import com.deco2800.game.areas.GameArea;
+import com.deco2800.game.entities.ActivityRegionService;
 import com.deco2800.game.entities.EntityService;
+import com.deco2800.game.entities.SpatialIndexService;
+import com.deco2800.game.events.EventQueue;
 import com.deco2800.game.input.InputService;
 import com.deco2800.game.physics.PhysicsService;
+import com.deco2800.game.physics.VisibilityService;
 import com.deco2800.game.rendering.RenderService;
 import com.deco2800.game.screens.MainGameScreen;
 import org.slf4j.Logger;
@@ -27,6 +34,13 @@ public class ServiceLocator {
     private static ResourceService resourceService;
     private static GameArea gameAreaService;
     private static MainGameScreen gameScreen;
+    private static SpatialIndexService spatialIndexService;
+    private static EventQueue eventQueue;
+    private static ActivityRegionService activityRegionService;
+    private static VisibilityService visibilityService;
+    private static PathfindingService pathfindingService;
+    private static FlowFieldService flowFieldService;
+    private static AISchedulerService aiSchedulerService;
 
 
     private ServiceLocator() {
@@ -70,6 +84,56 @@ public class ServiceLocator {
         return gameScreen;
     }
 
+    /**
+     * @return index for finding entities near a point, or null outside of the main game
+     */
+    public static SpatialIndexService getSpatialIndexService() {
+        return spatialIndexService;
+    }
+
+    /**
+     * @return queue of events waiting to be flushed, or null outside of the main game, in which case
+     * queued events are triggered straight away
+     */
+    public static EventQueue getEventQueue() {
+        return eventQueue;
+    }
+
+    /**
+     * @return service putting entities far from the player to sleep, or null outside of the main game
+     */
+    public static ActivityRegionService getActivityRegionService() {
+        return activityRegionService;
+    }
+
+    /**
+     * @return service answering line of sight checks, or null outside of the main game
+     */
+    public static VisibilityService getVisibilityService() {
+        return visibilityService;
+    }
+
+    /**
+     * @return service finding paths around walls, or null outside of the main game
+     */
+    public static PathfindingService getPathfindingService() {
+        return pathfindingService;
+    }
+
+    /**
+     * @return service keeping a flow field to the player, or null outside of the main game
+     */
+    public static FlowFieldService getFlowFieldService() {
+        return flowFieldService;
+    }
+
+    /**
+     * @return service deciding when NPCs choose their tasks, or null outside of the main game
+     */
+    public static AISchedulerService getAISchedulerService() {
+        return aiSchedulerService;
+    }
+
     public static void registerEntityService(EntityService service) {
         logger.debug("Registering entity service {}", service);
         entityService = service;
@@ -100,6 +164,41 @@ public class ServiceLocator {
         resourceService = source;
     }
 
+    public static void registerSpatialIndexService(SpatialIndexService service) {
+        logger.debug("Registering spatial index service {}", service);
+        spatialIndexService = service;
+    }
+
+    public static void registerEventQueue(EventQueue queue) {
+        logger.debug("Registering event queue {}", queue);
+        eventQueue = queue;
+    }
+
+    public static void registerActivityRegionService(ActivityRegionService service) {
+        logger.debug("Registering activity region service {}", service);
+        activityRegionService = service;
+    }
+
+    public static void registerVisibilityService(VisibilityService service) {
+        logger.debug("Registering visibility service {}", service);
+        visibilityService = service;
+    }
+
+    public static void registerPathfindingService(PathfindingService service) {
+        logger.debug("Registering pathfinding service {}", service);
+        pathfindingService = service;
+    }
+
+    public static void registerFlowFieldService(FlowFieldService service) {
+        logger.debug("Registering flow field service {}", service);
+        flowFieldService = service;
+    }
+
+    public static void registerAISchedulerService(AISchedulerService service) {
+        logger.debug("Registering AI scheduler service {}", service);
+        aiSchedulerService = service;
+    }
+
     public static void registerGameScreen(MainGameScreen gameScreen) {
         ServiceLocator.gameScreen = gameScreen;
     }
@@ -121,6 +220,13 @@ public class ServiceLocator {
         timeSource = null;
         inputService = null;
         resourceService = null;
+        spatialIndexService = null;
+        eventQueue = null;
+        activityRegionService = null;
+        visibilityService = null;
+        pathfindingService = null;
+        flowFieldService = null;
+        aiSchedulerService = null;
     }
 
 }
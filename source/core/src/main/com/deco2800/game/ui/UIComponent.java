@@ -1,6 +1,7 @@
 package com.deco2800.game.ui;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.deco2800.game.rendering.RenderComponent;
@@ -31,4 +32,12 @@ public abstract class UIComponent extends RenderComponent implements Renderable
     public float getZIndex() {
         return 1f;
     }
+
+    /**
+     * UI is drawn in screen space, so is never culled
+     */
+    @Override
+    public boolean isInView(Rectangle view) {
+        return true;
+    }
 }
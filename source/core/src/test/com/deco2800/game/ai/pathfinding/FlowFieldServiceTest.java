@@ -0,0 +1,137 @@
+package com.deco2800.game.ai.pathfinding;
+
+import com.badlogic.gdx.math.Vector2;
+import com.deco2800.game.entities.Entity;
+import com.deco2800.game.extensions.GameExtension;
+import com.deco2800.game.physics.OccupancyGrid;
+import com.deco2800.game.physics.PhysicsEngine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(GameExtension.class)
+class FlowFieldServiceTest {
+    private PhysicsEngine physics;
+    private OccupancyGrid grid;
+    private FlowFieldService flowFields;
+    private Entity target;
+
+    @BeforeEach
+    void beforeEach() {
+        grid = new OccupancyGrid(0f, 0f, 10, 10, 1f);
+        // Wall across most of column 5, with a gap at the top
+        for (int y = 0; y < 9; y++) {
+            grid.setBlocked(5, y, true);
+        }
+        physics = mock(PhysicsEngine.class);
+        when(physics.getStaticGrid()).thenReturn(grid);
+        flowFields = new FlowFieldService(physics);
+
+        target = new Entity();
+        target.setPosition(8f, 2f);
+        flowFields.setTarget(target);
+    }
+
+    @Test
+    void shouldLeadAroundWall() {
+        buildField();
+        FlowField field = flowFields.getField(new Vector2(8.5f, 2.5f));
+
+        assertNotNull(field);
+        assertEquals(2 * 10 + 8, field.getGoalCell());
+        assertEquals(field.getGoalCell(), field.getNextCell(8.5f, 2.5f));
+        assertEquals(-1, field.getNextCell(5.5f, 2.5f));
+        assertEquals(-1, field.getNextCell(-1f, 2.5f));
+        // Through the gap, without cutting the wall's corners
+        assertEquals(12f + 4f * (float) Math.sqrt(2), field.getCost(2.5f, 2.5f), 0.001f);
+
+        // Each step gets closer to the target, until it is reached
+        float x = 2.5f;
+        float y = 2.5f;
+        int steps = 0;
+        while (field.getNextCell(x, y) != field.getGoalCell()) {
+            int next = field.getNextCell(x, y);
+            float cost = field.getCost(x, y);
+            x = field.getCenterX(next);
+            y = field.getCenterY(next);
+            assertFalse(grid.isBlockedAt(x, y));
+            assertTrue(field.getCost(x, y) < cost);
+            assertTrue(++steps < 100);
+        }
+        assertEquals(8.5f, x, 0.001f);
+        assertEquals(2.5f, y, 0.001f);
+    }
+
+    @Test
+    void shouldKeepOldFieldWhileRebuilding() {
+        buildField();
+        FlowField oldField = flowFields.getField(new Vector2(8.5f, 2.5f));
+
+        target.setPosition(8f, 5f);
+        flowFields.update();
+        assertTrue(flowFields.isBuilding());
+        assertSame(oldField, flowFields.getField(new Vector2(8.5f, 5.5f)));
+
+        buildField();
+        FlowField newField = flowFields.getField(new Vector2(8.5f, 5.5f));
+        assertNotSame(oldField, newField);
+        assertEquals(5 * 10 + 8, newField.getGoalCell());
+        assertNull(flowFields.getField(new Vector2(8.5f, 2.5f)));
+        assertEquals(2, flowFields.getBuildCount());
+    }
+
+    @Test
+    void shouldOnlyRebuildWhenTargetChangesCell() {
+        buildField();
+        target.setPosition(8.2f, 2.3f);
+        flowFields.update();
+
+        assertFalse(flowFields.isBuilding());
+        assertEquals(1, flowFields.getBuildCount());
+    }
+
+    @Test
+    void shouldKeepFieldForEachBodySize() {
+        Vector2 goal = new Vector2(8.5f, 2.5f);
+        assertNull(flowFields.getField(goal, 0.9f, 0.9f));
+        buildField();
+        FlowField narrow = flowFields.getField(goal);
+        FlowField wide = flowFields.getField(goal, 0.9f, 0.9f);
+
+        assertNotNull(wide);
+        assertNotSame(narrow, wide);
+        assertEquals(narrow.getGoalCell(), wide.getGoalCell());
+        // Too wide for the gap at the top of the wall
+        assertNotEquals(-1, narrow.getNextCell(2.5f, 2.5f));
+        assertEquals(-1, wide.getNextCell(2.5f, 2.5f));
+        assertEquals(wide.getGoalCell(), wide.getNextCell(8.5f, 3.5f));
+        assertEquals(2, flowFields.getBuildCount());
+    }
+
+    @Test
+    void shouldOnlyLeadToTarget() {
+        buildField();
+        assertNull(flowFields.getField(new Vector2(1.5f, 1.5f)));
+    }
+
+    @Test
+    void shouldHaveNoFieldWithoutGrid() {
+        when(physics.getStaticGrid()).thenReturn(null);
+        flowFields.update();
+
+        assertFalse(flowFields.isBuilding());
+        assertNull(flowFields.getField(new Vector2(8.5f, 2.5f)));
+    }
+
+    private void buildField() {
+        flowFields.update();
+        while (flowFields.isBuilding()) {
+            Thread.yield();
+            flowFields.update();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.deco2800.game.ai.pathfinding;
+
+import com.badlogic.gdx.math.Vector2;
+import com.deco2800.game.concurrency.JobSystem;
+import com.deco2800.game.extensions.GameExtension;
+import com.deco2800.game.physics.OccupancyGrid;
+import com.deco2800.game.physics.PhysicsEngine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.MockedStatic;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(GameExtension.class)
+class PathfindingServiceTest {
+    private PhysicsEngine physics;
+    private OccupancyGrid grid;
+    private PathfindingService pathfinding;
+
+    @BeforeEach
+    void beforeEach() {
+        grid = new OccupancyGrid(0f, 0f, 10, 10, 1f);
+        physics = mock(PhysicsEngine.class);
+        when(physics.getStaticGrid()).thenReturn(grid);
+        pathfinding = new PathfindingService(physics);
+    }
+
+    @Test
+    void shouldFindPathAroundWall() {
+        // Wall across most of column 5, with a gap at the top
+        for (int y = 0; y < 9; y++) {
+            grid.setBlocked(5, y, true);
+        }
+        Path path = pathfinding.requestPath(new Vector2(2.5f, 2.5f), new Vector2(8.5f, 2.5f)).join();
+
+        assertTrue(path.isFound());
+        assertEquals(8.5f, path.getX(path.size() - 1), 0.001f);
+        assertEquals(2.5f, path.getY(path.size() - 1), 0.001f);
+        assertEquals(pathfinding.getCell(new Vector2(8.5f, 2.5f)), path.getGoalCell());
+
+        float length = 0f;
+        Vector2 previous = new Vector2(2.5f, 2.5f);
+        for (int i = 0; i < path.size(); i++) {
+            length += previous.dst(path.getX(i), path.getY(i));
+            previous.set(path.getX(i), path.getY(i));
+            assertFalse(grid.isBlockedAt(path.getX(i), path.getY(i)));
+        }
+        // Through the gap, without cutting the wall's corners
+        assertEquals(2f + 2f * (7f + 2f * (float) Math.sqrt(2) - 2f), length, 0.001f);
+    }
+
+    @Test
+    void shouldKeepWideBodiesOutOfNarrowGaps() {
+        // Wall across column 5, with a one cell gap at row 2 and a three cell gap at rows 6 to 8
+        for (int y = 0; y < 10; y++) {
+            if (y != 2 && (y < 6 || y > 8)) {
+                grid.setBlocked(5, y, true);
+            }
+        }
+        Vector2 from = new Vector2(2.5f, 2.5f);
+        Vector2 to = new Vector2(8.5f, 2.5f);
+        Path narrow = pathfinding.requestPath(from, to).join();
+        Path wide = pathfinding.requestPath(from, to, 0.9f, 0.9f).join();
+
+        // Straight through the one cell gap
+        for (int i = 0; i < narrow.size(); i++) {
+            assertEquals(2.5f, narrow.getY(i), 0.001f);
+        }
+        assertTrue(wide.isFound());
+        assertNotSame(narrow, wide);
+        // Through the middle of the wider gap, clear of the wall
+        for (int i = 0; i < wide.size(); i++) {
+            if (wide.getX(i) > 4f && wide.getX(i) < 7f) {
+                assertEquals(7.5f, wide.getY(i), 0.001f);
+            }
+        }
+        assertEquals(2, pathfinding.getCachedCount());
+    }
+
+    @Test
+    void shouldNotCutCorners() {
+        grid.setBlocked(1, 0, true);
+        grid.setBlocked(0, 1, true);
+        Path path = pathfinding.requestPath(new Vector2(0.5f, 0.5f), new Vector2(1.5f, 1.5f)).join();
+        assertFalse(path.isFound());
+    }
+
+    @Test
+    void shouldNotFindUnreachableGoal() {
+        for (int i = 6; i <= 8; i++) {
+            grid.setBlocked(i, 6, true);
+            grid.setBlocked(i, 8, true);
+        }
+        grid.setBlocked(6, 7, true);
+        grid.setBlocked(8, 7, true);
+
+        Path path = pathfinding.requestPath(new Vector2(1.5f, 1.5f), new Vector2(7.5f, 7.5f)).join();
+        assertFalse(path.isFound());
+        assertSame(Path.NOT_FOUND, path);
+    }
+
+    @Test
+    void shouldCachePathsByCell() {
+        CompletableFuture<Path> path = pathfinding.requestPath(new Vector2(1.2f, 1.2f), new Vector2(7.5f, 7.5f));
+        path.join();
+
+        assertSame(path, pathfinding.requestPath(new Vector2(1.8f, 1.4f), new Vector2(7.1f, 7.9f)));
+        assertSame(path.join(), pathfinding.getPath(new Vector2(1.5f, 1.5f), new Vector2(7.5f, 7.5f)));
+        assertEquals(1, pathfinding.getCachedCount());
+
+        pathfinding.requestPath(new Vector2(2.5f, 1.5f), new Vector2(7.5f, 7.5f)).join();
+        assertEquals(2, pathfinding.getCachedCount());
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedPath() {
+        pathfinding = new PathfindingService(physics, 2);
+        Vector2 goal = new Vector2(7.5f, 7.5f);
+        CompletableFuture<Path> first = pathfinding.requestPath(new Vector2(1.5f, 1.5f), goal);
+        CompletableFuture<Path> second = pathfinding.requestPath(new Vector2(2.5f, 1.5f), goal);
+        first.join();
+        second.join();
+        // Use the first again, so the second is the least recently used
+        assertSame(first, pathfinding.requestPath(new Vector2(1.5f, 1.5f), goal));
+
+        pathfinding.requestPath(new Vector2(3.5f, 1.5f), goal).join();
+        assertEquals(2, pathfinding.getCachedCount());
+        assertSame(first, pathfinding.requestPath(new Vector2(1.5f, 1.5f), goal));
+        assertNotSame(second, pathfinding.requestPath(new Vector2(2.5f, 1.5f), goal));
+    }
+
+    @Test
+    void shouldNotEvictRunningSearches() {
+        pathfinding = new PathfindingService(physics, 2);
+        Vector2 goal = new Vector2(7.5f, 7.5f);
+        try (MockedStatic<JobSystem> jobSystem = mockStatic(JobSystem.class)) {
+            jobSystem.when(() -> JobSystem.launch(any())).thenAnswer(invocation -> new CompletableFuture<>());
+            CompletableFuture<Path> first = pathfinding.requestPath(new Vector2(1.5f, 1.5f), goal);
+            pathfinding.requestPath(new Vector2(2.5f, 1.5f), goal);
+            pathfinding.requestPath(new Vector2(3.5f, 1.5f), goal);
+
+            assertEquals(3, pathfinding.getCachedCount());
+            assertSame(first, pathfinding.requestPath(new Vector2(1.5f, 1.5f), goal));
+        }
+    }
+
+    @Test
+    void shouldNotFindPathWithoutGrid() {
+        when(physics.getStaticGrid()).thenReturn(null);
+        assertNull(pathfinding.getPath(new Vector2(1.5f, 1.5f), new Vector2(7.5f, 7.5f)));
+    }
+}
@@ -0,0 +1,177 @@
+package com.deco2800.game.ai.tasks;
+
+import com.deco2800.game.entities.Entity;
+import com.deco2800.game.extensions.GameExtension;
+import com.deco2800.game.services.GameTime;
+import com.deco2800.game.services.ServiceLocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(GameExtension.class)
+class AISchedulerServiceTest {
+    private GameTime gameTime;
+    private AISchedulerService scheduler;
+
+    @BeforeEach
+    void beforeEach() {
+        gameTime = mock(GameTime.class);
+        ServiceLocator.registerTimeSource(gameTime);
+        scheduler = new AISchedulerService(8f, 0L, 100L);
+        ServiceLocator.registerAISchedulerService(scheduler);
+
+        Entity player = new Entity();
+        player.setPosition(0f, 0f);
+        scheduler.setTarget(player);
+    }
+
+    @Test
+    void shouldEvaluateFarEntitiesLessOften() {
+        PriorityTask nearTask = createTask();
+        PriorityTask farTask = createTask();
+        createEntity(nearTask, 1f, 0f);
+        createEntity(farTask, 50f, 0f);
+
+        for (long time = 0; time < 100; time += 10) {
+            setTime(time);
+            scheduler.update();
+        }
+        verify(nearTask, times(10)).getPriority();
+        verify(farTask, times(2)).getPriority();
+    }
+
+    @Test
+    void shouldStaggerEntitiesStartingTogether() {
+        for (int i = 0; i < 10; i++) {
+            createEntity(createTask(), 50f, 0f);
+        }
+        setTime(0);
+        scheduler.update();
+        assertEquals(10, scheduler.getLastEvaluationCount());
+
+        int evaluated = 0;
+        for (long time = 1; time < 100; time++) {
+            setTime(time);
+            scheduler.update();
+            assertTrue(scheduler.getLastEvaluationCount() <= 1);
+            evaluated += scheduler.getLastEvaluationCount();
+        }
+        assertEquals(10, evaluated);
+    }
+
+    @Test
+    void shouldCarryOnFromNextEntityWhenOverBudget() {
+        scheduler.setBudget(1000);
+        PriorityTask[] tasks = new PriorityTask[3];
+        for (int i = 0; i < tasks.length; i++) {
+            tasks[i] = mock(PriorityTask.class);
+            when(tasks[i].getPriority()).thenAnswer(invocation -> {
+                Thread.sleep(2);
+                return 1;
+            });
+            createEntity(tasks[i], 1f, 0f);
+        }
+
+        setTime(0);
+        for (int i = 0; i < tasks.length; i++) {
+            scheduler.update();
+            assertEquals(1, scheduler.getLastEvaluationCount());
+        }
+        for (PriorityTask task : tasks) {
+            verify(task).getPriority();
+        }
+        assertTrue(scheduler.getOverBudgetFrames() >= 2);
+    }
+
+    @Test
+    void shouldKeepRunningTaskBetweenEvaluations() {
+        PriorityTask task = createTask();
+        AITaskComponent component = createEntity(task, 50f, 0f);
+        scheduler.setTimingEnabled(true);
+
+        setTime(0);
+        scheduler.update();
+        for (int i = 0; i < 3; i++) {
+            component.update();
+        }
+
+        verify(task).getPriority();
+        verify(task).start();
+        verify(task, times(3)).update();
+        TaskTiming timing = scheduler.getTimings().get(task.getClass());
+        assertEquals(1, timing.getPriorityCount());
+        assertEquals(3, timing.getUpdateCount());
+    }
+
+    @Test
+    void shouldNotTimeTasksUnlessEnabled() {
+        scheduler.setTimingEnabled(false);
+        PriorityTask task = createTask();
+        AITaskComponent component = createEntity(task, 1f, 0f);
+
+        scheduler.update();
+        component.update();
+
+        verify(task).update();
+        assertEquals(0, scheduler.getTimings().size);
+    }
+
+    @Test
+    void shouldEvaluateUnscheduledEntitiesEveryFrame() {
+        PriorityTask task = createTask();
+        AITaskComponent component = new AITaskComponent().setScheduled(false).addTask(task);
+        Entity entity = new Entity().addComponent(component);
+        entity.setPosition(50f, 0f);
+        entity.create();
+        assertEquals(0, scheduler.getCount());
+
+        for (long time = 0; time < 30; time += 10) {
+            setTime(time);
+            scheduler.update();
+            component.update();
+        }
+        verify(task, times(3)).getPriority();
+        verify(task, times(3)).update();
+    }
+
+    @Test
+    void shouldSkipDisabledEntities() {
+        PriorityTask task = createTask();
+        AITaskComponent component = createEntity(task, 1f, 0f);
+        component.getEntity().setEnabled(false);
+
+        scheduler.update();
+
+        verify(task, never()).getPriority();
+    }
+
+    @Test
+    void shouldStopSchedulingWhenDisposed() {
+        AITaskComponent component = createEntity(createTask(), 1f, 0f);
+        assertEquals(1, scheduler.getCount());
+
+        component.dispose();
+        assertEquals(0, scheduler.getCount());
+    }
+
+    private PriorityTask createTask() {
+        PriorityTask task = mock(PriorityTask.class);
+        when(task.getPriority()).thenReturn(1);
+        return task;
+    }
+
+    private AITaskComponent createEntity(PriorityTask task, float x, float y) {
+        AITaskComponent component = new AITaskComponent().addTask(task);
+        Entity entity = new Entity().addComponent(component);
+        entity.setPosition(x, y);
+        entity.create();
+        return component;
+    }
+
+    private void setTime(long time) {
+        when(gameTime.getTime()).thenReturn(time);
+    }
+}
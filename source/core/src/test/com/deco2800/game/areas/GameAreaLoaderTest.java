@@ -0,0 +1,104 @@
+package com.deco2800.game.areas;
+
+import com.badlogic.gdx.utils.Array;
+import com.deco2800.game.entities.Entity;
+import com.deco2800.game.entities.EntityService;
+import com.deco2800.game.extensions.GameExtension;
+import com.deco2800.game.services.ResourceService;
+import com.deco2800.game.services.ServiceLocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(GameExtension.class)
+class GameAreaLoaderTest {
+    private static final String TEST_MAP = "maps/test_map.json";
+    private ResourceService resourceService;
+    private EntityService entityService;
+
+    @BeforeEach
+    void beforeEach() {
+        resourceService = mock(ResourceService.class);
+        ServiceLocator.registerResourceService(resourceService);
+        entityService = spy(new EntityService());
+        ServiceLocator.registerEntityService(entityService);
+    }
+
+    @Test
+    void shouldLoadOverSeveralFrames() {
+        TestArea area = new TestArea(3);
+        when(resourceService.loadForMillis(anyInt())).thenReturn(true, false);
+
+        GameAreaLoader loader = area.load(TEST_MAP, "Test");
+        int frames = 0;
+        while (!loader.update(0)) {
+            frames++;
+            assertTrue(frames < 1000);
+        }
+
+        assertEquals(GameAreaLoader.Stage.DONE, loader.getStage());
+        assertEquals(100, loader.getProgress());
+        assertNotNull(area.map);
+        assertSame(area, ServiceLocator.getGameAreaService());
+        assertTrue(area.assetsQueued);
+        verify(entityService, times(3)).register(any(Entity.class));
+        // One unit of work per frame with no time budget: asset loading, then each entity
+        assertTrue(frames >= 3);
+    }
+
+    @Test
+    void shouldRegisterEntitiesBeforeNextStep() {
+        TestArea area = new TestArea(2);
+        when(resourceService.loadForMillis(anyInt())).thenReturn(false);
+        area.load(TEST_MAP, "Test").finish();
+
+        assertEquals(2, area.stepsRun);
+        assertEquals(1, area.registeredBeforeSecondStep);
+        verify(resourceService).loadAll();
+        verify(entityService, times(2)).register(any(Entity.class));
+    }
+
+    @Test
+    void shouldRegisterImmediatelyAfterLoading() {
+        TestArea area = new TestArea(0);
+        area.load(TEST_MAP, "Test").finish();
+
+        area.spawnEntity(mock(Entity.class));
+        verify(entityService).register(any(Entity.class));
+    }
+
+    private class TestArea extends GameArea {
+        private final int entityCount;
+        private int stepsRun = 0;
+        private int registeredBeforeSecondStep = -1;
+        private boolean assetsQueued = false;
+
+        TestArea(int entityCount) {
+            this.entityCount = entityCount;
+        }
+
+        @Override
+        protected void loadAssets() {
+            assetsQueued = true;
+        }
+
+        @Override
+        protected Array<Runnable> getSpawnSteps(String areaName) {
+            Array<Runnable> steps = new Array<>();
+            for (int i = 0; i < entityCount; i++) {
+                steps.add(() -> {
+                    if (stepsRun == 1) {
+                        registeredBeforeSecondStep = entityService.getEntities().size;
+                    }
+                    stepsRun++;
+                    spawnEntity(mock(Entity.class));
+                });
+            }
+            return steps;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.deco2800.game.areas.terrain;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.deco2800.game.extensions.GameExtension;
+import com.deco2800.game.files.FileLoader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(GameExtension.class)
+class BinaryMapTest {
+    private static final String TEST_MAP = "maps/test_map.json";
+
+    @Test
+    void shouldRoundTripMap() throws IOException {
+        Map original = FileLoader.readClass(Map.class, TEST_MAP);
+        assertNotNull(original);
+
+        Map copy = BinaryMap.read(ByteBuffer.wrap(toBytes(original)));
+
+        assertEquals(original.getDimensions(), copy.getDimensions());
+        assertEquals(original.getTileRefs(), copy.getTileRefs());
+        assertArrayEquals(original.getMapTiles(), copy.getMapTiles());
+        assertLayerEquals(original.getWallObjects(), copy.getWallObjects());
+        assertNull(copy.getTransObstacles());
+        assertNull(copy.getMeleeObjects());
+    }
+
+    @Test
+    void shouldBeSmallerThanJson() throws IOException {
+        Map original = FileLoader.readClass(Map.class, TEST_MAP);
+        assertNotNull(original);
+        long jsonSize = Gdx.files.internal(TEST_MAP).length();
+        assertTrue(toBytes(original).length < jsonSize);
+    }
+
+    @Test
+    void shouldRejectInvalidData() {
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+        assertThrows(GdxRuntimeException.class, () -> BinaryMap.read(buffer));
+    }
+
+    @Test
+    void shouldFallBackToJson() {
+        Map map = BinaryMap.load(TEST_MAP);
+        assertNotNull(map);
+        assertNotNull(map.getMapTiles());
+    }
+
+    @Test
+    void shouldCheckSourceMapIsUnchanged() throws IOException {
+        Map original = FileLoader.readClass(Map.class, TEST_MAP);
+        assertNotNull(original);
+        FileHandle source = Gdx.files.internal(TEST_MAP);
+        long length = source.length();
+        long checksum = BinaryMap.checksum(source);
+
+        ByteBuffer current = ByteBuffer.wrap(toBytes(original, length, checksum));
+        assertTrue(BinaryMap.isCompiledFrom(current, source));
+        assertEquals(0, current.position());
+        assertFalse(BinaryMap.isCompiledFrom(ByteBuffer.wrap(toBytes(original, length + 1, checksum)), source));
+        assertFalse(BinaryMap.isCompiledFrom(ByteBuffer.wrap(toBytes(original, length, checksum + 1)), source));
+    }
+
+    @Test
+    void shouldGetBinaryPath() {
+        assertEquals("maps/lvl_1.bin", BinaryMap.getBinaryPath("maps/lvl_1.json"));
+        assertEquals("maps/lvl_1.bin", BinaryMap.getBinaryPath("maps/lvl_1"));
+    }
+
+    private static void assertLayerEquals(MapObjectLayer expected, MapObjectLayer actual) {
+        assertEquals(expected.getType(), actual.getType());
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.getX(i), actual.getX(i));
+            assertEquals(expected.getY(i), actual.getY(i));
+            assertEquals(expected.getWidth(i), actual.getWidth(i));
+            assertEquals(expected.getHeight(i), actual.getHeight(i));
+        }
+    }
+
+    private static byte[] toBytes(Map map) throws IOException {
+        return toBytes(map, 0L, 0L);
+    }
+
+    private static byte[] toBytes(Map map, long sourceLength, long sourceChecksum) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BinaryMap.write(map, sourceLength, sourceChecksum, new DataOutputStream(bytes));
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,63 @@
+package com.deco2800.game.areas.terrain;
+
+import com.badlogic.gdx.utils.Json;
+import com.deco2800.game.areas.terrain.MapObjectLayer.Type;
+import com.deco2800.game.extensions.GameExtension;
+import com.deco2800.game.files.FileLoader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(GameExtension.class)
+class MapTest {
+    @Test
+    void shouldReadObjectLayers() {
+        Map map = FileLoader.readClass(Map.class, "maps/test_map.json");
+        assertNotNull(map);
+
+        MapObjectLayer walls = map.getWallObjects();
+        assertEquals(Type.WALL, walls.getType());
+        assertEquals(8, walls.size());
+        assertEquals(4f, walls.getX(0));
+        assertEquals(7f, walls.getY(0));
+        assertEquals(320f, walls.getWidth(0));
+        assertEquals(64f, walls.getHeight(0));
+        assertSame(walls, map.getObjects(Type.WALL));
+        assertNull(map.getMeleeObjects());
+    }
+
+    @Test
+    void shouldReadTileLayers() {
+        Map map = FileLoader.readClass(Map.class, "maps/test_map.json");
+        assertNotNull(map);
+
+        assertEquals(25, map.getDimensions().get("n_tiles_height"));
+        assertEquals(25, map.getMapTiles().length);
+        assertEquals(18, map.getMapTiles()[0][0]);
+        assertEquals("images/testArea/gametile-1.png", map.tileRefsArray()[0]);
+        assertNull(map.getTransObstacles());
+    }
+
+    @Test
+    void shouldReadMissingFieldsAsZero() {
+        String mapJson = "{ dimensions: { n_tiles_height: 1 }, tileRefs: {},"
+                + " bossObjects: [ { x: 3, y: 4 } ], unknownObjects: [ { x: 1 } ] }";
+        Map map = new Json().fromJson(Map.class, mapJson);
+
+        MapObjectLayer bosses = map.getBossObjects();
+        assertEquals(1, bosses.size());
+        assertEquals(3, bosses.getTileX(0));
+        assertEquals(4, bosses.getTileY(0));
+        assertEquals(0f, bosses.getWidth(0));
+        assertEquals(1, map.getObjectLayers().size());
+    }
+
+    @Test
+    void shouldFindTypeByKey() {
+        for (Type type : Type.values()) {
+            assertEquals(type, Type.fromKey(type.getKey()));
+        }
+        assertNull(Type.fromKey("mapTilePlacement"));
+    }
+}
@@ -0,0 +1,53 @@
+package com.deco2800.game.areas.terrain;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.deco2800.game.extensions.GameExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(GameExtension.class)
+class StaticDecorationComponentTest {
+    @Test
+    void shouldOnlyDrawVisibleChunks() {
+        OrthographicCamera camera = new OrthographicCamera(10f, 10f);
+        camera.position.set(5f, 5f, 0f);
+        SpriteCache cache = mock(SpriteCache.class);
+        int[] cacheIds = {0, 1, 2};
+        float[] bounds = {
+                0f, 0f, 8f, 8f,
+                8f, 0f, 16f, 8f,
+                100f, 100f, 108f, 108f
+        };
+        StaticDecorationComponent component =
+                new StaticDecorationComponent(camera, cache, cacheIds, bounds);
+
+        component.draw(mock(SpriteBatch.class));
+
+        verify(cache).draw(0);
+        verify(cache).draw(1);
+        verify(cache, never()).draw(2);
+        assertEquals(3, component.getChunkCount());
+        assertEquals(2, component.getChunksDrawn());
+    }
+
+    @Test
+    void shouldRestartBatchAroundCache() {
+        OrthographicCamera camera = new OrthographicCamera(10f, 10f);
+        SpriteCache cache = mock(SpriteCache.class);
+        SpriteBatch batch = mock(SpriteBatch.class);
+        StaticDecorationComponent component =
+                new StaticDecorationComponent(camera, cache, new int[0], new float[0]);
+
+        component.draw(batch);
+
+        verify(batch).end();
+        verify(cache).begin();
+        verify(cache).end();
+        verify(batch).begin();
+    }
+}
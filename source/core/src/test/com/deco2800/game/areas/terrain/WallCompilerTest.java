@@ -0,0 +1,68 @@
+package com.deco2800.game.areas.terrain;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.deco2800.game.extensions.GameExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ExtendWith(GameExtension.class)
+class WallCompilerTest {
+    @Test
+    void shouldMergeHorizontalNeighbours() {
+        Array<Rectangle> walls = new Array<>();
+        walls.add(new Rectangle(0f, 0f, 1f, 0.5f));
+        walls.add(new Rectangle(1f, 0f, 2f, 0.5f));
+        walls.add(new Rectangle(3f, 0f, 0.5f, 0.5f));
+
+        Array<Rectangle> compiled = WallCompiler.compile(walls);
+        assertEquals(1, compiled.size);
+        assertEquals(new Rectangle(0f, 0f, 3.5f, 0.5f), compiled.first());
+    }
+
+    @Test
+    void shouldMergeVerticalNeighbours() {
+        Array<Rectangle> walls = new Array<>();
+        walls.add(new Rectangle(2f, 1f, 0.5f, 1f));
+        walls.add(new Rectangle(2f, 0f, 0.5f, 1f));
+
+        Array<Rectangle> compiled = WallCompiler.compile(walls);
+        assertEquals(1, compiled.size);
+        assertEquals(new Rectangle(2f, 0f, 0.5f, 2f), compiled.first());
+    }
+
+    @Test
+    void shouldDropContainedWalls() {
+        Array<Rectangle> walls = new Array<>();
+        walls.add(new Rectangle(1f, 1f, 0.5f, 0.5f));
+        walls.add(new Rectangle(0f, 0f, 5f, 5f));
+
+        Array<Rectangle> compiled = WallCompiler.compile(walls);
+        assertEquals(1, compiled.size);
+        assertEquals(new Rectangle(0f, 0f, 5f, 5f), compiled.first());
+    }
+
+    @Test
+    void shouldNotMergeMisalignedWalls() {
+        Array<Rectangle> walls = new Array<>();
+        walls.add(new Rectangle(0f, 0f, 1f, 1f));
+        walls.add(new Rectangle(1f, 0.5f, 1f, 1f));
+        walls.add(new Rectangle(5f, 0f, 1f, 1f));
+
+        Array<Rectangle> compiled = WallCompiler.compile(walls);
+        assertEquals(3, compiled.size);
+    }
+
+    @Test
+    void shouldNotModifyInput() {
+        Array<Rectangle> walls = new Array<>();
+        walls.add(new Rectangle(0f, 0f, 1f, 1f));
+        walls.add(new Rectangle(1f, 0f, 1f, 1f));
+
+        WallCompiler.compile(walls);
+        assertEquals(2, walls.size);
+        assertEquals(new Rectangle(0f, 0f, 1f, 1f), walls.first());
+    }
+}
@@ -172,4 +172,18 @@ class CombatStatsComponentTest {
         assertEquals(80, combat.getHealth(), "hit() should do nothing when CombatStatComponents " +
                 "is disabled");
     }
+
+    @Test
+    void shouldRestoreStatsOnReuse() {
+        entity.addComponent(combat);
+        combat.setHealth(0);
+        combat.setBaseAttack(0);
+        combat.setDamageLocked(true);
+
+        combat.reuse();
+        assertEquals(100, combat.getHealth());
+        assertEquals(20, combat.getBaseAttack());
+        combat.hit(new CombatStatsComponent(100, 20));
+        assertEquals(80, combat.getHealth());
+    }
 }
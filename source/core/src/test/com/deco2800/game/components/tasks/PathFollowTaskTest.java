@@ -0,0 +1,139 @@
+package com.deco2800.game.components.tasks;
+
+import com.badlogic.gdx.math.Vector2;
+import com.deco2800.game.ai.pathfinding.PathfindingService;
+import com.deco2800.game.entities.Entity;
+import com.deco2800.game.extensions.GameExtension;
+import com.deco2800.game.physics.OccupancyGrid;
+import com.deco2800.game.physics.PhysicsEngine;
+import com.deco2800.game.physics.PhysicsService;
+import com.deco2800.game.physics.components.ColliderComponent;
+import com.deco2800.game.physics.components.PhysicsComponent;
+import com.deco2800.game.physics.components.PhysicsMovementComponent;
+import com.deco2800.game.services.GameTime;
+import com.deco2800.game.services.ServiceLocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(GameExtension.class)
+class PathFollowTaskTest {
+    private PathfindingService pathfinding;
+
+    @BeforeEach
+    void beforeEach() {
+        ServiceLocator.registerPhysicsService(new PhysicsService());
+        GameTime gameTime = mock(GameTime.class);
+        when(gameTime.getTime()).thenReturn(0L);
+        ServiceLocator.registerTimeSource(gameTime);
+
+        // Wall across most of column 5, with a gap at the top
+        OccupancyGrid grid = new OccupancyGrid(0f, 0f, 10, 10, 1f);
+        for (int y = 0; y < 9; y++) {
+            grid.setBlocked(5, y, true);
+        }
+        PhysicsEngine engine = mock(PhysicsEngine.class);
+        when(engine.getStaticGrid()).thenReturn(grid);
+        pathfinding = new PathfindingService(engine);
+        ServiceLocator.registerPathfindingService(pathfinding);
+    }
+
+    @Test
+    void shouldFollowPathAroundWall() {
+        Entity entity = new Entity().addComponent(new PhysicsComponent());
+        PhysicsMovementComponent movementComponent = new PhysicsMovementComponent();
+        entity.addComponent(movementComponent);
+        entity.setPosition(2f, 2f);
+        entity.create();
+
+        Vector2 target = new Vector2(8f, 2f);
+        PathFollowTask task = new PathFollowTask(target);
+        task.create(() -> entity);
+        task.start();
+        // Wait for the path, which is shared with the task
+        pathfinding.requestPath(new Vector2(2.5f, 2.5f), new Vector2(8.5f, 2.5f)).join();
+
+        task.update();
+        assertEquals(new Vector2(4f, 4f), movementComponent.getTarget());
+
+        entity.setPosition(4f, 4f);
+        task.update();
+        assertEquals(new Vector2(4f, 9f), movementComponent.getTarget());
+    }
+
+    @Test
+    void shouldFindPathFromColliderToCentreOfTarget() {
+        // Collider 0.8 wide at the bottom of a 2x2 sprite, centred at (2.5, 2.5)
+        ColliderComponent collider = new ColliderComponent()
+                .setAsBox(new Vector2(0.8f, 0.8f), new Vector2(1f, 0.4f));
+        Entity entity = new Entity().addComponent(new PhysicsComponent()).addComponent(collider);
+        PhysicsMovementComponent movementComponent = new PhysicsMovementComponent();
+        entity.addComponent(movementComponent);
+        entity.setScale(2f, 2f);
+        entity.setPosition(1.5f, 2.1f);
+        entity.create();
+        Entity targetEntity = new Entity();
+        targetEntity.setPosition(8f, 2f);
+
+        PathFollowTask task = new PathFollowTask(targetEntity.getPosition());
+        task.setTargetEntity(targetEntity);
+        task.create(() -> entity);
+        task.start();
+        // Same cells as the target's centre, not its position offset by this entity's size
+        pathfinding.requestPath(new Vector2(2.5f, 2.5f), new Vector2(8.5f, 2.5f)).join();
+
+        task.update();
+        assertEquals(1, pathfinding.getCachedCount());
+        // Moves the collider's centre, not the sprite's, to the first waypoint at (4.5, 4.5)
+        Vector2 waypoint = movementComponent.getTarget();
+        assertEquals(3.5f, waypoint.x, 0.001f);
+        assertEquals(4.1f, waypoint.y, 0.001f);
+    }
+
+    @Test
+    void shouldSteerToTargetAwayFromTargetEntity() {
+        Entity entity = new Entity().addComponent(new PhysicsComponent());
+        PhysicsMovementComponent movementComponent = new PhysicsMovementComponent();
+        entity.addComponent(movementComponent);
+        entity.setPosition(1f, 1f);
+        entity.create();
+        // Target entity is behind the wall, but the target is beside this entity, like a zig zag
+        Entity targetEntity = new Entity();
+        targetEntity.setPosition(8f, 2f);
+
+        PathFollowTask task = new PathFollowTask(targetEntity.getPosition());
+        task.setTargetEntity(targetEntity);
+        task.create(() -> entity);
+        task.start();
+        Vector2 zigTarget = new Vector2(3f, 1f);
+        task.setTarget(zigTarget);
+        // Both paths are ready, so only the goal decides which is followed
+        pathfinding.requestPath(new Vector2(1.5f, 1.5f), new Vector2(3.5f, 1.5f)).join();
+        pathfinding.requestPath(new Vector2(1.5f, 1.5f), new Vector2(8.5f, 2.5f)).join();
+
+        task.update();
+        assertEquals(zigTarget, movementComponent.getTarget());
+    }
+
+    @Test
+    void shouldHeadStraightWhenTargetInSameArea() {
+        Entity entity = new Entity().addComponent(new PhysicsComponent());
+        PhysicsMovementComponent movementComponent = new PhysicsMovementComponent();
+        entity.addComponent(movementComponent);
+        entity.setPosition(1f, 1f);
+        entity.create();
+
+        Vector2 target = new Vector2(3f, 1f);
+        PathFollowTask task = new PathFollowTask(target);
+        task.create(() -> entity);
+        task.start();
+        pathfinding.requestPath(new Vector2(1.5f, 1.5f), new Vector2(3.5f, 1.5f)).join();
+
+        task.update();
+        assertEquals(target, movementComponent.getTarget());
+    }
+}
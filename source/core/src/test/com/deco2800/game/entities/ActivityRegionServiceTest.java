@@ -0,0 +1,125 @@
+package com.deco2800.game.entities;
+
+import com.badlogic.gdx.physics.box2d.Body;
+import com.deco2800.game.components.ActivityComponent;
+import com.deco2800.game.extensions.GameExtension;
+import com.deco2800.game.physics.PhysicsEngine;
+import com.deco2800.game.physics.components.PhysicsComponent;
+import com.deco2800.game.services.ServiceLocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(GameExtension.class)
+class ActivityRegionServiceTest {
+    private ActivityRegionService activityRegion;
+    private EntityService entityService;
+    private Entity player;
+
+    @BeforeEach
+    void beforeEach() {
+        activityRegion = new ActivityRegionService(5f, 8f);
+        ServiceLocator.registerActivityRegionService(activityRegion);
+        entityService = new EntityService();
+        ServiceLocator.registerEntityService(entityService);
+        player = new Entity();
+        activityRegion.setTarget(player);
+    }
+
+    @Test
+    void shouldSleepFarEntities() {
+        Entity near = createEntity(3f, 0f);
+        Entity far = createEntity(10f, 0f);
+        assertEquals(2, activityRegion.getAwakeCount());
+
+        activityRegion.update();
+        assertFalse(near.getComponent(ActivityComponent.class).isAsleep());
+        assertTrue(near.isEnabled());
+        assertTrue(far.getComponent(ActivityComponent.class).isAsleep());
+        assertFalse(far.isEnabled());
+        assertEquals(1, activityRegion.getAwakeCount());
+        assertEquals(1, activityRegion.getAsleepCount());
+    }
+
+    @Test
+    void shouldWakeAndSleepWithHysteresis() {
+        Entity entity = createEntity(10f, 0f);
+        ActivityComponent activity = entity.getComponent(ActivityComponent.class);
+        activityRegion.update();
+        assertTrue(activity.isAsleep());
+
+        // Between the wake and sleep radius, so stays asleep
+        player.setPosition(3.5f, 0f);
+        activityRegion.update();
+        assertTrue(activity.isAsleep());
+
+        player.setPosition(6f, 0f);
+        activityRegion.update();
+        assertFalse(activity.isAsleep());
+        assertTrue(entity.isEnabled());
+
+        // Between the radii again, so stays awake
+        player.setPosition(3.5f, 0f);
+        activityRegion.update();
+        assertFalse(activity.isAsleep());
+
+        player.setPosition(1f, 0f);
+        activityRegion.update();
+        assertTrue(activity.isAsleep());
+    }
+
+    @Test
+    void shouldWakeFromSpatialIndex() {
+        ServiceLocator.registerSpatialIndexService(new SpatialIndexService());
+        Entity entity = createEntity(10f, 0f);
+        activityRegion.update();
+        assertTrue(entity.getComponent(ActivityComponent.class).isAsleep());
+
+        player.setPosition(7f, 0f);
+        activityRegion.update();
+        assertFalse(entity.getComponent(ActivityComponent.class).isAsleep());
+        assertTrue(entity.isEnabled());
+    }
+
+    @Test
+    void shouldDeactivateBodyWhileAsleep() {
+        PhysicsEngine engine = mock(PhysicsEngine.class);
+        Body body = mock(Body.class);
+        when(engine.createBody(any())).thenReturn(body);
+        Entity entity = new Entity()
+                .addComponent(new PhysicsComponent(engine))
+                .addComponent(new ActivityComponent());
+        entity.setPosition(10f, 0f);
+        entityService.register(entity);
+        verify(body).setActive(true);
+
+        activityRegion.update();
+        verify(body).setActive(false);
+
+        player.setPosition(8f, 0f);
+        activityRegion.update();
+        verify(body, times(2)).setActive(true);
+    }
+
+    @Test
+    void shouldStopManagingDisposedEntities() {
+        Entity entity = createEntity(10f, 0f);
+        activityRegion.update();
+        assertEquals(1, activityRegion.getAsleepCount());
+
+        entity.dispose();
+        assertEquals(0, activityRegion.getAsleepCount());
+        assertEquals(0, activityRegion.getAwakeCount());
+    }
+
+    private Entity createEntity(float x, float y) {
+        Entity entity = new Entity().addComponent(new ActivityComponent());
+        entity.setPosition(x, y);
+        entityService.register(entity);
+        return entity;
+    }
+}
@@ -0,0 +1,88 @@
+package com.deco2800.game.entities;
+
+import com.deco2800.game.components.Component;
+
+/**
+ * Compares updating components entity by entity against updating them by component type in
+ * {@link EntityService}. Each entity has a mix of components like an NPC's: one early updating, two
+ * updating and three which don't override either.
+ *
+ * <p>Not run as part of the test suite. Run the main method from an IDE to print the timings.
+ */
+public class ComponentUpdateBenchmark {
+    private static final int[] SIZES = {1000, 10000};
+    private static final int WARMUP_FRAMES = 2000;
+    private static final int FRAMES = 2000;
+
+    private static long sink = 0;
+
+    public static void main(String[] args) {
+        for (int size : SIZES) {
+            double byEntityMs = time(size, false);
+            double byTypeMs = time(size, true);
+            System.out.printf("%6d entities: by entity %.3f ms/frame, by type %.3f ms/frame (%.1fx)%n",
+                    size, byEntityMs, byTypeMs, byEntityMs / byTypeMs);
+        }
+        System.out.println(sink);
+    }
+
+    private static double time(int size, boolean byType) {
+        EntityService entityService = new EntityService();
+        entityService.setUpdateByComponentType(byType);
+        for (int i = 0; i < size; i++) {
+            entityService.register(new Entity()
+                    .addComponent(new PhysicsLike())
+                    .addComponent(new AiLike())
+                    .addComponent(new AnimationLike())
+                    .addComponent(new StaticA())
+                    .addComponent(new StaticB())
+                    .addComponent(new StaticC()));
+        }
+        for (int i = 0; i < WARMUP_FRAMES; i++) {
+            entityService.update();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < FRAMES; i++) {
+            entityService.update();
+        }
+        return (System.nanoTime() - start) / 1e6 / FRAMES;
+    }
+
+    private static class PhysicsLike extends Component {
+        private float x;
+
+        @Override
+        public void earlyUpdate() {
+            x += 0.016f;
+            sink += (long) x;
+        }
+    }
+
+    private static class AiLike extends Component {
+        private int ticks;
+
+        @Override
+        public void update() {
+            ticks++;
+            sink += ticks & 1;
+        }
+    }
+
+    private static class AnimationLike extends Component {
+        private float time;
+
+        @Override
+        public void update() {
+            time += 0.016f;
+        }
+    }
+
+    private static class StaticA extends Component {
+    }
+
+    private static class StaticB extends Component {
+    }
+
+    private static class StaticC extends Component {
+    }
+}
@@ -0,0 +1,87 @@
+package com.deco2800.game.entities;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Compares the bytes allocated per frame by the copying position accessors on {@link Entity} against
+ * the allocation-free ones. Each simulated frame reads the position, scale and centre of every entity
+ * the way rendering, culling, depth sorting and chasing do.
+ *
+ * <p>Not run as part of the test suite. Run the main method from an IDE to print the results. Needs a
+ * HotSpot JVM, which can report the bytes allocated by a thread.
+ */
+public class EntityAccessorBenchmark {
+    private static final int ENTITIES = 1000;
+    private static final int WARMUP_FRAMES = 2000;
+    private static final int FRAMES = 1000;
+
+    private static float sink = 0f;
+
+    public static void main(String[] args) {
+        Entity[] entities = createEntities();
+        Entity target = entities[0];
+
+        runCopying(entities, target, WARMUP_FRAMES);
+        runAllocationFree(entities, target, WARMUP_FRAMES);
+
+        long copyingBytes = allocatedBytes();
+        runCopying(entities, target, FRAMES);
+        copyingBytes = allocatedBytes() - copyingBytes;
+
+        long allocationFreeBytes = allocatedBytes();
+        runAllocationFree(entities, target, FRAMES);
+        allocationFreeBytes = allocatedBytes() - allocationFreeBytes;
+
+        System.out.printf("%d entities: copying accessors %d bytes/frame, allocation-free %d bytes/frame%n",
+                ENTITIES, copyingBytes / FRAMES, allocationFreeBytes / FRAMES);
+        System.out.println(sink);
+    }
+
+    private static void runCopying(Entity[] entities, Entity target, int frames) {
+        for (int frame = 0; frame < frames; frame++) {
+            for (Entity entity : entities) {
+                Vector2 position = entity.getPosition();
+                Vector2 scale = entity.getScale();
+                float zIndex = -entity.getPosition().y;
+                Vector2 center = entity.getCenterPosition();
+                Vector2 direction = target.getCenterPosition().sub(entity.getCenterPosition());
+                float distance = entity.getPosition().dst(target.getPosition());
+                sink += position.x + scale.x + zIndex + center.x + direction.x + distance;
+            }
+        }
+    }
+
+    private static void runAllocationFree(Entity[] entities, Entity target, int frames) {
+        Vector2 direction = new Vector2();
+        for (int frame = 0; frame < frames; frame++) {
+            for (Entity entity : entities) {
+                float x = entity.getX();
+                float scaleX = entity.getScaleX();
+                float zIndex = -entity.getY();
+                float centerX = entity.getCenterX();
+                target.getCenterPosition(direction).sub(entity.getCenterX(), entity.getCenterY());
+                float distance = Vector2.dst(entity.getX(), entity.getY(), target.getX(), target.getY());
+                sink += x + scaleX + zIndex + centerX + direction.x + distance;
+            }
+        }
+    }
+
+    private static Entity[] createEntities() {
+        Entity[] entities = new Entity[ENTITIES];
+        MathUtils.random.setSeed(ENTITIES);
+        for (int i = 0; i < ENTITIES; i++) {
+            entities[i] = new Entity();
+            entities[i].setPosition(MathUtils.random(100f), MathUtils.random(100f));
+        }
+        return entities;
+    }
+
+    private static long allocatedBytes() {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
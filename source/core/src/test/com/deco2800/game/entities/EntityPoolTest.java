@@ -0,0 +1,116 @@
+package com.deco2800.game.entities;
+
+import com.badlogic.gdx.math.Vector2;
+import com.deco2800.game.components.Component;
+import com.deco2800.game.extensions.GameExtension;
+import com.deco2800.game.services.ServiceLocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(GameExtension.class)
+class EntityPoolTest {
+    EntityService entityService;
+
+    @BeforeEach
+    void beforeEach() {
+        entityService = new EntityService();
+        ServiceLocator.registerEntityService(entityService);
+    }
+
+    @Test
+    void shouldRecycleInsteadOfDisposing() {
+        EntityPool pool = entityService.getPool("test");
+        Component component = spy(Component.class);
+        Entity entity = pool.manage(new Entity().addComponent(component));
+        entityService.register(entity);
+
+        entity.prepareDispose();
+        entityService.update();
+
+        verify(component).recycle();
+        verify(component, never()).dispose();
+        assertFalse(entityService.isRegistered(entity));
+        assertEquals(1, pool.getFreeCount());
+        assertSame(entity, pool.obtain());
+        assertNull(pool.obtain());
+    }
+
+    @Test
+    void shouldReuseWhenRegisteredAgain() {
+        EntityPool pool = entityService.getPool("test");
+        Component component = spy(Component.class);
+        Entity entity = pool.manage(new Entity().addComponent(component));
+        entityService.register(entity);
+        entity.prepareDispose();
+        entityService.update();
+
+        entityService.register(pool.obtain());
+        verify(component).create();
+        verify(component).reuse();
+        assertTrue(entityService.isRegistered(entity));
+
+        // No longer waiting to be disposed
+        entityService.update();
+        assertTrue(entityService.isRegistered(entity));
+        assertEquals(0, pool.getFreeCount());
+    }
+
+    @Test
+    void shouldResetEntityWhenRecycled() {
+        EntityPool pool = entityService.getPool("test");
+        Entity entity = pool.manage(new Entity());
+        entityService.register(entity);
+        entity.setPosition(3f, 4f);
+        entity.data.put("key", true);
+
+        entity.prepareDispose();
+        entityService.update();
+
+        assertEquals(Vector2.Zero, entity.getPosition());
+        assertTrue(entity.data.isEmpty());
+    }
+
+    @Test
+    void shouldDisposeWhenFull() {
+        EntityPool pool = new EntityPool(1);
+        Component recycled = spy(Component.class);
+        Component disposed = spy(Component.class);
+        Entity first = pool.manage(new Entity().addComponent(recycled));
+        Entity second = pool.manage(new Entity().addComponent(disposed));
+        entityService.register(first);
+        entityService.register(second);
+
+        first.prepareDispose();
+        second.prepareDispose();
+        entityService.update();
+
+        verify(recycled).recycle();
+        verify(disposed, never()).recycle();
+        verify(disposed).dispose();
+        assertEquals(1, pool.getFreeCount());
+    }
+
+    @Test
+    void shouldDisposeFreeEntitiesWithService() {
+        EntityPool pool = entityService.getPool("test");
+        Component component = spy(Component.class);
+        Entity entity = pool.manage(new Entity().addComponent(component));
+        entityService.register(entity);
+        entity.prepareDispose();
+        entityService.update();
+
+        entityService.dispose();
+        verify(component).dispose();
+        assertEquals(0, pool.getFreeCount());
+    }
+
+    @Test
+    void shouldGetSamePoolByName() {
+        assertSame(entityService.getPool("arrow"), entityService.getPool("arrow"));
+        assertNotSame(entityService.getPool("arrow"), entityService.getPool("beam"));
+    }
+}
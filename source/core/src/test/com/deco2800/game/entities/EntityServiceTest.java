@@ -1,9 +1,12 @@
 package com.deco2800.game.entities;
 
+import com.deco2800.game.components.Component;
 import com.deco2800.game.extensions.GameExtension;
+import com.deco2800.game.services.ServiceLocator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(GameExtension.class)
@@ -46,4 +49,185 @@ class EntityServiceTest {
         entityService.dispose();
         verify(entity).dispose();
     }
-} 
+
+    @Test
+    void shouldUpdateByComponentType() {
+        EntityService entityService = new EntityService();
+        entityService.setUpdateByComponentType(true);
+        UpdatingComponent updating = new UpdatingComponent();
+        EarlyUpdatingComponent earlyUpdating = new EarlyUpdatingComponent();
+        Entity entity = new Entity().addComponent(updating).addComponent(earlyUpdating)
+                .addComponent(new Component());
+        entityService.register(entity);
+        entityService.update();
+
+        assertEquals(1, updating.updates);
+        assertEquals(1, earlyUpdating.earlyUpdates);
+
+        entity.setEnabled(false);
+        entityService.update();
+        assertEquals(1, updating.updates);
+
+        entity.setEnabled(true);
+        entityService.unregister(entity);
+        entityService.update();
+        assertEquals(1, updating.updates);
+        assertEquals(1, earlyUpdating.earlyUpdates);
+    }
+
+    @Test
+    void shouldOnlyKeepUpdatingComponentsByType() {
+        ComponentUpdater updater = new ComponentUpdater();
+        Entity entity = new Entity().addComponent(new UpdatingComponent()).addComponent(new Component());
+        entity.create();
+        updater.add(entity);
+        assertEquals(1, updater.size());
+
+        updater.remove(entity);
+        updater.update();
+        assertEquals(0, updater.size());
+    }
+
+    @Test
+    void shouldKeepComponentsOfReaddedEntities() {
+        ComponentUpdater updater = new ComponentUpdater();
+        UpdatingComponent updating = new UpdatingComponent();
+        Entity entity = new Entity().addComponent(updating);
+        entity.create();
+        updater.add(entity);
+
+        updater.remove(entity);
+        updater.add(entity);
+        updater.update();
+        assertEquals(1, updater.size());
+        assertEquals(1, updating.updates);
+    }
+
+    @Test
+    void shouldDisposeWhenUpdatingByComponentType() {
+        EntityService entityService = new EntityService();
+        ServiceLocator.registerEntityService(entityService);
+        entityService.setUpdateByComponentType(true);
+        UpdatingComponent updating = new UpdatingComponent();
+        Entity entity = new Entity().addComponent(updating);
+        entityService.register(entity);
+
+        entity.prepareDispose();
+        entityService.update();
+        assertEquals(1, updating.updates);
+        assertEquals(0, entityService.getEntities().size);
+
+        entityService.update();
+        assertEquals(1, updating.updates);
+    }
+
+    @Test
+    void shouldSwitchUpdateModes() {
+        EntityService entityService = new EntityService();
+        UpdatingComponent updating = new UpdatingComponent();
+        entityService.register(new Entity().addComponent(updating));
+
+        entityService.setUpdateByComponentType(true);
+        entityService.update();
+        entityService.setUpdateByComponentType(false);
+        entityService.update();
+        entityService.setUpdateByComponentType(true);
+        entityService.update();
+        assertEquals(3, updating.updates);
+    }
+
+    @Test
+    void shouldCheckRegistered() {
+        EntityService entityService = new EntityService();
+        Entity entity = new Entity();
+        assertFalse(entityService.isRegistered(entity));
+        assertFalse(entityService.isRegistered(null));
+
+        entityService.register(entity);
+        assertTrue(entityService.isRegistered(entity));
+        assertFalse(new EntityService().isRegistered(entity));
+
+        entityService.unregister(entity);
+        assertFalse(entityService.isRegistered(entity));
+    }
+
+    @Test
+    void shouldRemoveFromMiddle() {
+        EntityService entityService = new EntityService();
+        Entity first = new Entity();
+        Entity middle = new Entity();
+        Entity last = new Entity();
+        entityService.register(first);
+        entityService.register(middle);
+        entityService.register(last);
+
+        entityService.unregister(middle);
+        assertEquals(2, entityService.getEntityCount());
+        assertTrue(entityService.getEntities().contains(first, true));
+        assertTrue(entityService.getEntities().contains(last, true));
+
+        // The moved entity can still be removed
+        entityService.unregister(last);
+        assertEquals(1, entityService.getEntityCount());
+        assertSame(first, entityService.getEntity(0));
+    }
+
+    @Test
+    void shouldDeferRemovalWhileUpdating() {
+        EntityService entityService = new EntityService();
+        UpdatingComponent[] updating = new UpdatingComponent[4];
+        Entity[] entities = new Entity[4];
+        for (int i = 0; i < entities.length; i++) {
+            updating[i] = new UpdatingComponent();
+            entities[i] = new Entity().addComponent(updating[i]);
+        }
+        // The first entity removes itself and the last, which shouldn't skip any other entity
+        entities[0].addComponent(new Component() {
+            @Override
+            public void update() {
+                entityService.unregister(entities[0]);
+                entityService.unregister(entities[3]);
+            }
+        });
+        for (Entity entity : entities) {
+            entityService.register(entity);
+        }
+
+        entityService.update();
+        assertEquals(1, updating[1].updates);
+        assertEquals(1, updating[2].updates);
+        assertEquals(0, updating[3].updates);
+        assertFalse(entityService.isRegistered(entities[0]));
+        assertEquals(2, entityService.getEntityCount());
+    }
+
+    @Test
+    void shouldDisposeAllEntities() {
+        EntityService entityService = new EntityService();
+        ServiceLocator.registerEntityService(entityService);
+        for (int i = 0; i < 5; i++) {
+            entityService.register(new Entity());
+        }
+
+        entityService.dispose();
+        assertEquals(0, entityService.getEntityCount());
+    }
+
+    static class UpdatingComponent extends Component {
+        int updates = 0;
+
+        @Override
+        public void update() {
+            updates++;
+        }
+    }
+
+    static class EarlyUpdatingComponent extends Component {
+        int earlyUpdates = 0;
+
+        @Override
+        public void earlyUpdate() {
+            earlyUpdates++;
+        }
+    }
+}
@@ -45,6 +45,31 @@ class EntityTest {
         assertEquals(new Vector2(-4f, -9f), entity.getCenterPosition());
     }
 
+    @Test
+    void shouldGetPositionWithoutCopying() {
+        Entity entity = new Entity();
+        entity.setPosition(3f, -2f);
+        entity.setScale(2f, 4f);
+        Vector2 out = new Vector2();
+
+        assertSame(out, entity.getPosition(out));
+        assertEquals(new Vector2(3f, -2f), out);
+        assertEquals(3f, entity.getX());
+        assertEquals(-2f, entity.getY());
+
+        assertSame(out, entity.getScale(out));
+        assertEquals(new Vector2(2f, 4f), out);
+        assertEquals(2f, entity.getScaleX());
+        assertEquals(4f, entity.getScaleY());
+
+        assertSame(out, entity.getCenterPosition(out));
+        assertEquals(new Vector2(4f, 0f), out);
+
+        // Changing the returned vector doesn't move the entity
+        out.set(100f, 100f);
+        assertEquals(3f, entity.getX());
+    }
+
     @Test
     void shouldUpdateComponents() {
         Entity entity = new Entity();
@@ -0,0 +1,103 @@
+package com.deco2800.game.entities;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.deco2800.game.extensions.GameExtension;
+import com.deco2800.game.services.ServiceLocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(GameExtension.class)
+class SpatialIndexServiceTest {
+    private SpatialIndexService spatialIndex;
+    private EntityService entityService;
+    private final Array<Entity> found = new Array<>();
+
+    @BeforeEach
+    void beforeEach() {
+        spatialIndex = new SpatialIndexService(2f);
+        ServiceLocator.registerSpatialIndexService(spatialIndex);
+        entityService = new EntityService();
+        ServiceLocator.registerEntityService(entityService);
+        found.clear();
+    }
+
+    @Test
+    void shouldIndexRegisteredEntities() {
+        Entity entity = createEntity(0f, 0f);
+        assertEquals(1, spatialIndex.size());
+
+        entityService.unregister(entity);
+        assertEquals(0, spatialIndex.size());
+        assertEquals(0, spatialIndex.findInRadius(0f, 0f, 5f, found));
+    }
+
+    @Test
+    void shouldFindInRadius() {
+        Entity near = createEntity(1f, 1f);
+        Entity edge = createEntity(3f, 1f);
+        createEntity(10f, 10f);
+
+        // Entities are found by their centre, half a metre in from their position
+        assertEquals(2, spatialIndex.findInRadius(1.5f, 1.5f, 2.5f, found));
+        assertTrue(found.contains(near, true));
+        assertTrue(found.contains(edge, true));
+    }
+
+    @Test
+    void shouldFindInArea() {
+        Entity inside = createEntity(-3f, -3f);
+        createEntity(0f, 0f);
+
+        assertEquals(1, spatialIndex.findInArea(-4f, -4f, -1f, -1f, found));
+        assertSame(inside, found.first());
+    }
+
+    @Test
+    void shouldFollowEntityMovement() {
+        Entity entity = createEntity(0f, 0f);
+        entity.setPosition(20f, 20f);
+        assertEquals(0, spatialIndex.findInRadius(0.5f, 0.5f, 1f, found));
+        assertEquals(1, spatialIndex.findInRadius(20.5f, 20.5f, 1f, found));
+
+        // Physics moves entities without notifying listeners
+        entity.setPosition(new Vector2(-10f, 5f), false);
+        found.clear();
+        assertEquals(1, spatialIndex.findInRadius(-9.5f, 5.5f, 1f, found));
+    }
+
+    @Test
+    void shouldFindNearestInOrder() {
+        Entity nearest = createEntity(1f, 0f);
+        Entity second = createEntity(-3f, 0f);
+        Entity third = createEntity(0f, 6f);
+        createEntity(9f, 9f);
+
+        assertEquals(3, spatialIndex.findNearest(0.5f, 0.5f, 3, 10f, null, found));
+        assertSame(nearest, found.get(0));
+        assertSame(second, found.get(1));
+        assertSame(third, found.get(2));
+    }
+
+    @Test
+    void shouldFilterNearest() {
+        createEntity(0f, 0f);
+        Entity enemy = createEntity(4f, 0f);
+        enemy.setEntityType("enemy");
+        createEntity(30f, 0f).setEntityType("enemy");
+
+        assertEquals(1, spatialIndex.findNearest(0.5f, 0.5f, 2, 10f,
+                entity -> "enemy".equals(entity.getEntityType()), found));
+        assertSame(enemy, found.first());
+    }
+
+    private Entity createEntity(float x, float y) {
+        Entity entity = new Entity();
+        entity.setPosition(x, y);
+        entityService.register(entity);
+        return entity;
+    }
+}
@@ -0,0 +1,91 @@
+package com.deco2800.game.events;
+
+import com.badlogic.gdx.utils.Array;
+import com.deco2800.game.events.listeners.EventListener;
+import com.deco2800.game.events.listeners.EventListener1;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Measures event triggers per second through {@link EventHandler}, by interned key and by name,
+ * against the string-keyed HashMap dispatch it used to do. Each handler has listeners on a few dozen
+ * events, as a typical NPC does, and one event is triggered repeatedly.
+ *
+ * <p>Not run as part of the test suite. Run the main method from an IDE to print the results.
+ */
+public class EventHandlerBenchmark {
+    private static final int EVENTS_PER_HANDLER = 30;
+    private static final int TRIGGERS = 20_000_000;
+    private static final String EVENT_NAME = "benchmarkEvent";
+
+    private static long sink = 0;
+
+    public static void main(String[] args) {
+        EventHandler handler = new EventHandler();
+        StringKeyedHandler stringKeyed = new StringKeyedHandler();
+        for (int i = 0; i < EVENTS_PER_HANDLER; i++) {
+            handler.addListener("otherEvent" + i, (Integer value) -> sink -= value);
+            stringKeyed.addListener("otherEvent" + i, (Integer value) -> sink -= value);
+        }
+        handler.addListener(EVENT_NAME, (Integer value) -> sink += value);
+        stringKeyed.addListener(EVENT_NAME, (Integer value) -> sink += value);
+        EventKey key = EventKey.of(EVENT_NAME);
+
+        Runnable byKey = () -> {
+            for (int i = 0; i < TRIGGERS; i++) {
+                handler.trigger(key, 1);
+            }
+        };
+        Runnable byName = () -> {
+            for (int i = 0; i < TRIGGERS; i++) {
+                handler.trigger(EVENT_NAME, 1);
+            }
+        };
+        Runnable old = () -> {
+            for (int i = 0; i < TRIGGERS; i++) {
+                stringKeyed.trigger(EVENT_NAME, 1);
+            }
+        };
+
+        // Warm up the JIT
+        byKey.run();
+        byName.run();
+        old.run();
+        System.out.printf("String-keyed HashMap: %.1f million triggers/s%n", measure(old));
+        System.out.printf("EventHandler by name: %.1f million triggers/s%n", measure(byName));
+        System.out.printf("EventHandler by key:  %.1f million triggers/s%n", measure(byKey));
+        System.out.println(sink);
+    }
+
+    private static double measure(Runnable triggers) {
+        long start = System.nanoTime();
+        triggers.run();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        return TRIGGERS / seconds / 1e6;
+    }
+
+    /**
+     * The one-argument dispatch EventHandler did before events were interned
+     */
+    private static class StringKeyedHandler {
+        private final Map<String, Array<EventListener>> listeners = new HashMap<>(0);
+
+        void addListener(String eventName, EventListener1<Integer> listener) {
+            listeners.computeIfAbsent(eventName, name -> new Array<>(1)).add(listener);
+        }
+
+        @SuppressWarnings("unchecked")
+        <T> void trigger(String eventName, T arg0) {
+            forEachListener(eventName, (EventListener listener) -> ((EventListener1<T>) listener).handle(arg0));
+        }
+
+        private void forEachListener(String eventName, Consumer<EventListener> func) {
+            Array<EventListener> eventListeners = listeners.getOrDefault(eventName, null);
+            if (eventListeners != null) {
+                eventListeners.forEach(func);
+            }
+        }
+    }
+}
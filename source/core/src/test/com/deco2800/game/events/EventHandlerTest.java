@@ -10,7 +10,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 @SuppressWarnings("unchecked")
@@ -97,4 +97,49 @@ class EventHandlerTest {
         });
         assertThrows(ClassCastException.class, () -> handler.trigger("stringEvent", true));
     }
-} 
+
+    @Test
+    void shouldInternEventNames() {
+        EventKey key = EventKey.of("internedEvent");
+        assertSame(key, EventKey.of("internedEvent"));
+        assertSame(key, EventKey.find("internedEvent"));
+        assertNotEquals(key.getId(), EventKey.of("otherInternedEvent").getId());
+        assertNull(EventKey.find("neverUsedEvent"));
+    }
+
+    @Test
+    void shouldTriggerByKeyOrName() {
+        EventKey key = EventKey.of("keyEvent");
+        EventListener1<String> listener = (EventListener1<String>) mock(EventListener1.class);
+        EventListener1<String> listener2 = (EventListener1<String>) mock(EventListener1.class);
+        handler.addListener("keyEvent", listener);
+        handler.addListener(key, listener2);
+
+        handler.trigger(key, "byKey");
+        handler.trigger("keyEvent", "byName");
+        verify(listener).handle("byKey");
+        verify(listener).handle("byName");
+        verify(listener2).handle("byKey");
+        verify(listener2).handle("byName");
+    }
+
+    @Test
+    void shouldHaveEvent() {
+        assertFalse(handler.hasEvent("hasEvent"));
+        handler.trigger("hasEvent");
+        assertFalse(handler.hasEvent("hasEvent"));
+
+        handler.addListener("hasEvent", () -> {
+        });
+        assertTrue(handler.hasEvent("hasEvent"));
+        assertTrue(handler.hasEvent(EventKey.of("hasEvent")));
+    }
+
+    @Test
+    void shouldCallListenerAddedWhileTriggering() {
+        EventListener0 added = mock(EventListener0.class);
+        handler.addListener("event", () -> handler.addListener("event", added));
+        handler.trigger("event");
+        verify(added).handle();
+    }
+}
@@ -0,0 +1,167 @@
+package com.deco2800.game.events;
+
+import com.deco2800.game.events.listeners.EventListener0;
+import com.deco2800.game.events.listeners.EventListener1;
+import com.deco2800.game.events.listeners.EventListener2;
+import com.deco2800.game.extensions.GameExtension;
+import com.deco2800.game.services.ServiceLocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@SuppressWarnings("unchecked")
+@ExtendWith(GameExtension.class)
+class EventQueueTest {
+    private static final EventKey EVENT = EventKey.of("queuedEvent");
+    private static final EventKey OTHER_EVENT = EventKey.of("otherQueuedEvent");
+    private static final EventKey COALESCED_EVENT = EventKey.of("coalescedEvent");
+
+    EventQueue queue;
+    EventHandler handler;
+
+    @BeforeEach
+    void beforeEach() {
+        queue = new EventQueue();
+        queue.setCoalesced(COALESCED_EVENT, true);
+        ServiceLocator.registerEventQueue(queue);
+        handler = new EventHandler();
+    }
+
+    @Test
+    void shouldTriggerOnFlush() {
+        EventListener2<String, Integer> listener = (EventListener2<String, Integer>) mock(EventListener2.class);
+        handler.addListener(EVENT, listener);
+
+        handler.queue(EVENT, "arg", 1);
+        verifyNoInteractions(listener);
+        assertEquals(1, queue.size());
+
+        assertEquals(1, queue.flush());
+        verify(listener).handle("arg", 1);
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    void shouldTriggerInOrder() {
+        EventListener1<Integer> listener = (EventListener1<Integer>) mock(EventListener1.class);
+        EventListener0 otherListener = mock(EventListener0.class);
+        handler.addListener(EVENT, listener);
+        handler.addListener(OTHER_EVENT, otherListener);
+
+        handler.queue(EVENT, 1);
+        handler.queue(OTHER_EVENT);
+        handler.queue(EVENT, 2);
+        queue.flush();
+
+        InOrder inOrder = inOrder(listener, otherListener);
+        inOrder.verify(listener).handle(1);
+        inOrder.verify(otherListener).handle();
+        inOrder.verify(listener).handle(2);
+    }
+
+    @Test
+    void shouldCoalesce() {
+        EventListener1<Integer> listener = (EventListener1<Integer>) mock(EventListener1.class);
+        EventHandler otherHandler = new EventHandler();
+        EventListener1<Integer> otherListener = (EventListener1<Integer>) mock(EventListener1.class);
+        handler.addListener(COALESCED_EVENT, listener);
+        otherHandler.addListener(COALESCED_EVENT, otherListener);
+
+        handler.queue(COALESCED_EVENT, 1);
+        otherHandler.queue(COALESCED_EVENT, 5);
+        handler.queue(COALESCED_EVENT, 2);
+        handler.queue(COALESCED_EVENT, 3);
+        assertEquals(2, queue.size());
+        queue.flush();
+
+        verify(listener).handle(3);
+        verifyNoMoreInteractions(listener);
+        verify(otherListener).handle(5);
+
+        // Once flushed, the event can be queued again
+        handler.queue(COALESCED_EVENT, 4);
+        queue.flush();
+        verify(listener).handle(4);
+    }
+
+    @Test
+    void shouldLeaveEventsQueuedWhileFlushing() {
+        EventListener0 listener = mock(EventListener0.class);
+        handler.addListener(EVENT, () -> handler.queue(OTHER_EVENT));
+        handler.addListener(OTHER_EVENT, listener);
+
+        handler.queue(EVENT);
+        assertEquals(1, queue.flush());
+        verifyNoInteractions(listener);
+
+        assertEquals(1, queue.flush());
+        verify(listener).handle();
+    }
+
+    @Test
+    void shouldCancelHandlerEvents() {
+        EventListener0 listener = mock(EventListener0.class);
+        EventHandler otherHandler = new EventHandler();
+        EventListener0 otherListener = mock(EventListener0.class);
+        handler.addListener(EVENT, listener);
+        otherHandler.addListener(EVENT, otherListener);
+
+        handler.queue(EVENT);
+        otherHandler.queue(EVENT);
+        queue.cancel(handler);
+
+        assertEquals(1, queue.flush());
+        verifyNoInteractions(listener);
+        verify(otherListener).handle();
+    }
+
+    @Test
+    void shouldCancelEventsWithArgument() {
+        EventListener2<Object, Object> listener = (EventListener2<Object, Object>) mock(EventListener2.class);
+        handler.addListener(EVENT, listener);
+        Object destroyed = new Object();
+        Object kept = new Object();
+
+        handler.queue(EVENT, destroyed, kept);
+        handler.queue(EVENT, kept, destroyed);
+        handler.queue(EVENT, kept, kept);
+        queue.cancelWithArgument(destroyed);
+
+        assertEquals(1, queue.flush());
+        verify(listener).handle(kept, kept);
+        verifyNoMoreInteractions(listener);
+    }
+
+    @Test
+    void shouldGrowWhenFull() {
+        EventListener1<Integer> listener = (EventListener1<Integer>) mock(EventListener1.class);
+        handler.addListener(EVENT, listener);
+
+        // Start part way round the ring so growing has to unwrap it
+        handler.queue(EVENT, -1);
+        queue.flush();
+        for (int i = 0; i < 200; i++) {
+            handler.queue(EVENT, i);
+        }
+        assertEquals(200, queue.flush());
+
+        InOrder inOrder = inOrder(listener);
+        for (int i = 0; i < 200; i++) {
+            inOrder.verify(listener).handle(i);
+        }
+    }
+
+    @Test
+    void shouldTriggerImmediatelyWithoutQueue() {
+        ServiceLocator.registerEventQueue(null);
+        EventListener0 listener = mock(EventListener0.class);
+        handler.addListener(EVENT, listener);
+
+        handler.queue(EVENT);
+        verify(listener).handle();
+    }
+}
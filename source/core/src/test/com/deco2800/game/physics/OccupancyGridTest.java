@@ -0,0 +1,117 @@
+package com.deco2800.game.physics;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.deco2800.game.extensions.GameExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(GameExtension.class)
+class OccupancyGridTest {
+    @Test
+    void shouldBlockCellsCoveredByRectangles() {
+        OccupancyGrid grid = OccupancyGrid.fromRectangles(
+                Array.with(new Rectangle(1f, 1f, 1f, 0.5f)), 0f, 0f, 0.5f);
+
+        assertEquals(2, grid.getBlockedCount());
+        assertTrue(grid.isBlockedAt(1.3f, 1.2f));
+        assertTrue(grid.isBlockedAt(1.9f, 1.4f));
+        assertFalse(grid.isBlockedAt(0.9f, 1.2f));
+        assertFalse(grid.isBlockedAt(1.3f, 1.6f));
+        assertFalse(grid.isBlockedAt(-10f, 1.2f));
+    }
+
+    @Test
+    void shouldNotBlockCellOfThinRectangle() {
+        Rectangle thin = new Rectangle(1f, 1f, 0.1f, 0.5f);
+        OccupancyGrid grid = OccupancyGrid.fromRectangles(Array.with(thin), 0f, 0f, 0.5f);
+
+        assertEquals(0, grid.getBlockedCount());
+        assertFalse(grid.isBlockedAt(1.05f, 1.2f));
+        assertFalse(OccupancyGrid.coversCellCentre(thin, 0f, 0f, 0.5f));
+        assertTrue(OccupancyGrid.coversCellCentre(thin, 0.2f, 0f, 0.5f));
+    }
+
+    @Test
+    void shouldNotBlockEdgeTilesBesideBorderWalls() {
+        // Same border walls as a 5x4 tile level in GameArea.spawnTerrain
+        float tileSize = 0.5f;
+        float worldWidth = 2.5f;
+        float worldHeight = 2f;
+        Array<Rectangle> rectangles = Array.with(
+                new Rectangle(0f, 0f, 0.1f, worldHeight),
+                new Rectangle(worldWidth, 0f, 0.1f, worldHeight),
+                new Rectangle(0f, worldHeight, worldWidth, 0.1f),
+                new Rectangle(0f, 0f, worldWidth, 0.1f),
+                new Rectangle(1f, 1f, 0.5f, 0.5f));
+        OccupancyGrid grid = OccupancyGrid.fromRectangles(rectangles, 0f, 0f, tileSize);
+
+        assertEquals(1, grid.getBlockedCount());
+        assertTrue(grid.isBlockedAt(1.2f, 1.2f));
+        assertFalse(grid.isBlockedAt(0.05f, 1.2f));
+        assertFalse(grid.isBlockedAt(1.2f, 0.05f));
+        assertFalse(grid.isBlockedAt(0.2f, 0.2f));
+        assertTrue(grid.isClear(0.2f, 0.2f, 2.3f, 0.2f));
+        assertTrue(grid.isClear(0.2f, 0.2f, 0.2f, 1.8f));
+    }
+
+    @Test
+    void shouldRaycastToFirstBlockedCell() {
+        OccupancyGrid grid = createWallGrid();
+
+        assertEquals(0.45f, grid.raycast(0.2f, 1.1f, 4.2f, 1.1f), 0.0001f);
+        assertEquals(0.425f, grid.raycast(4.2f, 1.1f, 0.2f, 1.1f), 0.0001f);
+        assertFalse(grid.isClear(0.2f, 0.2f, 3.2f, 3.7f));
+    }
+
+    @Test
+    void shouldNotBlockClearRays() {
+        OccupancyGrid grid = createWallGrid();
+
+        // Beside the wall
+        assertTrue(grid.isClear(0.2f, 1.1f, 1.9f, 3.9f));
+        // Past the top of the wall
+        assertTrue(grid.isClear(0.2f, 4.2f, 4.2f, 4.2f));
+        // Starting inside the wall
+        assertEquals(OccupancyGrid.MISS, grid.raycast(2.2f, 1.1f, 4.2f, 1.1f));
+        assertTrue(grid.isClear(1f, 1f, 1f, 1f));
+    }
+
+    @Test
+    void shouldGetClearanceOfBodies() {
+        OccupancyGrid grid = new OccupancyGrid(0f, 0f, 4, 4, 0.5f);
+
+        // Up to a cell wide fits in its cell
+        assertEquals(0, grid.getClearance(0.13f));
+        assertEquals(0, grid.getClearance(0.25f));
+        // An elf's 0.9 wide collider reaches into the cells either side
+        assertEquals(1, grid.getClearance(0.45f));
+        assertEquals(2, grid.getClearance(0.8f));
+    }
+
+    @Test
+    void shouldInflateBlockedCells() {
+        OccupancyGrid grid = new OccupancyGrid(0f, 0f, 7, 7, 1f);
+        grid.setBlocked(3, 3, true);
+
+        assertSame(grid, grid.getInflated(0, 0));
+        OccupancyGrid inflated = grid.getInflated(2, 1);
+        assertSame(inflated, grid.getInflated(2, 1));
+        assertEquals(5 * 3, inflated.getBlockedCount());
+        assertTrue(inflated.isBlocked(1, 2));
+        assertTrue(inflated.isBlocked(5, 4));
+        assertFalse(inflated.isBlocked(0, 3));
+        assertFalse(inflated.isBlocked(3, 5));
+        assertEquals(1, grid.getBlockedCount());
+    }
+
+    private static OccupancyGrid createWallGrid() {
+        // Wall one cell wide from (2, 0) to (2.5, 4), with room either side
+        Array<Rectangle> rectangles = Array.with(
+                new Rectangle(2f, 0f, 0.5f, 4f),
+                new Rectangle(4.5f, 0f, 0.5f, 0.5f));
+        return OccupancyGrid.fromRectangles(rectangles, 0f, 0f, 0.5f);
+    }
+}
@@ -63,4 +63,27 @@ class PhysicsComponentTest {
         entity.setPosition(newPos);
         verify(body).setTransform(eq(newPos), anyFloat());
     }
+
+    @Test
+    void shouldInterpolateRenderPosition() {
+        Entity entity = new Entity();
+        PhysicsComponent component = new PhysicsComponent();
+        entity.addComponent(component);
+        entity.create();
+
+        when(engine.isInterpolating()).thenReturn(true);
+        when(engine.getInterpolationAlpha()).thenReturn(0.5f);
+        when(body.getPosition()).thenReturn(new Vector2(2f, 4f));
+        entity.earlyUpdate();
+
+        // Gameplay uses the latest position, and only drawing is interpolated
+        assertEquals(new Vector2(2f, 4f), entity.getPosition());
+        assertEquals(1f, entity.getRenderX(), 0.001f);
+        assertEquals(2f, entity.getRenderY(), 0.001f);
+
+        // Moving the entity draws it where it was moved to
+        entity.setPosition(5f, 6f);
+        assertEquals(5f, entity.getRenderX(), 0.001f);
+        assertEquals(6f, entity.getRenderY(), 0.001f);
+    }
 }
@@ -2,6 +2,7 @@ package com.deco2800.game.physics;
 
 import com.badlogic.gdx.physics.box2d.Fixture;
 import com.deco2800.game.entities.Entity;
+import com.deco2800.game.events.EventQueue;
 import com.deco2800.game.events.listeners.EventListener2;
 import com.deco2800.game.extensions.GameExtension;
 import com.deco2800.game.physics.components.ColliderComponent;
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
 
 @SuppressWarnings("unchecked")
@@ -77,6 +79,54 @@ class PhysicsContactListenerTest {
         verify(endCallback2).handle(fixture2, fixture1);
     }
 
+    @Test
+    void shouldDropQueuedEventsOfDestroyedFixture() {
+        EventQueue eventQueue = new EventQueue();
+        ServiceLocator.registerEventQueue(eventQueue);
+        Entity entity1 = createPhysicsEntity();
+        Entity entity2 = createPhysicsEntity();
+        entity1.setPosition(0f, 0f);
+        entity2.setPosition(0f, 0f);
+        Fixture fixture1 = entity1.getComponent(ColliderComponent.class).getFixture();
+        Fixture fixture2 = entity2.getComponent(ColliderComponent.class).getFixture();
+
+        EventListener2<Fixture, Fixture> startCallback = mock(EventListener2.class);
+        EventListener2<Fixture, Fixture> endCallback = mock(EventListener2.class);
+        entity1.getEvents().addListener("collisionStart", startCallback);
+        entity1.getEvents().addListener("collisionEnd", endCallback);
+
+        // Collision is queued during the step, then the other side is destroyed before the flush
+        ServiceLocator.getPhysicsService().getPhysics().update();
+        entity2.getComponent(PhysicsComponent.class).dispose();
+
+        // Contact ends as the body is destroyed, while both fixtures still exist
+        verify(endCallback).handle(fixture1, fixture2);
+        assertEquals(0, eventQueue.flush());
+        verifyNoInteractions(startCallback);
+    }
+
+    @Test
+    void shouldTriggerEndImmediatelyWhenFixtureDestroyed() {
+        EventQueue eventQueue = new EventQueue();
+        ServiceLocator.registerEventQueue(eventQueue);
+        Entity entity1 = createPhysicsEntity();
+        Entity entity2 = createPhysicsEntity();
+        entity1.setPosition(0f, 0f);
+        entity2.setPosition(0f, 0f);
+        Fixture fixture1 = entity1.getComponent(ColliderComponent.class).getFixture();
+        Fixture fixture2 = entity2.getComponent(ColliderComponent.class).getFixture();
+
+        EventListener2<Fixture, Fixture> endCallback = mock(EventListener2.class);
+        entity1.getEvents().addListener("collisionEnd", endCallback);
+
+        ServiceLocator.getPhysicsService().getPhysics().update();
+        eventQueue.flush();
+        entity2.getComponent(ColliderComponent.class).dispose();
+
+        verify(endCallback).handle(fixture1, fixture2);
+        assertEquals(0, eventQueue.size());
+    }
+
     Entity createPhysicsEntity() {
         Entity entity =
                 new Entity().addComponent(new PhysicsComponent()).addComponent(new ColliderComponent());
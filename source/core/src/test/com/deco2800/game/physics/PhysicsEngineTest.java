@@ -1,6 +1,10 @@
 package com.deco2800.game.physics;
 
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
+import com.badlogic.gdx.utils.Array;
+import com.deco2800.game.physics.raycast.RaycastHit;
 import com.deco2800.game.extensions.GameExtension;
 import com.deco2800.game.services.GameTime;
 import org.junit.jupiter.api.Test;
@@ -8,6 +12,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,6 +51,58 @@ class PhysicsEngineTest {
         verify(world, times(3)).step(anyFloat(), anyInt(), anyInt());
     }
 
+    @Test
+    void shouldLimitStepsPerUpdate() {
+        PhysicsEngine engine = new PhysicsEngine(world, gameTime);
+        when(gameTime.getDeltaTime()).thenReturn(1f);
+
+        engine.update();
+        verify(world, times(PhysicsEngine.DEFAULT_MAX_STEPS)).step(anyFloat(), anyInt(), anyInt());
+        assertTrue(engine.getDroppedSteps() > 0);
+    }
+
+    @Test
+    void shouldStepWithSettings() {
+        PhysicsEngine engine = new PhysicsEngine(world, gameTime);
+        engine.setStepRate(30);
+        engine.setIterations(8, 3);
+        when(gameTime.getDeltaTime()).thenReturn(0.05f);
+
+        engine.update();
+        verify(world).step(1f / 30f, 8, 3);
+    }
+
+    @Test
+    void shouldGiveInterpolationAlpha() {
+        PhysicsEngine engine = new PhysicsEngine(world, gameTime);
+        engine.setStepRate(50);
+        engine.setInterpolating(true);
+        when(gameTime.getDeltaTime()).thenReturn(0.025f);
+
+        engine.update();
+        verify(world, times(1)).step(anyFloat(), anyInt(), anyInt());
+        assertEquals(0.25f, engine.getInterpolationAlpha(), 0.001f);
+    }
+
+    @Test
+    void shouldRaycastStaticGeometryInGrid() {
+        PhysicsEngine engine = new PhysicsEngine(world, gameTime);
+        OccupancyGrid grid = OccupancyGrid.fromRectangles(
+                Array.with(new Rectangle(2f, 0f, 0.5f, 4f)), 0f, 0f, 0.5f);
+        engine.setStaticGeometry(mock(Body.class), grid, PhysicsLayer.OBSTACLE);
+        RaycastHit hit = new RaycastHit();
+
+        Vector2 from = new Vector2(0.2f, 1.1f);
+        assertTrue(engine.raycast(from, new Vector2(4.2f, 1.1f), PhysicsLayer.OBSTACLE, hit));
+        assertEquals(2f, hit.point.x, 0.0001f);
+        assertEquals(1.1f, hit.point.y, 0.0001f);
+        // Box2D is only asked about colliders closer than the wall
+        verify(world).rayCast(any(RayCastCallback.class), eq(from), eq(hit.point));
+
+        // The grid isn't used for other layers
+        assertFalse(engine.raycast(from, new Vector2(4.2f, 1.1f), PhysicsLayer.NPC, hit));
+    }
+
     @Test
     void shouldCreateBody() {
         PhysicsEngine engine = new PhysicsEngine(world, gameTime);
@@ -12,6 +12,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
 @ExtendWith(GameExtension.class)
 class PhysicsUtilsTest {
     Entity entity;
@@ -40,6 +42,28 @@ class PhysicsUtilsTest {
         setAndCheckScale(new Vector2(0.5f, 0.5f), new Vector2(2f, 2f));
     }
 
+    @Test
+    void shouldGetCentreOfColliderAtFeet() {
+        entity.setScale(1f, 1.3f);
+        PhysicsUtils.setScaledCollider(entity, 0.9f, 0.2f);
+        ServiceLocator.getEntityService().register(entity);
+        entity.setPosition(2f, 3f);
+
+        Vector2 center = PhysicsUtils.getColliderCenter(entity, new Vector2());
+        assertEquals(2.5f, center.x, 0.001f);
+        assertEquals(3.13f, center.y, 0.001f);
+    }
+
+    @Test
+    void shouldGetSpriteCentreWithoutCollider() {
+        Entity sprite = new Entity();
+        sprite.setScale(2f, 3f);
+        sprite.setPosition(1f, 1f);
+
+        Vector2 center = PhysicsUtils.getColliderCenter(sprite, new Vector2());
+        assertEquals(new Vector2(2f, 2.5f), center);
+    }
+
     private void setAndCheckScale(Vector2 entityScale, Vector2 colliderScale) {
         entity.setScale(entityScale);
         PhysicsUtils.setScaledCollider(entity, colliderScale.x, colliderScale.y);
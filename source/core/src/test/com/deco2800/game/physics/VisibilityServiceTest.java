@@ -0,0 +1,83 @@
+package com.deco2800.game.physics;
+
+import com.badlogic.gdx.math.Vector2;
+import com.deco2800.game.entities.Entity;
+import com.deco2800.game.extensions.GameExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@ExtendWith(GameExtension.class)
+class VisibilityServiceTest {
+    @Mock
+    PhysicsEngine physics;
+
+    @Test
+    void shouldCacheForSteps() {
+        VisibilityService visibility = new VisibilityService(physics, 3);
+        Entity source = new Entity();
+        Entity target = createEntity(5f, 0f);
+
+        assertTrue(visibility.canSee(source, target));
+        assertTrue(visibility.canSee(source, target));
+        verify(physics, times(2)).raycast(any(Vector2.class), any(Vector2.class), anyShort(), any());
+        assertEquals(2, visibility.getQueryCount());
+        assertEquals(1, visibility.getCacheHitCount());
+        assertEquals(0.5f, visibility.getCacheHitRatio(), 0.001f);
+
+        when(physics.getStepCount()).thenReturn(3L);
+        visibility.canSee(source, target);
+        verify(physics, times(4)).raycast(any(Vector2.class), any(Vector2.class), anyShort(), any());
+    }
+
+    @Test
+    void shouldCacheEachPair() {
+        VisibilityService visibility = new VisibilityService(physics, 3);
+        Entity a = new Entity();
+        Entity b = createEntity(5f, 0f);
+        Entity c = createEntity(0f, 5f);
+
+        visibility.canSee(a, b);
+        visibility.canSee(b, a);
+        visibility.canSee(a, c);
+        assertEquals(0, visibility.getCacheHitCount());
+        verify(physics, times(6)).raycast(any(Vector2.class), any(Vector2.class), anyShort(), any());
+    }
+
+    @Test
+    void shouldNotSeeThroughObstacles() {
+        VisibilityService visibility = new VisibilityService(physics, 3);
+        when(physics.raycast(any(Vector2.class), any(Vector2.class), eq(PhysicsLayer.OBSTACLE), any()))
+                .thenReturn(true);
+        Entity source = new Entity();
+        Entity target = createEntity(5f, 0f);
+
+        assertFalse(visibility.canSee(source, target));
+        assertFalse(visibility.canSee(source, target));
+        verify(physics, times(1)).raycast(any(Vector2.class), any(Vector2.class), anyShort(), any());
+    }
+
+    @Test
+    void shouldRaycastEveryTimeWithoutCache() {
+        VisibilityService visibility = new VisibilityService(physics, 0);
+        Entity source = new Entity();
+        Entity target = createEntity(5f, 0f);
+
+        visibility.canSee(source, target);
+        visibility.canSee(source, target);
+        verify(physics, times(4)).raycast(any(Vector2.class), any(Vector2.class), anyShort(), any());
+        assertEquals(0, visibility.getCacheHitCount());
+    }
+
+    private static Entity createEntity(float x, float y) {
+        Entity entity = new Entity();
+        entity.setPosition(x, y);
+        return entity;
+    }
+}
@@ -0,0 +1,61 @@
+package com.deco2800.game.rendering;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.Animation.PlayMode;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.deco2800.game.extensions.GameExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(GameExtension.class)
+class AnimationCacheTest {
+    @Test
+    void shouldShareAnimation() {
+        TextureAtlas atlas = AnimationRenderComponentTest.createMockAtlas();
+        Animation<TextureRegion> animation =
+                AnimationCache.getAnimation(atlas, "test_name", 0.1f, PlayMode.LOOP);
+
+        assertNotNull(animation);
+        assertSame(animation, AnimationCache.getAnimation(atlas, "test_name", 0.1f, PlayMode.LOOP));
+        verify(atlas, times(1)).findRegions("test_name");
+    }
+
+    @Test
+    void shouldSeparateFrameDurationsAndPlayModes() {
+        TextureAtlas atlas = AnimationRenderComponentTest.createMockAtlas();
+        Animation<TextureRegion> animation =
+                AnimationCache.getAnimation(atlas, "test_name", 0.1f, PlayMode.LOOP);
+
+        assertNotSame(animation, AnimationCache.getAnimation(atlas, "test_name", 0.2f, PlayMode.LOOP));
+        assertNotSame(animation, AnimationCache.getAnimation(atlas, "test_name", 0.1f, PlayMode.NORMAL));
+        assertNotSame(animation, AnimationCache.getAnimation(
+                AnimationRenderComponentTest.createMockAtlas(), "test_name", 0.1f, PlayMode.LOOP));
+    }
+
+    @Test
+    void shouldNotFindMissingAnimation() {
+        TextureAtlas atlas = mock(TextureAtlas.class);
+        assertNull(AnimationCache.getAnimation(atlas, "missing", 0.1f, PlayMode.LOOP));
+    }
+
+    @Test
+    void shouldShareSetsOfAnimations() {
+        TextureAtlas atlas = AnimationRenderComponentTest.createMockAtlas();
+        Animation<TextureRegion> animation =
+                AnimationCache.getAnimation(atlas, "test_name", 0.1f, PlayMode.LOOP);
+        AnimationSet empty = AnimationCache.getEmptySet(atlas);
+
+        AnimationSet set = empty.with("test_name", animation);
+        assertSame(set, empty.with("test_name", animation));
+        assertSame(animation, set.get("test_name"));
+        assertEquals(0, empty.size());
+
+        AnimationSet removed = set.without("test_name");
+        assertFalse(removed.contains("test_name"));
+        assertTrue(set.contains("test_name"));
+    }
+}
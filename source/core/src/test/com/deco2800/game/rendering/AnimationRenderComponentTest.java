@@ -1,14 +1,21 @@
 package com.deco2800.game.rendering;
 
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.utils.Array;
+import com.deco2800.game.entities.Entity;
 import com.deco2800.game.extensions.GameExtension;
+import com.deco2800.game.services.GameTime;
+import com.deco2800.game.services.ServiceLocator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(GameExtension.class)
@@ -65,6 +72,56 @@ class AnimationRenderComponentTest {
         assertNull(animator.getCurrentAnimation());
     }
 
+    @Test
+    void shouldDrawKeyFrameOverEntity() {
+        ServiceLocator.registerTimeSource(mock(GameTime.class));
+        TextureAtlas atlas = createMockAtlas();
+        AtlasRegion frame = atlas.findRegions("test_name").first();
+        AnimationRenderComponent animator = new AnimationRenderComponent(atlas);
+        Entity entity = new Entity();
+        entity.setPosition(2f, 2f);
+        entity.setScale(1f, 2f);
+        entity.setAngle(90f);
+        animator.setEntity(entity);
+        animator.addAnimation("test_name", 0.1f);
+        animator.startAnimation("test_name");
+
+        SpriteBatch batch = mock(SpriteBatch.class);
+        animator.render(batch);
+        verify(batch).draw(frame, 2f, 2f, 0.5f, 1f, 1f, 2f, 1f, 1f, 90f);
+    }
+
+    @Test
+    void shouldNotCullScaledAnimationOverlappingView() {
+        AnimationRenderComponent animator = new AnimationRenderComponent(createMockAtlas());
+        Entity entity = new Entity();
+        entity.setPosition(10f, 2f);
+        animator.setEntity(entity);
+        // Just past the edge of the entity's bounds, plus the usual margin
+        Rectangle view = new Rectangle(0f, 0f, 9.2f, 5f);
+        assertFalse(animator.isInView(view));
+
+        // Drawn from 9 to 12 when three times the size
+        animator.setAnimationScale(3f);
+        assertTrue(animator.isInView(view));
+    }
+
+    @Test
+    void shouldShareAnimationsBetweenComponents() {
+        TextureAtlas atlas = createMockAtlas();
+        AnimationRenderComponent first = new AnimationRenderComponent(atlas);
+        AnimationRenderComponent second = new AnimationRenderComponent(atlas);
+
+        assertTrue(first.addAnimation("test_name", 0.1f));
+        assertTrue(second.addAnimation("test_name", 0.1f));
+        assertTrue(second.hasAnimation("test_name"));
+        verify(atlas, times(1)).findRegions("test_name");
+
+        // Removing from one component doesn't change the other's animations
+        assertTrue(first.removeAnimation("test_name"));
+        assertTrue(second.hasAnimation("test_name"));
+    }
+
     static TextureAtlas createMockAtlas() {
         TextureAtlas atlas = mock(TextureAtlas.class);
         Array<AtlasRegion> regions = new Array<>(1);
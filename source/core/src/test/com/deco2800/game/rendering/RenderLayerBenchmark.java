@@ -0,0 +1,84 @@
+package com.deco2800.game.rendering;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.deco2800.game.rendering.RenderLayerTest.TestRenderable;
+
+/**
+ * Compares the incremental sort of {@link RenderLayer} against sorting the whole layer with
+ * {@link Array#sort()} every frame, as RenderService used to. Each frame a tenth of the renderables
+ * move a short distance, as the player, NPCs and projectiles would.
+ *
+ * <p>Not run as part of the test suite. Run the main method from an IDE to print the timings.
+ */
+public class RenderLayerBenchmark {
+    private static final int[] SIZES = {1000, 10000, 50000};
+    private static final int WARMUP_FRAMES = 200;
+    private static final int FRAMES = 500;
+    private static final float DYNAMIC_FRACTION = 0.1f;
+    private static final float MAP_HEIGHT = 115f;
+    private static final float MAX_MOVE = 0.2f;
+
+    public static void main(String[] args) {
+        for (int size : SIZES) {
+            double fullSortMs = timeFullSort(size);
+            double incrementalMs = timeIncrementalSort(size);
+            System.out.printf("%6d renderables: Array.sort %.3f ms/frame, RenderLayer %.3f ms/frame (%.1fx)%n",
+                    size, fullSortMs, incrementalMs, fullSortMs / incrementalMs);
+        }
+    }
+
+    private static double timeFullSort(int size) {
+        TestRenderable[] renderables = createRenderables(size);
+        Array<Renderable> layer = new Array<>(size);
+        layer.addAll(renderables);
+        MathUtils.random.setSeed(size);
+        for (int i = 0; i < WARMUP_FRAMES; i++) {
+            moveDynamic(renderables);
+            layer.sort();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < FRAMES; i++) {
+            moveDynamic(renderables);
+            layer.sort();
+        }
+        return (System.nanoTime() - start) / 1e6 / FRAMES;
+    }
+
+    private static double timeIncrementalSort(int size) {
+        TestRenderable[] renderables = createRenderables(size);
+        RenderLayer layer = new RenderLayer(size);
+        for (TestRenderable renderable : renderables) {
+            layer.add(renderable);
+        }
+        MathUtils.random.setSeed(size);
+        for (int i = 0; i < WARMUP_FRAMES; i++) {
+            moveDynamic(renderables);
+            layer.sort();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < FRAMES; i++) {
+            moveDynamic(renderables);
+            layer.sort();
+        }
+        return (System.nanoTime() - start) / 1e6 / FRAMES;
+    }
+
+    private static TestRenderable[] createRenderables(int size) {
+        MathUtils.random.setSeed(0);
+        TestRenderable[] renderables = new TestRenderable[size];
+        for (int i = 0; i < size; i++) {
+            renderables[i] = new TestRenderable(-MathUtils.random(MAP_HEIGHT));
+        }
+        return renderables;
+    }
+
+    private static void moveDynamic(TestRenderable[] renderables) {
+        int dynamicCount = (int) (renderables.length * DYNAMIC_FRACTION);
+        for (int i = 0; i < dynamicCount; i++) {
+            renderables[i].zIndex += MathUtils.random(-MAX_MOVE, MAX_MOVE);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.deco2800.game.rendering;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.deco2800.game.extensions.GameExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(GameExtension.class)
+class RenderLayerTest {
+    @Test
+    void shouldSortNewRenderables() {
+        RenderLayer layer = new RenderLayer(4);
+        TestRenderable[] renderables = {
+                new TestRenderable(3f), new TestRenderable(-1f), new TestRenderable(2f), new TestRenderable(0f)
+        };
+        for (TestRenderable renderable : renderables) {
+            layer.add(renderable);
+        }
+
+        layer.sort();
+        assertSorted(layer);
+        assertSame(renderables[1], layer.get(0));
+        assertSame(renderables[0], layer.get(3));
+    }
+
+    @Test
+    void shouldResortMovedRenderables() {
+        RenderLayer layer = new RenderLayer(100);
+        TestRenderable[] renderables = new TestRenderable[100];
+        for (int i = 0; i < renderables.length; i++) {
+            renderables[i] = new TestRenderable(i);
+            layer.add(renderables[i]);
+        }
+        layer.sort();
+
+        renderables[10].zIndex = 50.5f;
+        renderables[90].zIndex = -1f;
+        layer.sort();
+
+        assertSorted(layer);
+        assertSame(renderables[90], layer.get(0));
+        assertSame(renderables[10], layer.get(50));
+    }
+
+    @Test
+    void shouldKeepOrderOfEqualZIndexes() {
+        RenderLayer layer = new RenderLayer(4);
+        TestRenderable first = new TestRenderable(1f);
+        TestRenderable second = new TestRenderable(1f);
+        layer.add(first);
+        layer.add(second);
+
+        layer.sort();
+        layer.sort();
+        assertSame(first, layer.get(0));
+        assertSame(second, layer.get(1));
+    }
+
+    @Test
+    void shouldRemoveRenderables() {
+        RenderLayer layer = new RenderLayer(4);
+        TestRenderable renderable = new TestRenderable(1f);
+        layer.add(renderable);
+
+        assertTrue(layer.remove(renderable));
+        assertFalse(layer.remove(renderable));
+        assertEquals(0, layer.size());
+    }
+
+    private static void assertSorted(RenderLayer layer) {
+        for (int i = 1; i < layer.size(); i++) {
+            assertTrue(layer.get(i - 1).getZIndex() <= layer.get(i).getZIndex());
+        }
+    }
+
+    static class TestRenderable implements Renderable {
+        float zIndex;
+
+        TestRenderable(float zIndex) {
+            this.zIndex = zIndex;
+        }
+
+        @Override
+        public void render(SpriteBatch batch) {
+            // Nothing to draw
+        }
+
+        @Override
+        public float getZIndex() {
+            return zIndex;
+        }
+
+        @Override
+        public int getLayer() {
+            return 1;
+        }
+
+        @Override
+        public int compareTo(Renderable o) {
+            return Float.compare(getZIndex(), o.getZIndex());
+        }
+    }
+}
@@ -1,12 +1,15 @@
 package com.deco2800.game.rendering;
 
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.deco2800.game.components.CameraComponent;
+import com.deco2800.game.entities.Entity;
 import com.deco2800.game.extensions.GameExtension;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InOrder;
 import org.mockito.Mockito;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(GameExtension.class)
@@ -46,6 +49,8 @@ class RenderServiceTest {
         when(renderable2.getLayer()).thenReturn(1);
         when(renderable1.compareTo(any())).thenReturn(1);
         when(renderable2.compareTo(any())).thenReturn(-1);
+        when(renderable1.getZIndex()).thenReturn(1f);
+        when(renderable2.getZIndex()).thenReturn(-1f);
 
         renderService.register(renderable1);
         renderService.register(renderable2);
@@ -76,4 +81,55 @@ class RenderServiceTest {
         inOrder.verify(renderable1).render(any());
         inOrder.verify(renderable2).render(any());
     }
+
+    @Test
+    void shouldCullOutsideCameraView() {
+        RenderService renderService = new RenderService();
+        SpriteBatch spriteBatch = mock(SpriteBatch.class);
+        CameraComponent camera = new CameraComponent();
+        camera.resize(100, 100, 10f);
+        renderService.setCamera(camera);
+
+        Renderable visible = mock(Renderable.class);
+        Renderable hidden = mock(Renderable.class);
+        when(visible.isInView(any())).thenReturn(true);
+        when(hidden.isInView(any())).thenReturn(false);
+        renderService.register(visible);
+        renderService.register(hidden);
+
+        renderService.render(spriteBatch);
+        verify(visible).render(spriteBatch);
+        verify(hidden, never()).render(any());
+        assertEquals(1, renderService.getDrawnCount());
+        assertEquals(1, renderService.getCulledCount());
+    }
+
+    @Test
+    void shouldCullEntitiesOutsideView() {
+        RenderService renderService = new RenderService();
+        CameraComponent camera = new CameraComponent();
+        camera.resize(100, 100, 10f);
+        camera.getCamera().position.set(0f, 0f, 0f);
+        renderService.setCamera(camera);
+
+        RenderComponent onScreen = spy(RenderComponent.class);
+        RenderComponent offScreen = spy(RenderComponent.class);
+        RenderComponent overlapping = spy(RenderComponent.class);
+        onScreen.setEntity(new Entity());
+        offScreen.setEntity(new Entity());
+        overlapping.setEntity(new Entity());
+        offScreen.getEntity().setPosition(20f, 20f);
+        overlapping.getEntity().setPosition(-6f, 4.8f);
+
+        renderService.register(onScreen);
+        renderService.register(offScreen);
+        renderService.register(overlapping);
+        renderService.render(mock(SpriteBatch.class));
+
+        verify(onScreen).draw(any());
+        verify(offScreen, never()).draw(any());
+        verify(overlapping).draw(any());
+        assertEquals(2, renderService.getDrawnCount());
+        assertEquals(1, renderService.getCulledCount());
+    }
 }
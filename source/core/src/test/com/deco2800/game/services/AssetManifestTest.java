@@ -0,0 +1,50 @@
+package com.deco2800.game.services;
+
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.deco2800.game.extensions.GameExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(GameExtension.class)
+class AssetManifestTest {
+    @Test
+    void shouldIgnoreDuplicates() {
+        AssetManifest manifest = new AssetManifest()
+                .addTextureAtlases("a.atlas", "b.atlas", "a.atlas")
+                .addTextures("a.png")
+                .addTextures("a.png");
+
+        assertEquals(3, manifest.size());
+        assertEquals(TextureAtlas.class, manifest.getType("a.atlas"));
+        assertEquals(Texture.class, manifest.getType("a.png"));
+        assertNull(manifest.getType("c.png"));
+    }
+
+    @Test
+    void shouldAddAll() {
+        AssetManifest common = new AssetManifest().addTextures("a.png").addMusic("a.mp3");
+        AssetManifest manifest = new AssetManifest().addTextures("b.png").addAll(common);
+
+        assertEquals(3, manifest.size());
+        assertTrue(manifest.contains("a.png"));
+        assertEquals(Music.class, manifest.getType("a.mp3"));
+        assertArrayEquals(new Object[]{"b.png", "a.png", "a.mp3"}, manifest.getAssetNames().toArray());
+    }
+
+    @Test
+    void shouldKeepFirstTypeOfPackedTextures() {
+        AssetManifest packed = new AssetManifest().addPackedTextures("a.png").addTextures("a.png", "b.png");
+        AssetManifest manifest = new AssetManifest().addTextures("b.png").addPackedTextures("b.png");
+        manifest.addAll(packed);
+
+        assertEquals(Texture.class, packed.getType("a.png"));
+        assertTrue(packed.isPacked("a.png"));
+        assertFalse(packed.isPacked("b.png"));
+        assertTrue(manifest.isPacked("a.png"));
+        assertFalse(manifest.isPacked("b.png"));
+    }
+}
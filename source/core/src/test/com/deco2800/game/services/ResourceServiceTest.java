@@ -5,12 +5,14 @@ import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.deco2800.game.extensions.GameExtension;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(GameExtension.class)
@@ -144,4 +146,107 @@ class ResourceServiceTest {
         verify(assetManager).load(asset2, Music.class);
     }
 
+    @Test
+    void shouldOnlyLoadManifestDifference() {
+        String shared = "test/files/tree.png";
+        String firstOnly = "test/files/heart.png";
+        AssetManifest first = new AssetManifest().addTextures(shared, firstOnly);
+        AssetManifest second = new AssetManifest().addTextures(shared);
+
+        AssetManager assetManager = spy(AssetManager.class);
+        ResourceService resourceService = new ResourceService(assetManager);
+
+        resourceService.loadManifest(first);
+        resourceService.loadAll();
+        resourceService.unloadManifest(first);
+        // Released assets stay loaded until the next manifest has been loaded
+        assertTrue(assetManager.contains(shared, Texture.class));
+        assertTrue(assetManager.contains(firstOnly, Texture.class));
+
+        resourceService.loadManifest(second);
+        resourceService.unloadUnused();
+        resourceService.loadAll();
+
+        verify(assetManager, times(1)).load(shared, Texture.class);
+        assertTrue(assetManager.contains(shared, Texture.class));
+        assertFalse(assetManager.contains(firstOnly, Texture.class));
+        assertEquals(1, resourceService.getReferenceCount(shared));
+        assertEquals(0, resourceService.getReferenceCount(firstOnly));
+    }
+
+    @Test
+    void shouldReferenceCountManifests() {
+        String texture = "test/files/tree.png";
+        AssetManifest manifest = new AssetManifest().addTextures(texture);
+
+        AssetManager assetManager = spy(AssetManager.class);
+        ResourceService resourceService = new ResourceService(assetManager);
+
+        resourceService.loadManifest(manifest);
+        resourceService.loadManifest(manifest);
+        resourceService.loadAll();
+        assertEquals(2, resourceService.getReferenceCount(texture));
+
+        resourceService.unloadManifest(manifest);
+        resourceService.unloadUnused();
+        assertTrue(assetManager.contains(texture, Texture.class));
+
+        resourceService.unloadManifest(manifest);
+        resourceService.unloadUnused();
+        assertFalse(assetManager.contains(texture, Texture.class));
+        verify(assetManager, times(1)).load(texture, Texture.class);
+    }
+
+    @Test
+    void shouldPackManifestTexturesIntoAtlas() {
+        String texture1 = "test/files/tree.png";
+        String texture2 = "test/files/heart.png";
+        String missing = "test/files/missing.png";
+        AssetManifest manifest = new AssetManifest().addPackedTextures(texture1, texture2, missing);
+
+        AssetManager assetManager = spy(AssetManager.class);
+        ResourceService resourceService = new ResourceService(assetManager);
+
+        resourceService.loadManifest(manifest);
+        //noinspection StatementWithEmptyBody
+        while (resourceService.loadForMillis(1)) {
+        }
+
+        assertTrue(resourceService.isPacked(texture1));
+        assertTrue(resourceService.isPacked(texture2));
+        assertFalse(resourceService.isPacked(missing));
+        assertFalse(assetManager.contains(texture1, Texture.class));
+        // Packed textures share a page, so they can be drawn in one batch
+        TextureRegion region1 = resourceService.getRegion(texture1);
+        TextureRegion region2 = resourceService.getRegion(texture2);
+        assertSame(region1.getTexture(), region2.getTexture());
+        // Anything that couldn't be packed is loaded loose instead
+        verify(assetManager).load(missing, Texture.class);
+
+        resourceService.unloadManifest(manifest);
+        resourceService.unloadUnused();
+        assertFalse(resourceService.isPacked(texture1));
+        assertFalse(resourceService.isPacked(texture2));
+    }
+
+    @Test
+    void shouldKeepAtlasWhileTexturesAreUsed() {
+        String texture1 = "test/files/tree.png";
+        String texture2 = "test/files/heart.png";
+        AssetManifest first = new AssetManifest().addPackedTextures(texture1, texture2);
+        AssetManifest second = new AssetManifest().addPackedTextures(texture1);
+
+        ResourceService resourceService = new ResourceService(spy(AssetManager.class));
+        resourceService.loadManifest(first);
+        resourceService.loadAll();
+        TextureRegion region = resourceService.getRegion(texture1);
+
+        resourceService.unloadManifest(first);
+        resourceService.loadManifest(second);
+        resourceService.unloadUnused();
+        resourceService.loadAll();
+
+        assertSame(region, resourceService.getRegion(texture1));
+        assertTrue(resourceService.isPacked(texture2));
+    }
 }